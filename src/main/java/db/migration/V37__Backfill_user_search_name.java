@@ -0,0 +1,62 @@
+package db.migration;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Objects;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.pqkkkkk.hr_management_server.shared.SearchTextNormalizer;
+
+/**
+ * Recomputes user_table.search_name with {@link SearchTextNormalizer}.
+ * <p>
+ * The SQL backfill in V29 only folded the precomposed Vietnamese letters, so
+ * rows with other accents ("José", "Müller") or names stored decomposed kept
+ * diacritics the normalized search term no longer has. Only rows whose value
+ * differs are updated.
+ */
+public class V37__Backfill_user_search_name extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        backfill(context.getConnection());
+    }
+
+    /**
+     * @return the number of rows updated
+     */
+    public static int backfill(Connection connection) throws SQLException {
+        int updated = 0;
+        try (Statement select = connection.createStatement();
+                ResultSet users = select.executeQuery("SELECT user_id, full_name, search_name FROM user_table");
+                PreparedStatement update = connection.prepareStatement(
+                        "UPDATE user_table SET search_name = ? WHERE user_id = ?")) {
+            int pending = 0;
+            while (users.next()) {
+                String searchName = SearchTextNormalizer.normalize(users.getString("full_name"));
+                if (Objects.equals(searchName, users.getString("search_name"))) {
+                    continue;
+                }
+
+                update.setString(1, searchName);
+                update.setString(2, users.getString("user_id"));
+                update.addBatch();
+                updated++;
+                if (++pending == BATCH_SIZE) {
+                    update.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+        return updated;
+    }
+}
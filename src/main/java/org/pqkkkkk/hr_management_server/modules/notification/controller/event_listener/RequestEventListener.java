@@ -12,17 +12,14 @@ import org.pqkkkkk.hr_management_server.modules.notification.domain.service.Noti
 import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.Enums.UserRole;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
 import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.User;
-import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestApprovedEvent;
-import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestCreatedEvent;
-import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestRejectedEvent;
+import org.pqkkkkk.hr_management_server.modules.request.domain.event.RelayedRequestEvent;
+import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestEventHandler;
 import org.springframework.context.annotation.Profile;
-import org.springframework.context.event.EventListener;
-import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Component;
 
 @Component
 @Profile("!test")
-public class RequestEventListener {
+public class RequestEventListener implements RequestEventHandler {
     private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("dd/MM/yyyy HH:mm");
     
     private final NotificationCommandService notificationCommandService;
@@ -31,67 +28,36 @@ public class RequestEventListener {
         this.notificationCommandService = notificationCommandService;
     }
 
-    @EventListener(RequestCreatedEvent.class)
-    @Async
-    void handleRequestCreatedEvent(RequestCreatedEvent event) {
-        // Map domain event to notification context
-        List<NotificationContext> contexts = createContextFromEvent(event);
+    /**
+     * Turns a relayed request event into notifications. Runs in the outbox relay's
+     * transaction; each notification carries the event's idempotency key plus its
+     * recipient so a redelivered event is not notified twice.
+     */
+    @Override
+    public void handle(RelayedRequestEvent event) {
+        // Map domain event to notification contexts
+        List<NotificationContext> contexts = switch (event.type()) {
+            case REQUEST_CREATED -> createContextsForCreated(event.request());
+            case REQUEST_APPROVED -> createContextsForApproved(event.request());
+            case REQUEST_REJECTED -> createContextsForRejected(event.request());
+        };
 
         for (NotificationContext context : contexts) {
-            // Persist notification
-            Notification notification = notificationCommandService.createNotification(context);
-
-            // Send notification if created
-            if (notification != null) {
-                notificationCommandService.sendNotification(notification);
-            }
-        }
-    }
-
-    @EventListener(RequestApprovedEvent.class)
-    @Async
-    void handleRequestApprovedEvent(RequestApprovedEvent event) {
-        // Map domain event to notification context
-        NotificationContext context = createContextFromEvent(event);
-        if (context == null) {
-            return;
-        }
-
-        // Persist notification
-        Notification notification = notificationCommandService.createNotification(context);
-
-        // Send notification if created
-        if (notification != null) {
-            notificationCommandService.sendNotification(notification);
-        }
-    }
-
-    @EventListener(RequestRejectedEvent.class)
-    @Async
-    void handleRequestRejectedEvent(RequestRejectedEvent event) {
-        // Map domain event to notification context
-        NotificationContext context = createContextFromEvent(event);
-        if (context == null) {
-            return;
+            context.setIdempotencyKey(event.idempotencyKey() + ":" + context.getRecipientId());
         }
 
-        // Persist notification
-        Notification notification = notificationCommandService.createNotification(context);
-
-        // Send notification if created
-        if (notification != null) {
-            notificationCommandService.sendNotification(notification);
-        }
+        // Persist all notifications for the event in one batch, then send the ones created
+        List<Notification> notifications = notificationCommandService.createNotifications(contexts);
+        notificationCommandService.sendNotifications(notifications);
     }
 
-    private NotificationContext createContextFromEvent(RequestApprovedEvent event) {
-        Request request = (Request) event.getRequest();
+    private List<NotificationContext> createContextsForApproved(Request request) {
         String employeeId = safeUserId(request.getEmployee());
         if (employeeId == null) {
-            return null;
+            return List.of();
         }
 
-        return NotificationContext.builder()
+        return List.of(NotificationContext.builder()
                 .recipientId(employeeId)
                 .userRole(UserRole.EMPLOYEE.name())
                 .type(NotificationType.REQUEST_APPROVED)
@@ -103,16 +69,15 @@ public class RequestEventListener {
                     "approverName", safeFullName(request.getApprover()),
                     "processedAt", request.getProcessedAt() == null ? "" : request.getProcessedAt().format(DATE_TIME_FORMATTER)
                 ))
-                .build();
+                .build());
     }
-    private NotificationContext createContextFromEvent(RequestRejectedEvent event) {
-        Request request = (Request) event.getRequest();
+    private List<NotificationContext> createContextsForRejected(Request request) {
         String employeeId = safeUserId(request.getEmployee());
         if (employeeId == null) {
-            return null;
+            return List.of();
         }
 
-        return NotificationContext.builder()
+        return List.of(NotificationContext.builder()
                 .recipientId(employeeId)
                 .userRole(UserRole.EMPLOYEE.name())
                 .type(NotificationType.REQUEST_REJECTED)
@@ -125,10 +90,9 @@ public class RequestEventListener {
                     "processedAt", request.getProcessedAt() == null ? "" : request.getProcessedAt().format(DATE_TIME_FORMATTER),
                     "rejectionReason", safeString(request.getRejectReason())
                 ))
-                .build();
+                .build());
     }
-    private List<NotificationContext> createContextFromEvent(RequestCreatedEvent event) {
-        Request request = (Request) event.getRequest();
+    private List<NotificationContext> createContextsForCreated(Request request) {
         List<NotificationContext> contexts = new java.util.ArrayList<>();
 
         String employeeId = safeUserId(request.getEmployee());
@@ -1,5 +1,6 @@
 package org.pqkkkkk.hr_management_server.modules.notification.controller.http;
 
+import org.pqkkkkk.hr_management_server.modules.notification.controller.http.dto.DTO.BulkNotificationRequest;
 import org.pqkkkkk.hr_management_server.modules.notification.controller.http.dto.DTO.NotificationDTO;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationFilter;
@@ -10,14 +11,19 @@ import org.pqkkkkk.hr_management_server.modules.profile.controller.http.dto.Resp
 import org.springframework.data.domain.Page;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import jakarta.validation.Valid;
 import lombok.extern.slf4j.Slf4j;
 
 @RestController
@@ -41,11 +47,15 @@ public class NotificationApi {
     /**
      * SSE endpoint for real-time notification streaming
      * GET /api/v1/notifications/stream?userId={userId}
+     * On reconnect the browser sends Last-Event-ID and missed notifications are replayed.
      */
     @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
-    public SseEmitter streamNotifications(@RequestParam String userId) {
+    public SseEmitter streamNotifications(
+        @RequestParam String userId,
+        @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId
+    ) {
         log.info("User {} connecting to SSE stream", userId);
-        return sseNotificationDelivery.subscribe(userId);
+        return sseNotificationDelivery.subscribe(userId, lastEventId);
     }
 
     /**
@@ -118,4 +128,72 @@ public class NotificationApi {
             null
         ));
     }
+
+    /**
+     * Mark a batch of a recipient's notifications as read
+     * PATCH /api/v1/notifications/bulk/read with {"recipientId": ..., "notificationIds": [...]}
+     */
+    @PatchMapping("/bulk/read")
+    public ResponseEntity<ApiResponse<Integer>> markAsReadByIds(@Valid @RequestBody BulkNotificationRequest request) {
+        int updatedCount = notificationCommandService.markAsReadByIds(request.recipientId(), request.notificationIds());
+
+        return ResponseEntity.ok(new ApiResponse<>(
+            updatedCount,
+            true,
+            200,
+            "Notifications marked as read",
+            null
+        ));
+    }
+
+    /**
+     * Mark every notification of a recipient matching a filter as read, recipientId is required
+     * PATCH /api/v1/notifications/bulk/read-by-filter?recipientId={userId}&type=REQUEST_APPROVED&toDate=...
+     */
+    @PatchMapping("/bulk/read-by-filter")
+    public ResponseEntity<ApiResponse<Integer>> markAsReadByFilter(@ModelAttribute NotificationFilter filter) {
+        int updatedCount = notificationCommandService.markAsReadByFilter(filter);
+
+        return ResponseEntity.ok(new ApiResponse<>(
+            updatedCount,
+            true,
+            200,
+            "Notifications marked as read",
+            null
+        ));
+    }
+
+    /**
+     * Delete a batch of a recipient's notifications
+     * POST /api/v1/notifications/bulk/delete with {"recipientId": ..., "notificationIds": [...]}
+     */
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<ApiResponse<Integer>> deleteByIds(@Valid @RequestBody BulkNotificationRequest request) {
+        int deletedCount = notificationCommandService.deleteByIds(request.recipientId(), request.notificationIds());
+
+        return ResponseEntity.ok(new ApiResponse<>(
+            deletedCount,
+            true,
+            200,
+            "Notifications deleted",
+            null
+        ));
+    }
+
+    /**
+     * Delete every notification of a recipient matching a filter, recipientId is required
+     * DELETE /api/v1/notifications/bulk/delete-by-filter?recipientId={userId}&isRead=true&toDate=...
+     */
+    @DeleteMapping("/bulk/delete-by-filter")
+    public ResponseEntity<ApiResponse<Integer>> deleteByFilter(@ModelAttribute NotificationFilter filter) {
+        int deletedCount = notificationCommandService.deleteByFilter(filter);
+
+        return ResponseEntity.ok(new ApiResponse<>(
+            deletedCount,
+            true,
+            200,
+            "Notifications deleted",
+            null
+        ));
+    }
 }
@@ -1,11 +1,15 @@
 package org.pqkkkkk.hr_management_server.modules.notification.controller.http.dto;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationReferenceType;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationType;
 
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+
 public class DTO {
     /**
      * NotificationDTO - Data Transfer Object for Notification entity
@@ -103,4 +107,16 @@ public class DTO {
             );
         }
     }
+
+    /**
+     * BulkNotificationRequest - IDs of the notifications a bulk operation applies to,
+     * all of which must belong to the recipient
+     */
+    public record BulkNotificationRequest(
+        @NotBlank(message = "Recipient ID is required")
+        String recipientId,
+        @NotEmpty(message = "Notification IDs are required")
+        List<String> notificationIds
+    ) {
+    }
 }
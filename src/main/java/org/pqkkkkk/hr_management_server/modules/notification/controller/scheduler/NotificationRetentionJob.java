@@ -0,0 +1,29 @@
+package org.pqkkkkk.hr_management_server.modules.notification.controller.scheduler;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.NotificationRetentionService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Archives or deletes old read notifications once a day, outside working hours
+ * by default. Disable with {@code notification.retention.enabled=false}.
+ * <p>
+ * Every node runs it; the batches lock their rows and skip rows another node
+ * is already retiring, so concurrent runs share the work.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.retention.enabled", havingValue = "true", matchIfMissing = true)
+public class NotificationRetentionJob {
+
+    private final NotificationRetentionService retentionService;
+
+    public NotificationRetentionJob(NotificationRetentionService retentionService) {
+        this.retentionService = retentionService;
+    }
+
+    @Scheduled(cron = "${notification.retention.cron:0 30 2 * * *}")
+    void applyRetention() {
+        retentionService.applyRetention();
+    }
+}
@@ -0,0 +1,30 @@
+package org.pqkkkkk.hr_management_server.modules.notification.controller.scheduler;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery.SseConnectionRegistry;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Sends heartbeats to all open SSE connections of this node from a single
+ * scheduled task, and periodically closes connections that stopped accepting
+ * writes.
+ */
+@Component
+public class SseHeartbeatScheduler {
+
+    private final SseConnectionRegistry connectionRegistry;
+
+    public SseHeartbeatScheduler(SseConnectionRegistry connectionRegistry) {
+        this.connectionRegistry = connectionRegistry;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.sse.heartbeat-interval-ms:20000}")
+    void sendHeartbeats() {
+        connectionRegistry.sendHeartbeats();
+    }
+
+    @Scheduled(fixedDelayString = "${notification.sse.idle-sweep-interval-ms:30000}")
+    void closeIdleConnections() {
+        connectionRegistry.closeIdleConnections();
+    }
+}
@@ -0,0 +1,24 @@
+package org.pqkkkkk.hr_management_server.modules.notification.controller.scheduler;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.counter.UnreadNotificationCounter;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically reconciles the cached unread counts of this node against the
+ * database.
+ */
+@Component
+public class UnreadCounterReconciler {
+
+    private final UnreadNotificationCounter unreadCounter;
+
+    public UnreadCounterReconciler(UnreadNotificationCounter unreadCounter) {
+        this.unreadCounter = unreadCounter;
+    }
+
+    @Scheduled(fixedDelayString = "${notification.unread-counter.reconcile-interval-ms:60000}")
+    void reconcile() {
+        unreadCounter.reconcile();
+    }
+}
@@ -0,0 +1,14 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.dao;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface NotificationArchiveDao {
+    // Command methods
+    public Integer archiveNotifications(Collection<String> notificationIds, LocalDateTime archivedAt);
+    public Integer deleteArchivedNotificationsByIds(Collection<String> notificationIds);
+
+    // Query methods
+    public List<String> getArchivedNotificationIdsCreatedBefore(LocalDateTime cutoff, int limit);
+}
@@ -1,16 +1,34 @@
 package org.pqkkkkk.hr_management_server.modules.notification.domain.dao;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationFilter;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationStreamCursor;
 import org.springframework.data.domain.Page;
 
 public interface NotificationDao {
     // Command methods
     public Notification createNotification(Notification notification);
+    public List<Notification> createNotifications(List<Notification> notifications);
     public Integer markAllAsRead(String recipientId);
+    public Integer markAsReadByIds(String recipientId, Collection<String> notificationIds);
+    public Integer deleteNotificationsByIds(Collection<String> notificationIds);
+    public Integer deleteNotificationsByIds(String recipientId, Collection<String> notificationIds);
     
     // Query methods
     public Notification getNotificationById(String notificationId);
+    public List<Notification> getNotificationsByIds(Collection<String> notificationIds);
     public Page<Notification> getNotifications(NotificationFilter filter);
+    public List<Notification> getNotificationsAfter(String recipientId, NotificationStreamCursor cursor, int limit);
     public Long countUnreadNotifications(String recipientId);
+    public Map<String, Long> countUnreadNotificationsByRecipients(Collection<String> recipientIds);
+    public boolean existsByIdempotencyKey(String idempotencyKey);
+    public Set<String> getExistingIdempotencyKeys(Collection<String> idempotencyKeys);
+    public Map<String, String> getRecipientIdsByFilter(NotificationFilter filter, int limit);
+    public List<String> getReadNotificationIdsCreatedBefore(LocalDateTime cutoff, int limit);
 }
@@ -1,5 +1,7 @@
 package org.pqkkkkk.hr_management_server.modules.notification.domain.entity;
 
+import java.util.Set;
+
 public class Enums {
     public enum NotificationChannel {
         SSE
@@ -11,15 +13,37 @@ public class Enums {
         ACTIVITY
     }
 
+    /**
+     * Each type declares the template keys its producers fill in; templates are
+     * checked against them when compiled.
+     */
     public enum NotificationType {
-        REQUEST_APPROVED,
-        REQUEST_REJECTED,
-        REQUEST_CREATED,
-        REQUEST_EXPIRED
+        REQUEST_APPROVED("employeeName", "requestType", "approverName", "processedAt"),
+        REQUEST_REJECTED("employeeName", "requestType", "approverName", "processedAt", "rejectionReason"),
+        REQUEST_CREATED("employeeName", "approverName", "requestType", "createdAt"),
+        REQUEST_EXPIRED("employeeName", "requestType");
+
+        private final Set<String> templateKeys;
+
+        NotificationType(String... templateKeys) {
+            this.templateKeys = Set.of(templateKeys);
+        }
+
+        public Set<String> getTemplateKeys() {
+            return templateKeys;
+        }
     }
     public enum NotificationSortingField {
         CREATED_AT,
         TYPE,
         IS_READ
     }
+
+    /**
+     * What happens to read notifications once they age past the retention window.
+     */
+    public enum NotificationRetentionPolicy {
+        ARCHIVE,
+        DELETE
+    }
 }
@@ -58,4 +58,8 @@ public class Notification {
 
     @Column(name = "recipient_id", nullable = false)
     String recipientId;
+
+    // Set when created from a relayed event, so a redelivered event does not notify twice
+    @Column(name = "idempotency_key", unique = true)
+    String idempotencyKey;
 }
@@ -0,0 +1,64 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.entity;
+
+import java.time.LocalDateTime;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationReferenceType;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * A read notification moved out of the live table by the retention job. Only
+ * read notifications are archived, so there is no read flag.
+ */
+@Entity
+@Table(name = "notification_archive_table")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE)
+public class NotificationArchive {
+    @Id
+    @Column(name = "notification_id")
+    String notificationId;
+
+    @Column(name = "title", nullable = false)
+    String title;
+
+    @Column(name = "message", nullable = false)
+    String message;
+
+    @Column(name = "notification_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    NotificationType type;
+
+    @Column(name = "reference_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    NotificationReferenceType referenceType;
+
+    @Column(name = "reference_id")
+    String referenceId;
+
+    @Column(name = "created_at", nullable = false)
+    LocalDateTime createdAt;
+
+    @Column(name = "recipient_id", nullable = false)
+    String recipientId;
+
+    @Column(name = "idempotency_key")
+    String idempotencyKey;
+
+    @Column(name = "archived_at", nullable = false)
+    LocalDateTime archivedAt;
+}
@@ -19,4 +19,5 @@ public class NotificationContext {
     NotificationReferenceType referenceType;
     String referenceId;
     Map<String, Object> templateData;
+    String idempotencyKey;
 }
@@ -0,0 +1,10 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.entity;
+
+/**
+ * Outcome of one retention run.
+ * @param archived - read notifications moved from the live table to the archive
+ * @param deleted - read notifications removed from the live table without archiving
+ * @param purged - archived notifications removed after the archive retention window
+ */
+public record NotificationRetentionResult(int archived, int deleted, int purged) {
+}
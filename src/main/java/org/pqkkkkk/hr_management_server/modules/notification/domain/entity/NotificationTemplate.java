@@ -6,14 +6,17 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 import org.hibernate.annotations.UuidGenerator;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationType;
+import org.pqkkkkk.hr_management_server.modules.notification.infrastructure.dao.NotificationTemplateChangeListener;
 
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityListeners;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -21,6 +24,7 @@ import lombok.NoArgsConstructor;
 import lombok.experimental.FieldDefaults;
 
 @Entity
+@EntityListeners(NotificationTemplateChangeListener.class)
 @Table(name = "notification_template_table", uniqueConstraints = @UniqueConstraint(columnNames = {"notification_type", "user_role"}))
 @Data
 @Builder
@@ -56,4 +60,8 @@ public class NotificationTemplate {
     @Column(name = "updated_at", nullable = false)
     @UpdateTimestamp
     LocalDateTime updatedAt;
+
+    @Version
+    @Column(name = "version", nullable = false)
+    Long version;
 }
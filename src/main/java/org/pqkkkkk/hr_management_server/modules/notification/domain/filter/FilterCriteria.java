@@ -1,7 +1,13 @@
 package org.pqkkkkk.hr_management_server.modules.notification.domain.filter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.Comparator;
 
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationReferenceType;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationSortingField;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationType;
@@ -32,4 +38,64 @@ public class FilterCriteria {
                 SortDirection.valueOf(Constants.DEFAULT_SORT_DIRECTION);
         }
     }
+
+    /**
+     * Position in a recipient's notification stream, sent as the SSE event id.
+     * Ordered by (createdAt, notificationId), so ids grow monotonically and a
+     * client can resume after the last id it saw.
+     */
+    public record NotificationStreamCursor(
+        LocalDateTime createdAt,
+        String notificationId
+    ) implements Comparable<NotificationStreamCursor> {
+
+        private static final String SEPARATOR = "|";
+        private static final Comparator<NotificationStreamCursor> ORDER = Comparator
+            .comparing(NotificationStreamCursor::createdAt)
+            .thenComparing(NotificationStreamCursor::notificationId);
+
+        public NotificationStreamCursor {
+            // Match the microsecond precision the database stores
+            createdAt = createdAt.truncatedTo(ChronoUnit.MICROS);
+        }
+
+        public static NotificationStreamCursor of(Notification notification) {
+            return new NotificationStreamCursor(notification.getCreatedAt(), notification.getNotificationId());
+        }
+
+        public String encode() {
+            String raw = createdAt + SEPARATOR + notificationId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Decode an event id previously produced by {@link #encode()}.
+         *
+         * @return the decoded cursor, or null for a null or blank input
+         * @throws IllegalArgumentException if the event id is malformed
+         */
+        public static NotificationStreamCursor decode(String eventId) {
+            if (eventId == null || eventId.isBlank()) {
+                return null;
+            }
+
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(eventId), StandardCharsets.UTF_8);
+                int separatorIndex = raw.indexOf(SEPARATOR);
+                if (separatorIndex <= 0 || separatorIndex == raw.length() - 1) {
+                    throw new IllegalArgumentException("Invalid event id: " + eventId);
+                }
+                return new NotificationStreamCursor(
+                    LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                    raw.substring(separatorIndex + 1));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid event id: " + eventId);
+            }
+        }
+
+        @Override
+        public int compareTo(NotificationStreamCursor other) {
+            return ORDER.compare(this, other);
+        }
+    }
 }
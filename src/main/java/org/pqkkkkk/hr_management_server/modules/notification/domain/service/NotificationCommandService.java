@@ -1,11 +1,30 @@
 package org.pqkkkkk.hr_management_server.modules.notification.domain.service;
 
+import java.util.List;
+
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationContext;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationFilter;
 
 public interface NotificationCommandService {
     Notification createNotification(NotificationContext context);
+    List<Notification> createNotifications(List<NotificationContext> contexts);
     void markAsRead(String notificationId);
     void markAllAsRead(String recipientId);
+
+    /**
+     * Bulk operations run as one set-based statement over at most
+     * notification.bulk.max-rows notifications; a larger request is rejected.
+     * After commit each affected recipient gets a single state change event.
+     * Only notifications of the given recipient are touched, the filter
+     * variants require filter.recipientId() and ignore paging.
+     * @return number of notifications marked as read or deleted
+     */
+    int markAsReadByIds(String recipientId, List<String> notificationIds);
+    int markAsReadByFilter(NotificationFilter filter);
+    int deleteByIds(String recipientId, List<String> notificationIds);
+    int deleteByFilter(NotificationFilter filter);
+
     void sendNotification(Notification notification);
+    void sendNotifications(List<Notification> notifications);
 }
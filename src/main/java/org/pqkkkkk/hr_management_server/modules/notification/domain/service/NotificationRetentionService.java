@@ -0,0 +1,15 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationRetentionResult;
+
+public interface NotificationRetentionService {
+    /**
+     * Move or delete read notifications older than the read retention window,
+     * depending on the configured policy, then purge archived notifications older
+     * than the archive retention window. Unread notifications are never touched.
+     * Rows are processed in batches, each in its own transaction, so a long run
+     * neither holds locks on the whole history nor loses finished batches on failure.
+     * @return how many notifications were archived, deleted and purged
+     */
+    NotificationRetentionResult applyRetention();
+}
@@ -0,0 +1,267 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.counter;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationDao;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-recipient unread notification counts, cached so the frequently polled
+ * unread badge does not count rows on every request.
+ * <p>
+ * The cache holds at most {@code notification.unread-counter.max-size}
+ * recipients, least recently used first out. Writes on this node adjust cached
+ * counts once their transaction commits. Entries expire after
+ * {@code notification.unread-counter.ttl-seconds} and are reconciled against
+ * the database periodically, which bounds the drift caused by writes on other
+ * nodes.
+ * <p>
+ * A count loaded from the database is only cached if no counted write for the
+ * same recipient was committing meanwhile; otherwise the write's adjustment
+ * could be applied to a count that already includes it. Writes are tracked per
+ * recipient, so traffic for other recipients does not keep a count from being
+ * cached or reconciled.
+ */
+@Component
+@Slf4j
+public class UnreadNotificationCounter {
+    // Keeps IN lists well below driver bind-parameter limits
+    private static final int RECONCILE_CHUNK_SIZE = 1000;
+
+    private record CachedCount(long count, long loadedAtNanos) {
+    }
+
+    // Counted writes of one recipient: how many are committing, and the sequence
+    // number of the last time one started or finished committing
+    private static final class WriteState {
+        private int inFlight;
+        private long lastChange;
+    }
+
+    private final NotificationDao notificationDao;
+    private final int maxSize;
+    private final long ttlNanos;
+    private final Map<String, CachedCount> counts;
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter correctionCounter;
+
+    // Guarded by this. States of idle recipients are dropped now and then; a load
+    // that started before the latest dropped change counts as raced.
+    private final Map<String, WriteState> writes = new HashMap<>();
+    private long writeSequence;
+    private long droppedChange;
+
+    public UnreadNotificationCounter(NotificationDao notificationDao, MeterRegistry meterRegistry,
+            @Value("${notification.unread-counter.max-size:10000}") int maxSize,
+            @Value("${notification.unread-counter.ttl-seconds:30}") long ttlSeconds) {
+        if (maxSize <= 0 || ttlSeconds <= 0) {
+            throw new IllegalArgumentException("Invalid unread counter sizing: maxSize=" + maxSize
+                + ", ttlSeconds=" + ttlSeconds);
+        }
+
+        this.notificationDao = notificationDao;
+        this.maxSize = maxSize;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+        this.counts = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedCount> eldest) {
+                return size() > maxSize;
+            }
+        };
+        this.hitCounter = meterRegistry.counter("notification.unread.cache", "result", "hit");
+        this.missCounter = meterRegistry.counter("notification.unread.cache", "result", "miss");
+        this.correctionCounter = Counter.builder("notification.unread.reconcile.corrections")
+            .description("Cached unread counts that differed from the database when reconciled")
+            .register(meterRegistry);
+        Gauge.builder("notification.unread.cache.size", this, UnreadNotificationCounter::size)
+            .description("Recipients with a cached unread count")
+            .register(meterRegistry);
+    }
+
+    public long getUnreadCount(String recipientId) {
+        long stamp;
+        synchronized (this) {
+            CachedCount cached = counts.get(recipientId);
+            if (cached != null && System.nanoTime() - cached.loadedAtNanos() <= ttlNanos) {
+                hitCounter.increment();
+                return cached.count();
+            }
+            stamp = writeSequence;
+        }
+
+        missCounter.increment();
+        long count = notificationDao.countUnreadNotifications(recipientId);
+        cacheIfUnchanged(recipientId, count, stamp);
+        return count;
+    }
+
+    /**
+     * Adds {@code delta} to the recipient's cached count when the current
+     * transaction commits, or right away outside a transaction.
+     */
+    public void adjust(String recipientId, long delta) {
+        onCommit(recipientId, () -> {
+            CachedCount cached = counts.get(recipientId);
+            if (cached != null) {
+                counts.put(recipientId, new CachedCount(Math.max(0, cached.count() + delta), cached.loadedAtNanos()));
+            }
+        });
+    }
+
+    /**
+     * Drops the recipient's cached count when the current transaction commits,
+     * for writes whose effect on the count is not known exactly.
+     */
+    public void invalidate(String recipientId) {
+        onCommit(recipientId, () -> counts.remove(recipientId));
+    }
+
+    /**
+     * Re-reads the cached counts from the database in grouped queries and
+     * replaces the ones that drifted. Recipients with a counted write racing
+     * the query are left for the next run.
+     *
+     * @return the number of corrected counts
+     */
+    public int reconcile() {
+        List<String> recipientIds;
+        long stamp;
+        synchronized (this) {
+            recipientIds = new ArrayList<>(counts.keySet());
+            stamp = writeSequence;
+        }
+
+        int corrected = 0;
+        for (int from = 0; from < recipientIds.size(); from += RECONCILE_CHUNK_SIZE) {
+            List<String> chunk = recipientIds.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, recipientIds.size()));
+            Map<String, Long> stored = notificationDao.countUnreadNotificationsByRecipients(chunk);
+
+            synchronized (this) {
+                long now = System.nanoTime();
+                for (String recipientId : chunk) {
+                    if (raced(recipientId, stamp)) {
+                        continue;
+                    }
+                    CachedCount cached = counts.get(recipientId);
+                    long count = stored.getOrDefault(recipientId, 0L);
+                    if (cached != null && cached.count() != count) {
+                        corrected++;
+                    }
+                    if (cached != null) {
+                        counts.put(recipientId, new CachedCount(count, now));
+                    }
+                }
+            }
+        }
+
+        synchronized (this) {
+            dropIdleWrites();
+        }
+        if (corrected > 0) {
+            correctionCounter.increment(corrected);
+            log.debug("Reconciled {} drifted unread counts", corrected);
+        }
+        return corrected;
+    }
+
+    public synchronized int size() {
+        return counts.size();
+    }
+
+    private synchronized void cacheIfUnchanged(String recipientId, long count, long stamp) {
+        if (!raced(recipientId, stamp)) {
+            counts.put(recipientId, new CachedCount(count, System.nanoTime()));
+        }
+    }
+
+    /**
+     * Whether a counted write of the recipient is committing or has started or
+     * finished committing since {@code stamp}. Must hold the lock.
+     */
+    private boolean raced(String recipientId, long stamp) {
+        WriteState state = writes.get(recipientId);
+        if (state == null) {
+            return droppedChange > stamp;
+        }
+        return state.inFlight > 0 || state.lastChange > stamp;
+    }
+
+    /**
+     * Records a counted write of the recipient starting ({@code +1}) or
+     * finishing ({@code -1}) its commit, or both at once ({@code 0}). Must hold
+     * the lock.
+     */
+    private void recordWrite(String recipientId, int inFlightDelta) {
+        WriteState state = writes.get(recipientId);
+        if (state == null) {
+            if (writes.size() >= maxSize) {
+                dropIdleWrites();
+            }
+            state = new WriteState();
+            writes.put(recipientId, state);
+        }
+        state.inFlight += inFlightDelta;
+        state.lastChange = ++writeSequence;
+    }
+
+    // Must hold the lock
+    private void dropIdleWrites() {
+        Iterator<WriteState> states = writes.values().iterator();
+        while (states.hasNext()) {
+            WriteState state = states.next();
+            if (state.inFlight == 0) {
+                droppedChange = Math.max(droppedChange, state.lastChange);
+                states.remove();
+            }
+        }
+    }
+
+    private void onCommit(String recipientId, Runnable update) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            synchronized (this) {
+                recordWrite(recipientId, 0);
+                update.run();
+            }
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            private boolean started;
+
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                synchronized (UnreadNotificationCounter.this) {
+                    recordWrite(recipientId, 1);
+                    started = true;
+                }
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                synchronized (UnreadNotificationCounter.this) {
+                    if (started) {
+                        recordWrite(recipientId, -1);
+                    }
+                    if (status == STATUS_COMMITTED) {
+                        update.run();
+                    }
+                }
+            }
+        });
+    }
+}
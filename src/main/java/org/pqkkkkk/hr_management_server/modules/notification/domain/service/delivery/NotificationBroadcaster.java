@@ -0,0 +1,20 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
+
+/**
+ * Fans notifications out to every application node. Each node hands them to its
+ * registered {@link NotificationReceiver}, which delivers only to recipients
+ * connected to that node.
+ * <p>
+ * A state change tells a recipient that notifications it already has were
+ * changed in bulk (read or deleted), so the client should refetch them.
+ */
+public interface NotificationBroadcaster {
+    public void publish(List<Notification> notifications);
+    public void publishStateChange(Collection<String> recipientIds);
+    public void registerReceiver(NotificationReceiver receiver);
+}
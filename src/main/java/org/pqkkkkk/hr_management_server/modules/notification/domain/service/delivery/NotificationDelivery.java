@@ -1,9 +1,25 @@
 package org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationChannel;
 
 public interface NotificationDelivery {
     public void deliver(Notification notification);
     public NotificationChannel getChannel();
+
+    public default void deliverAll(List<Notification> notifications) {
+        for (Notification notification : notifications) {
+            deliver(notification);
+        }
+    }
+
+    /**
+     * Tells each recipient once that some of its notifications were changed in
+     * bulk. Channels that cannot push to a client ignore it.
+     */
+    public default void deliverStateChanges(Collection<String> recipientIds) {
+    }
 }
@@ -0,0 +1,19 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
+
+/**
+ * Node-local end of a {@link NotificationBroadcaster}.
+ */
+public interface NotificationReceiver {
+    public boolean hasRecipient(String recipientId);
+    public void receive(Notification notification);
+    public void receiveStateChange(String recipientId);
+
+    /**
+     * Called when notifications may have been published without reaching this
+     * node, e.g. while a broadcaster's connection was down.
+     */
+    public default void receiveDeliveryGap() {
+    }
+}
@@ -0,0 +1,179 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * One open SSE stream of a user. A user may hold several, e.g. one per tab.
+ * <p>
+ * Events are not written by the caller but queued here and written by a single
+ * drain task at a time, so a slow socket only delays its own queue.
+ * <p>
+ * While missed events are replayed, newly queued events are held back and only
+ * queued behind the replayed ones on {@link #release}.
+ */
+public class SseConnection {
+    private final String connectionId;
+    private final String userId;
+    private final SseEmitter emitter;
+    private volatile long lastActivityNanos;
+
+    // Guarded by this
+    private final Deque<Supplier<SseEventBuilder>> outbound = new ArrayDeque<>();
+    private Deque<Supplier<SseEventBuilder>> held;
+    private boolean draining;
+
+    SseConnection(String connectionId, String userId, SseEmitter emitter) {
+        this.connectionId = connectionId;
+        this.userId = userId;
+        this.emitter = emitter;
+        this.lastActivityNanos = System.nanoTime();
+    }
+
+    public String getConnectionId() {
+        return connectionId;
+    }
+
+    public String getUserId() {
+        return userId;
+    }
+
+    public SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    public long getLastActivityNanos() {
+        return lastActivityNanos;
+    }
+
+    /**
+     * Queues an event. When the queue is full, the pending events are discarded
+     * and replaced by {@code resyncEvent}, telling the client to reload instead of
+     * catching up event by event.
+     *
+     * @return the number of events discarded
+     */
+    synchronized int enqueue(Supplier<SseEventBuilder> event, int capacity, Supplier<SseEventBuilder> resyncEvent) {
+        return add(held != null ? held : outbound, event, capacity, resyncEvent);
+    }
+
+    /**
+     * Holds back events queued from now on until {@link #release}.
+     */
+    synchronized void hold() {
+        if (held == null) {
+            held = new ArrayDeque<>();
+        }
+    }
+
+    /**
+     * Queues {@code first}, then the held events that {@code keep} accepts, and
+     * stops holding. Events queued concurrently wait and end up behind them.
+     *
+     * @return the number of events discarded because the queue was full
+     */
+    synchronized int release(List<Supplier<SseEventBuilder>> first, Predicate<Supplier<SseEventBuilder>> keep,
+            int capacity, Supplier<SseEventBuilder> resyncEvent) {
+        Deque<Supplier<SseEventBuilder>> released = held != null ? held : new ArrayDeque<>();
+        held = null;
+
+        int dropped = 0;
+        for (Supplier<SseEventBuilder> event : first) {
+            dropped += add(outbound, event, capacity, resyncEvent);
+        }
+        for (Supplier<SseEventBuilder> event : released) {
+            if (keep.test(event)) {
+                dropped += add(outbound, event, capacity, resyncEvent);
+            }
+        }
+        return dropped;
+    }
+
+    private static int add(Deque<Supplier<SseEventBuilder>> queue, Supplier<SseEventBuilder> event, int capacity,
+            Supplier<SseEventBuilder> resyncEvent) {
+        if (queue.size() < capacity) {
+            queue.addLast(event);
+            return 0;
+        }
+
+        int dropped = queue.size() + 1;
+        queue.clear();
+        queue.addLast(resyncEvent);
+        return dropped;
+    }
+
+    /**
+     * Queues an event only if nothing is pending, e.g. a heartbeat that would be
+     * redundant behind queued events.
+     */
+    synchronized boolean enqueueIfIdle(Supplier<SseEventBuilder> event) {
+        if (!outbound.isEmpty()) {
+            return false;
+        }
+        outbound.addLast(event);
+        return true;
+    }
+
+    synchronized int getQueueSize() {
+        return outbound.size();
+    }
+
+    /**
+     * Claims the drain role. Returns false if a drain task is already running or
+     * scheduled; it will pick up the newly queued events.
+     */
+    synchronized boolean startDrain() {
+        if (draining) {
+            return false;
+        }
+        draining = true;
+        return true;
+    }
+
+    /**
+     * Next event to write, or null after releasing the drain role because the
+     * queue is empty.
+     */
+    synchronized Supplier<SseEventBuilder> pollOrStopDrain() {
+        Supplier<SseEventBuilder> next = outbound.pollFirst();
+        if (next == null) {
+            draining = false;
+        }
+        return next;
+    }
+
+    synchronized void stopDrain() {
+        outbound.clear();
+        draining = false;
+    }
+
+    /**
+     * Writes one event. Returns false when the connection is gone, in which case
+     * the caller should evict it.
+     */
+    boolean send(SseEventBuilder event) {
+        try {
+            emitter.send(event);
+            lastActivityNanos = System.nanoTime();
+            return true;
+        } catch (IOException | IllegalStateException e) {
+            // IllegalStateException: the emitter has already completed
+            return false;
+        }
+    }
+
+    void complete() {
+        try {
+            emitter.complete();
+        } catch (IllegalStateException e) {
+            // Already completed
+        }
+    }
+}
@@ -0,0 +1,369 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Open SSE connections on this node, several per user.
+ * <p>
+ * Connections are bounded per user (the oldest is closed to make room) and per
+ * node (new connections are refused). Emitters time out after
+ * {@code notification.sse.timeout-ms}, after which the browser reconnects,
+ * connections whose heartbeat fails are evicted, and connections without a
+ * successful write for {@code notification.sse.idle-timeout-ms} are closed by
+ * the idle sweep.
+ * <p>
+ * Sending never blocks the caller: events go to a bounded per-connection queue
+ * drained on the SSE writer executor. A client that falls behind by more than
+ * {@code notification.sse.queue-capacity} events has its backlog replaced by a
+ * single "resync" event, and writes slower than
+ * {@code notification.sse.slow-write-threshold-ms} are counted and logged.
+ */
+@Component
+@Slf4j
+public class SseConnectionRegistry {
+    public static final String EVICTION_DEAD = "dead";
+    public static final String EVICTION_TIMEOUT = "timeout";
+    public static final String EVICTION_ERROR = "error";
+    public static final String EVICTION_REPLACED = "replaced";
+    public static final String EVICTION_OVERLOADED = "overloaded";
+    public static final String EVICTION_IDLE = "idle";
+
+    private static final Supplier<SseEventBuilder> HEARTBEAT = () -> SseEmitter.event().comment("heartbeat");
+    private static final Supplier<SseEventBuilder> RESYNC = () -> SseEmitter.event()
+        .name("resync")
+        .data("Some notifications were not delivered, reload the notification list.");
+
+    private final Map<String, List<SseConnection>> connectionsByUser = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final List<Consumer<String>> disconnectListeners = new CopyOnWriteArrayList<>();
+    private final MeterRegistry meterRegistry;
+    private final Counter rejectedCounter;
+    private final Counter droppedCounter;
+    private final Counter resyncCounter;
+    private final Counter slowWriteCounter;
+    private final Timer writeTimer;
+    private final TaskExecutor writerExecutor;
+    private final long timeoutMs;
+    private final long idleTimeoutNanos;
+    private final int maxConnectionsPerUser;
+    private final int maxConnectionsPerNode;
+    private final int queueCapacity;
+    private final long slowWriteThresholdNanos;
+
+    public SseConnectionRegistry(MeterRegistry meterRegistry,
+            @Qualifier("sseWriterExecutor") TaskExecutor writerExecutor,
+            @Value("${notification.sse.timeout-ms:1800000}") long timeoutMs,
+            @Value("${notification.sse.idle-timeout-ms:90000}") long idleTimeoutMs,
+            @Value("${notification.sse.max-connections-per-user:5}") int maxConnectionsPerUser,
+            @Value("${notification.sse.max-connections-per-node:10000}") int maxConnectionsPerNode,
+            @Value("${notification.sse.queue-capacity:100}") int queueCapacity,
+            @Value("${notification.sse.slow-write-threshold-ms:1000}") long slowWriteThresholdMs) {
+        if (timeoutMs <= 0 || idleTimeoutMs <= 0 || maxConnectionsPerUser <= 0 || maxConnectionsPerNode <= 0
+                || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid SSE connection limits: timeout=" + timeoutMs
+                + ", idleTimeout=" + idleTimeoutMs
+                + ", perUser=" + maxConnectionsPerUser + ", perNode=" + maxConnectionsPerNode
+                + ", queue=" + queueCapacity);
+        }
+
+        this.meterRegistry = meterRegistry;
+        this.writerExecutor = writerExecutor;
+        this.timeoutMs = timeoutMs;
+        this.idleTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(idleTimeoutMs);
+        this.maxConnectionsPerUser = maxConnectionsPerUser;
+        this.maxConnectionsPerNode = maxConnectionsPerNode;
+        this.queueCapacity = queueCapacity;
+        this.slowWriteThresholdNanos = TimeUnit.MILLISECONDS.toNanos(slowWriteThresholdMs);
+        this.rejectedCounter = Counter.builder("notification.sse.rejected")
+            .description("SSE connections refused because the node limit was reached")
+            .register(meterRegistry);
+        this.droppedCounter = Counter.builder("notification.sse.queue.dropped")
+            .description("Queued SSE events discarded because the client fell behind")
+            .register(meterRegistry);
+        this.resyncCounter = Counter.builder("notification.sse.resyncs")
+            .description("Resync events sent to clients that fell behind")
+            .register(meterRegistry);
+        this.slowWriteCounter = Counter.builder("notification.sse.slow.writes")
+            .description("SSE writes slower than the slow-write threshold")
+            .register(meterRegistry);
+        this.writeTimer = Timer.builder("notification.sse.write.latency")
+            .description("Time to write one event to an SSE connection")
+            .register(meterRegistry);
+        Gauge.builder("notification.sse.connections", connectionCount, AtomicInteger::get)
+            .description("Open SSE connections on this node")
+            .register(meterRegistry);
+    }
+
+    public SseConnection register(String userId) {
+        return register(userId, false);
+    }
+
+    /**
+     * Registers a connection whose events are held back from the start if
+     * {@code holdEvents}, before any sender can see it, until
+     * {@link #release} is called.
+     */
+    public SseConnection register(String userId, boolean holdEvents) {
+        if (userId == null || userId.isBlank()) {
+            throw new IllegalArgumentException("User ID is required");
+        }
+        if (!reserveSlot()) {
+            rejectedCounter.increment();
+            throw new IllegalStateException("Too many notification streams are open on this server, try again later");
+        }
+
+        SseConnection connection = new SseConnection(UUID.randomUUID().toString(), userId, new SseEmitter(timeoutMs));
+        if (holdEvents) {
+            connection.hold();
+        }
+        List<SseConnection> replaced = new ArrayList<>();
+
+        connectionsByUser.compute(userId, (id, connections) -> {
+            List<SseConnection> userConnections = connections == null ? new CopyOnWriteArrayList<>() : connections;
+            userConnections.add(connection);
+            while (userConnections.size() > maxConnectionsPerUser) {
+                replaced.add(userConnections.remove(0));
+            }
+            return userConnections;
+        });
+        // The new connection's slot is already reserved
+        connectionCount.addAndGet(-replaced.size());
+
+        for (SseConnection oldest : replaced) {
+            recordEviction(EVICTION_REPLACED);
+            oldest.complete();
+        }
+
+        SseEmitter emitter = connection.getEmitter();
+        emitter.onCompletion(() -> remove(connection));
+        emitter.onTimeout(() -> evict(connection, EVICTION_TIMEOUT));
+        emitter.onError(e -> evict(connection, EVICTION_ERROR));
+
+        return connection;
+    }
+
+    /**
+     * Takes one slot of the node cap, so concurrent registrations cannot
+     * overshoot it between the check and the increment.
+     */
+    private boolean reserveSlot() {
+        int current;
+        do {
+            current = connectionCount.get();
+            if (current >= maxConnectionsPerNode) {
+                return false;
+            }
+        } while (!connectionCount.compareAndSet(current, current + 1));
+        return true;
+    }
+
+    /**
+     * Registers a callback for when a user's last connection on this node is
+     * removed. It runs while that user's entry is locked, so it completes before
+     * a new connection of the same user is registered.
+     */
+    public void onUserDisconnected(Consumer<String> listener) {
+        disconnectListeners.add(listener);
+    }
+
+    public boolean hasConnections(String userId) {
+        return connectionsByUser.containsKey(userId);
+    }
+
+    public List<SseConnection> getConnections(String userId) {
+        List<SseConnection> connections = connectionsByUser.get(userId);
+        return connections == null ? List.of() : List.copyOf(connections);
+    }
+
+    public int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    /**
+     * Queues an event for every connection of the user. The supplier is called
+     * once per write because an event builder can only be sent once.
+     *
+     * @return the number of connections the event was queued for
+     */
+    public int sendToUser(String userId, Supplier<SseEventBuilder> event) {
+        List<SseConnection> connections = getConnections(userId);
+        for (SseConnection connection : connections) {
+            send(connection, event);
+        }
+        return connections.size();
+    }
+
+    public void send(SseConnection connection, Supplier<SseEventBuilder> event) {
+        recordDropped(connection, connection.enqueue(event, queueCapacity, RESYNC));
+        scheduleDrain(connection);
+    }
+
+    /**
+     * Queues {@code first} ahead of the events held back since registration,
+     * keeping only the held events {@code keep} accepts, and stops holding.
+     */
+    public void release(SseConnection connection, List<Supplier<SseEventBuilder>> first,
+            Predicate<Supplier<SseEventBuilder>> keep) {
+        recordDropped(connection, connection.release(first, keep, queueCapacity, RESYNC));
+        scheduleDrain(connection);
+    }
+
+    private void recordDropped(SseConnection connection, int dropped) {
+        if (dropped > 0) {
+            droppedCounter.increment(dropped);
+            resyncCounter.increment();
+            log.warn("SSE client of user {} fell behind, dropped {} events and requested a resync",
+                connection.getUserId(), dropped);
+        }
+    }
+
+    /**
+     * Tells the client it cannot catch up event by event and should reload.
+     */
+    public void requestResync(SseConnection connection) {
+        resyncCounter.increment();
+        send(connection, RESYNC);
+    }
+
+    /**
+     * Queues an SSE comment on every idle connection. Keeps proxies from closing
+     * idle streams and detects connections whose client has gone away; the
+     * writer evicts them when the heartbeat cannot be written.
+     */
+    public void sendHeartbeats() {
+        for (List<SseConnection> connections : connectionsByUser.values()) {
+            for (SseConnection connection : connections) {
+                if (connection.enqueueIfIdle(HEARTBEAT)) {
+                    scheduleDrain(connection);
+                }
+            }
+        }
+    }
+
+    /**
+     * Closes connections without a successful write for longer than the idle
+     * timeout. A live client gets at least one heartbeat per heartbeat interval,
+     * so these are streams whose writes are stuck or never drained.
+     *
+     * @return the number of connections closed
+     */
+    public int closeIdleConnections() {
+        return closeIdleConnections(System.nanoTime());
+    }
+
+    int closeIdleConnections(long nowNanos) {
+        int closed = 0;
+        for (List<SseConnection> connections : connectionsByUser.values()) {
+            for (SseConnection connection : connections) {
+                if (nowNanos - connection.getLastActivityNanos() > idleTimeoutNanos && remove(connection)) {
+                    recordEviction(EVICTION_IDLE);
+                    completeOnWriter(connection);
+                    closed++;
+                }
+            }
+        }
+        if (closed > 0) {
+            log.info("Closed {} idle SSE connections", closed);
+        }
+        return closed;
+    }
+
+    /**
+     * Completing waits for a write in progress, which on an idle connection may
+     * be the stuck one; do it on the writer executor rather than the caller's
+     * thread.
+     */
+    private void completeOnWriter(SseConnection connection) {
+        try {
+            writerExecutor.execute(connection::complete);
+        } catch (TaskRejectedException e) {
+            connection.complete();
+        }
+    }
+
+    private void scheduleDrain(SseConnection connection) {
+        if (!connection.startDrain()) {
+            return;
+        }
+        try {
+            writerExecutor.execute(() -> drain(connection));
+        } catch (TaskRejectedException e) {
+            // Writer queue full or shutting down: close the stream so the client
+            // reconnects and replays, instead of leaving its events stranded
+            connection.stopDrain();
+            evict(connection, EVICTION_OVERLOADED);
+        }
+    }
+
+    private void drain(SseConnection connection) {
+        Supplier<SseEventBuilder> next;
+        while ((next = connection.pollOrStopDrain()) != null) {
+            long startedAt = System.nanoTime();
+            boolean written = connection.send(next.get());
+            long elapsed = System.nanoTime() - startedAt;
+            writeTimer.record(elapsed, TimeUnit.NANOSECONDS);
+
+            if (!written) {
+                connection.stopDrain();
+                evict(connection, EVICTION_DEAD);
+                return;
+            }
+            if (elapsed > slowWriteThresholdNanos) {
+                slowWriteCounter.increment();
+                log.warn("Slow SSE write to user {}: {} ms, {} events still queued", connection.getUserId(),
+                    TimeUnit.NANOSECONDS.toMillis(elapsed), connection.getQueueSize());
+            }
+        }
+    }
+
+    public void evict(SseConnection connection, String reason) {
+        if (remove(connection)) {
+            recordEviction(reason);
+            connection.complete();
+        }
+    }
+
+    private boolean remove(SseConnection connection) {
+        boolean[] removed = { false };
+        connectionsByUser.computeIfPresent(connection.getUserId(), (id, connections) -> {
+            removed[0] = connections.remove(connection);
+            if (!connections.isEmpty()) {
+                return connections;
+            }
+            disconnectListeners.forEach(listener -> listener.accept(id));
+            return null;
+        });
+        if (removed[0]) {
+            connectionCount.decrementAndGet();
+        }
+        return removed[0];
+    }
+
+    private void recordEviction(String reason) {
+        meterRegistry.counter("notification.sse.evictions", "reason", reason).increment();
+    }
+}
@@ -1,62 +1,202 @@
 package org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery;
 
-import java.io.IOException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
 
+import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationDao;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationChannel;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationStreamCursor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
 
+import jakarta.annotation.PostConstruct;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * SSE channel. Connections are node-local, so notifications are published
+ * through the {@link NotificationBroadcaster} and written to the user's open
+ * connections by whichever node holds them.
+ * <p>
+ * Each notification event carries a {@link NotificationStreamCursor} as its id.
+ * A reconnecting client sends the last id it saw as {@code Last-Event-ID} and
+ * gets the missed notifications from the {@link SseReplayBuffer} when it has
+ * buffered everything since that id, or from the database otherwise. If more than
+ * {@code notification.sse.replay-max-events} were missed, it gets a "resync"
+ * event instead. Live events for a reconnecting connection are held back until
+ * the replay is queued, then follow it without the notifications it already
+ * contained.
+ * <p>
+ * Bulk reads and deletes send one "state-changed" event per user rather than
+ * one event per notification.
+ */
 @Component
 @Slf4j
-public class SseNotificationDelivery implements NotificationDelivery {
-    private final Map<String, SseEmitter> emitters = new ConcurrentHashMap<>();
+public class SseNotificationDelivery implements NotificationDelivery, NotificationReceiver {
+    private static final Supplier<SseEventBuilder> STATE_CHANGED = () -> SseEmitter.event()
+        .name("state-changed")
+        .data("Notifications were read or deleted, reload the notification list.");
+    private static final Supplier<SseEventBuilder> INIT = () -> SseEmitter.event()
+        .name("INIT")
+        .data("SSE connection established.");
+
+    private final SseConnectionRegistry connectionRegistry;
+    private final NotificationBroadcaster broadcaster;
+    private final SseReplayBuffer replayBuffer;
+    private final NotificationDao notificationDao;
+    private final int maxReplayEvents;
+
+    public SseNotificationDelivery(SseConnectionRegistry connectionRegistry, NotificationBroadcaster broadcaster,
+            SseReplayBuffer replayBuffer, NotificationDao notificationDao,
+            @Value("${notification.sse.replay-max-events:100}") int maxReplayEvents) {
+        this.connectionRegistry = connectionRegistry;
+        this.broadcaster = broadcaster;
+        this.replayBuffer = replayBuffer;
+        this.notificationDao = notificationDao;
+        this.maxReplayEvents = maxReplayEvents;
+    }
+
+    @PostConstruct
+    void registerWithBroadcaster() {
+        broadcaster.registerReceiver(this);
+        // Notifications for a user without a connection here are not buffered
+        connectionRegistry.onUserDisconnected(replayBuffer::forget);
+    }
+
     @Override
     public void deliver(Notification notification) {
-        SseEmitter emitter = emitters.get(notification.getRecipientId());
-        
-        if (emitter != null) {
-            try {
-                emitter.send(SseEmitter.event()
-                    .name("notification")
-                    .data(notification));
-                    
-                log.info("SSE notification sent to user: {}", notification.getRecipientId());
-            } catch (IOException e) {
-                log.error("Failed to send SSE: {}", e.getMessage());
-                emitters.remove(notification.getRecipientId());
-            }
+        broadcaster.publish(List.of(notification));
+    }
+
+    @Override
+    public void deliverAll(List<Notification> notifications) {
+        broadcaster.publish(notifications);
+    }
+
+    @Override
+    public void deliverStateChanges(Collection<String> recipientIds) {
+        broadcaster.publishStateChange(recipientIds);
+    }
+
+    @Override
+    public boolean hasRecipient(String recipientId) {
+        return connectionRegistry.hasConnections(recipientId);
+    }
+
+    @Override
+    public void receive(Notification notification) {
+        replayBuffer.record(notification);
+        int queued = connectionRegistry.sendToUser(notification.getRecipientId(), notificationEvent(notification));
+
+        if (queued > 0) {
+            log.info("SSE notification queued for user: {} ({} connections)", notification.getRecipientId(), queued);
         } else {
             log.debug("No SSE connection for user: {}", notification.getRecipientId());
         }
     }
 
+    @Override
+    public void receiveStateChange(String recipientId) {
+        connectionRegistry.sendToUser(recipientId, STATE_CHANGED);
+    }
+
+    @Override
+    public void receiveDeliveryGap() {
+        replayBuffer.clear();
+    }
+
     @Override
     public NotificationChannel getChannel() {
         return NotificationChannel.SSE;
     }
 
     public SseEmitter subscribe(String userId) {
-        SseEmitter emitter = new SseEmitter(Long.MAX_VALUE);
-        emitters.put(userId, emitter);
+        return subscribe(userId, null);
+    }
+
+    public SseEmitter subscribe(String userId, String lastEventId) {
+        boolean replay = lastEventId != null && !lastEventId.isBlank();
+        // A notification committed while the replay is read would otherwise be sent twice, ahead of older ones
+        SseConnection connection = connectionRegistry.register(userId, replay);
+
+        if (replay) {
+            replayMissed(connection, lastEventId);
+        } else {
+            connectionRegistry.send(connection, INIT);
+        }
+
+        return connection.getEmitter();
+    }
+
+    /**
+     * Notifications the user missed after {@code cursor}, oldest first.
+     *
+     * @return the missed notifications, or null if there are too many to replay
+     */
+    public List<Notification> getMissedNotifications(String userId, NotificationStreamCursor cursor) {
+        List<Notification> buffered = replayBuffer.getAfter(userId, cursor);
+        if (buffered != null) {
+            return buffered;
+        }
 
+        List<Notification> stored = notificationDao.getNotificationsAfter(userId, cursor, maxReplayEvents + 1);
+        return stored.size() > maxReplayEvents ? null : stored;
+    }
+
+    private void replayMissed(SseConnection connection, String lastEventId) {
+        List<Notification> missed = null;
         try {
-            emitter.send(SseEmitter.event()
-                .name("INIT")
-                .data("SSE connection established."));
-        } catch (IOException e) {
-            log.error("Error sending INIT event: {}", e.getMessage());
+            missed = getMissedNotifications(connection.getUserId(), NotificationStreamCursor.decode(lastEventId));
+        } catch (IllegalArgumentException e) {
+            log.debug("Ignoring invalid Last-Event-ID from user {}: {}", connection.getUserId(), e.getMessage());
+        } finally {
+            releaseHeld(connection, missed);
+        }
+    }
+
+    private void releaseHeld(SseConnection connection, List<Notification> missed) {
+        if (missed == null) {
+            // The client reloads on resync, so the held events may go out as they are
+            connectionRegistry.release(connection, List.of(INIT), event -> true);
+            connectionRegistry.requestResync(connection);
+            return;
         }
-        
-        emitter.onCompletion(() -> emitters.remove(userId));
-        emitter.onTimeout(() -> emitters.remove(userId));
-        emitter.onError((ex) -> emitters.remove(userId));
 
-        return emitter;
+        List<Supplier<SseEventBuilder>> replayed = new ArrayList<>(missed.size() + 1);
+        Set<String> replayedIds = new HashSet<>();
+        replayed.add(INIT);
+        for (Notification notification : missed) {
+            replayed.add(notificationEvent(notification));
+            replayedIds.add(notification.getNotificationId());
+        }
+        connectionRegistry.release(connection, replayed,
+            event -> !(event instanceof NotificationEvent held && replayedIds.contains(held.notificationId())));
+        log.debug("Replayed {} missed notifications to user {}", missed.size(), connection.getUserId());
+    }
+
+    private NotificationEvent notificationEvent(Notification notification) {
+        return new NotificationEvent(notification.getNotificationId(),
+            NotificationStreamCursor.of(notification).encode(), notification);
+    }
+
+    /**
+     * A notification event, recognisable when held events are matched against a replay.
+     */
+    private record NotificationEvent(String notificationId, String eventId, Notification notification)
+            implements Supplier<SseEventBuilder> {
+        @Override
+        public SseEventBuilder get() {
+            return SseEmitter.event()
+                .id(eventId)
+                .name("notification")
+                .data(notification);
+        }
     }
 
 }
@@ -0,0 +1,94 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationStreamCursor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * The last few notifications streamed to each user on this node, used to
+ * answer a reconnect's {@code Last-Event-ID} without touching the database.
+ * <p>
+ * Bounded per user ({@code notification.sse.replay-buffer-size}) and in the
+ * number of users kept, least recently used first out
+ * ({@code notification.sse.replay-max-users}).
+ * <p>
+ * Only notifications delivered to a user connected on this node are recorded,
+ * so a user's buffer is complete only while the user stays connected here. It
+ * is forgotten when the user's last connection on this node closes, and all
+ * buffers are cleared when the broadcaster may have missed deliveries; a
+ * reconnect then falls back to the database.
+ */
+@Component
+public class SseReplayBuffer {
+    private final int capacityPerUser;
+    private final Map<String, Deque<Notification>> buffers;
+
+    public SseReplayBuffer(
+            @Value("${notification.sse.replay-buffer-size:50}") int capacityPerUser,
+            @Value("${notification.sse.replay-max-users:10000}") int maxUsers) {
+        if (capacityPerUser <= 0 || maxUsers <= 0) {
+            throw new IllegalArgumentException("Invalid SSE replay buffer sizing: perUser=" + capacityPerUser
+                + ", users=" + maxUsers);
+        }
+
+        this.capacityPerUser = capacityPerUser;
+        this.buffers = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Deque<Notification>> eldest) {
+                return size() > maxUsers;
+            }
+        };
+    }
+
+    public synchronized void record(Notification notification) {
+        Deque<Notification> buffer = buffers.computeIfAbsent(notification.getRecipientId(),
+            id -> new ArrayDeque<>(capacityPerUser));
+        if (buffer.size() == capacityPerUser) {
+            buffer.removeFirst();
+        }
+        buffer.addLast(notification);
+    }
+
+    /**
+     * Drops the user's buffer, which can no longer vouch for what it missed.
+     */
+    public synchronized void forget(String userId) {
+        buffers.remove(userId);
+    }
+
+    public synchronized void clear() {
+        buffers.clear();
+    }
+
+    /**
+     * Notifications buffered after the one identified by {@code cursor}.
+     *
+     * @return the missed notifications, possibly empty, or null if the cursor's
+     *         notification is no longer (or never was) buffered on this node
+     */
+    public synchronized List<Notification> getAfter(String userId, NotificationStreamCursor cursor) {
+        Deque<Notification> buffer = buffers.get(userId);
+        if (buffer == null) {
+            return null;
+        }
+
+        Iterator<Notification> iterator = buffer.iterator();
+        while (iterator.hasNext()) {
+            if (cursor.notificationId().equals(iterator.next().getNotificationId())) {
+                List<Notification> missed = new ArrayList<>();
+                iterator.forEachRemaining(missed::add);
+                return missed;
+            }
+        }
+        return null;
+    }
+}
@@ -1,17 +1,31 @@
 package org.pqkkkkk.hr_management_server.modules.notification.domain.service.impl;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
 
 import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationDao;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationTemplateDao;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationContext;
-import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationTemplate;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationFilter;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.service.NotificationCommandService;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.counter.UnreadNotificationCounter;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery.NotificationDelivery;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.template.CompiledNotificationTemplate;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.template.NotificationTemplateCompiler;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import jakarta.transaction.Transactional;
 import lombok.extern.slf4j.Slf4j;
@@ -22,45 +36,109 @@ public class NotificationCommandServiceImpl implements NotificationCommandServic
     private final NotificationDao notificationDao;
     private final NotificationTemplateDao notificationTemplateDao;
     private final List<NotificationDelivery> deliveryChannels;
+    private final TaskExecutor notificationExecutor;
+    private final NotificationTemplateCompiler templateCompiler;
+    private final UnreadNotificationCounter unreadCounter;
+    private final int maxBulkRows;
 
     public NotificationCommandServiceImpl(NotificationDao notificationDao,
-        @Qualifier("notificationTemplateJpaDao") NotificationTemplateDao notificationTemplateDao,
-        List<NotificationDelivery> deliveryChannels) {
+        @Qualifier("cachedNotificationTemplateDao") NotificationTemplateDao notificationTemplateDao,
+        List<NotificationDelivery> deliveryChannels,
+        @Qualifier("notificationExecutor") TaskExecutor notificationExecutor,
+        NotificationTemplateCompiler templateCompiler,
+        UnreadNotificationCounter unreadCounter,
+        @Value("${notification.bulk.max-rows:1000}") int maxBulkRows) {
 
         this.notificationDao = notificationDao;
         this.notificationTemplateDao = notificationTemplateDao;
         this.deliveryChannels = deliveryChannels;
+        this.notificationExecutor = notificationExecutor;
+        this.templateCompiler = templateCompiler;
+        this.unreadCounter = unreadCounter;
+        this.maxBulkRows = maxBulkRows;
     }
 
     @Override
     @Transactional
     public Notification createNotification(NotificationContext context) {
-        NotificationTemplate template = notificationTemplateDao.getTemplateByTypeAndUserRole(
-            context.getType().name(),
-            context.getUserRole()
-        );
+        List<Notification> created = createNotifications(List.of(context));
+        return created.isEmpty() ? null : created.get(0);
+    }
+
+    /**
+     * Creates notifications for many contexts at once. Already delivered
+     * idempotency keys are filtered with one query, each (type, role) template is
+     * resolved and compiled once, and the notifications are inserted as a JDBC
+     * batch.
+     * Contexts without a template or with a known idempotency key are skipped.
+     */
+    @Override
+    @Transactional
+    public List<Notification> createNotifications(List<NotificationContext> contexts) {
+        if (contexts == null || contexts.isEmpty()) {
+            return List.of();
+        }
+
+        Set<String> existingKeys = new HashSet<>(notificationDao.getExistingIdempotencyKeys(contexts.stream()
+            .map(NotificationContext::getIdempotencyKey)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList()));
+
+        Map<String, Optional<CompiledNotificationTemplate>> templates = new HashMap<>();
+        List<Notification> notifications = new ArrayList<>(contexts.size());
+        StringBuilder buffer = new StringBuilder(256);
+
+        for (NotificationContext context : contexts) {
+            String idempotencyKey = context.getIdempotencyKey();
+            if (idempotencyKey != null && !existingKeys.add(idempotencyKey)) {
+                // Event was redelivered and this notification already exists
+                log.debug("Skipping duplicate notification for idempotency key: {}", idempotencyKey);
+                continue;
+            }
+
+            CompiledNotificationTemplate template = templates.computeIfAbsent(
+                context.getType().name() + ":" + context.getUserRole(),
+                key -> Optional.ofNullable(notificationTemplateDao.getTemplateByTypeAndUserRole(
+                    context.getType().name(), context.getUserRole()))
+                    .map(templateCompiler::compile))
+                .orElse(null);
 
-        if (template == null) {
-            // Graceful behavior: if there is no template configured, skip creating notification
-            log.debug("No active notification template found for type: {} and user role: {}", context.getType(), context.getUserRole());
-            return null;
+            if (template == null) {
+                // Graceful behavior: if there is no template configured, skip creating notification
+                log.debug("No active notification template found for type: {} and user role: {}", context.getType(), context.getUserRole());
+                continue;
+            }
+
+            // Render template with context data
+            String title = template.renderTitle(context.getTemplateData(), buffer);
+            String message = template.renderMessage(context.getTemplateData(), buffer);
+
+            notifications.add(Notification.builder()
+                .title(title)
+                .type(context.getType())
+                .referenceType(context.getReferenceType())
+                .referenceId(context.getReferenceId())
+                .recipientId(context.getRecipientId())
+                .message(message)
+                .isRead(false)
+                .idempotencyKey(idempotencyKey)
+                .build());
+        }
+
+        if (notifications.isEmpty()) {
+            return List.of();
         }
 
-        // Modify template with context data
-        String message = formatTemplate(template.getMessageTemplate(), context.getTemplateData());
+        List<Notification> created = notificationDao.createNotifications(notifications);
 
-        // Create Notification entity and persist it
-        Notification notification = Notification.builder()
-            .title(template.getTitleTemplate())
-            .type(context.getType())
-            .referenceType(context.getReferenceType())
-            .referenceId(context.getReferenceId())
-            .recipientId(context.getRecipientId())
-            .message(message)
-            .isRead(false)
-            .build();
+        Map<String, Long> unreadByRecipient = new HashMap<>();
+        for (Notification notification : created) {
+            unreadByRecipient.merge(notification.getRecipientId(), 1L, Long::sum);
+        }
+        unreadByRecipient.forEach(unreadCounter::adjust);
 
-        return notificationDao.createNotification(notification);
+        return created;
     }
 
     @Override
@@ -72,15 +150,18 @@ public class NotificationCommandServiceImpl implements NotificationCommandServic
             throw new IllegalArgumentException("Notification not found with ID: " + notificationId);
         }
 
+        if (Boolean.TRUE.equals(notification.getIsRead())) {
+            return;
+        }
+
         notification.setIsRead(true);
+        unreadCounter.adjust(notification.getRecipientId(), -1);
     }
 
     @Override
     @Transactional
     public void markAllAsRead(String recipientId) {
-        if (recipientId == null || recipientId.isBlank()) {
-            throw new IllegalArgumentException("Recipient ID is required");
-        }
+        validateRecipient(recipientId);
 
         Integer updatedCount = notificationDao.markAllAsRead(recipientId);
         
@@ -88,37 +169,171 @@ public class NotificationCommandServiceImpl implements NotificationCommandServic
             // No notifications to mark as read - this is OK, not an error
             return;
         }
+
+        // Unread notifications created concurrently may survive the update, so reload rather than zero
+        unreadCounter.invalidate(recipientId);
+    }
+
+    @Override
+    @Transactional
+    public int markAsReadByIds(String recipientId, List<String> notificationIds) {
+        validateRecipient(recipientId);
+        return markAsRead(recipientId, validateBulkIds(notificationIds));
+    }
+
+    @Override
+    @Transactional
+    public int markAsReadByFilter(NotificationFilter filter) {
+        validateBulkFilter(filter);
+
+        // Only unread notifications change, so only they count against the cap
+        Collection<String> notificationIds = getIdsWithinCap(new NotificationFilter(
+            filter.currentPage(), filter.pageSize(), filter.sortBy(), filter.sortDirection(),
+            filter.recipientId(), false, filter.type(), filter.referenceType(), filter.referenceId(),
+            filter.fromDate(), filter.toDate()));
+        return markAsRead(filter.recipientId(), notificationIds);
+    }
+
+    @Override
+    @Transactional
+    public int deleteByIds(String recipientId, List<String> notificationIds) {
+        validateRecipient(recipientId);
+        return deleteNotifications(recipientId, validateBulkIds(notificationIds));
     }
 
+    @Override
+    @Transactional
+    public int deleteByFilter(NotificationFilter filter) {
+        validateBulkFilter(filter);
+        return deleteNotifications(filter.recipientId(), getIdsWithinCap(filter));
+    }
+
+    private int markAsRead(String recipientId, Collection<String> notificationIds) {
+        int updated = notificationDao.markAsReadByIds(recipientId, notificationIds);
+        if (updated > 0) {
+            publishStateChanges(List.of(recipientId));
+        }
+        return updated;
+    }
+
+    private int deleteNotifications(String recipientId, Collection<String> notificationIds) {
+        int deleted = notificationDao.deleteNotificationsByIds(recipientId, notificationIds);
+        if (deleted > 0) {
+            publishStateChanges(List.of(recipientId));
+        }
+        return deleted;
+    }
+
+    private void validateRecipient(String recipientId) {
+        if (recipientId == null || recipientId.isBlank()) {
+            throw new IllegalArgumentException("Recipient ID is required");
+        }
+    }
+
+    private List<String> validateBulkIds(List<String> notificationIds) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            throw new IllegalArgumentException("At least one notification ID is required");
+        }
+
+        List<String> distinctIds = notificationIds.stream().filter(Objects::nonNull).distinct().toList();
+        if (distinctIds.size() > maxBulkRows) {
+            throw new IllegalArgumentException("Cannot update more than " + maxBulkRows + " notifications at once");
+        }
+        return distinctIds;
+    }
+
+    private void validateBulkFilter(NotificationFilter filter) {
+        // Like every other operation, a filter only ever reaches one user's notifications
+        if (filter == null) {
+            throw new IllegalArgumentException("Recipient ID is required");
+        }
+        validateRecipient(filter.recipientId());
+    }
+
+    private Collection<String> getIdsWithinCap(NotificationFilter filter) {
+        Map<String, String> recipients = notificationDao.getRecipientIdsByFilter(filter, maxBulkRows + 1);
+        if (recipients.size() > maxBulkRows) {
+            throw new IllegalArgumentException(
+                "Filter matches more than " + maxBulkRows + " notifications, narrow it down");
+        }
+        return recipients.keySet();
+    }
+
+    /**
+     * Reloads the unread counts of the affected recipients and, after commit,
+     * sends each of them one state change event instead of one per notification.
+     */
+    private void publishStateChanges(Collection<String> recipientIds) {
+        Set<String> recipients = Set.copyOf(recipientIds);
+        recipients.forEach(unreadCounter::invalidate);
+
+        runAfterCommit(() -> {
+            for (NotificationDelivery delivery : deliveryChannels) {
+                try {
+                    delivery.deliverStateChanges(recipients);
+                } catch (RuntimeException e) {
+                    log.error("Failed to deliver state changes to {} recipients via {}: {}",
+                        recipients.size(), delivery.getChannel(), e.getMessage());
+                }
+            }
+        });
+    }
+
+    /**
+     * Delivers the notification on the bounded notification executor. Inside a
+     * transaction, delivery waits for the commit so uncommitted notifications are
+     * never pushed and slow channels do not hold the transaction open.
+     */
     @Override
     public void sendNotification(Notification notification) {
-        for (NotificationDelivery delivery : deliveryChannels) {
-            delivery.deliver(notification);
+        runAfterCommit(() -> deliverToAllChannels(notification));
+    }
+
+    /**
+     * Same as {@link #sendNotification(Notification)} for a batch, which each
+     * channel may deliver in one go (e.g. one broadcast for the whole batch).
+     */
+    @Override
+    public void sendNotifications(List<Notification> notifications) {
+        if (notifications == null || notifications.isEmpty()) {
+            return;
         }
+        List<Notification> batch = List.copyOf(notifications);
+        runAfterCommit(() -> deliverAllToAllChannels(batch));
     }
 
-    private String formatTemplate(String template, Map<String, Object> data) {
-        if (template == null) return "";
+    private void runAfterCommit(Runnable delivery) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    notificationExecutor.execute(delivery);
+                }
+            });
+        } else {
+            notificationExecutor.execute(delivery);
+        }
+    }
 
-        // Find placeholders like {key}
-        java.util.regex.Pattern pattern = java.util.regex.Pattern.compile("\\{([^}]+)\\}");
-        java.util.regex.Matcher matcher = pattern.matcher(template);
-        StringBuffer sb = new StringBuffer();
+    private void deliverAllToAllChannels(List<Notification> notifications) {
+        for (NotificationDelivery delivery : deliveryChannels) {
+            try {
+                delivery.deliverAll(notifications);
+            } catch (RuntimeException e) {
+                log.error("Failed to deliver {} notifications via {}: {}",
+                    notifications.size(), delivery.getChannel(), e.getMessage());
+            }
+        }
+    }
 
-        while (matcher.find()) {
-            String key = matcher.group(1);
-            Object value = (data == null) ? null : data.get(key);
-            if (value == null) {
-                // graceful: replace missing/ null with empty string and warn
-                matcher.appendReplacement(sb, "");
-                log.warn("Missing template key '{}' while formatting notification", key);
-            } else {
-                // escape replacement to avoid group references
-                String replacement = java.util.regex.Matcher.quoteReplacement(value.toString());
-                matcher.appendReplacement(sb, replacement);
+    private void deliverToAllChannels(Notification notification) {
+        for (NotificationDelivery delivery : deliveryChannels) {
+            try {
+                delivery.deliver(notification);
+            } catch (RuntimeException e) {
+                log.error("Failed to deliver notification {} via {}: {}",
+                    notification.getNotificationId(), delivery.getChannel(), e.getMessage());
             }
         }
-        matcher.appendTail(sb);
-        return sb.toString();
     }
 }
@@ -4,15 +4,18 @@ import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.Notifica
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationFilter;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.service.NotificationQueryService;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.counter.UnreadNotificationCounter;
 import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
 @Service
 public class NotificationQueryServiceImpl implements NotificationQueryService {
     private final NotificationDao notificationDao;
+    private final UnreadNotificationCounter unreadCounter;
 
-    public NotificationQueryServiceImpl(NotificationDao notificationDao) {
+    public NotificationQueryServiceImpl(NotificationDao notificationDao, UnreadNotificationCounter unreadCounter) {
         this.notificationDao = notificationDao;
+        this.unreadCounter = unreadCounter;
     }
 
     @Override
@@ -31,6 +34,6 @@ public class NotificationQueryServiceImpl implements NotificationQueryService {
             throw new IllegalArgumentException("Recipient ID is required");
         }
 
-        return notificationDao.countUnreadNotifications(recipientId);
+        return unreadCounter.getUnreadCount(recipientId);
     }
 }
@@ -0,0 +1,143 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.impl;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationArchiveDao;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationDao;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationRetentionResult;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationRetentionPolicy;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.NotificationRetentionService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class NotificationRetentionServiceImpl implements NotificationRetentionService {
+    private final NotificationDao notificationDao;
+    private final NotificationArchiveDao archiveDao;
+    private final TransactionTemplate transactionTemplate;
+    private final NotificationRetentionPolicy policy;
+    private final int readRetentionDays;
+    private final int archiveRetentionDays;
+    private final int batchSize;
+
+    private final Counter archivedCounter;
+    private final Counter deletedCounter;
+    private final Counter purgedCounter;
+    private final Timer runTimer;
+
+    public NotificationRetentionServiceImpl(NotificationDao notificationDao,
+            NotificationArchiveDao archiveDao,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${notification.retention.policy:ARCHIVE}") NotificationRetentionPolicy policy,
+            @Value("${notification.retention.read-retention-days:90}") int readRetentionDays,
+            @Value("${notification.retention.archive-retention-days:365}") int archiveRetentionDays,
+            @Value("${notification.retention.batch-size:1000}") int batchSize) {
+        if (readRetentionDays <= 0) {
+            throw new IllegalArgumentException("Read retention days must be greater than zero");
+        }
+        if (archiveRetentionDays < 0) {
+            throw new IllegalArgumentException("Archive retention days cannot be negative");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than zero");
+        }
+        this.notificationDao = notificationDao;
+        this.archiveDao = archiveDao;
+        this.policy = policy;
+        this.readRetentionDays = readRetentionDays;
+        this.archiveRetentionDays = archiveRetentionDays;
+        this.batchSize = batchSize;
+
+        // Each batch commits on its own so a failure only loses the batch in flight
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.archivedCounter = Counter.builder("notification.retention.archived")
+                .description("Read notifications moved to the archive")
+                .register(meterRegistry);
+        this.deletedCounter = Counter.builder("notification.retention.deleted")
+                .description("Read notifications deleted without archiving")
+                .register(meterRegistry);
+        this.purgedCounter = Counter.builder("notification.retention.purged")
+                .description("Archived notifications deleted after the archive retention window")
+                .register(meterRegistry);
+        this.runTimer = Timer.builder("notification.retention.run")
+                .description("Duration of a full retention run")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public NotificationRetentionResult applyRetention() {
+        return runTimer.record(() -> {
+            LocalDateTime now = LocalDateTime.now();
+            int archived = 0;
+            int deleted = 0;
+
+            LocalDateTime readCutoff = now.minusDays(readRetentionDays);
+            int moved;
+            do {
+                moved = transactionTemplate.execute(status -> retireReadBatch(readCutoff, now));
+                if (policy == NotificationRetentionPolicy.ARCHIVE) {
+                    archived += moved;
+                } else {
+                    deleted += moved;
+                }
+            } while (moved == batchSize);
+
+            int purged = 0;
+            // Zero keeps the archive forever
+            if (archiveRetentionDays > 0) {
+                LocalDateTime archiveCutoff = now.minusDays(archiveRetentionDays);
+                int removed;
+                do {
+                    removed = transactionTemplate.execute(status -> purgeArchiveBatch(archiveCutoff));
+                    purged += removed;
+                } while (removed == batchSize);
+            }
+
+            if (archived + deleted + purged > 0) {
+                log.info("Notification retention archived {}, deleted {}, purged {}", archived, deleted, purged);
+            }
+            return new NotificationRetentionResult(archived, deleted, purged);
+        });
+    }
+
+    /**
+     * The selected rows stay locked until the batch commits, and rows locked by
+     * another node's batch are skipped, so nodes running the job at the same
+     * time split the notifications instead of archiving the same ones twice.
+     */
+    private int retireReadBatch(LocalDateTime cutoff, LocalDateTime now) {
+        List<String> ids = notificationDao.getReadNotificationIdsCreatedBefore(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (policy == NotificationRetentionPolicy.ARCHIVE) {
+            archiveDao.archiveNotifications(ids, now);
+        }
+        int removed = notificationDao.deleteNotificationsByIds(ids);
+        (policy == NotificationRetentionPolicy.ARCHIVE ? archivedCounter : deletedCounter).increment(removed);
+        return ids.size();
+    }
+
+    private int purgeArchiveBatch(LocalDateTime cutoff) {
+        List<String> ids = archiveDao.getArchivedNotificationIdsCreatedBefore(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int removed = archiveDao.deleteArchivedNotificationsByIds(ids);
+        purgedCounter.increment(removed);
+        return ids.size();
+    }
+}
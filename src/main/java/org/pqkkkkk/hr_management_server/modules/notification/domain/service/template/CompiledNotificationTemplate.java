@@ -0,0 +1,33 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.template;
+
+import java.util.Map;
+
+/**
+ * Title and message of a {@code NotificationTemplate}, compiled for a specific
+ * template version.
+ */
+public record CompiledNotificationTemplate(
+        String templateId,
+        Long version,
+        CompiledTemplate title,
+        CompiledTemplate message) {
+
+    /**
+     * Renders the title using {@code buffer} as scratch space. The buffer is
+     * cleared first, so one buffer can be reused across a batch.
+     */
+    public String renderTitle(Map<String, Object> data, StringBuilder buffer) {
+        return render(title, data, buffer);
+    }
+
+    public String renderMessage(Map<String, Object> data, StringBuilder buffer) {
+        return render(message, data, buffer);
+    }
+
+    private static String render(CompiledTemplate template, Map<String, Object> data, StringBuilder buffer) {
+        buffer.setLength(0);
+        buffer.ensureCapacity(template.estimatedLength());
+        template.renderTo(data, buffer);
+        return buffer.toString();
+    }
+}
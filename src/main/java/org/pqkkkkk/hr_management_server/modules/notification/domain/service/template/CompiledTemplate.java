@@ -0,0 +1,98 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.template;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * A template string parsed once into alternating literal and placeholder
+ * segments, so rendering is a sequence of appends with no parsing.
+ * <p>
+ * Placeholders use the {@code {key}} form. An opening brace without a closing
+ * one is kept as literal text.
+ */
+public final class CompiledTemplate {
+
+    private static final CompiledTemplate EMPTY = new CompiledTemplate(new String[] { "" }, new String[0]);
+
+    // literals.length == keys.length + 1; literal i is followed by key i
+    private final String[] literals;
+    private final String[] keys;
+    private final int literalLength;
+
+    private CompiledTemplate(String[] literals, String[] keys) {
+        this.literals = literals;
+        this.keys = keys;
+
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    public static CompiledTemplate compile(String source) {
+        if (source == null || source.isEmpty()) {
+            return EMPTY;
+        }
+
+        List<String> literals = new ArrayList<>();
+        List<String> keys = new ArrayList<>();
+        int literalStart = 0;
+        int open = source.indexOf('{');
+
+        while (open >= 0) {
+            int close = source.indexOf('}', open + 1);
+            if (close < 0) {
+                break;
+            }
+            if (close == open + 1) {
+                // "{}" is not a placeholder
+                open = source.indexOf('{', close + 1);
+                continue;
+            }
+            literals.add(source.substring(literalStart, open));
+            keys.add(source.substring(open + 1, close));
+            literalStart = close + 1;
+            open = source.indexOf('{', literalStart);
+        }
+        literals.add(source.substring(literalStart));
+
+        return new CompiledTemplate(literals.toArray(String[]::new), keys.toArray(String[]::new));
+    }
+
+    public Set<String> getKeys() {
+        return new LinkedHashSet<>(List.of(keys));
+    }
+
+    /**
+     * Rough output size used to pre-size render buffers: the literal text plus a
+     * small allowance per placeholder.
+     */
+    public int estimatedLength() {
+        return literalLength + keys.length * 16;
+    }
+
+    /**
+     * Appends the rendered template to {@code out}. Missing or null values render
+     * as an empty string.
+     */
+    public void renderTo(Map<String, Object> data, StringBuilder out) {
+        out.append(literals[0]);
+        for (int i = 0; i < keys.length; i++) {
+            Object value = (data == null) ? null : data.get(keys[i]);
+            if (value != null) {
+                out.append(value);
+            }
+            out.append(literals[i + 1]);
+        }
+    }
+
+    public String render(Map<String, Object> data) {
+        StringBuilder out = new StringBuilder(estimatedLength());
+        renderTo(data, out);
+        return out.toString();
+    }
+}
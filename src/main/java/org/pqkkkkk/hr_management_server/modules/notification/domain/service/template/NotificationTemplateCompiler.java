@@ -0,0 +1,60 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.template;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationTemplate;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Compiles notification templates and caches the result per template id. A
+ * cached entry is reused only while the template's version is unchanged, so an
+ * edited template is recompiled on its next use.
+ * <p>
+ * Placeholders that the template's {@code NotificationType} does not declare
+ * can never be filled; they are reported once, when the template is compiled.
+ */
+@Component
+@Slf4j
+public class NotificationTemplateCompiler {
+
+    private final Map<String, CompiledNotificationTemplate> compiledTemplates = new ConcurrentHashMap<>();
+
+    public CompiledNotificationTemplate compile(NotificationTemplate template) {
+        if (template.getTemplateId() == null) {
+            // Not persisted yet, nothing to cache it under
+            return doCompile(template);
+        }
+
+        return compiledTemplates.compute(template.getTemplateId(), (templateId, cached) ->
+            cached != null && Objects.equals(cached.version(), template.getVersion())
+                ? cached
+                : doCompile(template));
+    }
+
+    private CompiledNotificationTemplate doCompile(NotificationTemplate template) {
+        CompiledTemplate title = CompiledTemplate.compile(template.getTitleTemplate());
+        CompiledTemplate message = CompiledTemplate.compile(template.getMessageTemplate());
+
+        Set<String> declaredKeys = template.getNotificationType().getTemplateKeys();
+        reportUndeclaredKeys(template, "title", title, declaredKeys);
+        reportUndeclaredKeys(template, "message", message, declaredKeys);
+
+        return new CompiledNotificationTemplate(template.getTemplateId(), template.getVersion(), title, message);
+    }
+
+    private void reportUndeclaredKeys(NotificationTemplate template, String part,
+            CompiledTemplate compiled, Set<String> declaredKeys) {
+        for (String key : compiled.getKeys()) {
+            if (!declaredKeys.contains(key)) {
+                log.warn("Notification template {} ({} / {}) uses key '{}' in its {} which {} does not provide",
+                    template.getTemplateId(), template.getNotificationType(), template.getUserRole(),
+                    key, part, template.getNotificationType());
+            }
+        }
+    }
+}
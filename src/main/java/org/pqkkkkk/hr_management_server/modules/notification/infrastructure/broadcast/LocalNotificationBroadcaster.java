@@ -0,0 +1,50 @@
+package org.pqkkkkk.hr_management_server.modules.notification.infrastructure.broadcast;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery.NotificationBroadcaster;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery.NotificationReceiver;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * Single-node broadcaster that hands notifications straight to the local
+ * receivers. Used when {@code notification.broadcast.mode=local}, e.g. in tests
+ * running on H2.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.broadcast.mode", havingValue = "local")
+public class LocalNotificationBroadcaster implements NotificationBroadcaster {
+    private final List<NotificationReceiver> receivers = new CopyOnWriteArrayList<>();
+
+    @Override
+    public void publish(List<Notification> notifications) {
+        for (Notification notification : notifications) {
+            for (NotificationReceiver receiver : receivers) {
+                if (receiver.hasRecipient(notification.getRecipientId())) {
+                    receiver.receive(notification);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void publishStateChange(Collection<String> recipientIds) {
+        for (String recipientId : new LinkedHashSet<>(recipientIds)) {
+            for (NotificationReceiver receiver : receivers) {
+                if (receiver.hasRecipient(recipientId)) {
+                    receiver.receiveStateChange(recipientId);
+                }
+            }
+        }
+    }
+
+    @Override
+    public void registerReceiver(NotificationReceiver receiver) {
+        receivers.add(receiver);
+    }
+}
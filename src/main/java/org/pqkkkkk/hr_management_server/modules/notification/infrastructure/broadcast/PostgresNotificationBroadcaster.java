@@ -0,0 +1,393 @@
+package org.pqkkkkk.hr_management_server.modules.notification.infrastructure.broadcast;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Pattern;
+
+import javax.sql.DataSource;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationDao;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery.NotificationBroadcaster;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery.NotificationReceiver;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Cross-node broadcaster on Postgres LISTEN/NOTIFY, the default
+ * ({@code notification.broadcast.mode=postgres}).
+ * <p>
+ * Publishing sends (notification id, recipient id) pairs, packed into as few
+ * NOTIFY payloads as the 8000 byte limit allows. Every node, the publisher
+ * included, receives them on a dedicated listening connection, keeps the pairs
+ * whose recipient is connected locally and loads just those notifications in one
+ * query before handing them to the receivers. State changes are sent the same
+ * way as lines with an empty notification id.
+ * <p>
+ * The listening connection is opened with {@link DriverManager} from the
+ * {@code spring.datasource} settings rather than borrowed from the pool: it
+ * stays open for the life of the application, and a pooled connection would
+ * both hold a pool slot that long and go back to the pool still subscribed.
+ * <p>
+ * If the listening connection breaks it is reopened with exponential backoff.
+ * Notifications published while a node is disconnected are not replayed to it;
+ * its receivers are told about the gap and the notifications remain readable
+ * through the notification API.
+ */
+@Component
+@ConditionalOnProperty(name = "notification.broadcast.mode", havingValue = "postgres", matchIfMissing = true)
+@Slf4j
+public class PostgresNotificationBroadcaster implements NotificationBroadcaster, SmartLifecycle {
+    // Postgres rejects NOTIFY payloads of 8000 bytes or more
+    static final int MAX_PAYLOAD_BYTES = 7900;
+    private static final Pattern CHANNEL_PATTERN = Pattern.compile("[a-z_][a-z0-9_]*");
+    private static final long INITIAL_RECONNECT_BACKOFF_MS = 500;
+    private static final long MAX_RECONNECT_BACKOFF_MS = 30_000;
+
+    /** A notification, or a state change of the recipient's notifications when the id is null. */
+    record NotificationRef(String notificationId, String recipientId) {
+    }
+
+    private final DataSourceProperties dataSourceProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final NotificationDao notificationDao;
+    private final String channel;
+    private final int pollTimeoutMs;
+    private final List<NotificationReceiver> receivers = new CopyOnWriteArrayList<>();
+
+    private final Counter publishedCounter;
+    private final Counter publishFailedCounter;
+    private final Counter receivedCounter;
+    private final Counter deliveredCounter;
+    private final Counter reconnectCounter;
+
+    private volatile boolean running;
+    private volatile boolean connected;
+    private Thread listenerThread;
+
+    public PostgresNotificationBroadcaster(DataSource dataSource, DataSourceProperties dataSourceProperties,
+            NotificationDao notificationDao, MeterRegistry meterRegistry,
+            @Value("${notification.broadcast.channel:hr_notifications}") String channel,
+            @Value("${notification.broadcast.poll-timeout-ms:500}") int pollTimeoutMs,
+            @Value("${notification.broadcast.node-id:}") String nodeId) {
+        if (!CHANNEL_PATTERN.matcher(channel).matches()) {
+            throw new IllegalArgumentException("Invalid notification broadcast channel: " + channel);
+        }
+
+        this.dataSourceProperties = dataSourceProperties;
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+        this.notificationDao = notificationDao;
+        this.channel = channel;
+        this.pollTimeoutMs = pollTimeoutMs;
+
+        String node = nodeId.isBlank() ? UUID.randomUUID().toString().substring(0, 8) : nodeId;
+        this.publishedCounter = counter(meterRegistry, "notification.broadcast.published",
+            "Notifications published to other nodes", node);
+        this.publishFailedCounter = counter(meterRegistry, "notification.broadcast.publish.failed",
+            "Notifications that could not be published", node);
+        this.receivedCounter = counter(meterRegistry, "notification.broadcast.received",
+            "Notification references received from the channel", node);
+        this.deliveredCounter = counter(meterRegistry, "notification.broadcast.delivered",
+            "Notifications handed to a recipient connected to this node", node);
+        this.reconnectCounter = counter(meterRegistry, "notification.broadcast.reconnects",
+            "Times the listening connection was reopened", node);
+        Gauge.builder("notification.broadcast.connected", this, b -> b.connected ? 1 : 0)
+            .description("Whether this node is listening on the broadcast channel")
+            .tag("node", node)
+            .register(meterRegistry);
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String name, String description, String node) {
+        return Counter.builder(name).description(description).tag("node", node).register(meterRegistry);
+    }
+
+    @Override
+    public void publish(List<Notification> notifications) {
+        if (!notifications.isEmpty()) {
+            send(encode(notifications));
+        }
+    }
+
+    @Override
+    public void publishStateChange(Collection<String> recipientIds) {
+        if (!recipientIds.isEmpty()) {
+            send(encodeStateChanges(recipientIds));
+        }
+    }
+
+    private void send(List<String> payloads) {
+        for (String payload : payloads) {
+            int count = (int) payload.chars().filter(c -> c == '\n').count() + 1;
+            try {
+                jdbcTemplate.queryForList("SELECT pg_notify(?, ?)", channel, payload);
+                publishedCounter.increment(count);
+            } catch (DataAccessException e) {
+                // The notifications are persisted; clients still see them on their next fetch
+                log.error("Failed to publish notifications on channel {}: {}", channel, e.getMessage());
+                publishFailedCounter.increment(count);
+            }
+        }
+    }
+
+    @Override
+    public void registerReceiver(NotificationReceiver receiver) {
+        receivers.add(receiver);
+    }
+
+    /**
+     * Packs notification references into newline separated
+     * {@code notificationId<TAB>recipientId} lines, starting a new payload before
+     * one would exceed {@link #MAX_PAYLOAD_BYTES}.
+     */
+    static List<String> encode(List<Notification> notifications) {
+        return pack(notifications.stream()
+            .map(notification -> notification.getNotificationId() + "\t" + notification.getRecipientId())
+            .toList());
+    }
+
+    /**
+     * Packs state changes as {@code <TAB>recipientId} lines, one per recipient.
+     */
+    static List<String> encodeStateChanges(Collection<String> recipientIds) {
+        return pack(new LinkedHashSet<>(recipientIds).stream()
+            .map(recipientId -> "\t" + recipientId)
+            .toList());
+    }
+
+    private static List<String> pack(List<String> lines) {
+        List<String> payloads = new ArrayList<>();
+        StringBuilder payload = new StringBuilder();
+        int payloadBytes = 0;
+
+        for (String line : lines) {
+            int lineBytes = line.getBytes(StandardCharsets.UTF_8).length;
+
+            if (payloadBytes > 0 && payloadBytes + 1 + lineBytes > MAX_PAYLOAD_BYTES) {
+                payloads.add(payload.toString());
+                payload.setLength(0);
+                payloadBytes = 0;
+            }
+            if (payloadBytes > 0) {
+                payload.append('\n');
+                payloadBytes++;
+            }
+            payload.append(line);
+            payloadBytes += lineBytes;
+        }
+        if (payloadBytes > 0) {
+            payloads.add(payload.toString());
+        }
+        return payloads;
+    }
+
+    static List<NotificationRef> decode(String payload) {
+        List<NotificationRef> refs = new ArrayList<>();
+        for (String line : payload.split("\n")) {
+            int tab = line.indexOf('\t');
+            if (tab >= 0 && tab < line.length() - 1) {
+                refs.add(new NotificationRef(tab == 0 ? null : line.substring(0, tab), line.substring(tab + 1)));
+            }
+        }
+        return refs;
+    }
+
+    /**
+     * Delivers the notifications and state changes of one payload whose
+     * recipients are connected to this node.
+     */
+    void onPayload(String payload) {
+        List<NotificationRef> refs = decode(payload);
+        receivedCounter.increment(refs.size());
+
+        List<String> localIds = new ArrayList<>();
+        Set<String> localStateChanges = new LinkedHashSet<>();
+        for (NotificationRef ref : refs) {
+            if (!isLocalRecipient(ref.recipientId())) {
+                continue;
+            }
+            if (ref.notificationId() == null) {
+                localStateChanges.add(ref.recipientId());
+            } else {
+                localIds.add(ref.notificationId());
+            }
+        }
+
+        for (String recipientId : localStateChanges) {
+            for (NotificationReceiver receiver : receivers) {
+                if (receiver.hasRecipient(recipientId)) {
+                    receiver.receiveStateChange(recipientId);
+                }
+            }
+        }
+        if (localIds.isEmpty()) {
+            return;
+        }
+
+        for (Notification notification : notificationDao.getNotificationsByIds(localIds)) {
+            for (NotificationReceiver receiver : receivers) {
+                if (receiver.hasRecipient(notification.getRecipientId())) {
+                    receiver.receive(notification);
+                    deliveredCounter.increment();
+                }
+            }
+        }
+    }
+
+    private boolean isLocalRecipient(String recipientId) {
+        for (NotificationReceiver receiver : receivers) {
+            if (receiver.hasRecipient(recipientId)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private void listen() {
+        long backoffMs = INITIAL_RECONNECT_BACKOFF_MS;
+
+        while (running) {
+            try (Connection connection = openListenConnection()) {
+                PGConnection pgConnection = connection.unwrap(PGConnection.class);
+                try {
+                    execute(connection, "LISTEN " + channel);
+                    connected = true;
+                    backoffMs = INITIAL_RECONNECT_BACKOFF_MS;
+                    log.info("Listening for notifications on channel {}", channel);
+
+                    while (running) {
+                        PGNotification[] received = pgConnection.getNotifications(pollTimeoutMs);
+                        if (received == null) {
+                            continue;
+                        }
+                        for (PGNotification notification : received) {
+                            if (channel.equals(notification.getName())) {
+                                handlePayload(notification.getParameter());
+                            }
+                        }
+                    }
+                } finally {
+                    unlisten(connection);
+                }
+            } catch (SQLException | RuntimeException e) {
+                if (connected) {
+                    receivers.forEach(NotificationReceiver::receiveDeliveryGap);
+                }
+                connected = false;
+                if (!running) {
+                    break;
+                }
+                reconnectCounter.increment();
+                log.warn("Notification listener on channel {} lost its connection, retrying in {} ms: {}",
+                    channel, backoffMs, e.getMessage());
+                if (!sleep(backoffMs)) {
+                    break;
+                }
+                backoffMs = Math.min(backoffMs * 2, MAX_RECONNECT_BACKOFF_MS);
+            } finally {
+                connected = false;
+            }
+        }
+    }
+
+    /**
+     * Opens a connection outside the pool, owned by the listener thread alone.
+     */
+    private Connection openListenConnection() throws SQLException {
+        Properties info = new Properties();
+        String username = dataSourceProperties.determineUsername();
+        String password = dataSourceProperties.determinePassword();
+        if (username != null) {
+            info.setProperty("user", username);
+        }
+        if (password != null) {
+            info.setProperty("password", password);
+        }
+        info.setProperty("ApplicationName", "notification-broadcast-listener");
+        return DriverManager.getConnection(dataSourceProperties.determineUrl(), info);
+    }
+
+    private static void execute(Connection connection, String sql) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(sql);
+        }
+    }
+
+    private void unlisten(Connection connection) {
+        try {
+            if (!connection.isClosed()) {
+                execute(connection, "UNLISTEN *");
+            }
+        } catch (SQLException e) {
+            // Closing the connection ends the session and its subscriptions anyway
+            log.debug("Failed to unlisten on channel {}: {}", channel, e.getMessage());
+        }
+    }
+
+    private void handlePayload(String payload) {
+        try {
+            onPayload(payload);
+        } catch (RuntimeException e) {
+            // One bad payload must not stop the listener
+            log.error("Failed to deliver broadcast notifications: {}", e.getMessage());
+        }
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        listenerThread = new Thread(this::listen, "notification-broadcast-listener");
+        listenerThread.setDaemon(true);
+        listenerThread.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        if (listenerThread != null) {
+            listenerThread.interrupt();
+            try {
+                listenerThread.join(pollTimeoutMs + 1000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+}
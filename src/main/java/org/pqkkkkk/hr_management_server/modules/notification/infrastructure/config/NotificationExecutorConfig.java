@@ -0,0 +1,131 @@
+package org.pqkkkkk.hr_management_server.modules.notification.infrastructure.config;
+
+import java.util.concurrent.RejectedExecutionHandler;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded executors for notification delivery and SSE writes. Neither is the
+ * default {@code @Async} executor, so unrelated async work keeps Boot's own
+ * pool.
+ * <p>
+ * When the queue is full the rejection policy either runs the task on the
+ * submitting thread (CALLER_RUNS, back-pressure) or drops it (DROP). A dropped
+ * delivery is not lost: the notification is already persisted and the client
+ * reads it on its next fetch.
+ */
+@Configuration
+@Slf4j
+public class NotificationExecutorConfig {
+
+    public enum RejectionPolicy {
+        CALLER_RUNS,
+        DROP
+    }
+
+    @Bean(name = "notificationExecutor")
+    public ThreadPoolTaskExecutor notificationExecutor(MeterRegistry meterRegistry,
+            @Value("${notification.executor.core-size:4}") int coreSize,
+            @Value("${notification.executor.max-size:8}") int maxSize,
+            @Value("${notification.executor.queue-capacity:500}") int queueCapacity,
+            @Value("${notification.executor.rejection-policy:CALLER_RUNS}") RejectionPolicy rejectionPolicy) {
+        return buildExecutor(meterRegistry, coreSize, maxSize, queueCapacity, rejectionPolicy);
+    }
+
+    /**
+     * Writers that drain the per-connection SSE queues. Each connection has at
+     * most one drain task pending, so the default queue capacity matches the
+     * default per-node connection cap. A drain that does not fit is rejected
+     * with a TaskRejectedException and the registry closes that connection; the
+     * client reconnects and replays what it missed.
+     */
+    @Bean(name = "sseWriterExecutor")
+    public ThreadPoolTaskExecutor sseWriterExecutor(
+            @Value("${notification.sse.writer-threads:4}") int writerThreads,
+            @Value("${notification.sse.writer-queue-capacity:10000}") int queueCapacity) {
+        if (writerThreads <= 0 || queueCapacity <= 0) {
+            throw new IllegalArgumentException("Invalid SSE writer sizing: threads=" + writerThreads
+                    + ", queue=" + queueCapacity);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("sse-writer-");
+        executor.setCorePoolSize(writerThreads);
+        executor.setMaxPoolSize(writerThreads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    static ThreadPoolTaskExecutor buildExecutor(MeterRegistry meterRegistry, int coreSize, int maxSize,
+            int queueCapacity, RejectionPolicy rejectionPolicy) {
+        if (coreSize <= 0 || maxSize < coreSize || queueCapacity < 0) {
+            throw new IllegalArgumentException("Invalid notification executor sizing: core=" + coreSize
+                    + ", max=" + maxSize + ", queue=" + queueCapacity);
+        }
+
+        Counter rejected = Counter.builder("notification.executor.rejected")
+                .description("Notification tasks rejected because the queue was full")
+                .tag("policy", rejectionPolicy.name())
+                .register(meterRegistry);
+        Timer latency = Timer.builder("notification.executor.task.latency")
+                .description("Time from submitting a notification task to its completion, including queue wait")
+                .register(meterRegistry);
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("notification-");
+        executor.setCorePoolSize(coreSize);
+        executor.setMaxPoolSize(maxSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(10);
+        executor.setTaskDecorator(task -> {
+            long submittedAt = System.nanoTime();
+            return () -> {
+                try {
+                    task.run();
+                } finally {
+                    latency.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                }
+            };
+        });
+        executor.setRejectedExecutionHandler(rejectionHandler(rejectionPolicy, rejected));
+        executor.initialize();
+
+        Gauge.builder("notification.executor.queue.size", executor, ThreadPoolTaskExecutor::getQueueSize)
+                .description("Notification tasks waiting in the queue")
+                .register(meterRegistry);
+        Gauge.builder("notification.executor.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("Notification workers currently running a task")
+                .register(meterRegistry);
+
+        return executor;
+    }
+
+    private static RejectedExecutionHandler rejectionHandler(RejectionPolicy policy, Counter rejected) {
+        return (task, threadPool) -> {
+            rejected.increment();
+            if (threadPool.isShutdown()) {
+                return;
+            }
+
+            if (policy == RejectionPolicy.CALLER_RUNS) {
+                task.run();
+            } else {
+                log.warn("Notification executor queue is full, dropping task");
+            }
+        };
+    }
+}
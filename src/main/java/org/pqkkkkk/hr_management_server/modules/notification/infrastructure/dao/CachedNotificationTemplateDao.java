@@ -0,0 +1,121 @@
+package org.pqkkkkk.hr_management_server.modules.notification.infrastructure.dao;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.hibernate.Session;
+import org.hibernate.engine.spi.EntityKey;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationTemplateDao;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * In-memory cache in front of {@link NotificationTemplateJpaDao}, keyed by
+ * (type, user role). Missing templates are cached too.
+ * <p>
+ * Entries are evicted when a template is written through JPA (see
+ * {@link NotificationTemplateChangeListener}) and expire after a TTL so that
+ * changes made by other instances are picked up.
+ * <p>
+ * Entity listeners only run when a change is flushed, so a template edited
+ * earlier in the current transaction may not have evicted anything yet. While
+ * the transaction's persistence context holds a template, lookups therefore
+ * bypass the cache and query through JPA, whose auto-flush makes the pending
+ * change visible. Templates loaded to fill the cache are detached again so they
+ * do not trigger that bypass themselves.
+ */
+@Repository
+public class CachedNotificationTemplateDao implements NotificationTemplateDao {
+
+    private record TemplateKey(String type, String userRole) {
+    }
+
+    private record CachedTemplate(Optional<NotificationTemplate> template, long loadedAtNanos) {
+    }
+
+    private final NotificationTemplateDao delegate;
+    private final long ttlNanos;
+    private final Map<TemplateKey, CachedTemplate> cache = new ConcurrentHashMap<>();
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    public CachedNotificationTemplateDao(
+            @Qualifier("notificationTemplateJpaDao") NotificationTemplateDao delegate,
+            @Value("${notification.template-cache.ttl-seconds:300}") long ttlSeconds) {
+        this.delegate = delegate;
+        this.ttlNanos = Duration.ofSeconds(ttlSeconds).toNanos();
+    }
+
+    @Override
+    public NotificationTemplate getTemplateByType(String type) {
+        return delegate.getTemplateByType(type);
+    }
+
+    @Override
+    public NotificationTemplate getTemplateByTypeAndUserRole(String type, String userRole) {
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive();
+        if (inTransaction && holdsManagedTemplate()) {
+            NotificationTemplate current = delegate.getTemplateByTypeAndUserRole(type, userRole);
+            return current == null ? null : copyOf(current);
+        }
+
+        TemplateKey key = new TemplateKey(type, userRole);
+        long now = System.nanoTime();
+
+        CachedTemplate cached = cache.get(key);
+        if (cached == null || now - cached.loadedAtNanos() > ttlNanos) {
+            NotificationTemplate loaded = delegate.getTemplateByTypeAndUserRole(type, userRole);
+            cached = new CachedTemplate(Optional.ofNullable(loaded).map(this::copyOf), now);
+            cache.put(key, cached);
+            if (inTransaction && loaded != null) {
+                // Was not managed before this load, see holdsManagedTemplate()
+                entityManager.detach(loaded);
+            }
+        }
+
+        return cached.template().orElse(null);
+    }
+
+    public void evictAll() {
+        cache.clear();
+    }
+
+    /**
+     * Whether the current persistence context holds a template, which may carry
+     * changes that are not flushed yet
+     */
+    private boolean holdsManagedTemplate() {
+        for (Object key : entityManager.unwrap(Session.class).getStatistics().getEntityKeys()) {
+            if (NotificationTemplate.class.getName().equals(((EntityKey) key).getEntityName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Detached copy so callers never share a managed entity across sessions.
+     */
+    private NotificationTemplate copyOf(NotificationTemplate template) {
+        return NotificationTemplate.builder()
+                .templateId(template.getTemplateId())
+                .notificationType(template.getNotificationType())
+                .userRole(template.getUserRole())
+                .titleTemplate(template.getTitleTemplate())
+                .messageTemplate(template.getMessageTemplate())
+                .isActive(template.getIsActive())
+                .createdAt(template.getCreatedAt())
+                .updatedAt(template.getUpdatedAt())
+                .version(template.getVersion())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package org.pqkkkkk.hr_management_server.modules.notification.infrastructure.dao;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationArchiveDao;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class NotificationArchiveJpaDao implements NotificationArchiveDao {
+
+    private final NotificationArchiveRepository archiveRepository;
+
+    public NotificationArchiveJpaDao(NotificationArchiveRepository archiveRepository) {
+        this.archiveRepository = archiveRepository;
+    }
+
+    @Override
+    public Integer archiveNotifications(Collection<String> notificationIds, LocalDateTime archivedAt) {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+        return archiveRepository.archiveByNotificationIds(notificationIds, archivedAt);
+    }
+
+    @Override
+    public Integer deleteArchivedNotificationsByIds(Collection<String> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+        return archiveRepository.deleteByNotificationIds(notificationIds);
+    }
+
+    @Override
+    public List<String> getArchivedNotificationIdsCreatedBefore(LocalDateTime cutoff, int limit) {
+        return archiveRepository.findIdsCreatedBefore(cutoff, PageRequest.of(0, limit));
+    }
+}
@@ -0,0 +1,43 @@
+package org.pqkkkkk.hr_management_server.modules.notification.infrastructure.dao;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationArchive;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, String> {
+
+    // Copies live notifications into the archive in one statement, without loading them
+    @Modifying
+    @Query("""
+            INSERT INTO NotificationArchive (notificationId, title, message, type, referenceType, referenceId,
+                createdAt, recipientId, idempotencyKey, archivedAt)
+            SELECT n.notificationId, n.title, n.message, n.type, n.referenceType, n.referenceId,
+                n.createdAt, n.recipientId, n.idempotencyKey, :archivedAt
+            FROM Notification n
+            WHERE n.notificationId IN :notificationIds
+            """)
+    Integer archiveByNotificationIds(@Param("notificationIds") Collection<String> notificationIds,
+            @Param("archivedAt") LocalDateTime archivedAt);
+
+    // Same row locking as the live table's retention query
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT a.notificationId FROM NotificationArchive a WHERE a.createdAt < :cutoff ORDER BY a.createdAt, a.notificationId")
+    List<String> findIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM NotificationArchive a WHERE a.notificationId IN :notificationIds")
+    Integer deleteByNotificationIds(@Param("notificationIds") Collection<String> notificationIds);
+}
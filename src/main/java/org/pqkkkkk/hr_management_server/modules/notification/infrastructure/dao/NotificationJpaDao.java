@@ -1,12 +1,20 @@
 package org.pqkkkkk.hr_management_server.modules.notification.infrastructure.dao;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationDao;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationSortingField;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationFilter;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationStreamCursor;
 import org.pqkkkkk.hr_management_server.shared.Constants.SortDirection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -19,6 +27,9 @@ import jakarta.persistence.criteria.Predicate;
 
 @Repository
 public class NotificationJpaDao implements NotificationDao {
+    // Keeps IN lists well below driver bind-parameter limits
+    private static final int IDEMPOTENCY_KEY_CHUNK_SIZE = 1000;
+
     private final NotificationRepository notificationRepository;
 
     public NotificationJpaDao(NotificationRepository notificationRepository) {
@@ -30,11 +41,39 @@ public class NotificationJpaDao implements NotificationDao {
         return notificationRepository.save(notification);
     }
 
+    @Override
+    public List<Notification> createNotifications(List<Notification> notifications) {
+        // Inserts are grouped into JDBC batches (hibernate.jdbc.batch_size)
+        return notificationRepository.saveAll(notifications);
+    }
+
+    @Override
+    public Set<String> getExistingIdempotencyKeys(Collection<String> idempotencyKeys) {
+        List<String> keys = List.copyOf(idempotencyKeys);
+        Set<String> existingKeys = new HashSet<>();
+
+        for (int from = 0; from < keys.size(); from += IDEMPOTENCY_KEY_CHUNK_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + IDEMPOTENCY_KEY_CHUNK_SIZE, keys.size()));
+            existingKeys.addAll(notificationRepository.findExistingIdempotencyKeys(chunk));
+        }
+        return existingKeys;
+    }
+
+    @Override
+    public boolean existsByIdempotencyKey(String idempotencyKey) {
+        return notificationRepository.existsByIdempotencyKey(idempotencyKey);
+    }
+
     @Override
     public Notification getNotificationById(String notificationId) {
         return notificationRepository.findById(notificationId).orElse(null);
     }
 
+    @Override
+    public List<Notification> getNotificationsByIds(Collection<String> notificationIds) {
+        return notificationRepository.findAllById(notificationIds);
+    }
+
     @Override
     public Page<Notification> getNotifications(NotificationFilter filter) {
         Specification<Notification> spec = buildSpecification(filter);
@@ -42,16 +81,83 @@ public class NotificationJpaDao implements NotificationDao {
         return notificationRepository.findAll(spec, pageable);
     }
 
+    @Override
+    public List<Notification> getNotificationsAfter(String recipientId, NotificationStreamCursor cursor, int limit) {
+        Specification<Notification> spec = (root, query, criteriaBuilder) -> criteriaBuilder.and(
+            criteriaBuilder.equal(root.get("recipientId"), recipientId),
+            criteriaBuilder.or(
+                criteriaBuilder.greaterThan(root.get("createdAt"), cursor.createdAt()),
+                criteriaBuilder.and(
+                    criteriaBuilder.equal(root.get("createdAt"), cursor.createdAt()),
+                    criteriaBuilder.greaterThan(root.get("notificationId"), cursor.notificationId()))));
+
+        return notificationRepository.findBy(spec,
+            query -> query.sortBy(Sort.by("createdAt", "notificationId").ascending()).limit(limit).all());
+    }
+
     @Override
     public Long countUnreadNotifications(String recipientId) {
         return notificationRepository.countByRecipientIdAndIsRead(recipientId, false);
     }
 
+    @Override
+    public Map<String, Long> countUnreadNotificationsByRecipients(Collection<String> recipientIds) {
+        Map<String, Long> counts = new HashMap<>();
+        if (recipientIds.isEmpty()) {
+            return counts;
+        }
+        for (Object[] row : notificationRepository.countUnreadGroupedByRecipient(recipientIds)) {
+            counts.put((String) row[0], (Long) row[1]);
+        }
+        return counts;
+    }
+
     @Override
     public Integer markAllAsRead(String recipientId) {
         return notificationRepository.markAllAsReadByRecipientId(recipientId);
     }
 
+    @Override
+    public Integer deleteNotificationsByIds(Collection<String> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+        return notificationRepository.deleteByNotificationIds(notificationIds);
+    }
+
+    @Override
+    public Integer deleteNotificationsByIds(String recipientId, Collection<String> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+        return notificationRepository.deleteByRecipientIdAndNotificationIds(recipientId, notificationIds);
+    }
+
+    @Override
+    public Integer markAsReadByIds(String recipientId, Collection<String> notificationIds) {
+        if (notificationIds.isEmpty()) {
+            return 0;
+        }
+        return notificationRepository.markAsReadByRecipientIdAndNotificationIds(recipientId, notificationIds);
+    }
+
+    @Override
+    public Map<String, String> getRecipientIdsByFilter(NotificationFilter filter, int limit) {
+        List<NotificationRecipientView> rows = notificationRepository.findBy(buildSpecification(filter),
+            query -> query.as(NotificationRecipientView.class).limit(limit).all());
+
+        Map<String, String> recipients = new LinkedHashMap<>();
+        for (NotificationRecipientView row : rows) {
+            recipients.put(row.getNotificationId(), row.getRecipientId());
+        }
+        return recipients;
+    }
+
+    @Override
+    public List<String> getReadNotificationIdsCreatedBefore(LocalDateTime cutoff, int limit) {
+        return notificationRepository.findReadNotificationIdsCreatedBefore(cutoff, PageRequest.of(0, limit));
+    }
+
     // Build Specification for filtering
     private Specification<Notification> buildSpecification(NotificationFilter filter) {
         return (root, query, criteriaBuilder) -> {
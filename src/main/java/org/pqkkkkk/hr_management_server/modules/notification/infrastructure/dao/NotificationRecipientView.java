@@ -0,0 +1,10 @@
+package org.pqkkkkk.hr_management_server.modules.notification.infrastructure.dao;
+
+/**
+ * Projection used by bulk operations, which only need to know whose
+ * notifications they touch.
+ */
+public interface NotificationRecipientView {
+    String getNotificationId();
+    String getRecipientId();
+}
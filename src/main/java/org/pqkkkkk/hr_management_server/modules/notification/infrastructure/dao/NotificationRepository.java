@@ -1,20 +1,64 @@
 package org.pqkkkkk.hr_management_server.modules.notification.infrastructure.dao;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 public interface NotificationRepository extends JpaRepository<Notification, String>,
                                                JpaSpecificationExecutor<Notification> {
     
     // Count unread notifications for a specific recipient
     Long countByRecipientIdAndIsRead(String recipientId, Boolean isRead);
+
+    // Unread counts for several recipients as (recipientId, count) rows
+    @Query("SELECT n.recipientId, COUNT(n) FROM Notification n WHERE n.recipientId IN :recipientIds AND n.isRead = false GROUP BY n.recipientId")
+    List<Object[]> countUnreadGroupedByRecipient(@Param("recipientIds") Collection<String> recipientIds);
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    @Query("SELECT n.idempotencyKey FROM Notification n WHERE n.idempotencyKey IN :idempotencyKeys")
+    List<String> findExistingIdempotencyKeys(@Param("idempotencyKeys") Collection<String> idempotencyKeys);
     
     // Mark all notifications as read for a specific recipient
     @Modifying
     @Query("UPDATE Notification n SET n.isRead = true WHERE n.recipientId = :recipientId AND n.isRead = false")
     Integer markAllAsReadByRecipientId(@Param("recipientId") String recipientId);
+
+    // Set-based read for a batch of one recipient's notifications; already read rows and
+    // notifications of other recipients are left alone
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true WHERE n.recipientId = :recipientId " +
+           "AND n.notificationId IN :notificationIds AND n.isRead = false")
+    Integer markAsReadByRecipientIdAndNotificationIds(@Param("recipientId") String recipientId,
+        @Param("notificationIds") Collection<String> notificationIds);
+
+    // Oldest read notifications first, so the retention job works through history in order.
+    // Locks the rows and skips those another node's retention batch holds (-2 is SKIP LOCKED).
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("SELECT n.notificationId FROM Notification n WHERE n.isRead = true AND n.createdAt < :cutoff ORDER BY n.createdAt, n.notificationId")
+    List<String> findReadNotificationIdsCreatedBefore(@Param("cutoff") LocalDateTime cutoff, Pageable pageable);
+
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.notificationId IN :notificationIds")
+    Integer deleteByNotificationIds(@Param("notificationIds") Collection<String> notificationIds);
+
+    // Notifications of other recipients are left alone
+    @Modifying
+    @Query("DELETE FROM Notification n WHERE n.recipientId = :recipientId AND n.notificationId IN :notificationIds")
+    Integer deleteByRecipientIdAndNotificationIds(@Param("recipientId") String recipientId,
+        @Param("notificationIds") Collection<String> notificationIds);
 }
@@ -0,0 +1,51 @@
+package org.pqkkkkk.hr_management_server.modules.notification.infrastructure.dao;
+
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationTemplate;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+
+/**
+ * JPA entity listener that clears the template cache whenever a template is
+ * inserted, updated or deleted, both before and after the write. The cache is
+ * cleared again when the surrounding transaction completes so a rolled-back
+ * edit that was read back inside the transaction does not stay cached. Edits
+ * that are not flushed yet are covered by the cache bypassing itself, see
+ * {@link CachedNotificationTemplateDao}.
+ */
+@Component
+public class NotificationTemplateChangeListener {
+
+    private final CachedNotificationTemplateDao templateCache;
+
+    public NotificationTemplateChangeListener(@Lazy CachedNotificationTemplateDao templateCache) {
+        this.templateCache = templateCache;
+    }
+
+    @PrePersist
+    @PreUpdate
+    @PreRemove
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onTemplateChanged(NotificationTemplate template) {
+        templateCache.evictAll();
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    templateCache.evictAll();
+                }
+            });
+        }
+    }
+}
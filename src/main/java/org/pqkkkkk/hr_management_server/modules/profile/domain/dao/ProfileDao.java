@@ -1,5 +1,6 @@
 package org.pqkkkkk.hr_management_server.modules.profile.domain.dao;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.User;
@@ -15,5 +16,7 @@ public interface ProfileDao {
 
     public User getProfileById(String userId);
 
+    public List<User> getProfilesByIds(Collection<String> userIds);
+
     public User getProfileByEmail(String email);
 }
@@ -10,6 +10,7 @@ import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.Enums.User
 import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.Enums.UserPosition;
 import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.Enums.UserRole;
 import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.Enums.UserStatus;
+import org.pqkkkkk.hr_management_server.shared.SearchTextNormalizer;
 
 import com.fasterxml.jackson.annotation.JsonIgnore;
 
@@ -22,6 +23,8 @@ import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.PreUpdate;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -51,6 +54,11 @@ public class User {
     @Column(name = "full_name")
     String fullName;
 
+    // Normalized full name for search, maintained by syncSearchName()
+    @Column(name = "search_name")
+    @JsonIgnore
+    String searchName;
+
     @Column(name = "email")
     String email;
 
@@ -128,4 +136,10 @@ public class User {
     @Column(name = "remaining_wfh_days", precision = 4, scale = 1)
     @Builder.Default
     BigDecimal remainingWfhDays = new BigDecimal("10.0");
+
+    @PrePersist
+    @PreUpdate
+    void syncSearchName() {
+        this.searchName = SearchTextNormalizer.normalize(fullName);
+    }
 }
@@ -1,5 +1,8 @@
 package org.pqkkkkk.hr_management_server.modules.profile.domain.service;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.User;
 import org.pqkkkkk.hr_management_server.modules.profile.domain.filter.FilterCriteria.ProfileFilter;
 import org.pqkkkkk.hr_management_server.shared.Constants.SupportedFileFormat;
@@ -10,6 +13,12 @@ public interface ProfileQueryService {
 
     User getProfileById(String userId);
 
+    /**
+     * Loads several profiles with a single query. Unknown ids are skipped, so the
+     * result may be shorter than the input.
+     */
+    List<User> getProfilesByIds(Collection<String> userIds);
+
     User getProfileByEmail(String email);
 
     String exportProfiles(ProfileFilter filter, SupportedFileFormat fileFormat);
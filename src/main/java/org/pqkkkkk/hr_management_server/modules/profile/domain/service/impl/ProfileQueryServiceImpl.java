@@ -2,6 +2,7 @@ package org.pqkkkkk.hr_management_server.modules.profile.domain.service.impl;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 
@@ -47,6 +48,14 @@ public class ProfileQueryServiceImpl implements ProfileQueryService {
         return user;
     }
 
+    @Override
+    public List<User> getProfilesByIds(Collection<String> userIds) {
+        if (userIds == null || userIds.isEmpty()) {
+            return List.of();
+        }
+        return profileDao.getProfilesByIds(userIds);
+    }
+
     @Override
     public String exportProfiles(ProfileFilter filter, SupportedFileFormat fileFormat) {
         List<User> users = profileDao.getAllProfiles(filter);
@@ -55,15 +64,13 @@ public class ProfileQueryServiceImpl implements ProfileQueryService {
             throw new IllegalArgumentException("No profiles found for the given filter criteria.");
         }
 
-        List<ExportedUser> exportedUsers = users.stream()
-                .map(ExportedUser::new)
-                .toList();
-
-        byte[] fileData = getFileService(fileFormat).exportListToFile(exportedUsers);
+        FileService<ExportedUser> fileService = getFileService(fileFormat);
 
         String fileName = generateFileName("exported_profiles", fileFormat);
 
-        String fileUrl = storageService.storeFile(fileData, fileName, fileFormat.getContentType());
+        // Rows are converted while they are written, straight into storage
+        String fileUrl = storageService.storeFile(fileName, fileFormat.getContentType(),
+                outputStream -> fileService.exportToStream(users.stream().map(ExportedUser::new), outputStream));
 
         return fileUrl;
     }
@@ -1,5 +1,6 @@
 package org.pqkkkkk.hr_management_server.modules.profile.infrastructure.dao;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.pqkkkkk.hr_management_server.modules.profile.domain.dao.ProfileDao;
@@ -8,6 +9,7 @@ import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.Enums.User
 import org.pqkkkkk.hr_management_server.modules.profile.domain.filter.FilterCriteria.ProfileFilter;
 import org.pqkkkkk.hr_management_server.modules.profile.infrastructure.dao.jpa_repository.ProfileRepository;
 import org.pqkkkkk.hr_management_server.shared.Constants;
+import org.pqkkkkk.hr_management_server.shared.SearchTextNormalizer;
 import org.pqkkkkk.hr_management_server.shared.Constants.SortDirection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -46,7 +48,7 @@ public class ProfileJpaDao implements ProfileDao {
         Pageable pageable = createPageable(filter.currentPage(), filter.pageSize(),
                 filter.sortBy(), filter.sortDirection());
 
-        return profileRepository.getUsers(pageable, filter);
+        return profileRepository.getUsers(pageable, filter, SearchTextNormalizer.normalize(filter.nameTerm()));
     }
 
     @Override
@@ -54,9 +56,14 @@ public class ProfileJpaDao implements ProfileDao {
         return profileRepository.findById(userId).orElse(null);
     }
 
+    @Override
+    public List<User> getProfilesByIds(Collection<String> userIds) {
+        return profileRepository.findAllById(userIds);
+    }
+
     @Override
     public List<User> getAllProfiles(ProfileFilter filter) {
-        return profileRepository.getAllUsers(filter);
+        return profileRepository.getAllUsers(filter, SearchTextNormalizer.normalize(filter.nameTerm()));
     }
 
     @Override
@@ -8,14 +8,19 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 @Repository
 public interface ProfileRepository extends JpaRepository<User, String> {
 
+        /**
+         * nameSearch is the filter's nameTerm run through SearchTextNormalizer and is
+         * matched against the normalized search_name column.
+         */
         @Query(value = """
                         SELECT u FROM User u
-                        WHERE (:#{#filter.nameTerm} IS NULL OR u.fullName LIKE %:#{#filter.nameTerm}%)
+                        WHERE (:nameSearch IS NULL OR u.searchName LIKE %:nameSearch%)
                         AND (:#{#filter.roles} IS NULL OR u.role IN :#{#filter.roles})
                         AND (:#{#filter.status} IS NULL OR u.status = :#{#filter.status})
                         AND (:#{#filter.departmentId} IS NULL OR u.department.departmentId = :#{#filter.departmentId})
@@ -23,18 +28,19 @@ public interface ProfileRepository extends JpaRepository<User, String> {
                         AND (:#{#filter.gender} IS NULL OR u.gender = :#{#filter.gender})
                         AND (:#{#filter.departmentName} IS NULL OR u.department.departmentName = :#{#filter.departmentName})
                         """)
-        public Page<User> getUsers(Pageable pageable, ProfileFilter filter);
+        public Page<User> getUsers(Pageable pageable, ProfileFilter filter,
+                        @Param("nameSearch") String nameSearch);
 
         @Query(value = """
                         SELECT u FROM User u
-                        WHERE (:#{#filter.nameTerm} IS NULL OR u.fullName LIKE %:#{#filter.nameTerm}%)
+                        WHERE (:nameSearch IS NULL OR u.searchName LIKE %:nameSearch%)
                         AND (:#{#filter.roles} IS NULL OR u.role IN :#{#filter.roles})
                         AND (:#{#filter.status} IS NULL OR u.status = :#{#filter.status})
                         AND (:#{#filter.departmentId} IS NULL OR u.department.departmentId = :#{#filter.departmentId})
                         AND (:#{#filter.position} IS NULL OR u.position = :#{#filter.position})
                         AND (:#{#filter.gender} IS NULL OR u.gender = :#{#filter.gender})
                         """)
-        public List<User> getAllUsers(ProfileFilter filter);
+        public List<User> getAllUsers(ProfileFilter filter, @Param("nameSearch") String nameSearch);
 
         /**
          * Find user by exact email match (case-insensitive)
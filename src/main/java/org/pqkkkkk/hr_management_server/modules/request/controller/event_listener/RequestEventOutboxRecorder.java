@@ -0,0 +1,39 @@
+package org.pqkkkkk.hr_management_server.modules.request.controller.event_listener;
+
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestEventType;
+import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestApprovedEvent;
+import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestCreatedEvent;
+import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestRejectedEvent;
+import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestEventOutboxService;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes request domain events to the outbox. Runs synchronously on the
+ * publishing thread so the outbox row commits or rolls back together with the
+ * request change.
+ */
+@Component
+public class RequestEventOutboxRecorder {
+
+    private final RequestEventOutboxService outboxService;
+
+    public RequestEventOutboxRecorder(RequestEventOutboxService outboxService) {
+        this.outboxService = outboxService;
+    }
+
+    @EventListener(RequestCreatedEvent.class)
+    void onRequestCreated(RequestCreatedEvent event) {
+        outboxService.recordEvent(RequestEventType.REQUEST_CREATED, event.getRequest());
+    }
+
+    @EventListener(RequestApprovedEvent.class)
+    void onRequestApproved(RequestApprovedEvent event) {
+        outboxService.recordEvent(RequestEventType.REQUEST_APPROVED, event.getRequest());
+    }
+
+    @EventListener(RequestRejectedEvent.class)
+    void onRequestRejected(RequestRejectedEvent event) {
+        outboxService.recordEvent(RequestEventType.REQUEST_REJECTED, event.getRequest());
+    }
+}
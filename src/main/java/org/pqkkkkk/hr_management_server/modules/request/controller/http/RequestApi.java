@@ -11,6 +11,7 @@ import org.pqkkkkk.hr_management_server.modules.request.controller.http.dto.Requ
 import org.pqkkkkk.hr_management_server.modules.request.controller.http.dto.Request.DelegateRequestRequest;
 import org.pqkkkkk.hr_management_server.modules.request.controller.http.dto.Request.RejectRequestRequest;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.BulkApproveResult;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.CursorPage;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
 import org.pqkkkkk.hr_management_server.modules.request.domain.filter.FilterCriteria.RequestFilter;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestActionService;
@@ -25,6 +26,7 @@ import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import jakarta.validation.Valid;
@@ -100,6 +102,67 @@ public class RequestApi {
                 return ResponseEntity.ok(apiResponse);
         }
 
+        /**
+         * Cursor-based variant of {@code /my-requests} for deep scrolling.
+         * <p>
+         * Seeks on an opaque {@code (createdAt, requestId)} cursor and skips the
+         * total count. Pass the returned {@code nextCursor} back to fetch the next
+         * window; omit it for the first window.
+         */
+        @GetMapping("/my-requests/cursor")
+        public ResponseEntity<ApiResponse<CursorPage<RequestDTO>>> getMyRequestsByCursor(
+                        @Valid @ModelAttribute RequestFilter filter,
+                        @RequestParam(required = false) String cursor) {
+
+                // Validate employeeId is required
+                if (filter.employeeId() == null || filter.employeeId().isBlank()) {
+                        throw new IllegalArgumentException("employeeId is required and cannot be empty");
+                }
+
+                CursorPage<RequestDTO> requestDTOs = requestQueryService.getRequestsByCursor(filter, cursor)
+                                .map(RequestDTO::fromEntity);
+
+                ApiResponse<CursorPage<RequestDTO>> apiResponse = new ApiResponse<>(
+                                requestDTOs,
+                                true,
+                                HttpStatus.OK.value(),
+                                "My requests retrieved successfully.",
+                                null);
+
+                return ResponseEntity.ok(apiResponse);
+        }
+
+        /**
+         * Cursor-based variant of {@code /team-requests} for deep scrolling.
+         * <p>
+         * Seeks on an opaque {@code (createdAt, requestId)} cursor and skips the
+         * total count. Pass the returned {@code nextCursor} back to fetch the next
+         * window; omit it for the first window.
+         */
+        @GetMapping("/team-requests/cursor")
+        public ResponseEntity<ApiResponse<CursorPage<RequestDTO>>> getTeamRequestsByCursor(
+                        @Valid @ModelAttribute RequestFilter filter,
+                        @RequestParam(required = false) String cursor) {
+
+                // Validate approverId is required
+                if ((filter.approverId() == null || filter.approverId().isBlank()) && (filter.processorId() == null
+                                || filter.processorId().isBlank())) {
+                        throw new IllegalArgumentException("approverId or processorId is required and cannot be empty");
+                }
+
+                CursorPage<RequestDTO> requestDTOs = requestQueryService.getRequestsByCursor(filter, cursor)
+                                .map(RequestDTO::fromEntity);
+
+                ApiResponse<CursorPage<RequestDTO>> apiResponse = new ApiResponse<>(
+                                requestDTOs,
+                                true,
+                                HttpStatus.OK.value(),
+                                "Team requests retrieved successfully.",
+                                null);
+
+                return ResponseEntity.ok(apiResponse);
+        }
+
         /**
          * Approve a request of any type.
          * <p>
@@ -0,0 +1,34 @@
+package org.pqkkkkk.hr_management_server.modules.request.controller.scheduler;
+
+import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestEventOutboxService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Polls the request event outbox and dispatches pending events in batches.
+ * Disable with {@code request.outbox.relay.enabled=false}.
+ */
+@Component
+@ConditionalOnProperty(name = "request.outbox.relay.enabled", havingValue = "true", matchIfMissing = true)
+public class RequestEventOutboxRelay {
+
+    private final RequestEventOutboxService outboxService;
+    private final int batchSize;
+
+    public RequestEventOutboxRelay(RequestEventOutboxService outboxService,
+            @Value("${request.outbox.batch-size:100}") int batchSize) {
+        this.outboxService = outboxService;
+        this.batchSize = batchSize;
+    }
+
+    @Scheduled(fixedDelayString = "${request.outbox.poll-interval-ms:1000}")
+    void relay() {
+        // Keep draining while full batches come back, then wait for the next poll
+        int dispatched;
+        do {
+            dispatched = outboxService.relayPendingEvents(batchSize);
+        } while (dispatched == batchSize);
+    }
+}
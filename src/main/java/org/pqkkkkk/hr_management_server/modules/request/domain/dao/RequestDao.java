@@ -1,7 +1,9 @@
 package org.pqkkkkk.hr_management_server.modules.request.domain.dao;
 
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.CursorPage;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestType;
+import org.pqkkkkk.hr_management_server.modules.request.domain.filter.FilterCriteria.RequestCursor;
 import org.pqkkkkk.hr_management_server.modules.request.domain.filter.FilterCriteria.RequestFilter;
 import org.springframework.data.domain.Page;
 
@@ -10,5 +12,6 @@ public interface RequestDao {
     public Request updateRequest(Request request);
     public Request getRequestById(String requestId);
     public Page<Request> getRequests(RequestFilter filter);
+    public CursorPage<Request> getRequestsAfter(RequestFilter filter, RequestCursor cursor);
     public boolean existsByEmployeeAndDateAndType(String employeeId, java.time.LocalDate date, RequestType type);
 }
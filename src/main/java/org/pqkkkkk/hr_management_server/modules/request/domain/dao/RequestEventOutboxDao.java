@@ -0,0 +1,17 @@
+package org.pqkkkkk.hr_management_server.modules.request.domain.dao;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.RequestEventOutbox;
+
+public interface RequestEventOutboxDao {
+    public RequestEventOutbox createEntry(RequestEventOutbox entry);
+    public RequestEventOutbox getEntryById(String eventId);
+    public RequestEventOutbox getEntryByIdForUpdate(String eventId);
+    public RequestEventOutbox getEntryByIdempotencyKey(String idempotencyKey);
+    public boolean existsByIdempotencyKey(String idempotencyKey);
+    public List<String> getPendingEntryIds(int limit);
+    public long countPendingEntries();
+    public LocalDateTime getOldestPendingCreatedAt();
+}
@@ -4,6 +4,7 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.LeaveType;
 
 import jakarta.persistence.CascadeType;
@@ -56,6 +57,8 @@ public class AdditionalLeaveInfo {
     BigDecimal totalDays;
     
     @OneToMany(mappedBy = "additionalLeaveInfo", cascade = CascadeType.ALL, orphanRemoval = true)
+    // Initialize the dates of a whole page of requests in one select
+    @BatchSize(size = 50)
     @Builder.Default
     List<LeaveDate> leaveDates = new ArrayList<>();
     
@@ -4,6 +4,8 @@ import java.math.BigDecimal;
 import java.util.ArrayList;
 import java.util.List;
 
+import org.hibernate.annotations.BatchSize;
+
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -55,6 +57,8 @@ public class AdditionalWfhInfo {
     BigDecimal totalDays;
     
     @OneToMany(mappedBy = "additionalWfhInfo", cascade = CascadeType.ALL, orphanRemoval = true)
+    // Initialize the dates of a whole page of requests in one select
+    @BatchSize(size = 50)
     @Builder.Default
     List<WfhDate> wfhDates = new ArrayList<>();
     
@@ -0,0 +1,23 @@
+package org.pqkkkkk.hr_management_server.modules.request.domain.entity;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One window of a keyset (seek) paginated result.
+ * <p>
+ * Unlike {@link org.springframework.data.domain.Page}, no total count is
+ * computed. {@code nextCursor} is an opaque token to pass back to fetch the
+ * following window, and is null when {@code hasNext} is false.
+ */
+public record CursorPage<T>(
+        List<T> content,
+        int size,
+        boolean hasNext,
+        String nextCursor) {
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> mapper) {
+        List<R> mapped = content.stream().<R>map(mapper).toList();
+        return new CursorPage<>(mapped, size, hasNext, nextCursor);
+    }
+}
@@ -34,4 +34,16 @@ public class Enums {
         MORNING,
         AFTERNOON
     }
+
+    public enum RequestEventType {
+        REQUEST_CREATED,
+        REQUEST_APPROVED,
+        REQUEST_REJECTED
+    }
+
+    public enum OutboxStatus {
+        PENDING,
+        DISPATCHED,
+        FAILED
+    }
 }
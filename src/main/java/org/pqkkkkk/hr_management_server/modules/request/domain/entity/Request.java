@@ -18,6 +18,9 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.NamedAttributeNode;
+import jakarta.persistence.NamedEntityGraph;
+import jakarta.persistence.NamedSubgraph;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
@@ -31,6 +34,19 @@ import lombok.experimental.FieldDefaults;
 
 @Entity
 @Table(name = "request_table")
+// Everything a request listing touches, loaded with the page in one statement.
+// The additional info one-to-ones are the inverse side and cannot be lazy, so
+// they are joined here instead of being selected row by row.
+@NamedEntityGraph(name = Request.LISTING_GRAPH, attributeNodes = {
+        @NamedAttributeNode(value = "employee", subgraph = "employee"),
+        @NamedAttributeNode("approver"),
+        @NamedAttributeNode("processor"),
+        @NamedAttributeNode("additionalCheckInInfo"),
+        @NamedAttributeNode("additionalCheckOutInfo"),
+        @NamedAttributeNode("additionalTimesheetInfo"),
+        @NamedAttributeNode("additionalLeaveInfo"),
+        @NamedAttributeNode("additionalWfhInfo")
+}, subgraphs = @NamedSubgraph(name = "employee", attributeNodes = @NamedAttributeNode("department")))
 @Getter
 @Setter
 @ToString(exclude = {"employee", "approver", "processor", "additionalCheckInInfo", "additionalCheckOutInfo", "additionalTimesheetInfo", "additionalLeaveInfo", "additionalWfhInfo"})
@@ -40,6 +56,8 @@ import lombok.experimental.FieldDefaults;
 @AllArgsConstructor
 @FieldDefaults(level = lombok.AccessLevel.PRIVATE)
 public class Request {
+
+    public static final String LISTING_GRAPH = "Request.listing";
     
     @Id
     @Column(name = "request_id")
@@ -0,0 +1,68 @@
+package org.pqkkkkk.hr_management_server.modules.request.domain.entity;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UuidGenerator;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.OutboxStatus;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestEventType;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import lombok.experimental.FieldDefaults;
+
+/**
+ * A request domain event waiting to be relayed to its handlers. Written in the
+ * same transaction as the request change it describes.
+ */
+@Entity
+@Table(name = "request_event_outbox_table")
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+@FieldDefaults(level = lombok.AccessLevel.PRIVATE)
+public class RequestEventOutbox {
+    @Id
+    @Column(name = "event_id")
+    @UuidGenerator
+    String eventId;
+
+    // <event type>:<request id>, one event of each type per request
+    @Column(name = "idempotency_key", nullable = false, unique = true)
+    String idempotencyKey;
+
+    @Column(name = "event_type", nullable = false)
+    @Enumerated(EnumType.STRING)
+    RequestEventType eventType;
+
+    @Column(name = "request_id", nullable = false)
+    String requestId;
+
+    @Column(name = "status", nullable = false)
+    @Enumerated(EnumType.STRING)
+    @Builder.Default
+    OutboxStatus status = OutboxStatus.PENDING;
+
+    @Column(name = "attempts", nullable = false)
+    @Builder.Default
+    Integer attempts = 0;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    @CreationTimestamp
+    LocalDateTime createdAt;
+
+    @Column(name = "dispatched_at")
+    LocalDateTime dispatchedAt;
+}
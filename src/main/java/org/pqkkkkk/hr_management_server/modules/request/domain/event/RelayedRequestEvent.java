@@ -0,0 +1,18 @@
+package org.pqkkkkk.hr_management_server.modules.request.domain.event;
+
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestEventType;
+
+/**
+ * A request event delivered by the outbox relay.
+ * <p>
+ * Delivery is at-least-once, so handlers should use {@code idempotencyKey} to
+ * skip events they already processed. {@code request} is loaded in the relay's
+ * transaction and its lazy associations can be read by handlers.
+ */
+public record RelayedRequestEvent(
+        String eventId,
+        String idempotencyKey,
+        RequestEventType type,
+        Request request) {
+}
@@ -0,0 +1,10 @@
+package org.pqkkkkk.hr_management_server.modules.request.domain.event;
+
+/**
+ * Consumer of request events relayed from the outbox. Implementations run
+ * inside the relay's transaction; throwing leaves the event pending so it is
+ * retried on a later poll.
+ */
+public interface RequestEventHandler {
+    public void handle(RelayedRequestEvent event);
+}
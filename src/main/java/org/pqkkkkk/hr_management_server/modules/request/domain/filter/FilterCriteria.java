@@ -1,6 +1,10 @@
 package org.pqkkkkk.hr_management_server.modules.request.domain.filter;
 
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
 
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestStatus;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestType;
@@ -31,4 +35,45 @@ public class FilterCriteria {
                     : SortDirection.valueOf(Constants.DEFAULT_SORT_DIRECTION);
         }
     }
+
+    /**
+     * Keyset position for seek pagination over requests ordered by
+     * {@code (createdAt, requestId)}. Clients only ever see the encoded form.
+     */
+    public record RequestCursor(
+            LocalDateTime createdAt,
+            String requestId) {
+
+        private static final String SEPARATOR = "|";
+
+        public String encode() {
+            String raw = createdAt + SEPARATOR + requestId;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * Decode a cursor previously produced by {@link #encode()}.
+         *
+         * @return the decoded cursor, or null for a null or blank input (first page)
+         * @throws IllegalArgumentException if the cursor is malformed
+         */
+        public static RequestCursor decode(String cursor) {
+            if (cursor == null || cursor.isBlank()) {
+                return null;
+            }
+
+            try {
+                String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+                int separatorIndex = raw.indexOf(SEPARATOR);
+                if (separatorIndex <= 0 || separatorIndex == raw.length() - 1) {
+                    throw new IllegalArgumentException("Invalid cursor: " + cursor);
+                }
+                return new RequestCursor(
+                        LocalDateTime.parse(raw.substring(0, separatorIndex)),
+                        raw.substring(separatorIndex + 1));
+            } catch (IllegalArgumentException | DateTimeParseException e) {
+                throw new IllegalArgumentException("Invalid cursor: " + cursor);
+            }
+        }
+    }
 }
@@ -1,10 +1,25 @@
 package org.pqkkkkk.hr_management_server.modules.request.domain.service;
 
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestType;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.TimeSheetBatch;
 
 public interface RequestCommandService {
+    /**
+     * The request type handled by this service. Used to route approve, reject and
+     * delegate calls; exactly one service must be registered per type.
+     */
+    public RequestType getSupportedType();
+
     public Request createRequest(Request request);
     public Request approveRequest(String requestId, String approverId);
+
+    /**
+     * Approves an already loaded request as part of a bulk approval. Timesheet
+     * changes go into the given batch and are written by the caller; the request
+     * is left untouched if any rule fails.
+     */
+    public Request approveInBatch(Request request, String approverId, TimeSheetBatch batch);
     public Request rejectRequest(String requestId, String approverId, String rejectionReason);
     public Request delegateRequest(String requestId, String newProcessorId);
 }
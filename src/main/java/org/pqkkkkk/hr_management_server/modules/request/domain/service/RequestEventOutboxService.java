@@ -0,0 +1,23 @@
+package org.pqkkkkk.hr_management_server.modules.request.domain.service;
+
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestEventType;
+
+public interface RequestEventOutboxService {
+    /**
+     * Record a request event in the outbox, in the caller's transaction.
+     * Recording the same event type twice for one request is a no-op.
+     * @param type - the kind of event
+     * @param request - the request the event is about, must already have an ID
+     */
+    void recordEvent(RequestEventType type, Request request);
+
+    /**
+     * Dispatch up to batchSize pending events, oldest first, each in its own
+     * transaction. A failing event stays pending and is retried on a later call
+     * until the maximum number of attempts is reached.
+     * @param batchSize - maximum number of events to dispatch
+     * @return number of events dispatched successfully
+     */
+    int relayPendingEvents(int batchSize);
+}
@@ -1,5 +1,6 @@
 package org.pqkkkkk.hr_management_server.modules.request.domain.service;
 
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.CursorPage;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
 import org.pqkkkkk.hr_management_server.modules.request.domain.filter.FilterCriteria.RequestFilter;
 import org.springframework.data.domain.Page;
@@ -11,6 +12,15 @@ public interface RequestQueryService {
      * @return Page of requests matching the filter
      */
     Page<Request> getRequests(RequestFilter filter);
+
+    /**
+     * Get requests with filtering and keyset (seek) pagination, newest first by default.
+     * No total count is computed, so the cost of a window does not grow with its depth.
+     * @param filter - same criteria as getRequests; currentPage and sortBy are ignored
+     * @param cursor - opaque cursor from a previous window, or null for the first window
+     * @return Window of requests with the cursor for the next window
+     */
+    CursorPage<Request> getRequestsByCursor(RequestFilter filter, String cursor);
     
     /**
      * Get request by ID
@@ -3,5 +3,6 @@ import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
 
 public interface RequestValidationService {
     public Request checkRequestIsValid(String requestId);
+    public void checkRequestIsPending(Request request);
     public void checkApproverPermissions(String approverId, Request request);
 }
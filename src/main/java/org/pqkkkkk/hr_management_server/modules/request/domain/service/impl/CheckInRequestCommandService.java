@@ -15,6 +15,7 @@ import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestCommandService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestDelegationService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestValidationService;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.TimeSheetBatch;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetCommandService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -67,6 +68,11 @@ public class CheckInRequestCommandService implements RequestCommandService {
         }
 
     }
+    @Override
+    public RequestType getSupportedType() {
+        return RequestType.CHECK_IN;
+    }
+
     @Override
     @Transactional
     public Request createRequest(Request request) {
@@ -109,6 +115,23 @@ public class CheckInRequestCommandService implements RequestCommandService {
         return req;
     }
 
+    @Override
+    public Request approveInBatch(Request req, String approverId, TimeSheetBatch batch) {
+        requestValidationService.checkRequestIsPending(req);
+
+        requestValidationService.checkApproverPermissions(approverId, req);
+
+        timeSheetCommandService.applyCheckInApproval(batch, req.getEmployee().getUserId(),
+                req.getAdditionalCheckInInfo().getDesiredCheckInTime());
+
+        req.setStatus(RequestStatus.APPROVED);
+        req.setProcessedAt(LocalDateTime.now());
+
+        eventPublisher.publishEvent(new RequestApprovedEvent(this, req));
+
+        return req;
+    }
+
     @Override
     public Request rejectRequest(String requestId, String approverId, String rejectionReason) {
         Request req = requestValidationService.checkRequestIsValid(requestId);
@@ -15,6 +15,7 @@ import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestReje
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestCommandService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestDelegationService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestValidationService;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.TimeSheetBatch;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetCommandService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -67,6 +68,11 @@ public class CheckOutRequestCommandService implements RequestCommandService {
             throw new IllegalArgumentException("A reason must be provided for check-out requests before " + CHECK_OUT_EARLY_TIME);
         }
     }
+    @Override
+    public RequestType getSupportedType() {
+        return RequestType.CHECK_OUT;
+    }
+
     @Override
     @Transactional
     public Request createRequest(Request request) {
@@ -109,6 +115,23 @@ public class CheckOutRequestCommandService implements RequestCommandService {
         return req;
     }
 
+    @Override
+    public Request approveInBatch(Request req, String approverId, TimeSheetBatch batch) {
+        requestValidationService.checkRequestIsPending(req);
+
+        requestValidationService.checkApproverPermissions(approverId, req);
+
+        timeSheetCommandService.applyCheckOutApproval(batch, req.getEmployee().getUserId(),
+                req.getAdditionalCheckOutInfo().getDesiredCheckOutTime());
+
+        req.setStatus(RequestStatus.APPROVED);
+        req.setProcessedAt(LocalDateTime.now());
+
+        eventPublisher.publishEvent(new RequestApprovedEvent(this, req));
+
+        return req;
+    }
+
     @Override
     @Transactional
     public Request rejectRequest(String requestId, String approverId, String rejectionReason) {
@@ -23,6 +23,7 @@ import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestReje
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestCommandService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestDelegationService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestValidationService;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.TimeSheetBatch;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetCommandService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -223,6 +224,11 @@ public class LeaveRequestCommandServiceImpl implements RequestCommandService {
         return requestedLeaveBalance;
     }
 
+    @Override
+    public RequestType getSupportedType() {
+        return RequestType.LEAVE;
+    }
+
     @Override
     @Transactional
     public Request createRequest(Request request) {
@@ -281,6 +287,27 @@ public class LeaveRequestCommandServiceImpl implements RequestCommandService {
         return req;
     }
 
+    @Override
+    public Request approveInBatch(Request req, String approverId, TimeSheetBatch batch) {
+        requestValidationService.checkRequestIsPending(req);
+
+        requestValidationService.checkApproverPermissions(approverId, req);
+
+        User employee = req.getEmployee();
+        timeSheetCommandService.applyLeaveApproval(batch, employee.getUserId(),
+                req.getAdditionalLeaveInfo().getLeaveDates());
+
+        req.setStatus(RequestStatus.APPROVED);
+        req.setProcessedAt(LocalDateTime.now());
+
+        BigDecimal requestedLeaveBalance = calculateRequestedLeaveBalance(req);
+        employee.setRemainingAnnualLeave(employee.getRemainingAnnualLeave().subtract(requestedLeaveBalance));
+
+        eventPublisher.publishEvent(new RequestApprovedEvent(this, req));
+
+        return req;
+    }
+
     @Override
     @Transactional
     public Request rejectRequest(String requestId, String approverId, String rejectionReason) {
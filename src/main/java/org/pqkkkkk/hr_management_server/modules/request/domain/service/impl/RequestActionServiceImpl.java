@@ -1,18 +1,28 @@
 package org.pqkkkkk.hr_management_server.modules.request.domain.service.impl;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 
+import org.pqkkkkk.hr_management_server.modules.profile.domain.service.ProfileQueryService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.BulkApproveResult;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.LeaveDate;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.WfhDate;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestStatus;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestType;
 import org.pqkkkkk.hr_management_server.modules.request.domain.filter.FilterCriteria.RequestFilter;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestActionService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestCommandService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestQueryService;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.TimeSheetBatch;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetCommandService;
 import org.pqkkkkk.hr_management_server.shared.Constants.SortDirection;
-import org.springframework.data.domain.Page;
 import org.springframework.stereotype.Service;
 
 import jakarta.transaction.Transactional;
@@ -28,14 +38,20 @@ import jakarta.transaction.Transactional;
 @Service
 public class RequestActionServiceImpl implements RequestActionService {
 
-    private final List<RequestCommandService> commandServices;
+    private final Map<RequestType, RequestCommandService> commandServices;
     private final RequestQueryService queryService;
+    private final ProfileQueryService profileQueryService;
+    private final TimeSheetCommandService timeSheetCommandService;
 
     public RequestActionServiceImpl(
             List<RequestCommandService> commandServices,
-            RequestQueryService queryService) {
-        this.commandServices = commandServices;
+            RequestQueryService queryService,
+            ProfileQueryService profileQueryService,
+            TimeSheetCommandService timeSheetCommandService) {
+        this.commandServices = buildCommandServiceRegistry(commandServices);
         this.queryService = queryService;
+        this.profileQueryService = profileQueryService;
+        this.timeSheetCommandService = timeSheetCommandService;
     }
 
     @Override
@@ -71,45 +87,53 @@ public class RequestActionServiceImpl implements RequestActionService {
     }
 
     /**
-     * Finds the appropriate RequestCommandService implementation for the given
-     * request type.
-     * 
-     * @param requestType The type of request (CHECK_IN, CHECK_OUT, LEAVE, etc.)
-     * @return The matching RequestCommandService implementation
-     * @throws IllegalArgumentException if no service supports the given request
-     *                                  type
+     * Builds the RequestType to RequestCommandService routing table once at
+     * startup.
+     *
+     * @throws IllegalStateException if a type has no service, more than one
+     *                               service, or a service declares no type
      */
-    private RequestCommandService findServiceForType(RequestType requestType) {
-        String expectedServiceName = getServiceNameForType(requestType);
+    static Map<RequestType, RequestCommandService> buildCommandServiceRegistry(
+            List<RequestCommandService> commandServices) {
+        Map<RequestType, RequestCommandService> registry = new EnumMap<>(RequestType.class);
+
+        for (RequestCommandService service : commandServices) {
+            RequestType type = service.getSupportedType();
+            if (type == null) {
+                throw new IllegalStateException(
+                        "RequestCommandService " + service.getClass().getName() + " does not declare a request type");
+            }
 
-        return commandServices.stream()
-                .filter(service -> service.getClass().getSimpleName().startsWith(expectedServiceName))
-                .findFirst()
-                .orElseThrow(() -> new IllegalArgumentException(
-                        "No service found for request type: " + requestType));
+            RequestCommandService existing = registry.putIfAbsent(type, service);
+            if (existing != null) {
+                throw new IllegalStateException("Duplicate RequestCommandService for request type " + type + ": "
+                        + existing.getClass().getName() + " and " + service.getClass().getName());
+            }
+        }
+
+        for (RequestType type : RequestType.values()) {
+            if (!registry.containsKey(type)) {
+                throw new IllegalStateException("No RequestCommandService registered for request type: " + type);
+            }
+        }
+
+        return registry;
     }
 
     /**
-     * Gets the expected service class name prefix for a given request type.
+     * Finds the RequestCommandService registered for the given request type.
      * 
-     * @param requestType The request type
-     * @return The expected service name prefix (e.g., "Leave" for LEAVE type)
+     * @param requestType The type of request (CHECK_IN, CHECK_OUT, LEAVE, etc.)
+     * @return The matching RequestCommandService implementation
+     * @throws IllegalArgumentException if no service supports the given request
+     *                                  type
      */
-    private String getServiceNameForType(RequestType requestType) {
-        switch (requestType) {
-            case LEAVE:
-                return "Leave";
-            case CHECK_IN:
-                return "CheckIn";
-            case CHECK_OUT:
-                return "CheckOut";
-            case WFH:
-                return "Wfh";
-            case TIMESHEET:
-                return "Timesheet";
-            default:
-                throw new IllegalArgumentException("Unsupported request type: " + requestType);
+    private RequestCommandService findServiceForType(RequestType requestType) {
+        RequestCommandService service = requestType == null ? null : commandServices.get(requestType);
+        if (service == null) {
+            throw new IllegalArgumentException("No service found for request type: " + requestType);
         }
+        return service;
     }
 
     @Override
@@ -128,7 +152,19 @@ public class RequestActionServiceImpl implements RequestActionService {
         return service.delegateRequest(requestId, newProcessorId);
     }
 
+    /**
+     * Approves up to maxRequests pending requests matching the filter as one
+     * set-based operation.
+     * <p>
+     * Requests are grouped by type, employees and the affected daily timesheets
+     * are preloaded with a few IN-queries, every approval rule is evaluated in
+     * memory, and the changed rows are written back in JDBC batches when the
+     * transaction flushes. A request that breaks a rule is reported in
+     * {@link BulkApproveResult#failedApprovals()} and left untouched, while the
+     * others are still approved.
+     */
     @Override
+    @Transactional
     public BulkApproveResult bulkApprove(RequestFilter filter, String approverId, int maxRequests) {
         // Validate inputs
         if ((approverId == null || approverId.isBlank())
@@ -156,44 +192,133 @@ public class RequestActionServiceImpl implements RequestActionService {
                 SortDirection.ASC);
 
         // Get pending requests
-        Page<Request> pendingRequests = queryService.getRequests(pendingFilter);
+        List<Request> pendingRequests = queryService.getRequests(pendingFilter).getContent();
 
         List<String> approvedRequestIds = new ArrayList<>();
         List<BulkApproveResult.FailedApproval> failedApprovals = new ArrayList<>();
 
-        // Process each request
-        for (Request request : pendingRequests.getContent()) {
-            try {
-                // Fix: Logic was REVERSED. Correct: if approverId is valid, use it; else use
-                // processorId
-                String actualApproverId = (approverId != null && !approverId.isBlank())
-                        ? approverId
-                        : filter.processorId();
-                // Attempt to approve
-                approve(request.getRequestId(), actualApproverId);
-                approvedRequestIds.add(request.getRequestId());
-            } catch (Exception e) {
-                // Collect failure info and continue
-                String employeeName = "Unknown";
+        if (pendingRequests.isEmpty()) {
+            return new BulkApproveResult(0, 0, approvedRequestIds, failedApprovals);
+        }
+
+        String actualApproverId = (approverId != null && !approverId.isBlank())
+                ? approverId
+                : filter.processorId();
+
+        // Group by type; EnumMap iterates in declaration order so check-ins are
+        // applied before check-outs of the same day
+        Map<RequestType, List<Request>> requestsByType = new EnumMap<>(RequestType.class);
+        for (Request request : pendingRequests) {
+            requestsByType.computeIfAbsent(request.getRequestType(), type -> new ArrayList<>()).add(request);
+        }
+
+        // Preload employees so balance updates and lazy proxies do not hit the
+        // database once per request
+        Set<String> employeeIds = new HashSet<>();
+        for (Request request : pendingRequests) {
+            if (request.getEmployee() != null) {
+                employeeIds.add(request.getEmployee().getUserId());
+            }
+        }
+        profileQueryService.getProfilesByIds(employeeIds);
+
+        // Preload every daily timesheet the approvals may touch with one range query
+        LocalDate fromDate = null;
+        LocalDate toDate = null;
+        for (Request request : pendingRequests) {
+            for (LocalDate date : getAffectedDates(request)) {
+                fromDate = (fromDate == null || date.isBefore(fromDate)) ? date : fromDate;
+                toDate = (toDate == null || date.isAfter(toDate)) ? date : toDate;
+            }
+        }
+        TimeSheetBatch batch = timeSheetCommandService.loadBatch(employeeIds, fromDate, toDate);
+
+        // Apply the domain rules in memory, one service lookup per type
+        for (Map.Entry<RequestType, List<Request>> entry : requestsByType.entrySet()) {
+            RequestCommandService service = findServiceForType(entry.getKey());
+
+            for (Request request : entry.getValue()) {
                 try {
-                    if (request.getEmployee() != null) {
-                        employeeName = request.getEmployee().getFullName();
-                    }
-                } catch (Exception lazyEx) {
-                    employeeName = "Employee (Details Unavailable)";
+                    service.approveInBatch(request, actualApproverId, batch);
+                    approvedRequestIds.add(request.getRequestId());
+                } catch (Exception e) {
+                    // Collect failure info and continue
+                    failedApprovals.add(new BulkApproveResult.FailedApproval(
+                            request.getRequestId(),
+                            getEmployeeName(request),
+                            e.getMessage()));
                 }
-
-                failedApprovals.add(new BulkApproveResult.FailedApproval(
-                        request.getRequestId(),
-                        employeeName,
-                        e.getMessage()));
             }
         }
 
+        // Write all changed timesheets at once
+        timeSheetCommandService.flushBatch(batch);
+
         return new BulkApproveResult(
-                pendingRequests.getContent().size(),
+                pendingRequests.size(),
                 approvedRequestIds.size(),
                 approvedRequestIds,
                 failedApprovals);
     }
+
+    /**
+     * Collects the timesheet dates a request will touch when approved.
+     */
+    private List<LocalDate> getAffectedDates(Request request) {
+        List<LocalDate> dates = new ArrayList<>();
+        if (request.getRequestType() == null) {
+            return dates;
+        }
+
+        switch (request.getRequestType()) {
+            case CHECK_IN:
+                if (request.getAdditionalCheckInInfo() != null
+                        && request.getAdditionalCheckInInfo().getDesiredCheckInTime() != null) {
+                    dates.add(request.getAdditionalCheckInInfo().getDesiredCheckInTime().toLocalDate());
+                }
+                break;
+            case CHECK_OUT:
+                if (request.getAdditionalCheckOutInfo() != null
+                        && request.getAdditionalCheckOutInfo().getDesiredCheckOutTime() != null) {
+                    dates.add(request.getAdditionalCheckOutInfo().getDesiredCheckOutTime().toLocalDate());
+                }
+                break;
+            case TIMESHEET:
+                if (request.getAdditionalTimesheetInfo() != null
+                        && request.getAdditionalTimesheetInfo().getTargetDate() != null) {
+                    dates.add(request.getAdditionalTimesheetInfo().getTargetDate());
+                }
+                break;
+            case LEAVE:
+                if (request.getAdditionalLeaveInfo() != null && request.getAdditionalLeaveInfo().getLeaveDates() != null) {
+                    request.getAdditionalLeaveInfo().getLeaveDates().stream()
+                            .map(LeaveDate::getDate)
+                            .filter(Objects::nonNull)
+                            .forEach(dates::add);
+                }
+                break;
+            case WFH:
+                if (request.getAdditionalWfhInfo() != null && request.getAdditionalWfhInfo().getWfhDates() != null) {
+                    request.getAdditionalWfhInfo().getWfhDates().stream()
+                            .map(WfhDate::getDate)
+                            .filter(Objects::nonNull)
+                            .forEach(dates::add);
+                }
+                break;
+            default:
+                break;
+        }
+        return dates;
+    }
+
+    private String getEmployeeName(Request request) {
+        try {
+            if (request.getEmployee() != null) {
+                return request.getEmployee().getFullName();
+            }
+            return "Unknown";
+        } catch (Exception lazyEx) {
+            return "Employee (Details Unavailable)";
+        }
+    }
 }
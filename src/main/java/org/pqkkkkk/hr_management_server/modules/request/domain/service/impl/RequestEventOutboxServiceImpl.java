@@ -0,0 +1,190 @@
+package org.pqkkkkk.hr_management_server.modules.request.domain.service.impl;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.pqkkkkk.hr_management_server.modules.request.domain.dao.RequestDao;
+import org.pqkkkkk.hr_management_server.modules.request.domain.dao.RequestEventOutboxDao;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.RequestEventOutbox;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.OutboxStatus;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestEventType;
+import org.pqkkkkk.hr_management_server.modules.request.domain.event.RelayedRequestEvent;
+import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestEventHandler;
+import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestEventOutboxService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.transaction.Transactional;
+import lombok.extern.slf4j.Slf4j;
+
+@Service
+@Slf4j
+public class RequestEventOutboxServiceImpl implements RequestEventOutboxService {
+    private static final int MAX_ERROR_LENGTH = 2000;
+
+    private final RequestEventOutboxDao outboxDao;
+    private final RequestDao requestDao;
+    private final List<RequestEventHandler> handlers;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxAttempts;
+
+    private final Counter recordedCounter;
+    private final Counter dispatchedCounter;
+    private final Counter failedCounter;
+    private final Timer dispatchLatency;
+    private final AtomicLong pendingEvents = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    public RequestEventOutboxServiceImpl(RequestEventOutboxDao outboxDao,
+            RequestDao requestDao,
+            List<RequestEventHandler> handlers,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${request.outbox.max-attempts:10}") int maxAttempts) {
+        this.outboxDao = outboxDao;
+        this.requestDao = requestDao;
+        this.handlers = handlers;
+        this.maxAttempts = maxAttempts;
+
+        // Each event is dispatched in its own transaction so one failing handler
+        // cannot roll back the rest of the batch
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        this.recordedCounter = Counter.builder("request.outbox.recorded")
+                .description("Request events written to the outbox")
+                .register(meterRegistry);
+        this.dispatchedCounter = Counter.builder("request.outbox.dispatched")
+                .description("Request events dispatched to all handlers")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("request.outbox.failed")
+                .description("Request events given up after the maximum number of attempts")
+                .register(meterRegistry);
+        this.dispatchLatency = Timer.builder("request.outbox.dispatch.latency")
+                .description("Time from recording an event to dispatching it")
+                .register(meterRegistry);
+        Gauge.builder("request.outbox.pending", pendingEvents, AtomicLong::get)
+                .description("Pending request events as of the last relay poll")
+                .register(meterRegistry);
+        Gauge.builder("request.outbox.lag.seconds", lagSeconds, AtomicLong::get)
+                .description("Age of the oldest pending request event as of the last relay poll")
+                .register(meterRegistry);
+    }
+
+    @Override
+    @Transactional
+    public void recordEvent(RequestEventType type, Request request) {
+        if (type == null) {
+            throw new IllegalArgumentException("Event type cannot be null");
+        }
+        if (request == null || request.getRequestId() == null) {
+            throw new IllegalArgumentException("Request with an ID is required to record an event");
+        }
+
+        String idempotencyKey = type.name() + ":" + request.getRequestId();
+        if (outboxDao.existsByIdempotencyKey(idempotencyKey)) {
+            return;
+        }
+
+        outboxDao.createEntry(RequestEventOutbox.builder()
+                .idempotencyKey(idempotencyKey)
+                .eventType(type)
+                .requestId(request.getRequestId())
+                .build());
+        recordedCounter.increment();
+    }
+
+    @Override
+    public int relayPendingEvents(int batchSize) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be greater than zero");
+        }
+
+        List<String> eventIds = outboxDao.getPendingEntryIds(batchSize);
+        int dispatched = 0;
+
+        for (String eventId : eventIds) {
+            try {
+                if (Boolean.TRUE.equals(transactionTemplate.execute(status -> dispatchEntry(eventId)))) {
+                    dispatched++;
+                }
+            } catch (RuntimeException e) {
+                log.warn("Failed to dispatch request event {}: {}", eventId, e.getMessage());
+                transactionTemplate.executeWithoutResult(status -> recordFailure(eventId, e));
+            }
+        }
+
+        refreshBacklogMetrics();
+        return dispatched;
+    }
+
+    private boolean dispatchEntry(String eventId) {
+        // Lock the row so a concurrent relay cannot dispatch the same event
+        RequestEventOutbox entry = outboxDao.getEntryByIdForUpdate(eventId);
+        if (entry == null || entry.getStatus() != OutboxStatus.PENDING) {
+            return false;
+        }
+
+        Request request = requestDao.getRequestById(entry.getRequestId());
+        if (request == null) {
+            entry.setStatus(OutboxStatus.FAILED);
+            entry.setLastError("Request not found with ID: " + entry.getRequestId());
+            failedCounter.increment();
+            return false;
+        }
+
+        RelayedRequestEvent event = new RelayedRequestEvent(
+                entry.getEventId(),
+                entry.getIdempotencyKey(),
+                entry.getEventType(),
+                request);
+        for (RequestEventHandler handler : handlers) {
+            handler.handle(event);
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        entry.setStatus(OutboxStatus.DISPATCHED);
+        entry.setDispatchedAt(now);
+        entry.setLastError(null);
+        dispatchedCounter.increment();
+        if (entry.getCreatedAt() != null) {
+            dispatchLatency.record(Duration.between(entry.getCreatedAt(), now));
+        }
+        return true;
+    }
+
+    private void recordFailure(String eventId, RuntimeException error) {
+        RequestEventOutbox entry = outboxDao.getEntryById(eventId);
+        if (entry == null || entry.getStatus() != OutboxStatus.PENDING) {
+            return;
+        }
+
+        entry.setAttempts(entry.getAttempts() + 1);
+        entry.setLastError(truncate(String.valueOf(error.getMessage())));
+        if (entry.getAttempts() >= maxAttempts) {
+            entry.setStatus(OutboxStatus.FAILED);
+            failedCounter.increment();
+            log.error("Giving up on request event {} after {} attempts", eventId, entry.getAttempts());
+        }
+    }
+
+    private void refreshBacklogMetrics() {
+        pendingEvents.set(outboxDao.countPendingEntries());
+        LocalDateTime oldest = outboxDao.getOldestPendingCreatedAt();
+        lagSeconds.set(oldest == null ? 0 : Math.max(0, Duration.between(oldest, LocalDateTime.now()).toSeconds()));
+    }
+
+    private String truncate(String message) {
+        return message.length() <= MAX_ERROR_LENGTH ? message : message.substring(0, MAX_ERROR_LENGTH);
+    }
+}
@@ -1,7 +1,9 @@
 package org.pqkkkkk.hr_management_server.modules.request.domain.service.impl;
 
 import org.pqkkkkk.hr_management_server.modules.request.domain.dao.RequestDao;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.CursorPage;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
+import org.pqkkkkk.hr_management_server.modules.request.domain.filter.FilterCriteria.RequestCursor;
 import org.pqkkkkk.hr_management_server.modules.request.domain.filter.FilterCriteria.RequestFilter;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestQueryService;
 import org.springframework.data.domain.Page;
@@ -27,6 +29,19 @@ public class RequestQueryServiceImpl implements RequestQueryService {
         return requestDao.getRequests(filter);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<Request> getRequestsByCursor(RequestFilter filter, String cursor) {
+        if (filter == null) {
+            throw new IllegalArgumentException("Filter cannot be null");
+        }
+        if (filter.pageSize() <= 0) {
+            throw new IllegalArgumentException("Page size must be greater than zero");
+        }
+
+        return requestDao.getRequestsAfter(filter, RequestCursor.decode(cursor));
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Request getRequestById(String requestId) {
@@ -19,15 +19,19 @@ public class RequestValidationServiceImpl implements RequestValidationService {
     public Request checkRequestIsValid(String requestId) {
         Request existingRequest = requestDao.getRequestById(requestId);
 
-        if (existingRequest == null) {
+        checkRequestIsPending(existingRequest);
+
+        return existingRequest;
+    }
+
+    public void checkRequestIsPending(Request request) {
+        if (request == null) {
             throw new IllegalArgumentException("Request does not exist.");
         }
 
-        if (existingRequest.getStatus() != RequestStatus.PENDING) {
+        if (request.getStatus() != RequestStatus.PENDING) {
             throw new IllegalStateException("Request is not in a valid state for this operation.");
         }
-
-        return existingRequest;
     }
 
     public void checkApproverPermissions(String approverId, Request request) {
@@ -13,6 +13,7 @@ import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestReje
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestCommandService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestDelegationService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestValidationService;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.TimeSheetBatch;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetCommandService;
 import org.springframework.stereotype.Service;
 import org.springframework.context.ApplicationEventPublisher;
@@ -85,6 +86,11 @@ public class TimesheetRequestCommandServiceImpl implements RequestCommandService
         }
     }
 
+    @Override
+    public RequestType getSupportedType() {
+        return RequestType.TIMESHEET;
+    }
+
     @Override
     @Transactional
     public Request createRequest(Request request) {
@@ -139,6 +145,34 @@ public class TimesheetRequestCommandServiceImpl implements RequestCommandService
         return req;
     }
 
+    @Override
+    public Request approveInBatch(Request req, String approverId, TimeSheetBatch batch) {
+        requestValidationService.checkRequestIsPending(req);
+
+        requestValidationService.checkApproverPermissions(approverId, req);
+
+        AdditionalTimesheetInfo timesheetInfo = req.getAdditionalTimesheetInfo();
+        if (timesheetInfo != null) {
+            timeSheetCommandService.applyTimesheetUpdateApproval(
+                    batch,
+                    req.getEmployee().getUserId(),
+                    timesheetInfo.getTargetDate(),
+                    timesheetInfo.getDesiredCheckInTime(),
+                    timesheetInfo.getDesiredCheckOutTime(),
+                    timesheetInfo.getDesiredMorningStatus(),
+                    timesheetInfo.getDesiredAfternoonStatus(),
+                    timesheetInfo.getDesiredMorningWfh(),
+                    timesheetInfo.getDesiredAfternoonWfh());
+        }
+
+        req.setStatus(RequestStatus.APPROVED);
+        req.setProcessedAt(LocalDateTime.now());
+
+        eventPublisher.publishEvent(new RequestApprovedEvent(this, req));
+
+        return req;
+    }
+
     @Override
     @Transactional
     public Request rejectRequest(String requestId, String approverId, String rejectionReason) {
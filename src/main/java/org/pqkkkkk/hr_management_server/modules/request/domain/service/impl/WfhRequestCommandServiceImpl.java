@@ -23,6 +23,7 @@ import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestReje
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestCommandService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestDelegationService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestValidationService;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.TimeSheetBatch;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetCommandService;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
@@ -231,6 +232,11 @@ public class WfhRequestCommandServiceImpl implements RequestCommandService {
         }
     }
 
+    @Override
+    public RequestType getSupportedType() {
+        return RequestType.WFH;
+    }
+
     @Override
     @Transactional
     public Request createRequest(Request request) {
@@ -298,6 +304,27 @@ public class WfhRequestCommandServiceImpl implements RequestCommandService {
         return req;
     }
 
+    @Override
+    public Request approveInBatch(Request req, String approverId, TimeSheetBatch batch) {
+        requestValidationService.checkRequestIsPending(req);
+
+        requestValidationService.checkApproverPermissions(approverId, req);
+
+        User employee = req.getEmployee();
+        timeSheetCommandService.applyWfhApproval(batch, employee.getUserId(),
+                req.getAdditionalWfhInfo().getWfhDates());
+
+        req.setStatus(RequestStatus.APPROVED);
+        req.setProcessedAt(LocalDateTime.now());
+
+        BigDecimal requestedWfhBalance = calculateRequestedWfhDays(req);
+        employee.setRemainingWfhDays(employee.getRemainingWfhDays().subtract(requestedWfhBalance));
+
+        eventPublisher.publishEvent(new RequestApprovedEvent(this, req));
+
+        return req;
+    }
+
     @Override
     @Transactional
     public Request rejectRequest(String requestId, String approverId, String rejectionReason) {
@@ -0,0 +1,65 @@
+package org.pqkkkkk.hr_management_server.modules.request.infrastructure.dao;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.pqkkkkk.hr_management_server.modules.request.domain.dao.RequestEventOutboxDao;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.RequestEventOutbox;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.OutboxStatus;
+import org.pqkkkkk.hr_management_server.modules.request.infrastructure.dao.jpa_repository.RequestEventOutboxRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RequestEventOutboxJpaDao implements RequestEventOutboxDao {
+
+    private final RequestEventOutboxRepository outboxRepository;
+
+    public RequestEventOutboxJpaDao(RequestEventOutboxRepository outboxRepository) {
+        this.outboxRepository = outboxRepository;
+    }
+
+    @Override
+    public RequestEventOutbox createEntry(RequestEventOutbox entry) {
+        if (entry == null) {
+            throw new IllegalArgumentException("Outbox entry cannot be null");
+        }
+
+        return outboxRepository.save(entry);
+    }
+
+    @Override
+    public RequestEventOutbox getEntryById(String eventId) {
+        return outboxRepository.findById(eventId).orElse(null);
+    }
+
+    @Override
+    public RequestEventOutbox getEntryByIdForUpdate(String eventId) {
+        return outboxRepository.findByIdForUpdate(eventId).orElse(null);
+    }
+
+    @Override
+    public RequestEventOutbox getEntryByIdempotencyKey(String idempotencyKey) {
+        return outboxRepository.findByIdempotencyKey(idempotencyKey).orElse(null);
+    }
+
+    @Override
+    public boolean existsByIdempotencyKey(String idempotencyKey) {
+        return outboxRepository.existsByIdempotencyKey(idempotencyKey);
+    }
+
+    @Override
+    public List<String> getPendingEntryIds(int limit) {
+        return outboxRepository.findEventIdsByStatus(OutboxStatus.PENDING, PageRequest.of(0, limit));
+    }
+
+    @Override
+    public long countPendingEntries() {
+        return outboxRepository.countByStatus(OutboxStatus.PENDING);
+    }
+
+    @Override
+    public LocalDateTime getOldestPendingCreatedAt() {
+        return outboxRepository.findOldestCreatedAtByStatus(OutboxStatus.PENDING);
+    }
+}
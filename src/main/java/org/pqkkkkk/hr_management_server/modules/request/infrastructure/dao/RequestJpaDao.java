@@ -4,10 +4,13 @@ import java.util.ArrayList;
 import java.util.List;
 
 import org.pqkkkkk.hr_management_server.modules.request.domain.dao.RequestDao;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.CursorPage;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
+import org.pqkkkkk.hr_management_server.modules.request.domain.filter.FilterCriteria.RequestCursor;
 import org.pqkkkkk.hr_management_server.modules.request.domain.filter.FilterCriteria.RequestFilter;
 import org.pqkkkkk.hr_management_server.modules.request.infrastructure.dao.jpa_repository.RequestRepository;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestType;
+import org.pqkkkkk.hr_management_server.shared.SearchTextNormalizer;
 import org.pqkkkkk.hr_management_server.shared.Constants.SortDirection;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -22,6 +25,15 @@ import jakarta.persistence.criteria.Predicate;
 @Repository
 public class RequestJpaDao implements RequestDao {
 
+    /**
+     * Same attributes as {@link Request#LISTING_GRAPH}, for fluent queries that
+     * take a fetch graph as property paths.
+     */
+    private static final List<String> LISTING_ATTRIBUTES = List.of(
+            "employee", "employee.department", "approver", "processor",
+            "additionalCheckInInfo", "additionalCheckOutInfo", "additionalTimesheetInfo",
+            "additionalLeaveInfo", "additionalWfhInfo");
+
     private final RequestRepository requestRepository;
 
     public RequestJpaDao(RequestRepository requestRepository) {
@@ -67,6 +79,62 @@ public class RequestJpaDao implements RequestDao {
         return requestRepository.findAll(specification, pageable);
     }
 
+    /**
+     * Seek pagination ordered by (createdAt, requestId) in the filter's sort
+     * direction. Fetches one extra row to detect a next window instead of
+     * running a count query. The filter's sortBy and currentPage are ignored.
+     */
+    @Override
+    public CursorPage<Request> getRequestsAfter(RequestFilter filter, RequestCursor cursor) {
+        boolean ascending = filter.sortDirection() == SortDirection.ASC;
+        Specification<Request> specification = buildSpecification(filter)
+                .and(buildSeekSpecification(cursor, ascending));
+        Sort sort = ascending
+                ? Sort.by("createdAt", "requestId").ascending()
+                : Sort.by("createdAt", "requestId").descending();
+        int pageSize = filter.pageSize();
+
+        List<Request> rows = requestRepository.findBy(specification,
+                query -> query.project(LISTING_ATTRIBUTES).sortBy(sort).limit(pageSize + 1).all());
+
+        boolean hasNext = rows.size() > pageSize;
+        List<Request> content = hasNext ? rows.subList(0, pageSize) : rows;
+        String nextCursor = null;
+        if (hasNext) {
+            Request last = content.get(content.size() - 1);
+            nextCursor = new RequestCursor(last.getCreatedAt(), last.getRequestId()).encode();
+        }
+
+        return new CursorPage<>(List.copyOf(content), pageSize, hasNext, nextCursor);
+    }
+
+    /**
+     * Build the keyset predicate that starts strictly after the cursor row:
+     * createdAt beyond the cursor, or the same createdAt with a requestId beyond
+     * it.
+     */
+    private Specification<Request> buildSeekSpecification(RequestCursor cursor, boolean ascending) {
+        return (root, query, criteriaBuilder) -> {
+            if (cursor == null) {
+                return criteriaBuilder.conjunction();
+            }
+
+            if (ascending) {
+                return criteriaBuilder.or(
+                        criteriaBuilder.greaterThan(root.get("createdAt"), cursor.createdAt()),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(root.get("createdAt"), cursor.createdAt()),
+                                criteriaBuilder.greaterThan(root.get("requestId"), cursor.requestId())));
+            }
+
+            return criteriaBuilder.or(
+                    criteriaBuilder.lessThan(root.get("createdAt"), cursor.createdAt()),
+                    criteriaBuilder.and(
+                            criteriaBuilder.equal(root.get("createdAt"), cursor.createdAt()),
+                            criteriaBuilder.lessThan(root.get("requestId"), cursor.requestId())));
+        };
+    }
+
     /**
      * Build JPA Specification from RequestFilter
      */
@@ -96,11 +164,12 @@ public class RequestJpaDao implements RequestDao {
                         filter.departmentId()));
             }
 
-            // Filter by employee name (LIKE search, case-insensitive)
+            // Filter by employee name (LIKE search on the normalized name, case and
+            // accent insensitive)
             if (filter.nameTerm() != null && !filter.nameTerm().isBlank()) {
                 predicates.add(criteriaBuilder.like(
-                        criteriaBuilder.lower(root.get("employee").get("fullName")),
-                        "%" + filter.nameTerm().toLowerCase() + "%"));
+                        root.get("employee").get("searchName"),
+                        "%" + SearchTextNormalizer.normalize(filter.nameTerm()) + "%"));
             }
 
             // Filter by request status
@@ -113,17 +182,18 @@ public class RequestJpaDao implements RequestDao {
                 predicates.add(criteriaBuilder.equal(root.get("requestType"), filter.type()));
             }
 
-            // Filter by date range (createdAt)
+            // Filter by date range (createdAt) as a half-open timestamp range
+            // [startDate 00:00, endDate + 1 day 00:00) so created_at indexes stay usable
             if (filter.startDate() != null) {
                 predicates.add(criteriaBuilder.greaterThanOrEqualTo(
-                        root.get("createdAt").as(java.time.LocalDate.class),
-                        filter.startDate()));
+                        root.get("createdAt"),
+                        filter.startDate().atStartOfDay()));
             }
 
             if (filter.endDate() != null) {
-                predicates.add(criteriaBuilder.lessThanOrEqualTo(
-                        root.get("createdAt").as(java.time.LocalDate.class),
-                        filter.endDate()));
+                predicates.add(criteriaBuilder.lessThan(
+                        root.get("createdAt"),
+                        filter.endDate().plusDays(1).atStartOfDay()));
             }
 
             return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
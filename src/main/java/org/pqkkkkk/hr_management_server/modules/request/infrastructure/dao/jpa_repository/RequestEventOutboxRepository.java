@@ -0,0 +1,36 @@
+package org.pqkkkkk.hr_management_server.modules.request.infrastructure.dao.jpa_repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.RequestEventOutbox;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.OutboxStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+
+@Repository
+public interface RequestEventOutboxRepository extends JpaRepository<RequestEventOutbox, String> {
+
+    Optional<RequestEventOutbox> findByIdempotencyKey(String idempotencyKey);
+
+    boolean existsByIdempotencyKey(String idempotencyKey);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT o FROM RequestEventOutbox o WHERE o.eventId = :eventId")
+    Optional<RequestEventOutbox> findByIdForUpdate(@Param("eventId") String eventId);
+
+    @Query("SELECT o.eventId FROM RequestEventOutbox o WHERE o.status = :status ORDER BY o.createdAt ASC")
+    List<String> findEventIdsByStatus(@Param("status") OutboxStatus status, Pageable pageable);
+
+    long countByStatus(OutboxStatus status);
+
+    @Query("SELECT MIN(o.createdAt) FROM RequestEventOutbox o WHERE o.status = :status")
+    LocalDateTime findOldestCreatedAtByStatus(@Param("status") OutboxStatus status);
+}
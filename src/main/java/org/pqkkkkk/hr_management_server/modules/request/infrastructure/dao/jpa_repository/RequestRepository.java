@@ -4,6 +4,10 @@ import java.time.LocalDateTime;
 
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
@@ -11,6 +15,10 @@ import org.springframework.stereotype.Repository;
 @Repository
 public interface RequestRepository extends JpaRepository<Request, String>, 
                                           JpaSpecificationExecutor<Request> {
+
+    @Override
+    @EntityGraph(Request.LISTING_GRAPH)
+    Page<Request> findAll(Specification<Request> spec, Pageable pageable);
     
     boolean existsByEmployee_UserIdAndRequestTypeAndCreatedAtBetween(
         String userId, 
@@ -3,11 +3,14 @@ package org.pqkkkkk.hr_management_server.modules.timesheet.controller.http;
 import lombok.RequiredArgsConstructor;
 
 import org.pqkkkkk.hr_management_server.modules.timesheet.controller.http.dto.Response.ApiResponse;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetCommandService;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetQueryService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 
@@ -22,6 +25,7 @@ public class InternalTimesheetApi {
 
     private static final int MAX_USER_IDS = 100;
     private final TimeSheetQueryService timeSheetQueryService;
+    private final TimeSheetCommandService timeSheetCommandService;
 
     /**
      * Response DTO for batch statistics
@@ -75,4 +79,22 @@ public class InternalTimesheetApi {
 
         return ResponseEntity.ok(ApiResponse.success(response));
     }
+
+    /**
+     * Rebuild the monthly attendance summaries from the daily timesheets.
+     * Used to backfill or repair the summaries behind the statistics endpoints.
+     *
+     * @param fromMonth First month to rebuild (YYYY-MM)
+     * @param toMonth   Last month to rebuild (YYYY-MM)
+     * @return Number of summary rows written
+     */
+    @PostMapping("/statistics/summaries/rebuild")
+    public ResponseEntity<ApiResponse<Integer>> rebuildMonthlySummaries(
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth fromMonth,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth toMonth) {
+
+        int written = timeSheetCommandService.rebuildMonthlyAttendanceSummaries(fromMonth, toMonth);
+
+        return ResponseEntity.ok(ApiResponse.success(written));
+    }
 }
@@ -1,17 +1,31 @@
 package org.pqkkkkk.hr_management_server.modules.timesheet.controller.http;
 
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
 import org.pqkkkkk.hr_management_server.modules.timesheet.controller.http.dto.DTO.*;
 import org.pqkkkkk.hr_management_server.modules.timesheet.controller.http.dto.Response.ApiResponse;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.DailyTimeSheet;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.AttendanceCalendar;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.filter.FilterCriteria.TimeSheetExportFilter;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetQueryService;
+import org.pqkkkkk.hr_management_server.shared.Constants.SupportedFileFormat;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
 import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 /**
  * REST API Controller for Timesheet operations
@@ -21,10 +35,17 @@ import java.util.Map;
 @RequestMapping("/api/v1/timesheets")
 public class TimeSheetApi {
 
+    /**
+     * Employees written between two flushes of a streamed month view
+     */
+    private static final int STREAM_FLUSH_INTERVAL = 100;
+
     private final TimeSheetQueryService timeSheetQueryService;
+    private final ObjectMapper objectMapper;
 
-    public TimeSheetApi(TimeSheetQueryService timeSheetQueryService) {
+    public TimeSheetApi(TimeSheetQueryService timeSheetQueryService, ObjectMapper objectMapper) {
         this.timeSheetQueryService = timeSheetQueryService;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -51,24 +72,18 @@ public class TimeSheetApi {
                 .body(ApiResponse.badRequest("Year-month is required"));
         }
 
-        // Get timesheets
-        List<DailyTimeSheet> timesheets = timeSheetQueryService
-            .getMonthlyTimeSheetsOfEmployee(employeeId, yearMonth);
+        // Get timesheets as a packed calendar, the employee name comes with it
+        AttendanceCalendar calendar = timeSheetQueryService
+            .getAttendanceCalendar(employeeId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
 
         // Get statistics
         Map<String, Object> statistics = timeSheetQueryService
             .calculateMonthlyAttendanceStatistics(employeeId, yearMonth);
 
-        // Get employee name from first timesheet (if available)
-        String employeeName = timesheets.isEmpty() ? null : 
-            timesheets.get(0).getEmployee().getFullName();
-
         // Create response DTO
         MonthlyTimeSheetDTO responseDTO = MonthlyTimeSheetDTO.create(
-            employeeId,
-            employeeName,
+            calendar,
             yearMonth.toString(),
-            timesheets,
             statistics
         );
 
@@ -105,9 +120,9 @@ public class TimeSheetApi {
                 .body(ApiResponse.badRequest("Start date must be before or equal to end date"));
         }
 
-        // Get timesheets
-        List<DailyTimeSheet> timesheets = timeSheetQueryService
-            .getTimeSheetsOfEmployeeByDateRange(employeeId, startDate, endDate);
+        // Get timesheets as a packed calendar, the employee name comes with it
+        AttendanceCalendar calendar = timeSheetQueryService
+            .getAttendanceCalendar(employeeId, startDate, endDate);
 
         // Get statistics
         Map<String, Object> statistics = timeSheetQueryService
@@ -116,17 +131,9 @@ public class TimeSheetApi {
                 YearMonth.from(startDate)
             );
 
-        // Get employee name from first timesheet (if available)
-        String employeeName = timesheets.isEmpty() ? null : 
-            timesheets.get(0).getEmployee().getFullName();
-
         // Create response DTO
         DateRangeTimeSheetDTO responseDTO = DateRangeTimeSheetDTO.create(
-            employeeId,
-            employeeName,
-            startDate,
-            endDate,
-            timesheets,
+            calendar,
             statistics
         );
 
@@ -233,4 +240,173 @@ public class TimeSheetApi {
 
         return ResponseEntity.ok(ApiResponse.success(dto));
     }
+
+    /**
+     * Get the monthly timesheets of every employee in a department.
+     * Rows are read with a single query and written as a JSON array of
+     * EmployeeMonthlyTimeSheetDTO while they are read, one employee at a time.
+     * 
+     * @param departmentId Department ID (path variable)
+     * @param yearMonth Year and month in format "yyyy-MM" (e.g., "2024-12")
+     * @return Streamed JSON array of EmployeeMonthlyTimeSheetDTO
+     * 
+     * Example: GET /api/v1/timesheets/department/D001/monthly?yearMonth=2024-12
+     */
+    @GetMapping("/department/{departmentId}/monthly")
+    public ResponseEntity<StreamingResponseBody> getDepartmentMonthlyTimeSheets(
+            @PathVariable String departmentId,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth
+    ) {
+        // Validate before the response is committed, errors can't be reported afterwards
+        if (departmentId == null || departmentId.isBlank()) {
+            throw new IllegalArgumentException("Department ID is required");
+        }
+
+        StreamingResponseBody body = outputStream -> writeMonthlyTimeSheets(outputStream,
+            consumer -> timeSheetQueryService.streamMonthlyTimeSheetsOfDepartment(
+                departmentId, yearMonth, consumer));
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    /**
+     * Get the monthly timesheets of several employees, streamed the same way
+     * as the department view.
+     * 
+     * @param employeeIds Employee IDs
+     * @param yearMonth Year and month in format "yyyy-MM" (e.g., "2024-12")
+     * @return Streamed JSON array of EmployeeMonthlyTimeSheetDTO
+     * 
+     * Example: GET /api/v1/timesheets/employees/monthly?employeeIds=NV001,NV002&yearMonth=2024-12
+     */
+    @GetMapping("/employees/monthly")
+    public ResponseEntity<StreamingResponseBody> getEmployeesMonthlyTimeSheets(
+            @RequestParam List<String> employeeIds,
+            @RequestParam @DateTimeFormat(pattern = "yyyy-MM") YearMonth yearMonth
+    ) {
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            throw new IllegalArgumentException("Employee IDs are required");
+        }
+
+        StreamingResponseBody body = outputStream -> writeMonthlyTimeSheets(outputStream,
+            consumer -> timeSheetQueryService.streamMonthlyTimeSheetsOfEmployees(
+                employeeIds, yearMonth, consumer));
+
+        return ResponseEntity.ok()
+            .contentType(MediaType.APPLICATION_JSON)
+            .body(body);
+    }
+
+    /**
+     * Export timesheets of all or selected employees within a date range for
+     * payroll. The file is streamed from the database into storage.
+     * 
+     * @param fileFormat CSV or EXCEL
+     * @param startDate Start date (inclusive) in format "yyyy-MM-dd"
+     * @param endDate End date (inclusive) in format "yyyy-MM-dd"
+     * @param departmentId Optional department to export
+     * @param employeeIds Optional employees to export
+     * @return ExportTimeSheetsDTO with the URL of the stored file
+     * 
+     * Example: POST /api/v1/timesheets/export?fileFormat=CSV&startDate=2024-12-01&endDate=2024-12-31
+     */
+    @PostMapping("/export")
+    public ResponseEntity<ApiResponse<ExportTimeSheetsDTO>> exportTimeSheets(
+            @RequestParam SupportedFileFormat fileFormat,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate startDate,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate endDate,
+            @RequestParam(required = false) String departmentId,
+            @RequestParam(required = false) List<String> employeeIds
+    ) {
+        TimeSheetExportFilter filter = new TimeSheetExportFilter(startDate, endDate, departmentId, employeeIds);
+
+        String fileUrl = timeSheetQueryService.exportTimeSheets(filter, fileFormat);
+
+        return ResponseEntity.ok(ApiResponse.success(new ExportTimeSheetsDTO(fileUrl),
+            "Timesheets exported successfully"));
+    }
+
+    /**
+     * Write the months of the source as a JSON array. The body is held back
+     * until the first flush, so a failure before then still becomes an error
+     * response. A later failure leaves the array unterminated: the status is
+     * already sent and a closed array would pass for a complete result.
+     */
+    private void writeMonthlyTimeSheets(
+            OutputStream outputStream,
+            Consumer<Consumer<AttendanceCalendar>> source
+    ) throws IOException {
+        DeferredOutputStream body = new DeferredOutputStream(outputStream);
+        // Not closed on failure, closing would end the open array
+        JsonGenerator generator = objectMapper.createGenerator(body, JsonEncoding.UTF8);
+        generator.writeStartArray();
+        int[] written = {0};
+        try {
+            source.accept(month -> {
+                try {
+                    generator.writeObject(EmployeeMonthlyTimeSheetDTO.fromEntity(month));
+                    if (++written[0] % STREAM_FLUSH_INTERVAL == 0) {
+                        generator.flush();
+                        body.commit();
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        generator.writeEndArray();
+        generator.close();
+        body.commit();
+    }
+
+    /**
+     * Keeps written bytes in memory until {@link #commit()}, after which
+     * everything goes straight to the target
+     */
+    private static final class DeferredOutputStream extends OutputStream {
+
+        private final OutputStream target;
+        private ByteArrayOutputStream pending = new ByteArrayOutputStream();
+
+        DeferredOutputStream(OutputStream target) {
+            this.target = target;
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (pending != null) {
+                pending.write(b);
+            } else {
+                target.write(b);
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            if (pending != null) {
+                pending.write(b, off, len);
+            } else {
+                target.write(b, off, len);
+            }
+        }
+
+        @Override
+        public void flush() throws IOException {
+            if (pending == null) {
+                target.flush();
+            }
+        }
+
+        void commit() throws IOException {
+            if (pending != null) {
+                pending.writeTo(target);
+                pending = null;
+            }
+            target.flush();
+        }
+    }
 }
@@ -0,0 +1,125 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.controller.http.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.ser.std.StdSerializer;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.AttendanceCalendar;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Enums.AttendanceStatus;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+
+/**
+ * Jackson serializers writing an AttendanceCalendar straight from its packed
+ * arrays, so no per-day DTO or entity is created while rendering a response.
+ * Field names and order match the DTOs they replace.
+ */
+public class AttendanceCalendarSerializers {
+
+    /**
+     * Writes the recorded days as a list of {@link DTO.DailyTimeSheetDTO}
+     */
+    public static class TimeSheets extends StdSerializer<AttendanceCalendar> {
+
+        public TimeSheets() {
+            super(AttendanceCalendar.class);
+        }
+
+        @Override
+        public void serialize(AttendanceCalendar calendar, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartArray();
+            for (int i = 0; i < calendar.size(); i++) {
+                if (!calendar.isRecorded(i)) {
+                    continue;
+                }
+                generator.writeStartObject();
+                generator.writeStringField("dailyTsId", calendar.dailyTsIdAt(i));
+                provider.defaultSerializeField("date", calendar.dateAt(i), generator);
+                writeDayFields(calendar, i, generator, provider);
+                generator.writeStringField("employeeId", calendar.getEmployeeId());
+                generator.writeStringField("employeeName", calendar.getEmployeeName());
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    /**
+     * Writes one entry per day of the range, null where no timesheet exists.
+     * The date is implied by the position in the list.
+     */
+    public static class Days extends StdSerializer<AttendanceCalendar> {
+
+        public Days() {
+            super(AttendanceCalendar.class);
+        }
+
+        @Override
+        public void serialize(AttendanceCalendar calendar, JsonGenerator generator, SerializerProvider provider)
+                throws IOException {
+            generator.writeStartArray();
+            for (int i = 0; i < calendar.size(); i++) {
+                if (!calendar.isRecorded(i)) {
+                    generator.writeNull();
+                    continue;
+                }
+                generator.writeStartObject();
+                generator.writeStringField("dailyTsId", calendar.dailyTsIdAt(i));
+                writeDayFields(calendar, i, generator, provider);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+    }
+
+    private static void writeDayFields(AttendanceCalendar calendar, int i, JsonGenerator generator,
+            SerializerProvider provider) throws IOException {
+        writeStatus("morningStatus", calendar.morningStatusAt(i), generator);
+        writeStatus("afternoonStatus", calendar.afternoonStatusAt(i), generator);
+        writeBoolean("morningWfh", calendar.morningWfhAt(i), generator);
+        writeBoolean("afternoonWfh", calendar.afternoonWfhAt(i), generator);
+        if (calendar.hasWorkCreditAt(i)) {
+            generator.writeNumberField("totalWorkCredit",
+                    (double) calendar.workCreditUnitsAt(i) / AttendanceCalendar.CREDIT_SCALE);
+        } else {
+            generator.writeNullField("totalWorkCredit");
+        }
+        writeTime("checkInTime", calendar.checkInTimeAt(i), generator, provider);
+        writeTime("checkOutTime", calendar.checkOutTimeAt(i), generator, provider);
+        writeInteger("lateMinutes", calendar.lateMinutesAt(i), generator);
+        writeInteger("earlyLeaveMinutes", calendar.earlyLeaveMinutesAt(i), generator);
+        writeInteger("overtimeMinutes", calendar.overtimeMinutesAt(i), generator);
+        writeBoolean("isFinalized", calendar.isFinalizedAt(i), generator);
+    }
+
+    private static void writeStatus(String name, AttendanceStatus status, JsonGenerator generator)
+            throws IOException {
+        generator.writeStringField(name, status != null ? status.name() : null);
+    }
+
+    private static void writeBoolean(String name, Boolean value, JsonGenerator generator) throws IOException {
+        if (value != null) {
+            generator.writeBooleanField(name, value);
+        } else {
+            generator.writeNullField(name);
+        }
+    }
+
+    private static void writeInteger(String name, Integer value, JsonGenerator generator) throws IOException {
+        if (value != null) {
+            generator.writeNumberField(name, value);
+        } else {
+            generator.writeNullField(name);
+        }
+    }
+
+    private static void writeTime(String name, LocalDateTime value, JsonGenerator generator,
+            SerializerProvider provider) throws IOException {
+        if (value != null) {
+            provider.defaultSerializeField(name, value, generator);
+        } else {
+            generator.writeNullField(name);
+        }
+    }
+}
@@ -1,10 +1,13 @@
 package org.pqkkkkk.hr_management_server.modules.timesheet.controller.http.dto;
 
+import com.fasterxml.jackson.databind.annotation.JsonSerialize;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.AttendanceCalendar;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.DailyTimeSheet;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Enums.AttendanceStatus;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -96,27 +99,26 @@ public class DTO {
         String employeeId,
         String employeeName,
         String yearMonth,
-        List<DailyTimeSheetDTO> timesheets,
+        @JsonSerialize(using = AttendanceCalendarSerializers.TimeSheets.class)
+        AttendanceCalendar timesheets,
         TimeSheetStatisticsDTO summary
     ) {
         /**
-         * Create DTO from entity list and statistics
+         * Create DTO from attendance calendar and statistics.
+         * timesheets is written as a list of DailyTimeSheetDTO
          */
         public static MonthlyTimeSheetDTO create(
-            String employeeId,
-            String employeeName,
+            AttendanceCalendar calendar,
             String yearMonth,
-            List<DailyTimeSheet> timesheets,
             Map<String, Object> statistics
         ) {
-            List<DailyTimeSheetDTO> timeSheetDTOs = DailyTimeSheetDTO.fromEntities(timesheets);
             TimeSheetStatisticsDTO summaryDTO = TimeSheetStatisticsDTO.fromMap(statistics);
             
             return new MonthlyTimeSheetDTO(
-                employeeId,
-                employeeName,
+                calendar.getEmployeeId(),
+                calendar.getEmployeeName(),
                 yearMonth,
-                timeSheetDTOs,
+                calendar,
                 summaryDTO
             );
         }
@@ -179,31 +181,60 @@ public class DTO {
         String employeeName,
         LocalDate startDate,
         LocalDate endDate,
-        List<DailyTimeSheetDTO> timesheets,
+        @JsonSerialize(using = AttendanceCalendarSerializers.TimeSheets.class)
+        AttendanceCalendar timesheets,
         TimeSheetStatisticsDTO summary
     ) {
         /**
-         * Create DTO from entity list and statistics
+         * Create DTO from attendance calendar and statistics.
+         * timesheets is written as a list of DailyTimeSheetDTO
          */
         public static DateRangeTimeSheetDTO create(
-            String employeeId,
-            String employeeName,
-            LocalDate startDate,
-            LocalDate endDate,
-            List<DailyTimeSheet> timesheets,
+            AttendanceCalendar calendar,
             Map<String, Object> statistics
         ) {
-            List<DailyTimeSheetDTO> timeSheetDTOs = DailyTimeSheetDTO.fromEntities(timesheets);
             TimeSheetStatisticsDTO summaryDTO = TimeSheetStatisticsDTO.fromMap(statistics);
             
             return new DateRangeTimeSheetDTO(
-                employeeId,
-                employeeName,
-                startDate,
-                endDate,
-                timeSheetDTOs,
+                calendar.getEmployeeId(),
+                calendar.getEmployeeName(),
+                calendar.getStartDate(),
+                calendar.getEndDate(),
+                calendar,
                 summaryDTO
             );
         }
     }
+
+    /**
+     * DTO for one employee in a department or team month view.
+     * days has one entry per day of month (index 0 is day 1), null where no
+     * timesheet exists
+     */
+    public record EmployeeMonthlyTimeSheetDTO(
+        String employeeId,
+        String employeeName,
+        String yearMonth,
+        @JsonSerialize(using = AttendanceCalendarSerializers.Days.class)
+        AttendanceCalendar days
+    ) {
+        /**
+         * Convert Entity to DTO
+         */
+        public static EmployeeMonthlyTimeSheetDTO fromEntity(AttendanceCalendar entity) {
+            return new EmployeeMonthlyTimeSheetDTO(
+                entity.getEmployeeId(),
+                entity.getEmployeeName(),
+                YearMonth.from(entity.getStartDate()).toString(),
+                entity
+            );
+        }
+    }
+
+    /**
+     * DTO for the result of a timesheet export
+     */
+    public record ExportTimeSheetsDTO(
+        String fileUrl
+    ) {}
 }
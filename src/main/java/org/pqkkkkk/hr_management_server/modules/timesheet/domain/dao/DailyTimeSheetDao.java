@@ -1,11 +1,17 @@
 package org.pqkkkkk.hr_management_server.modules.timesheet.domain.dao;
 
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.AttendanceCalendar;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.DailyTimeSheet;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.ExportedTimeSheet;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.filter.FilterCriteria.TimeSheetExportFilter;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.filter.FilterCriteria.TimeSheetFilter;
 
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
 public interface DailyTimeSheetDao {
 
@@ -16,6 +22,18 @@ public interface DailyTimeSheetDao {
 
     void deleteDailyTimeSheet(String dailyTsId);
 
+    List<DailyTimeSheet> saveAllDailyTimeSheets(List<DailyTimeSheet> dailyTimeSheets);
+
+    /**
+     * Insert new timesheets in one batch of
+     * {@code INSERT ... ON CONFLICT DO NOTHING} against the unique
+     * (employee_id, date) index. Inserted timesheets get their generated ID.
+     *
+     * @return the timesheets that were skipped because a row for the same
+     *         employee and date already exists; their ID is left null
+     */
+    List<DailyTimeSheet> insertDailyTimeSheetsIfAbsent(List<DailyTimeSheet> dailyTimeSheets);
+
     // Query operations
     DailyTimeSheet getDailyTimeSheetById(String dailyTsId);
 
@@ -23,6 +41,51 @@ public interface DailyTimeSheetDao {
 
     List<DailyTimeSheet> getTimeSheets(TimeSheetFilter filter);
 
+    List<DailyTimeSheet> getTimeSheetsByEmployeesAndDateRange(
+            Collection<String> employeeIds, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Load the existing timesheets of an employee within a date range with a
+     * row lock held until the transaction ends
+     */
+    List<DailyTimeSheet> getTimeSheetsForUpdate(String employeeId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Load the timesheets of every department employee within a date range,
+     * keyed by employee ID in employee name order. Employees without timesheets
+     * in the range map to an empty list.
+     */
+    Map<String, List<DailyTimeSheet>> getTimeSheetsByDepartmentAndDateRange(
+            String departmentId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Read a month of every department employee in one query and hand each
+     * employee to the consumer as soon as its rows are complete. Must run inside
+     * a transaction.
+     */
+    void streamMonthlyTimeSheetsOfDepartment(
+            String departmentId, YearMonth yearMonth, Consumer<AttendanceCalendar> consumer);
+
+    /**
+     * Same as {@link #streamMonthlyTimeSheetsOfDepartment} for an explicit list of
+     * employees. Unknown employee IDs are skipped.
+     */
+    void streamMonthlyTimeSheetsOfEmployees(
+            Collection<String> employeeIds, YearMonth yearMonth, Consumer<AttendanceCalendar> consumer);
+
+    /**
+     * Read the attendance of one employee within a date range straight into a
+     * packed calendar, without loading entities. Must run inside a transaction.
+     */
+    AttendanceCalendar getAttendanceCalendar(String employeeId, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Read the timesheets selected by an export filter through a forward-only
+     * cursor, ordered by employee and date. Rows are handed to the consumer as they
+     * are fetched and are not kept. Must run inside a transaction.
+     */
+    void streamTimeSheetsForExport(TimeSheetExportFilter filter, Consumer<ExportedTimeSheet> consumer);
+
     // Aggregate operations
     Double sumWorkCreditsByEmployeeAndDateRange(String employeeId, LocalDate startDate, LocalDate endDate);
 
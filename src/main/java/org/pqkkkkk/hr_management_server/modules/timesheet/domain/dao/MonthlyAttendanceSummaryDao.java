@@ -0,0 +1,34 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.domain.dao;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface MonthlyAttendanceSummaryDao {
+
+    // Command operations
+
+    /**
+     * Recompute the summaries of the given employees for one month from their
+     * daily timesheets, in the caller's transaction
+     */
+    void refreshSummaries(Collection<String> employeeIds, LocalDate monthStart);
+
+    /**
+     * Recompute the summaries of every employee for one month
+     *
+     * @return number of summary rows written
+     */
+    int rebuildSummaries(LocalDate monthStart);
+
+    // Query operations
+    Map<String, Object> getAttendanceStatistics(String employeeId, LocalDate monthStart);
+
+    /**
+     * Statistics summed over the months from fromMonth to toMonth (both first days
+     * of a month), one map per employee that has data
+     */
+    List<Map<String, Object>> getBatchAttendanceStatistics(
+            List<String> userIds, LocalDate fromMonth, LocalDate toMonth);
+}
@@ -0,0 +1,328 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read model of one employee's attendance over a date range, used by month,
+ * range and department views instead of DailyTimeSheet entities.
+ * <p>
+ * Each field is packed into a primitive array indexed by day offset from the
+ * start date, so a month costs a few small arrays instead of one entity (with
+ * its employee and department) per day:
+ * <ul>
+ * <li>statuses as bytes, 0 meaning no status</li>
+ * <li>WFH and finalized flags as bit pairs (present, value) in one byte</li>
+ * <li>minutes as shorts, times as nanoseconds from the start of the day</li>
+ * <li>work credit as thousandths, matching the rounding of the credit rules</li>
+ * </ul>
+ * Null values are kept as sentinels, so every day reads back exactly as
+ * stored.
+ */
+public class AttendanceCalendar {
+
+    /**
+     * Work credit is stored as an integer count of 1/CREDIT_SCALE
+     */
+    public static final int CREDIT_SCALE = 1000;
+
+    private static final Enums.AttendanceStatus[] STATUSES = Enums.AttendanceStatus.values();
+
+    private static final byte NO_STATUS = 0;
+    private static final short NO_MINUTES = Short.MIN_VALUE;
+    private static final int NO_CREDIT = Integer.MIN_VALUE;
+    private static final long NO_TIME = Long.MIN_VALUE;
+
+    private static final int MORNING_WFH = 0;
+    private static final int AFTERNOON_WFH = 2;
+    private static final int FINALIZED = 4;
+
+    /**
+     * Attendance of a single day, materialized on demand from the packed arrays
+     */
+    public record Day(
+            String dailyTsId,
+            LocalDate date,
+            Enums.AttendanceStatus morningStatus,
+            Enums.AttendanceStatus afternoonStatus,
+            Boolean morningWfh,
+            Boolean afternoonWfh,
+            Double totalWorkCredit,
+            LocalDateTime checkInTime,
+            LocalDateTime checkOutTime,
+            Integer lateMinutes,
+            Integer earlyLeaveMinutes,
+            Integer overtimeMinutes,
+            Boolean isFinalized) {
+    }
+
+    private final String employeeId;
+    private final String employeeName;
+    private final LocalDate startDate;
+
+    private final String[] dailyTsIds;
+    private final byte[] morningStatuses;
+    private final byte[] afternoonStatuses;
+    private final byte[] flags;
+    private final int[] workCredits;
+    private final long[] checkInTimes;
+    private final long[] checkOutTimes;
+    private final short[] lateMinutes;
+    private final short[] earlyLeaveMinutes;
+    private final short[] overtimeMinutes;
+
+    public AttendanceCalendar(String employeeId, String employeeName, LocalDate startDate, LocalDate endDate) {
+        if (startDate == null || endDate == null || startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must be before or equal to end date");
+        }
+        int size = (int) ChronoUnit.DAYS.between(startDate, endDate) + 1;
+
+        this.employeeId = employeeId;
+        this.employeeName = employeeName;
+        this.startDate = startDate;
+        this.dailyTsIds = new String[size];
+        this.morningStatuses = new byte[size];
+        this.afternoonStatuses = new byte[size];
+        this.flags = new byte[size];
+        this.workCredits = new int[size];
+        this.checkInTimes = new long[size];
+        this.checkOutTimes = new long[size];
+        this.lateMinutes = new short[size];
+        this.earlyLeaveMinutes = new short[size];
+        this.overtimeMinutes = new short[size];
+    }
+
+    public static AttendanceCalendar ofMonth(String employeeId, String employeeName, YearMonth yearMonth) {
+        return new AttendanceCalendar(employeeId, employeeName, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
+
+    /**
+     * Store the timesheet of a date inside the range
+     */
+    public void record(Day day) {
+        int i = indexOf(day.date());
+        dailyTsIds[i] = day.dailyTsId();
+        morningStatuses[i] = packStatus(day.morningStatus());
+        afternoonStatuses[i] = packStatus(day.afternoonStatus());
+        flags[i] = (byte) (packFlag(day.morningWfh(), MORNING_WFH)
+                | packFlag(day.afternoonWfh(), AFTERNOON_WFH)
+                | packFlag(day.isFinalized(), FINALIZED));
+        workCredits[i] = day.totalWorkCredit() != null
+                ? (int) Math.round(day.totalWorkCredit() * CREDIT_SCALE)
+                : NO_CREDIT;
+        checkInTimes[i] = packTime(day.date(), day.checkInTime());
+        checkOutTimes[i] = packTime(day.date(), day.checkOutTime());
+        lateMinutes[i] = packMinutes(day.lateMinutes());
+        earlyLeaveMinutes[i] = packMinutes(day.earlyLeaveMinutes());
+        overtimeMinutes[i] = packMinutes(day.overtimeMinutes());
+    }
+
+    public String getEmployeeId() {
+        return employeeId;
+    }
+
+    public String getEmployeeName() {
+        return employeeName;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return dateAt(size() - 1);
+    }
+
+    /**
+     * Number of days in the range
+     */
+    public int size() {
+        return dailyTsIds.length;
+    }
+
+    public LocalDate dateAt(int index) {
+        return startDate.plusDays(index);
+    }
+
+    public int indexOf(LocalDate date) {
+        long index = ChronoUnit.DAYS.between(startDate, date);
+        if (index < 0 || index >= size()) {
+            throw new IllegalArgumentException("Date " + date + " is outside " + startDate + " - " + getEndDate());
+        }
+        return (int) index;
+    }
+
+    /**
+     * Whether a timesheet exists for the day at the given index
+     */
+    public boolean isRecorded(int index) {
+        return dailyTsIds[index] != null;
+    }
+
+    public String dailyTsIdAt(int index) {
+        return dailyTsIds[index];
+    }
+
+    public Enums.AttendanceStatus morningStatusAt(int index) {
+        return unpackStatus(morningStatuses[index]);
+    }
+
+    public Enums.AttendanceStatus afternoonStatusAt(int index) {
+        return unpackStatus(afternoonStatuses[index]);
+    }
+
+    public Boolean morningWfhAt(int index) {
+        return unpackFlag(flags[index], MORNING_WFH);
+    }
+
+    public Boolean afternoonWfhAt(int index) {
+        return unpackFlag(flags[index], AFTERNOON_WFH);
+    }
+
+    public Boolean isFinalizedAt(int index) {
+        return unpackFlag(flags[index], FINALIZED);
+    }
+
+    public boolean hasWorkCreditAt(int index) {
+        return workCredits[index] != NO_CREDIT;
+    }
+
+    /**
+     * Work credit of the day in 1/{@link #CREDIT_SCALE} units
+     */
+    public int workCreditUnitsAt(int index) {
+        return workCredits[index];
+    }
+
+    public Double totalWorkCreditAt(int index) {
+        return hasWorkCreditAt(index) ? (double) workCredits[index] / CREDIT_SCALE : null;
+    }
+
+    public LocalDateTime checkInTimeAt(int index) {
+        return unpackTime(index, checkInTimes[index]);
+    }
+
+    public LocalDateTime checkOutTimeAt(int index) {
+        return unpackTime(index, checkOutTimes[index]);
+    }
+
+    public Integer lateMinutesAt(int index) {
+        return unpackMinutes(lateMinutes[index]);
+    }
+
+    public Integer earlyLeaveMinutesAt(int index) {
+        return unpackMinutes(earlyLeaveMinutes[index]);
+    }
+
+    public Integer overtimeMinutesAt(int index) {
+        return unpackMinutes(overtimeMinutes[index]);
+    }
+
+    /**
+     * @return the day at the given date, or null if no timesheet exists
+     */
+    public Day getDay(LocalDate date) {
+        return dayAt(indexOf(date));
+    }
+
+    /**
+     * @return the day at the given index, or null if no timesheet exists
+     */
+    public Day dayAt(int index) {
+        if (!isRecorded(index)) {
+            return null;
+        }
+        return new Day(
+                dailyTsIdAt(index),
+                dateAt(index),
+                morningStatusAt(index),
+                afternoonStatusAt(index),
+                morningWfhAt(index),
+                afternoonWfhAt(index),
+                totalWorkCreditAt(index),
+                checkInTimeAt(index),
+                checkOutTimeAt(index),
+                lateMinutesAt(index),
+                earlyLeaveMinutesAt(index),
+                overtimeMinutesAt(index),
+                isFinalizedAt(index));
+    }
+
+    /**
+     * Number of days that have a timesheet
+     */
+    public int getRecordedDayCount() {
+        int count = 0;
+        for (String dailyTsId : dailyTsIds) {
+            if (dailyTsId != null) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    /**
+     * Dates that have a timesheet, in order
+     */
+    public List<LocalDate> getRecordedDates() {
+        List<LocalDate> dates = new ArrayList<>();
+        for (int i = 0; i < dailyTsIds.length; i++) {
+            if (dailyTsIds[i] != null) {
+                dates.add(dateAt(i));
+            }
+        }
+        return dates;
+    }
+
+    // ============= Packing =============
+
+    private static byte packStatus(Enums.AttendanceStatus status) {
+        return status != null ? (byte) (status.ordinal() + 1) : NO_STATUS;
+    }
+
+    private static Enums.AttendanceStatus unpackStatus(byte status) {
+        return status != NO_STATUS ? STATUSES[status - 1] : null;
+    }
+
+    private static int packFlag(Boolean value, int shift) {
+        if (value == null) {
+            return 0;
+        }
+        return (1 | (value ? 2 : 0)) << shift;
+    }
+
+    private static Boolean unpackFlag(byte packed, int shift) {
+        int bits = (packed >> shift) & 3;
+        return (bits & 1) != 0 ? Boolean.valueOf((bits & 2) != 0) : null;
+    }
+
+    private static short packMinutes(Integer minutes) {
+        if (minutes == null) {
+            return NO_MINUTES;
+        }
+        if (minutes <= NO_MINUTES || minutes > Short.MAX_VALUE) {
+            throw new IllegalArgumentException("Minutes out of range: " + minutes);
+        }
+        return minutes.shortValue();
+    }
+
+    private static Integer unpackMinutes(short minutes) {
+        return minutes != NO_MINUTES ? Integer.valueOf(minutes) : null;
+    }
+
+    /**
+     * Times are kept relative to the start of their own day, so a check-out after
+     * midnight is simply more than a day's worth of nanoseconds
+     */
+    private static long packTime(LocalDate date, LocalDateTime time) {
+        return time != null ? ChronoUnit.NANOS.between(date.atStartOfDay(), time) : NO_TIME;
+    }
+
+    private LocalDateTime unpackTime(int index, long nanos) {
+        return nanos != NO_TIME ? dateAt(index).atStartOfDay().plusNanos(nanos) : null;
+    }
+}
@@ -91,6 +91,7 @@ public class Constants {
     public static final String ERROR_NULL_EMPLOYEE_ID = "Employee ID cannot be null";
     public static final String ERROR_NULL_DATE = "Date cannot be null";
     public static final String ERROR_NULL_TIME = "Time cannot be null";
+    public static final String ERROR_INVALID_DATE_RANGE = "Start date must not be after end date";
     
     // Private constructor to prevent instantiation
     private Constants() {
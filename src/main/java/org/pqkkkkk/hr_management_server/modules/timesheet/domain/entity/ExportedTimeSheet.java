@@ -0,0 +1,29 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Enums.AttendanceStatus;
+import org.pqkkkkk.hr_management_server.shared.file.ExportColumn;
+
+/**
+ * One row of the payroll timesheet export: a daily timesheet together with the
+ * employee and department it belongs to. Columns follow the component order.
+ */
+public record ExportedTimeSheet(
+        @ExportColumn(header = "Employee ID") String employeeId,
+        String employeeName,
+        @ExportColumn(header = "Department") String departmentName,
+        LocalDate date,
+        AttendanceStatus morningStatus,
+        AttendanceStatus afternoonStatus,
+        @ExportColumn(header = "Morning WFH") Boolean morningWfh,
+        @ExportColumn(header = "Afternoon WFH") Boolean afternoonWfh,
+        @ExportColumn(header = "Work Credit") Double totalWorkCredit,
+        LocalDateTime checkInTime,
+        LocalDateTime checkOutTime,
+        Integer lateMinutes,
+        Integer earlyLeaveMinutes,
+        Integer overtimeMinutes,
+        @ExportColumn(header = "Finalized") Boolean isFinalized) {
+}
@@ -0,0 +1,63 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.FieldDefaults;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Attendance totals of one employee for one month, maintained alongside the
+ * daily timesheets so statistics do not have to aggregate every day again.
+ */
+@Entity
+@Table(name = "monthly_attendance_summary_table")
+@IdClass(MonthlyAttendanceSummary.SummaryId.class)
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@FieldDefaults(level = AccessLevel.PRIVATE)
+public class MonthlyAttendanceSummary {
+
+    @Id
+    @Column(name = "employee_id")
+    String employeeId;
+
+    /**
+     * First day of the summarized month
+     */
+    @Id
+    @Column(name = "month_start")
+    LocalDate monthStart;
+
+    @Column(name = "total_days", nullable = false)
+    Long totalDays;
+
+    @Column(name = "morning_present", nullable = false)
+    Long morningPresent;
+
+    @Column(name = "afternoon_present", nullable = false)
+    Long afternoonPresent;
+
+    @Column(name = "late_days", nullable = false)
+    Long lateDays;
+
+    @Column(name = "total_late_minutes", nullable = false)
+    Long totalLateMinutes;
+
+    @Column(name = "total_overtime_minutes", nullable = false)
+    Long totalOvertimeMinutes;
+
+    @Column(name = "total_work_credit", nullable = false)
+    Double totalWorkCredit;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class SummaryId implements Serializable {
+        private String employeeId;
+        private LocalDate monthStart;
+    }
+}
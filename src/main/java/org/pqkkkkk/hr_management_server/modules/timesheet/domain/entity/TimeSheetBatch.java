@@ -0,0 +1,72 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * In-memory working set of daily timesheets used when many requests are
+ * approved at once.
+ * <p>
+ * The batch is filled with one range query for a set of employees, approval
+ * rules are applied against the cached rows, and only the rows that were
+ * actually changed are written back in a single batch.
+ */
+public class TimeSheetBatch {
+
+    private record TimeSheetKey(String employeeId, LocalDate date) {
+    }
+
+    private final Set<String> employeeIds;
+    private final LocalDate fromDate;
+    private final LocalDate toDate;
+    private final Map<TimeSheetKey, DailyTimeSheet> timeSheets = new HashMap<>();
+    private final Map<TimeSheetKey, DailyTimeSheet> changedTimeSheets = new LinkedHashMap<>();
+
+    public TimeSheetBatch(Collection<String> employeeIds, LocalDate fromDate, LocalDate toDate,
+            List<DailyTimeSheet> loadedTimeSheets) {
+        this.employeeIds = new HashSet<>(employeeIds);
+        this.fromDate = fromDate;
+        this.toDate = toDate;
+        for (DailyTimeSheet timeSheet : loadedTimeSheets) {
+            timeSheets.put(new TimeSheetKey(timeSheet.getEmployee().getUserId(), timeSheet.getDate()), timeSheet);
+        }
+    }
+
+    /**
+     * Whether the given employee and date fall inside the preloaded window. A
+     * missing timesheet inside the window means no row exists in the database.
+     */
+    public boolean isLoaded(String employeeId, LocalDate date) {
+        return employeeIds.contains(employeeId)
+                && fromDate != null && toDate != null
+                && !date.isBefore(fromDate) && !date.isAfter(toDate);
+    }
+
+    public DailyTimeSheet get(String employeeId, LocalDate date) {
+        return timeSheets.get(new TimeSheetKey(employeeId, date));
+    }
+
+    public void put(DailyTimeSheet timeSheet) {
+        timeSheets.put(new TimeSheetKey(timeSheet.getEmployee().getUserId(), timeSheet.getDate()), timeSheet);
+    }
+
+    public void markChanged(DailyTimeSheet timeSheet) {
+        TimeSheetKey key = new TimeSheetKey(timeSheet.getEmployee().getUserId(), timeSheet.getDate());
+        timeSheets.put(key, timeSheet);
+        changedTimeSheets.put(key, timeSheet);
+    }
+
+    public List<DailyTimeSheet> getChangedTimeSheets() {
+        return List.copyOf(changedTimeSheets.values());
+    }
+
+    public void clearChanges() {
+        changedTimeSheets.clear();
+    }
+}
@@ -1,5 +1,8 @@
 package org.pqkkkkk.hr_management_server.modules.timesheet.domain.filter;
 
+import java.time.LocalDate;
+import java.util.List;
+
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Enums.TimeSheetSortingField;
 import org.pqkkkkk.hr_management_server.shared.Constants;
 
@@ -26,4 +29,20 @@ public class FilterCriteria {
             sortDirection = (sortDirection == null || sortDirection.isBlank()) ? Constants.DEFAULT_SORT_DIRECTION : sortDirection;
         }
     }
+
+    /**
+     * Rows selected by the payroll export. departmentId and employeeIds are
+     * optional and combine with AND; without them every employee is exported.
+     */
+    public record TimeSheetExportFilter(
+        LocalDate startDate,
+        LocalDate endDate,
+        String departmentId,
+        List<String> employeeIds
+    ) {
+        public TimeSheetExportFilter {
+            departmentId = (departmentId == null || departmentId.isBlank()) ? null : departmentId;
+            employeeIds = employeeIds == null ? List.of() : List.copyOf(employeeIds);
+        }
+    }
 }
@@ -4,9 +4,12 @@ import org.pqkkkkk.hr_management_server.modules.request.domain.entity.LeaveDate;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.WfhDate;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.DailyTimeSheet;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Enums.AttendanceStatus;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.TimeSheetBatch;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -174,4 +177,81 @@ public interface TimeSheetCommandService {
             AttendanceStatus newAfternoonStatus,
             Boolean newMorningWfh,
             Boolean newAfternoonWfh);
+
+    // ===== Batch operations (bulk approval) =====
+
+    /**
+     * Preloads every existing timesheet of the given employees within the date
+     * range using a single query.
+     * <p>
+     * The returned batch is then passed to the apply* methods, which check the
+     * same rules as the handle* methods but against the cached rows, and finally
+     * to {@link #flushBatch(TimeSheetBatch)} which writes all changed rows at
+     * once. Lookups outside the preloaded window fall back to a single query.
+     * </p>
+     *
+     * @param employeeIds Employees whose timesheets should be loaded
+     * @param fromDate    First date of the window (inclusive)
+     * @param toDate      Last date of the window (inclusive)
+     * @return Batch holding the loaded timesheets
+     * @throws IllegalArgumentException if fromDate is after toDate
+     */
+    TimeSheetBatch loadBatch(Collection<String> employeeIds, LocalDate fromDate, LocalDate toDate);
+
+    /**
+     * Batch variant of {@link #handleCheckInApproval(String, LocalDateTime)}.
+     * Nothing is changed in the batch when validation fails.
+     */
+    void applyCheckInApproval(TimeSheetBatch batch, String employeeId, LocalDateTime checkInTime);
+
+    /**
+     * Batch variant of {@link #handleCheckOutApproval(String, LocalDateTime)}.
+     * Nothing is changed in the batch when validation fails.
+     */
+    void applyCheckOutApproval(TimeSheetBatch batch, String employeeId, LocalDateTime checkOutTime);
+
+    /**
+     * Batch variant of {@link #handleLeaveApproval(String, List)}. All dates are
+     * validated before any of them is applied.
+     */
+    void applyLeaveApproval(TimeSheetBatch batch, String employeeId, List<LeaveDate> leaveDates);
+
+    /**
+     * Batch variant of {@link #handleWfhApproval(String, List)}. All dates are
+     * validated before any of them is applied.
+     */
+    void applyWfhApproval(TimeSheetBatch batch, String employeeId, List<WfhDate> wfhDates);
+
+    /**
+     * Batch variant of the extended handleTimesheetUpdateApproval.
+     * Nothing is changed in the batch when validation fails.
+     */
+    void applyTimesheetUpdateApproval(
+            TimeSheetBatch batch,
+            String employeeId,
+            LocalDate targetDate,
+            LocalDateTime newCheckInTime,
+            LocalDateTime newCheckOutTime,
+            AttendanceStatus newMorningStatus,
+            AttendanceStatus newAfternoonStatus,
+            Boolean newMorningWfh,
+            Boolean newAfternoonWfh);
+
+    /**
+     * Writes every timesheet changed in the batch with one batched save.
+     *
+     * @param batch Batch previously returned by loadBatch
+     * @return Saved timesheets (empty if nothing changed)
+     */
+    List<DailyTimeSheet> flushBatch(TimeSheetBatch batch);
+
+    /**
+     * Rebuilds the monthly attendance summaries of every employee from the daily
+     * timesheets, one month at a time. Used to backfill or repair the summaries.
+     *
+     * @param fromMonth First month to rebuild (inclusive)
+     * @param toMonth   Last month to rebuild (inclusive)
+     * @return Number of summary rows written
+     */
+    int rebuildMonthlyAttendanceSummaries(YearMonth fromMonth, YearMonth toMonth);
 }
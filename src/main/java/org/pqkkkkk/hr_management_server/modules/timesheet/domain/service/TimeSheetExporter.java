@@ -0,0 +1,23 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.domain.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.function.Consumer;
+
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.ExportedTimeSheet;
+import org.pqkkkkk.hr_management_server.shared.Constants.SupportedFileFormat;
+
+/**
+ * Writes exported timesheet rows to a file format while they are read, so the
+ * export never holds more than a bounded window of rows in memory
+ */
+public interface TimeSheetExporter {
+
+    SupportedFileFormat getFileFormat();
+
+    /**
+     * @param source       Pushes every row to the given consumer, in order
+     * @param outputStream Destination of the file, not closed by the exporter
+     */
+    void export(Consumer<Consumer<ExportedTimeSheet>> source, OutputStream outputStream) throws IOException;
+}
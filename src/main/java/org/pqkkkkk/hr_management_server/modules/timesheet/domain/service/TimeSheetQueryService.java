@@ -4,8 +4,12 @@ import java.time.LocalDate;
 import java.time.YearMonth;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Consumer;
 
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.AttendanceCalendar;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.DailyTimeSheet;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.filter.FilterCriteria.TimeSheetExportFilter;
+import org.pqkkkkk.hr_management_server.shared.Constants.SupportedFileFormat;
 
 /**
  * Query Service for Timesheet operations
@@ -46,6 +50,18 @@ public interface TimeSheetQueryService {
      */
     List<DailyTimeSheet> getTimeSheetsOfEmployeeByDateRange(String employeeId, LocalDate startDate, LocalDate endDate);
 
+    /**
+     * Get the attendance of an employee within a date range as a packed calendar.
+     * Used by month and range views, which only need the day values and not the
+     * entities with their employee and department.
+     * 
+     * @param employeeId Employee ID
+     * @param startDate  Start date (inclusive)
+     * @param endDate    End date (inclusive)
+     * @return AttendanceCalendar covering the whole range, empty days included
+     */
+    AttendanceCalendar getAttendanceCalendar(String employeeId, LocalDate startDate, LocalDate endDate);
+
     /**
      * Get all timesheets for multiple employees in a specific month
      * Used by HR/Manager to view timesheets of their team
@@ -66,6 +82,31 @@ public interface TimeSheetQueryService {
      */
     Map<String, List<DailyTimeSheet>> getMonthlyTimeSheetsOfDepartment(String departmentId, YearMonth yearMonth);
 
+    /**
+     * Stream the month of every employee in a department, one employee at a time.
+     * All rows are read with a single query and each employee is handed to the
+     * consumer as soon as its days are complete, so large departments are never
+     * held in memory at once. Employees without timesheets are included with an
+     * empty month.
+     * 
+     * @param departmentId Department ID
+     * @param yearMonth    Year and month
+     * @param consumer     Receives one calendar month per employee, ordered by name
+     */
+    void streamMonthlyTimeSheetsOfDepartment(String departmentId, YearMonth yearMonth,
+            Consumer<AttendanceCalendar> consumer);
+
+    /**
+     * Stream the month of several employees, one employee at a time, with a single
+     * query. Unknown employee IDs are skipped.
+     * 
+     * @param employeeIds List of employee IDs
+     * @param yearMonth   Year and month
+     * @param consumer    Receives one calendar month per employee, ordered by name
+     */
+    void streamMonthlyTimeSheetsOfEmployees(List<String> employeeIds, YearMonth yearMonth,
+            Consumer<AttendanceCalendar> consumer);
+
     /**
      * Get timesheet for a specific employee on a specific date
      * Used for checking if timesheet exists for today before creating new one
@@ -109,4 +150,16 @@ public interface TimeSheetQueryService {
      */
     List<Map<String, Object>> getBatchAttendanceStatistics(
             List<String> userIds, LocalDate startDate, LocalDate endDate);
+
+    /**
+     * Export the timesheets selected by the filter for payroll.
+     * Rows are streamed from the database through the file writer into storage,
+     * so memory use does not grow with the number of employees.
+     * 
+     * @param filter     Date range (max 366 days) and optional department and
+     *                   employee IDs
+     * @param fileFormat CSV or EXCEL
+     * @return URL of the stored file
+     */
+    String exportTimeSheets(TimeSheetExportFilter filter, SupportedFileFormat fileFormat);
 }
@@ -25,6 +25,12 @@ public interface TimeSheetValidationService {
      */
     void validateCheckInApproval(String employeeId, LocalDateTime checkInTime);
 
+    /**
+     * Same rules as {@link #validateCheckInApproval(String, LocalDateTime)}, but
+     * checked against an already loaded timesheet (null if none exists).
+     */
+    void validateCheckInOnTimeSheet(DailyTimeSheet existing, LocalDateTime checkInTime);
+
     /**
      * Validates check-out approval.
      * - Throws if no existing check-in for the date
@@ -33,6 +39,12 @@ public interface TimeSheetValidationService {
      */
     void validateCheckOutApproval(String employeeId, LocalDateTime checkOutTime);
 
+    /**
+     * Same rules as {@link #validateCheckOutApproval(String, LocalDateTime)}, but
+     * checked against an already loaded timesheet (null if none exists).
+     */
+    void validateCheckOutOnTimeSheet(DailyTimeSheet existing, LocalDateTime checkOutTime);
+
     // ===== Leave/WFH validations =====
 
     /**
@@ -41,12 +53,24 @@ public interface TimeSheetValidationService {
      */
     void validateLeaveApproval(String employeeId, List<LeaveDate> leaveDates);
 
+    /**
+     * Validates a single leave date against an already loaded timesheet (null if
+     * none exists).
+     */
+    void validateLeaveDateOnTimeSheet(DailyTimeSheet existing, LeaveDate leaveDate);
+
     /**
      * Validates WFH approval for given dates.
      * - Throws if any shift has conflict with existing status
      */
     void validateWfhApproval(String employeeId, List<WfhDate> wfhDates);
 
+    /**
+     * Validates a single WFH date against an already loaded timesheet (null if
+     * none exists).
+     */
+    void validateWfhDateOnTimeSheet(DailyTimeSheet existing, WfhDate wfhDate);
+
     // ===== Timesheet update validation =====
 
     /**
@@ -60,6 +84,15 @@ public interface TimeSheetValidationService {
             AttendanceStatus desiredMorningStatus, AttendanceStatus desiredAfternoonStatus,
             Boolean desiredMorningWfh, Boolean desiredAfternoonWfh);
 
+    /**
+     * Same rules as validateTimesheetUpdateApproval, but checked against an
+     * already loaded timesheet (null if none exists).
+     */
+    void validateTimesheetUpdateOnTimeSheet(DailyTimeSheet existing, LocalDate targetDate,
+            LocalDateTime desiredCheckIn, LocalDateTime desiredCheckOut,
+            AttendanceStatus desiredMorningStatus, AttendanceStatus desiredAfternoonStatus,
+            Boolean desiredMorningWfh, Boolean desiredAfternoonWfh);
+
     // ===== Utility methods =====
 
     /**
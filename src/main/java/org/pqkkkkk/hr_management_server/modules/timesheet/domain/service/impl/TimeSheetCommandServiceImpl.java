@@ -6,9 +6,11 @@ import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.Shif
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.LeaveDate;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.WfhDate;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.dao.DailyTimeSheetDao;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.dao.MonthlyAttendanceSummaryDao;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Constants;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.DailyTimeSheet;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Enums.AttendanceStatus;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.TimeSheetBatch;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetCommandService;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetValidationService;
 import org.springframework.stereotype.Service;
@@ -18,8 +20,16 @@ import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.time.YearMonth;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Consumer;
 
 /**
  * Implementation of TimeSheetCommandService.
@@ -30,17 +40,26 @@ import java.util.List;
 @Transactional
 public class TimeSheetCommandServiceImpl implements TimeSheetCommandService {
 
+    /**
+     * Attempts of a multi-date approval before giving up on rows that concurrent
+     * approvals keep creating first
+     */
+    private static final int MAX_WRITE_ATTEMPTS = 2;
+
     private final DailyTimeSheetDao dailyTimeSheetDao;
     private final ProfileQueryService profileQueryService;
     private final TimeSheetValidationService validationService;
+    private final MonthlyAttendanceSummaryDao monthlySummaryDao;
 
     public TimeSheetCommandServiceImpl(
             DailyTimeSheetDao dailyTimeSheetDao,
             ProfileQueryService profileQueryService,
-            TimeSheetValidationService validationService) {
+            TimeSheetValidationService validationService,
+            MonthlyAttendanceSummaryDao monthlySummaryDao) {
         this.dailyTimeSheetDao = dailyTimeSheetDao;
         this.profileQueryService = profileQueryService;
         this.validationService = validationService;
+        this.monthlySummaryDao = monthlySummaryDao;
     }
 
     @Override
@@ -62,20 +81,10 @@ public class TimeSheetCommandServiceImpl implements TimeSheetCommandService {
         // Get or create timesheet for the date
         DailyTimeSheet timeSheet = getOrCreateTimeSheet(employeeId, checkInDate);
 
-        // Set check-in time
-        timeSheet.setCheckInTime(checkInTime);
-
-        // Update morning status if check-in is in the morning
-        if (isMorningTime(checkInTime)) {
-            timeSheet.setMorningStatus(AttendanceStatus.PRESENT);
-        }
-
-        // Calculate and set late minutes
-        int lateMinutes = calculateLateMinutes(checkInTime);
-        timeSheet.setLateMinutes(lateMinutes);
+        applyCheckIn(timeSheet, checkInTime);
 
         // Save and return
-        return dailyTimeSheetDao.updateDailyTimeSheet(timeSheet);
+        return saveTimeSheet(timeSheet);
     }
 
     @Override
@@ -99,28 +108,10 @@ public class TimeSheetCommandServiceImpl implements TimeSheetCommandService {
                 employeeId,
                 checkOutDate);
 
-        // Set check-out time
-        timeSheet.setCheckOutTime(checkOutTime);
-
-        // Update afternoon status if check-out is in the afternoon
-        if (isAfternoonTime(checkOutTime)) {
-            timeSheet.setAfternoonStatus(AttendanceStatus.PRESENT);
-        }
-
-        // Calculate and set early leave minutes
-        int earlyLeaveMinutes = calculateEarlyLeaveMinutes(checkOutTime);
-        timeSheet.setEarlyLeaveMinutes(earlyLeaveMinutes);
-
-        // Calculate and set overtime minutes
-        int overtimeMinutes = calculateOvertimeMinutes(checkOutTime);
-        timeSheet.setOvertimeMinutes(overtimeMinutes);
-
-        // Calculate and set total work credit based on actual working hours
-        double workCredit = calculateWorkCredit(timeSheet.getCheckInTime(), checkOutTime);
-        timeSheet.setTotalWorkCredit(workCredit);
+        applyCheckOut(timeSheet, checkOutTime);
 
         // Save and return
-        return dailyTimeSheetDao.updateDailyTimeSheet(timeSheet);
+        return saveTimeSheet(timeSheet);
     }
 
     @Override
@@ -133,64 +124,16 @@ public class TimeSheetCommandServiceImpl implements TimeSheetCommandService {
         // Validate employee exists
         validateAndGetEmployee(employeeId);
 
-        // Validate leave approval (conflict checks)
-        validationService.validateLeaveApproval(employeeId, leaveDates);
-
-        List<DailyTimeSheet> timeSheets = new ArrayList<>();
-
-        // Process each leave date
+        List<LocalDate> dates = new ArrayList<>(leaveDates.size());
         for (LeaveDate leaveDate : leaveDates) {
             if (leaveDate.getDate() == null) {
                 throw new IllegalArgumentException(Constants.ERROR_NULL_DATE);
             }
-
-            DailyTimeSheet timeSheet = getOrCreateTimeSheet(employeeId, leaveDate.getDate());
-            ShiftType shift = leaveDate.getShift();
-
-            if (shift == ShiftType.FULL_DAY) {
-                // Full day leave - clear everything
-                timeSheet.setMorningStatus(AttendanceStatus.LEAVE);
-                timeSheet.setAfternoonStatus(AttendanceStatus.LEAVE);
-                timeSheet.setTotalWorkCredit(Constants.ZERO_WORK_CREDIT);
-                timeSheet.setCheckInTime(null);
-                timeSheet.setCheckOutTime(null);
-                timeSheet.setLateMinutes(0);
-                timeSheet.setEarlyLeaveMinutes(0);
-                timeSheet.setOvertimeMinutes(0);
-            } else if (shift == ShiftType.MORNING) {
-                // Morning leave - preserve afternoon data
-                timeSheet.setMorningStatus(AttendanceStatus.LEAVE);
-                // Clear morning check-in only if no afternoon work
-                if (timeSheet.getAfternoonStatus() != AttendanceStatus.PRESENT) {
-                    timeSheet.setCheckInTime(null);
-                }
-                // Recalculate work credit based on afternoon status
-                if (timeSheet.getAfternoonStatus() == AttendanceStatus.PRESENT) {
-                    timeSheet.setTotalWorkCredit(Constants.HALF_DAY_WORK_CREDIT);
-                } else {
-                    timeSheet.setTotalWorkCredit(Constants.ZERO_WORK_CREDIT);
-                }
-                timeSheet.setLateMinutes(0); // No late for morning leave
-            } else if (shift == ShiftType.AFTERNOON) {
-                // Afternoon leave - preserve morning data
-                timeSheet.setAfternoonStatus(AttendanceStatus.LEAVE);
-                // Clear checkout only, preserve check-in
-                timeSheet.setCheckOutTime(null);
-                // Recalculate work credit based on morning status
-                if (timeSheet.getMorningStatus() == AttendanceStatus.PRESENT) {
-                    timeSheet.setTotalWorkCredit(Constants.HALF_DAY_WORK_CREDIT);
-                } else {
-                    timeSheet.setTotalWorkCredit(Constants.ZERO_WORK_CREDIT);
-                }
-                timeSheet.setEarlyLeaveMinutes(0); // No early leave tracking
-                timeSheet.setOvertimeMinutes(0);
-            }
-
-            DailyTimeSheet savedTimeSheet = dailyTimeSheetDao.updateDailyTimeSheet(timeSheet);
-            timeSheets.add(savedTimeSheet);
+            dates.add(leaveDate.getDate());
         }
 
-        return timeSheets;
+        // Conflict checks run in memory against the locked rows of the date range
+        return approveDates(employeeId, dates, batch -> applyLeaveApproval(batch, employeeId, leaveDates));
     }
 
     @Override
@@ -203,70 +146,16 @@ public class TimeSheetCommandServiceImpl implements TimeSheetCommandService {
         // Validate employee exists
         validateAndGetEmployee(employeeId);
 
-        // Validate WFH approval (conflict checks)
-        validationService.validateWfhApproval(employeeId, wfhDates);
-
-        List<DailyTimeSheet> timeSheets = new ArrayList<>();
-
-        // Process each WFH date
+        List<LocalDate> dates = new ArrayList<>(wfhDates.size());
         for (WfhDate wfhDate : wfhDates) {
             if (wfhDate.getDate() == null) {
                 throw new IllegalArgumentException(Constants.ERROR_NULL_DATE);
             }
-
-            // Get or create timesheet for the date (pass userId only to avoid circular
-            // reference)
-            DailyTimeSheet timeSheet = getOrCreateTimeSheet(employeeId, wfhDate.getDate());
-
-            // Set WFH flags and attendance status based on shift type
-            ShiftType shift = wfhDate.getShift();
-            if (shift == ShiftType.FULL_DAY) {
-                timeSheet.setMorningWfh(true);
-                timeSheet.setAfternoonWfh(true);
-                timeSheet.setMorningStatus(AttendanceStatus.PRESENT);
-                timeSheet.setAfternoonStatus(AttendanceStatus.PRESENT);
-                timeSheet.setTotalWorkCredit(Constants.FULL_DAY_WORK_CREDIT);
-            } else if (shift == ShiftType.MORNING) {
-                timeSheet.setMorningWfh(true);
-                timeSheet.setMorningStatus(AttendanceStatus.PRESENT);
-                // If afternoon is not set, use half day credit; otherwise keep existing
-                if (timeSheet.getAfternoonStatus() == null) {
-                    timeSheet.setTotalWorkCredit(Constants.HALF_DAY_WORK_CREDIT);
-                } else {
-                    // Combine with afternoon (if already present or WFH)
-                    timeSheet.setTotalWorkCredit(
-                            Constants.HALF_DAY_WORK_CREDIT +
-                                    (timeSheet.getAfternoonStatus() == AttendanceStatus.PRESENT
-                                            ? Constants.HALF_DAY_WORK_CREDIT
-                                            : 0.0));
-                }
-            } else if (shift == ShiftType.AFTERNOON) {
-                timeSheet.setAfternoonWfh(true);
-                timeSheet.setAfternoonStatus(AttendanceStatus.PRESENT);
-                // If morning is not set, use half day credit; otherwise keep existing
-                if (timeSheet.getMorningStatus() == null) {
-                    timeSheet.setTotalWorkCredit(Constants.HALF_DAY_WORK_CREDIT);
-                } else {
-                    // Combine with morning (if already present or WFH)
-                    timeSheet.setTotalWorkCredit(
-                            (timeSheet.getMorningStatus() == AttendanceStatus.PRESENT ? Constants.HALF_DAY_WORK_CREDIT
-                                    : 0.0) +
-                                    Constants.HALF_DAY_WORK_CREDIT);
-                }
-            }
-
-            // WFH doesn't require check-in/out times, but keep if already exists
-            // Reset time-based metrics for WFH days
-            timeSheet.setLateMinutes(0);
-            timeSheet.setEarlyLeaveMinutes(0);
-            timeSheet.setOvertimeMinutes(0);
-
-            // Save timesheet
-            DailyTimeSheet savedTimeSheet = dailyTimeSheetDao.updateDailyTimeSheet(timeSheet);
-            timeSheets.add(savedTimeSheet);
+            dates.add(wfhDate.getDate());
         }
 
-        return timeSheets;
+        // Conflict checks run in memory against the locked rows of the date range
+        return approveDates(employeeId, dates, batch -> applyWfhApproval(batch, employeeId, wfhDates));
     }
 
     @Override
@@ -355,7 +244,7 @@ public class TimeSheetCommandServiceImpl implements TimeSheetCommandService {
         timeSheet.setAfternoonWfh(false);
 
         // Save and return
-        return dailyTimeSheetDao.updateDailyTimeSheet(timeSheet);
+        return saveTimeSheet(timeSheet);
     }
 
     @Override
@@ -386,46 +275,463 @@ public class TimeSheetCommandServiceImpl implements TimeSheetCommandService {
         DailyTimeSheet timeSheet = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(
                 employeeId, targetDate);
 
+        applyTimesheetUpdate(timeSheet, newCheckInTime, newCheckOutTime,
+                newMorningStatus, newAfternoonStatus, newMorningWfh, newAfternoonWfh);
+
+        // Save and return
+        return saveTimeSheet(timeSheet);
+    }
+
+    // ============= Batch Operations =============
+    //
+    // The apply* methods only change the in-memory batch and write nothing, so a
+    // rejected approval must not mark the caller's transaction rollback-only: a
+    // bulk approval reports it and still commits the other requests.
+
+    @Override
+    public TimeSheetBatch loadBatch(Collection<String> employeeIds, LocalDate fromDate, LocalDate toDate) {
+        if (employeeIds == null || employeeIds.isEmpty() || fromDate == null || toDate == null) {
+            return new TimeSheetBatch(List.of(), null, null, List.of());
+        }
+        if (fromDate.isAfter(toDate)) {
+            throw new IllegalArgumentException(Constants.ERROR_INVALID_DATE_RANGE);
+        }
+
+        List<DailyTimeSheet> existing = dailyTimeSheetDao.getTimeSheetsByEmployeesAndDateRange(
+                employeeIds, fromDate, toDate);
+        return new TimeSheetBatch(employeeIds, fromDate, toDate, existing);
+    }
+
+    @Override
+    @Transactional(noRollbackFor = RuntimeException.class)
+    public void applyCheckInApproval(TimeSheetBatch batch, String employeeId, LocalDateTime checkInTime) {
+        if (checkInTime == null) {
+            throw new IllegalArgumentException(Constants.ERROR_NULL_TIME);
+        }
+        requireEmployeeId(employeeId);
+
+        LocalDate checkInDate = checkInTime.toLocalDate();
+        DailyTimeSheet existing = findInBatch(batch, employeeId, checkInDate);
+        validationService.validateCheckInOnTimeSheet(existing, checkInTime);
+
+        DailyTimeSheet timeSheet = existing != null ? existing : newTimeSheet(employeeId, checkInDate);
+        applyCheckIn(timeSheet, checkInTime);
+        batch.markChanged(timeSheet);
+    }
+
+    @Override
+    @Transactional(noRollbackFor = RuntimeException.class)
+    public void applyCheckOutApproval(TimeSheetBatch batch, String employeeId, LocalDateTime checkOutTime) {
+        if (checkOutTime == null) {
+            throw new IllegalArgumentException(Constants.ERROR_NULL_TIME);
+        }
+        requireEmployeeId(employeeId);
+
+        DailyTimeSheet existing = findInBatch(batch, employeeId, checkOutTime.toLocalDate());
+        validationService.validateCheckOutOnTimeSheet(existing, checkOutTime);
+
+        applyCheckOut(existing, checkOutTime);
+        batch.markChanged(existing);
+    }
+
+    @Override
+    @Transactional(noRollbackFor = RuntimeException.class)
+    public void applyLeaveApproval(TimeSheetBatch batch, String employeeId, List<LeaveDate> leaveDates) {
+        if (leaveDates == null || leaveDates.isEmpty()) {
+            throw new IllegalArgumentException("Leave dates cannot be null or empty");
+        }
+        requireEmployeeId(employeeId);
+
+        // Validate every date before touching any row so a failure leaves the batch
+        // unchanged
+        for (LeaveDate leaveDate : leaveDates) {
+            if (leaveDate.getDate() == null) {
+                throw new IllegalArgumentException(Constants.ERROR_NULL_DATE);
+            }
+            validationService.validateLeaveDateOnTimeSheet(
+                    findInBatch(batch, employeeId, leaveDate.getDate()), leaveDate);
+        }
+
+        for (LeaveDate leaveDate : leaveDates) {
+            DailyTimeSheet existing = findInBatch(batch, employeeId, leaveDate.getDate());
+            DailyTimeSheet timeSheet = existing != null ? existing : newTimeSheet(employeeId, leaveDate.getDate());
+            applyLeave(timeSheet, leaveDate.getShift());
+            batch.markChanged(timeSheet);
+        }
+    }
+
+    @Override
+    @Transactional(noRollbackFor = RuntimeException.class)
+    public void applyWfhApproval(TimeSheetBatch batch, String employeeId, List<WfhDate> wfhDates) {
+        if (wfhDates == null || wfhDates.isEmpty()) {
+            throw new IllegalArgumentException("WFH dates cannot be null or empty");
+        }
+        requireEmployeeId(employeeId);
+
+        // Validate every date before touching any row so a failure leaves the batch
+        // unchanged
+        for (WfhDate wfhDate : wfhDates) {
+            if (wfhDate.getDate() == null) {
+                throw new IllegalArgumentException(Constants.ERROR_NULL_DATE);
+            }
+            validationService.validateWfhDateOnTimeSheet(
+                    findInBatch(batch, employeeId, wfhDate.getDate()), wfhDate);
+        }
+
+        for (WfhDate wfhDate : wfhDates) {
+            DailyTimeSheet existing = findInBatch(batch, employeeId, wfhDate.getDate());
+            DailyTimeSheet timeSheet = existing != null ? existing : newTimeSheet(employeeId, wfhDate.getDate());
+            applyWfh(timeSheet, wfhDate.getShift());
+            batch.markChanged(timeSheet);
+        }
+    }
+
+    @Override
+    @Transactional(noRollbackFor = RuntimeException.class)
+    public void applyTimesheetUpdateApproval(
+            TimeSheetBatch batch,
+            String employeeId,
+            LocalDate targetDate,
+            LocalDateTime newCheckInTime,
+            LocalDateTime newCheckOutTime,
+            AttendanceStatus newMorningStatus,
+            AttendanceStatus newAfternoonStatus,
+            Boolean newMorningWfh,
+            Boolean newAfternoonWfh) {
+        if (targetDate == null) {
+            throw new IllegalArgumentException(Constants.ERROR_NULL_DATE);
+        }
+        requireEmployeeId(employeeId);
+
+        DailyTimeSheet existing = findInBatch(batch, employeeId, targetDate);
+        validationService.validateTimesheetUpdateOnTimeSheet(existing, targetDate,
+                newCheckInTime, newCheckOutTime,
+                newMorningStatus, newAfternoonStatus, newMorningWfh, newAfternoonWfh);
+
+        applyTimesheetUpdate(existing, newCheckInTime, newCheckOutTime,
+                newMorningStatus, newAfternoonStatus, newMorningWfh, newAfternoonWfh);
+        batch.markChanged(existing);
+    }
+
+    @Override
+    public List<DailyTimeSheet> flushBatch(TimeSheetBatch batch) {
+        List<DailyTimeSheet> changed = batch.getChangedTimeSheets();
+        if (changed.isEmpty()) {
+            return List.of();
+        }
+
+        List<DailyTimeSheet> skipped = writeTimeSheets(changed);
+        if (!skipped.isEmpty()) {
+            // The rules that produced these rows are not kept, so they cannot be
+            // re-applied on top of the row another approval created
+            DailyTimeSheet first = skipped.get(0);
+            throw new IllegalStateException("Timesheet of employee " + first.getEmployee().getUserId()
+                    + " on " + first.getDate() + " was created by a concurrent approval");
+        }
+
+        batch.clearChanges();
+        refreshMonthlySummaries(changed);
+        return changed;
+    }
+
+    @Override
+    public int rebuildMonthlyAttendanceSummaries(YearMonth fromMonth, YearMonth toMonth) {
+        if (fromMonth == null || toMonth == null) {
+            throw new IllegalArgumentException("From month and to month must not be null");
+        }
+        if (fromMonth.isAfter(toMonth)) {
+            throw new IllegalArgumentException(Constants.ERROR_INVALID_DATE_RANGE);
+        }
+
+        int written = 0;
+        for (YearMonth month = fromMonth; !month.isAfter(toMonth); month = month.plusMonths(1)) {
+            written += monthlySummaryDao.rebuildSummaries(month.atDay(1));
+        }
+        return written;
+    }
+
+    private DailyTimeSheet saveTimeSheet(DailyTimeSheet timeSheet) {
+        DailyTimeSheet saved = dailyTimeSheetDao.updateDailyTimeSheet(timeSheet);
+        refreshMonthlySummaries(List.of(saved));
+        return saved;
+    }
+
+    /**
+     * Applies a multi-date approval for one employee with a fixed number of
+     * statements, whatever the number of dates: the existing rows of the date
+     * range are locked and loaded in one query, the rules are validated and
+     * applied in memory, changed rows are updated in one batch and new rows are
+     * inserted in one {@code INSERT ... ON CONFLICT DO NOTHING} batch.
+     * <p>
+     * A new row can still lose the race against a concurrent approval that
+     * creates the same (employee, date). The range is then reloaded, now
+     * including that row, and the rules are applied again. Leave and WFH rules
+     * are idempotent, so rows already written in the first pass are unaffected.
+     */
+    private List<DailyTimeSheet> approveDates(String employeeId, List<LocalDate> dates,
+            Consumer<TimeSheetBatch> rules) {
+        LocalDate fromDate = Collections.min(dates);
+        LocalDate toDate = Collections.max(dates);
+
+        for (int attempt = 1;; attempt++) {
+            TimeSheetBatch batch = new TimeSheetBatch(List.of(employeeId), fromDate, toDate,
+                    dailyTimeSheetDao.getTimeSheetsForUpdate(employeeId, fromDate, toDate));
+            rules.accept(batch);
+
+            List<DailyTimeSheet> changed = batch.getChangedTimeSheets();
+            List<DailyTimeSheet> skipped = writeTimeSheets(changed);
+            if (skipped.isEmpty()) {
+                refreshMonthlySummaries(changed);
+                return changed;
+            }
+            if (attempt == MAX_WRITE_ATTEMPTS) {
+                throw new IllegalStateException("Timesheet of employee " + employeeId + " on "
+                        + skipped.get(0).getDate() + " keeps being created by concurrent approvals");
+            }
+        }
+    }
+
+    /**
+     * Writes changed timesheets: rows that already exist are updated in one batch
+     * and new rows are inserted unless a row for the same employee and date
+     * exists by now.
+     *
+     * @return the new timesheets that were skipped
+     */
+    private List<DailyTimeSheet> writeTimeSheets(List<DailyTimeSheet> changed) {
+        List<DailyTimeSheet> existing = new ArrayList<>();
+        List<DailyTimeSheet> created = new ArrayList<>();
+        for (DailyTimeSheet timeSheet : changed) {
+            (timeSheet.getDailyTsId() != null ? existing : created).add(timeSheet);
+        }
+
+        if (!existing.isEmpty()) {
+            dailyTimeSheetDao.saveAllDailyTimeSheets(existing);
+        }
+        return dailyTimeSheetDao.insertDailyTimeSheetsIfAbsent(created);
+    }
+
+    /**
+     * Recomputes the monthly summaries touched by the saved timesheets in the same
+     * transaction, with one set-based statement pair per month.
+     */
+    private void refreshMonthlySummaries(Collection<DailyTimeSheet> savedTimeSheets) {
+        Map<LocalDate, Set<String>> employeesByMonth = new TreeMap<>();
+        for (DailyTimeSheet timeSheet : savedTimeSheets) {
+            employeesByMonth
+                    .computeIfAbsent(timeSheet.getDate().withDayOfMonth(1), month -> new HashSet<>())
+                    .add(timeSheet.getEmployee().getUserId());
+        }
+        employeesByMonth.forEach((monthStart, employeeIds) -> monthlySummaryDao.refreshSummaries(employeeIds, monthStart));
+    }
+
+    /**
+     * Looks up a timesheet in the batch, falling back to a single query when the
+     * employee or date lies outside the preloaded window.
+     */
+    private DailyTimeSheet findInBatch(TimeSheetBatch batch, String employeeId, LocalDate date) {
+        if (batch.isLoaded(employeeId, date)) {
+            return batch.get(employeeId, date);
+        }
+
+        DailyTimeSheet timeSheet = batch.get(employeeId, date);
+        if (timeSheet == null) {
+            timeSheet = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(employeeId, date);
+            if (timeSheet != null) {
+                batch.put(timeSheet);
+            }
+        }
+        return timeSheet;
+    }
+
+    private void requireEmployeeId(String employeeId) {
+        if (employeeId == null) {
+            throw new IllegalArgumentException(Constants.ERROR_NULL_EMPLOYEE_ID);
+        }
+    }
+
+    // ============= Approval Rules =============
+
+    /**
+     * Sets check-in time, morning status and late minutes.
+     */
+    private void applyCheckIn(DailyTimeSheet timeSheet, LocalDateTime checkInTime) {
+        // Set check-in time
+        timeSheet.setCheckInTime(checkInTime);
+
+        // Update morning status if check-in is in the morning
+        if (isMorningTime(checkInTime)) {
+            timeSheet.setMorningStatus(AttendanceStatus.PRESENT);
+        }
+
+        // Calculate and set late minutes
+        int lateMinutes = calculateLateMinutes(checkInTime);
+        timeSheet.setLateMinutes(lateMinutes);
+    }
+
+    /**
+     * Sets check-out time, afternoon status and the time-based metrics.
+     */
+    private void applyCheckOut(DailyTimeSheet timeSheet, LocalDateTime checkOutTime) {
+        // Set check-out time
+        timeSheet.setCheckOutTime(checkOutTime);
+
+        // Update afternoon status if check-out is in the afternoon
+        if (isAfternoonTime(checkOutTime)) {
+            timeSheet.setAfternoonStatus(AttendanceStatus.PRESENT);
+        }
+
+        // Calculate and set early leave minutes
+        int earlyLeaveMinutes = calculateEarlyLeaveMinutes(checkOutTime);
+        timeSheet.setEarlyLeaveMinutes(earlyLeaveMinutes);
+
+        // Calculate and set overtime minutes
+        int overtimeMinutes = calculateOvertimeMinutes(checkOutTime);
+        timeSheet.setOvertimeMinutes(overtimeMinutes);
+
+        // Calculate and set total work credit based on actual working hours
+        double workCredit = calculateWorkCredit(timeSheet.getCheckInTime(), checkOutTime);
+        timeSheet.setTotalWorkCredit(workCredit);
+    }
+
+    /**
+     * Marks the given shift as LEAVE and recalculates work credit.
+     */
+    private void applyLeave(DailyTimeSheet timeSheet, ShiftType shift) {
+        if (shift == ShiftType.FULL_DAY) {
+            // Full day leave - clear everything
+            timeSheet.setMorningStatus(AttendanceStatus.LEAVE);
+            timeSheet.setAfternoonStatus(AttendanceStatus.LEAVE);
+            timeSheet.setTotalWorkCredit(Constants.ZERO_WORK_CREDIT);
+            timeSheet.setCheckInTime(null);
+            timeSheet.setCheckOutTime(null);
+            timeSheet.setLateMinutes(0);
+            timeSheet.setEarlyLeaveMinutes(0);
+            timeSheet.setOvertimeMinutes(0);
+        } else if (shift == ShiftType.MORNING) {
+            // Morning leave - preserve afternoon data
+            timeSheet.setMorningStatus(AttendanceStatus.LEAVE);
+            // Clear morning check-in only if no afternoon work
+            if (timeSheet.getAfternoonStatus() != AttendanceStatus.PRESENT) {
+                timeSheet.setCheckInTime(null);
+            }
+            // Recalculate work credit based on afternoon status
+            if (timeSheet.getAfternoonStatus() == AttendanceStatus.PRESENT) {
+                timeSheet.setTotalWorkCredit(Constants.HALF_DAY_WORK_CREDIT);
+            } else {
+                timeSheet.setTotalWorkCredit(Constants.ZERO_WORK_CREDIT);
+            }
+            timeSheet.setLateMinutes(0); // No late for morning leave
+        } else if (shift == ShiftType.AFTERNOON) {
+            // Afternoon leave - preserve morning data
+            timeSheet.setAfternoonStatus(AttendanceStatus.LEAVE);
+            // Clear checkout only, preserve check-in
+            timeSheet.setCheckOutTime(null);
+            // Recalculate work credit based on morning status
+            if (timeSheet.getMorningStatus() == AttendanceStatus.PRESENT) {
+                timeSheet.setTotalWorkCredit(Constants.HALF_DAY_WORK_CREDIT);
+            } else {
+                timeSheet.setTotalWorkCredit(Constants.ZERO_WORK_CREDIT);
+            }
+            timeSheet.setEarlyLeaveMinutes(0); // No early leave tracking
+            timeSheet.setOvertimeMinutes(0);
+        }
+    }
+
+    /**
+     * Sets WFH flags and attendance status for the given shift.
+     */
+    private void applyWfh(DailyTimeSheet timeSheet, ShiftType shift) {
+        if (shift == ShiftType.FULL_DAY) {
+            timeSheet.setMorningWfh(true);
+            timeSheet.setAfternoonWfh(true);
+            timeSheet.setMorningStatus(AttendanceStatus.PRESENT);
+            timeSheet.setAfternoonStatus(AttendanceStatus.PRESENT);
+            timeSheet.setTotalWorkCredit(Constants.FULL_DAY_WORK_CREDIT);
+        } else if (shift == ShiftType.MORNING) {
+            timeSheet.setMorningWfh(true);
+            timeSheet.setMorningStatus(AttendanceStatus.PRESENT);
+            // If afternoon is not set, use half day credit; otherwise keep existing
+            if (timeSheet.getAfternoonStatus() == null) {
+                timeSheet.setTotalWorkCredit(Constants.HALF_DAY_WORK_CREDIT);
+            } else {
+                // Combine with afternoon (if already present or WFH)
+                timeSheet.setTotalWorkCredit(
+                        Constants.HALF_DAY_WORK_CREDIT +
+                                (timeSheet.getAfternoonStatus() == AttendanceStatus.PRESENT
+                                        ? Constants.HALF_DAY_WORK_CREDIT
+                                        : 0.0));
+            }
+        } else if (shift == ShiftType.AFTERNOON) {
+            timeSheet.setAfternoonWfh(true);
+            timeSheet.setAfternoonStatus(AttendanceStatus.PRESENT);
+            // If morning is not set, use half day credit; otherwise keep existing
+            if (timeSheet.getMorningStatus() == null) {
+                timeSheet.setTotalWorkCredit(Constants.HALF_DAY_WORK_CREDIT);
+            } else {
+                // Combine with morning (if already present or WFH)
+                timeSheet.setTotalWorkCredit(
+                        (timeSheet.getMorningStatus() == AttendanceStatus.PRESENT ? Constants.HALF_DAY_WORK_CREDIT
+                                : 0.0) +
+                                Constants.HALF_DAY_WORK_CREDIT);
+            }
+        }
+
+        // WFH doesn't require check-in/out times, but keep if already exists
+        // Reset time-based metrics for WFH days
+        timeSheet.setLateMinutes(0);
+        timeSheet.setEarlyLeaveMinutes(0);
+        timeSheet.setOvertimeMinutes(0);
+    }
+
+    /**
+     * Applies a comprehensive timesheet correction and recalculates work credit.
+     */
+    private void applyTimesheetUpdate(
+            DailyTimeSheet timeSheet,
+            LocalDateTime checkInTime,
+            LocalDateTime checkOutTime,
+            AttendanceStatus morningStatus,
+            AttendanceStatus afternoonStatus,
+            Boolean morningWfh,
+            Boolean afternoonWfh) {
         // Update morning status if provided
-        if (newMorningStatus != null) {
-            timeSheet.setMorningStatus(newMorningStatus);
+        if (morningStatus != null) {
+            timeSheet.setMorningStatus(morningStatus);
         }
 
         // Update afternoon status if provided
-        if (newAfternoonStatus != null) {
-            timeSheet.setAfternoonStatus(newAfternoonStatus);
+        if (afternoonStatus != null) {
+            timeSheet.setAfternoonStatus(afternoonStatus);
         }
 
         // Update WFH flags if provided
-        if (newMorningWfh != null) {
-            timeSheet.setMorningWfh(newMorningWfh);
+        if (morningWfh != null) {
+            timeSheet.setMorningWfh(morningWfh);
         }
-        if (newAfternoonWfh != null) {
-            timeSheet.setAfternoonWfh(newAfternoonWfh);
+        if (afternoonWfh != null) {
+            timeSheet.setAfternoonWfh(afternoonWfh);
         }
 
         // Update check-in time if provided
-        if (newCheckInTime != null) {
-            timeSheet.setCheckInTime(newCheckInTime);
-            int lateMinutes = calculateLateMinutes(newCheckInTime);
+        if (checkInTime != null) {
+            timeSheet.setCheckInTime(checkInTime);
+            int lateMinutes = calculateLateMinutes(checkInTime);
             timeSheet.setLateMinutes(lateMinutes);
         }
 
         // Update check-out time if provided
-        if (newCheckOutTime != null) {
-            timeSheet.setCheckOutTime(newCheckOutTime);
-            int earlyLeaveMinutes = calculateEarlyLeaveMinutes(newCheckOutTime);
+        if (checkOutTime != null) {
+            timeSheet.setCheckOutTime(checkOutTime);
+            int earlyLeaveMinutes = calculateEarlyLeaveMinutes(checkOutTime);
             timeSheet.setEarlyLeaveMinutes(earlyLeaveMinutes);
-            int overtimeMinutes = calculateOvertimeMinutes(newCheckOutTime);
+            int overtimeMinutes = calculateOvertimeMinutes(checkOutTime);
             timeSheet.setOvertimeMinutes(overtimeMinutes);
         }
 
         // Recalculate total work credit based on final state
         double workCredit = calculateWorkCreditFromStatus(timeSheet);
         timeSheet.setTotalWorkCredit(workCredit);
-
-        // Save and return
-        return dailyTimeSheetDao.updateDailyTimeSheet(timeSheet);
     }
 
     /**
@@ -495,25 +801,33 @@ public class TimeSheetCommandServiceImpl implements TimeSheetCommandService {
                 date);
 
         if (timeSheet == null) {
-            // Create a new timesheet with employee reference (let JPA manage the
-            // relationship)
-            User employeeRef = User.builder().userId(employeeId).build();
-            timeSheet = DailyTimeSheet.builder()
-                    .employee(employeeRef)
-                    .date(date)
-                    .isFinalized(false)
-                    .totalWorkCredit(Constants.ZERO_WORK_CREDIT)
-                    .lateMinutes(0)
-                    .earlyLeaveMinutes(0)
-                    .overtimeMinutes(0)
-                    .morningWfh(false)
-                    .afternoonWfh(false)
-                    .build();
+            timeSheet = newTimeSheet(employeeId, date);
         }
 
         return timeSheet;
     }
 
+    /**
+     * Builds an unsaved timesheet with default values for the given employee and
+     * date.
+     */
+    private DailyTimeSheet newTimeSheet(String employeeId, LocalDate date) {
+        // Create a new timesheet with employee reference (let JPA manage the
+        // relationship)
+        User employeeRef = User.builder().userId(employeeId).build();
+        return DailyTimeSheet.builder()
+                .employee(employeeRef)
+                .date(date)
+                .isFinalized(false)
+                .totalWorkCredit(Constants.ZERO_WORK_CREDIT)
+                .lateMinutes(0)
+                .earlyLeaveMinutes(0)
+                .overtimeMinutes(0)
+                .morningWfh(false)
+                .afternoonWfh(false)
+                .build();
+    }
+
     /**
      * Calculates late minutes if check-in is after standard time (8:00 AM).
      * 
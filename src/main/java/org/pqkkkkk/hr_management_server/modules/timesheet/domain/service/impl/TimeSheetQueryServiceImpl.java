@@ -1,16 +1,29 @@
 package org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.impl;
 
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.dao.DailyTimeSheetDao;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.dao.MonthlyAttendanceSummaryDao;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.AttendanceCalendar;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.DailyTimeSheet;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.filter.FilterCriteria.TimeSheetExportFilter;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.filter.FilterCriteria.TimeSheetFilter;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetExporter;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetQueryService;
+import org.pqkkkkk.hr_management_server.shared.Constants.SupportedFileFormat;
+import org.pqkkkkk.hr_management_server.shared.storage.StorageService;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 /**
  * Implementation of TimeSheetQueryService
@@ -19,10 +32,29 @@ import java.util.stream.Collectors;
 @Service
 public class TimeSheetQueryServiceImpl implements TimeSheetQueryService {
 
-    private final DailyTimeSheetDao dailyTimeSheetDao;
+    private static final List<String> STATISTIC_KEYS = List.of(
+            "totalDays", "morningPresent", "afternoonPresent", "lateDays",
+            "totalLateMinutes", "totalOvertimeMinutes", "totalWorkCredit");
+
+    private static final int MAX_EXPORT_DAYS = 366;
+    private static final int MAX_EXPORT_EMPLOYEE_IDS = 1000;
 
-    public TimeSheetQueryServiceImpl(DailyTimeSheetDao dailyTimeSheetDao) {
+    private final DailyTimeSheetDao dailyTimeSheetDao;
+    private final MonthlyAttendanceSummaryDao monthlySummaryDao;
+    private final StorageService storageService;
+    private final Map<SupportedFileFormat, TimeSheetExporter> exporters;
+
+    public TimeSheetQueryServiceImpl(DailyTimeSheetDao dailyTimeSheetDao,
+            MonthlyAttendanceSummaryDao monthlySummaryDao,
+            StorageService storageService,
+            List<TimeSheetExporter> exporters) {
         this.dailyTimeSheetDao = dailyTimeSheetDao;
+        this.monthlySummaryDao = monthlySummaryDao;
+        this.storageService = storageService;
+        this.exporters = new EnumMap<>(SupportedFileFormat.class);
+        for (TimeSheetExporter exporter : exporters) {
+            this.exporters.put(exporter.getFileFormat(), exporter);
+        }
     }
 
     @Override
@@ -87,6 +119,22 @@ public class TimeSheetQueryServiceImpl implements TimeSheetQueryService {
         return dailyTimeSheetDao.getTimeSheets(filter);
     }
 
+    @Override
+    @Transactional(readOnly = true)
+    public AttendanceCalendar getAttendanceCalendar(String employeeId, LocalDate startDate, LocalDate endDate) {
+        if (employeeId == null || employeeId.isBlank()) {
+            throw new IllegalArgumentException("Employee ID must not be null or empty");
+        }
+        if (startDate == null || endDate == null) {
+            throw new IllegalArgumentException("Start date and end date must not be null");
+        }
+        if (startDate.isAfter(endDate)) {
+            throw new IllegalArgumentException("Start date must be before or equal to end date");
+        }
+
+        return dailyTimeSheetDao.getAttendanceCalendar(employeeId, startDate, endDate);
+    }
+
     @Override
     public Map<String, List<DailyTimeSheet>> getMonthlyTimeSheetsOfEmployees(
             List<String> employeeIds,
@@ -102,18 +150,16 @@ public class TimeSheetQueryServiceImpl implements TimeSheetQueryService {
         LocalDate startDate = yearMonth.atDay(1);
         LocalDate endDate = yearMonth.atEndOfMonth();
 
-        return employeeIds.stream()
-                .collect(Collectors.toMap(
-                        empId -> empId,
-                        empId -> {
-                            TimeSheetFilter filter = new TimeSheetFilter(
-                                    empId,
-                                    startDate.toString(),
-                                    endDate.toString(),
-                                    null, null, null, null, null,
-                                    null, null, "date", "ASC");
-                            return dailyTimeSheetDao.getTimeSheets(filter);
-                        }));
+        // One range query for all employees, then split by employee in memory
+        Map<String, List<DailyTimeSheet>> result = new LinkedHashMap<>();
+        for (String employeeId : employeeIds) {
+            result.put(employeeId, new ArrayList<>());
+        }
+        for (DailyTimeSheet timeSheet : dailyTimeSheetDao.getTimeSheetsByEmployeesAndDateRange(
+                result.keySet(), startDate, endDate)) {
+            result.get(timeSheet.getEmployee().getUserId()).add(timeSheet);
+        }
+        return result;
     }
 
     @Override
@@ -128,12 +174,38 @@ public class TimeSheetQueryServiceImpl implements TimeSheetQueryService {
             throw new IllegalArgumentException("Year-month must not be null");
         }
 
-        // Note: This implementation assumes you have a way to get employee IDs by
-        // department
-        // If you need to implement this, you'll need to inject UserDao or ProfileDao
-        throw new UnsupportedOperationException(
-                "Department-wide timesheet query requires UserDao dependency. " +
-                        "Please inject UserDao to get employees by department ID.");
+        return dailyTimeSheetDao.getTimeSheetsByDepartmentAndDateRange(
+                departmentId, yearMonth.atDay(1), yearMonth.atEndOfMonth());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamMonthlyTimeSheetsOfDepartment(String departmentId, YearMonth yearMonth,
+            Consumer<AttendanceCalendar> consumer) {
+
+        if (departmentId == null || departmentId.isBlank()) {
+            throw new IllegalArgumentException("Department ID must not be null or empty");
+        }
+        if (yearMonth == null) {
+            throw new IllegalArgumentException("Year-month must not be null");
+        }
+
+        dailyTimeSheetDao.streamMonthlyTimeSheetsOfDepartment(departmentId, yearMonth, consumer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void streamMonthlyTimeSheetsOfEmployees(List<String> employeeIds, YearMonth yearMonth,
+            Consumer<AttendanceCalendar> consumer) {
+
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            throw new IllegalArgumentException("Employee IDs list must not be null or empty");
+        }
+        if (yearMonth == null) {
+            throw new IllegalArgumentException("Year-month must not be null");
+        }
+
+        dailyTimeSheetDao.streamMonthlyTimeSheetsOfEmployees(employeeIds, yearMonth, consumer);
     }
 
     @Override
@@ -178,10 +250,8 @@ public class TimeSheetQueryServiceImpl implements TimeSheetQueryService {
             throw new IllegalArgumentException("Year-month must not be null");
         }
 
-        LocalDate startDate = yearMonth.atDay(1);
-        LocalDate endDate = yearMonth.atEndOfMonth();
-
-        return dailyTimeSheetDao.getAttendanceStatistics(employeeId, startDate, endDate);
+        // Whole month, so the pre-aggregated summary row answers it
+        return monthlySummaryDao.getAttendanceStatistics(employeeId, yearMonth.atDay(1));
     }
 
     @Override
@@ -199,7 +269,7 @@ public class TimeSheetQueryServiceImpl implements TimeSheetQueryService {
         }
 
         List<Map<String, Object>> results = new java.util.ArrayList<>(
-                dailyTimeSheetDao.getBatchAttendanceStatistics(userIds, startDate, endDate));
+                collectAttendanceStatistics(userIds, startDate, endDate));
 
         // Get the set of user IDs that have data
         java.util.Set<String> returnedUserIds = results.stream()
@@ -216,6 +286,93 @@ public class TimeSheetQueryServiceImpl implements TimeSheetQueryService {
         return results;
     }
 
+    /**
+     * Statistics of the whole months inside the range come from the monthly
+     * summaries; only the partial months at either end are aggregated from the
+     * daily timesheets.
+     */
+    private List<Map<String, Object>> collectAttendanceStatistics(
+            List<String> userIds, LocalDate startDate, LocalDate endDate) {
+        YearMonth firstFullMonth = startDate.getDayOfMonth() == 1
+                ? YearMonth.from(startDate)
+                : YearMonth.from(startDate).plusMonths(1);
+        YearMonth lastFullMonth = endDate.equals(YearMonth.from(endDate).atEndOfMonth())
+                ? YearMonth.from(endDate)
+                : YearMonth.from(endDate).minusMonths(1);
+
+        if (firstFullMonth.isAfter(lastFullMonth)) {
+            return dailyTimeSheetDao.getBatchAttendanceStatistics(userIds, startDate, endDate);
+        }
+
+        Map<String, Map<String, Object>> byUser = new LinkedHashMap<>();
+        mergeStatistics(byUser, monthlySummaryDao.getBatchAttendanceStatistics(
+                userIds, firstFullMonth.atDay(1), lastFullMonth.atDay(1)));
+
+        LocalDate summarizedFrom = firstFullMonth.atDay(1);
+        LocalDate summarizedTo = lastFullMonth.atEndOfMonth();
+        if (startDate.isBefore(summarizedFrom)) {
+            mergeStatistics(byUser, dailyTimeSheetDao.getBatchAttendanceStatistics(
+                    userIds, startDate, summarizedFrom.minusDays(1)));
+        }
+        if (endDate.isAfter(summarizedTo)) {
+            mergeStatistics(byUser, dailyTimeSheetDao.getBatchAttendanceStatistics(
+                    userIds, summarizedTo.plusDays(1), endDate));
+        }
+        return List.copyOf(byUser.values());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public String exportTimeSheets(TimeSheetExportFilter filter, SupportedFileFormat fileFormat) {
+        if (filter == null || filter.startDate() == null || filter.endDate() == null) {
+            throw new IllegalArgumentException("Start date and end date must not be null");
+        }
+        if (filter.startDate().isAfter(filter.endDate())) {
+            throw new IllegalArgumentException("Start date must be before or equal to end date");
+        }
+        if (ChronoUnit.DAYS.between(filter.startDate(), filter.endDate()) >= MAX_EXPORT_DAYS) {
+            throw new IllegalArgumentException("Export range must not exceed " + MAX_EXPORT_DAYS + " days");
+        }
+        if (filter.employeeIds().size() > MAX_EXPORT_EMPLOYEE_IDS) {
+            throw new IllegalArgumentException(
+                    "Cannot export more than " + MAX_EXPORT_EMPLOYEE_IDS + " selected employees at once");
+        }
+        TimeSheetExporter exporter = exporters.get(fileFormat);
+        if (exporter == null) {
+            throw new IllegalArgumentException("Unsupported file format: " + fileFormat);
+        }
+
+        String fileName = generateFileName("exported_timesheets", fileFormat);
+
+        // The read transaction stays open while the file is written, keeping the cursor alive
+        return storageService.storeFile(fileName, fileFormat.getContentType(),
+                outputStream -> exporter.export(
+                        consumer -> dailyTimeSheetDao.streamTimeSheetsForExport(filter, consumer),
+                        outputStream));
+    }
+
+    private String generateFileName(String prefix, SupportedFileFormat format) {
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        return String.format("%s_%s%s", prefix, timestamp, format.getFileExtension());
+    }
+
+    private void mergeStatistics(Map<String, Map<String, Object>> byUser, List<Map<String, Object>> statistics) {
+        for (Map<String, Object> stats : statistics) {
+            Map<String, Object> merged = byUser.get((String) stats.get("userId"));
+            if (merged == null) {
+                byUser.put((String) stats.get("userId"), new java.util.HashMap<>(stats));
+                continue;
+            }
+            for (String key : STATISTIC_KEYS) {
+                Number current = (Number) merged.get(key);
+                Number added = (Number) stats.get(key);
+                merged.put(key, "totalWorkCredit".equals(key)
+                        ? current.doubleValue() + added.doubleValue()
+                        : current.longValue() + added.longValue());
+            }
+        }
+    }
+
     /**
      * Create empty statistics map with 0 values for users without timesheet data
      */
@@ -34,8 +34,14 @@ public class TimeSheetValidationServiceImpl implements TimeSheetValidationServic
             throw new IllegalArgumentException("Employee ID and check-in time are required");
         }
 
+        DailyTimeSheet existing = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(
+                employeeId, checkInTime.toLocalDate());
+        validateCheckInOnTimeSheet(existing, checkInTime);
+    }
+
+    @Override
+    public void validateCheckInOnTimeSheet(DailyTimeSheet existing, LocalDateTime checkInTime) {
         LocalDate checkInDate = checkInTime.toLocalDate();
-        DailyTimeSheet existing = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(employeeId, checkInDate);
 
         if (existing != null) {
             // Check duplicate check-in
@@ -65,8 +71,14 @@ public class TimeSheetValidationServiceImpl implements TimeSheetValidationServic
             throw new IllegalArgumentException("Employee ID and check-out time are required");
         }
 
+        DailyTimeSheet existing = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(
+                employeeId, checkOutTime.toLocalDate());
+        validateCheckOutOnTimeSheet(existing, checkOutTime);
+    }
+
+    @Override
+    public void validateCheckOutOnTimeSheet(DailyTimeSheet existing, LocalDateTime checkOutTime) {
         LocalDate checkOutDate = checkOutTime.toLocalDate();
-        DailyTimeSheet existing = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(employeeId, checkOutDate);
 
         if (existing == null) {
             throw new IllegalStateException(
@@ -106,16 +118,22 @@ public class TimeSheetValidationServiceImpl implements TimeSheetValidationServic
         }
 
         for (LeaveDate leaveDate : leaveDates) {
-            LocalDate date = leaveDate.getDate();
-            ShiftType shift = leaveDate.getShift();
-            DailyTimeSheet existing = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(employeeId, date);
+            DailyTimeSheet existing = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(
+                    employeeId, leaveDate.getDate());
+            validateLeaveDateOnTimeSheet(existing, leaveDate);
+        }
+    }
 
-            if (existing != null && hasShiftConflict(existing, shift, AttendanceStatus.LEAVE)) {
-                throw new IllegalStateException(
-                        "Conflict on " + date + ": Cannot set " + shift + " to LEAVE. " +
-                                "Current status - Morning: " + existing.getMorningStatus() +
-                                ", Afternoon: " + existing.getAfternoonStatus());
-            }
+    @Override
+    public void validateLeaveDateOnTimeSheet(DailyTimeSheet existing, LeaveDate leaveDate) {
+        LocalDate date = leaveDate.getDate();
+        ShiftType shift = leaveDate.getShift();
+
+        if (existing != null && hasShiftConflict(existing, shift, AttendanceStatus.LEAVE)) {
+            throw new IllegalStateException(
+                    "Conflict on " + date + ": Cannot set " + shift + " to LEAVE. " +
+                            "Current status - Morning: " + existing.getMorningStatus() +
+                            ", Afternoon: " + existing.getAfternoonStatus());
         }
     }
 
@@ -126,23 +144,29 @@ public class TimeSheetValidationServiceImpl implements TimeSheetValidationServic
         }
 
         for (WfhDate wfhDate : wfhDates) {
-            LocalDate date = wfhDate.getDate();
-            ShiftType shift = wfhDate.getShift();
-            DailyTimeSheet existing = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(employeeId, date);
-
-            if (existing != null) {
-                // Check conflict - WFH should not conflict with LEAVE
-                if (shift == ShiftType.FULL_DAY || shift == ShiftType.MORNING) {
-                    if (existing.getMorningStatus() == AttendanceStatus.LEAVE) {
-                        throw new IllegalStateException(
-                                "Conflict on " + date + ": Cannot set morning to WFH when it's already LEAVE.");
-                    }
+            DailyTimeSheet existing = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(
+                    employeeId, wfhDate.getDate());
+            validateWfhDateOnTimeSheet(existing, wfhDate);
+        }
+    }
+
+    @Override
+    public void validateWfhDateOnTimeSheet(DailyTimeSheet existing, WfhDate wfhDate) {
+        LocalDate date = wfhDate.getDate();
+        ShiftType shift = wfhDate.getShift();
+
+        if (existing != null) {
+            // Check conflict - WFH should not conflict with LEAVE
+            if (shift == ShiftType.FULL_DAY || shift == ShiftType.MORNING) {
+                if (existing.getMorningStatus() == AttendanceStatus.LEAVE) {
+                    throw new IllegalStateException(
+                            "Conflict on " + date + ": Cannot set morning to WFH when it's already LEAVE.");
                 }
-                if (shift == ShiftType.FULL_DAY || shift == ShiftType.AFTERNOON) {
-                    if (existing.getAfternoonStatus() == AttendanceStatus.LEAVE) {
-                        throw new IllegalStateException(
-                                "Conflict on " + date + ": Cannot set afternoon to WFH when it's already LEAVE.");
-                    }
+            }
+            if (shift == ShiftType.FULL_DAY || shift == ShiftType.AFTERNOON) {
+                if (existing.getAfternoonStatus() == AttendanceStatus.LEAVE) {
+                    throw new IllegalStateException(
+                            "Conflict on " + date + ": Cannot set afternoon to WFH when it's already LEAVE.");
                 }
             }
         }
@@ -161,6 +185,17 @@ public class TimeSheetValidationServiceImpl implements TimeSheetValidationServic
         }
 
         DailyTimeSheet existing = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(employeeId, targetDate);
+        validateTimesheetUpdateOnTimeSheet(existing, targetDate,
+                desiredCheckIn, desiredCheckOut,
+                desiredMorningStatus, desiredAfternoonStatus,
+                desiredMorningWfh, desiredAfternoonWfh);
+    }
+
+    @Override
+    public void validateTimesheetUpdateOnTimeSheet(DailyTimeSheet existing, LocalDate targetDate,
+            LocalDateTime desiredCheckIn, LocalDateTime desiredCheckOut,
+            AttendanceStatus desiredMorningStatus, AttendanceStatus desiredAfternoonStatus,
+            Boolean desiredMorningWfh, Boolean desiredAfternoonWfh) {
 
         if (existing == null) {
             throw new IllegalStateException(
@@ -1,26 +1,90 @@
 package org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.dao;
 
+import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.User;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.dao.DailyTimeSheetDao;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.AttendanceCalendar;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.DailyTimeSheet;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Enums.AttendanceStatus;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.ExportedTimeSheet;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.filter.FilterCriteria.TimeSheetExportFilter;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.filter.FilterCriteria.TimeSheetFilter;
 import org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.dao.jpa_repository.DailyTimeSheetRepository;
 import org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.dao.jpa_specification.DailyTimeSheetSpecification;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.stereotype.Repository;
 
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 @Repository
 public class DailyTimeSheetJpaDao implements DailyTimeSheetDao {
 
+    private static final String INSERT_SQL = """
+            INSERT INTO daily_timesheet_table (
+                daily_ts_id, date, morning_status, afternoon_status, morning_wfh, afternoon_wfh,
+                total_work_credit, check_in_time, check_out_time, late_minutes, early_leave_minutes,
+                overtime_minutes, is_finalized, employee_id)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    // Only a row for the same employee and date is skipped, any other violation still fails
+    private static final String INSERT_IF_ABSENT_SQL = INSERT_SQL + "ON CONFLICT (employee_id, date) DO NOTHING";
+
+    // H2, used in tests, rejects a conflict target
+    private static final String INSERT_IF_ABSENT_SQL_H2 = INSERT_SQL + "ON CONFLICT DO NOTHING";
+
+    private static final String EXISTING_IDS_SQL =
+            "SELECT daily_ts_id FROM daily_timesheet_table WHERE daily_ts_id IN (";
+
+    // Ordered like the unique (employee_id, date) index so no sort is needed
+    private static final String EXPORT_SQL = """
+            SELECT t.employee_id, u.full_name, d.department_name, t.date,
+                t.morning_status, t.afternoon_status, t.morning_wfh, t.afternoon_wfh,
+                t.total_work_credit, t.check_in_time, t.check_out_time,
+                t.late_minutes, t.early_leave_minutes, t.overtime_minutes, t.is_finalized
+            FROM daily_timesheet_table t
+            JOIN user_table u ON u.user_id = t.employee_id
+            LEFT JOIN department_table d ON d.department_id = u.department_id
+            WHERE t.date BETWEEN ? AND ?
+            """;
+
+    private static final String EXPORT_ORDER_BY = " ORDER BY t.employee_id, t.date";
+
+    /**
+     * Rows fetched per round trip by the export cursor
+     */
+    private static final int EXPORT_FETCH_SIZE = 1000;
+
     private final DailyTimeSheetRepository repository;
+    private final JdbcTemplate jdbcTemplate;
+    private volatile String insertIfAbsentSql;
 
-    public DailyTimeSheetJpaDao(DailyTimeSheetRepository repository) {
+    public DailyTimeSheetJpaDao(DailyTimeSheetRepository repository, JdbcTemplate jdbcTemplate) {
         this.repository = repository;
+        this.jdbcTemplate = jdbcTemplate;
     }
 
     @Override
@@ -38,6 +102,88 @@ public class DailyTimeSheetJpaDao implements DailyTimeSheetDao {
         repository.deleteById(dailyTsId);
     }
 
+    @Override
+    public List<DailyTimeSheet> saveAllDailyTimeSheets(List<DailyTimeSheet> dailyTimeSheets) {
+        return repository.saveAll(dailyTimeSheets);
+    }
+
+    @Override
+    public List<DailyTimeSheet> insertDailyTimeSheetsIfAbsent(List<DailyTimeSheet> dailyTimeSheets) {
+        if (dailyTimeSheets == null || dailyTimeSheets.isEmpty()) {
+            return List.of();
+        }
+
+        List<Object[]> rows = new ArrayList<>(dailyTimeSheets.size());
+        for (DailyTimeSheet timeSheet : dailyTimeSheets) {
+            timeSheet.setDailyTsId(UUID.randomUUID().toString());
+            rows.add(new Object[] {
+                    timeSheet.getDailyTsId(),
+                    timeSheet.getDate(),
+                    timeSheet.getMorningStatus() != null ? timeSheet.getMorningStatus().name() : null,
+                    timeSheet.getAfternoonStatus() != null ? timeSheet.getAfternoonStatus().name() : null,
+                    timeSheet.getMorningWfh(),
+                    timeSheet.getAfternoonWfh(),
+                    timeSheet.getTotalWorkCredit(),
+                    toTimestamp(timeSheet.getCheckInTime()),
+                    toTimestamp(timeSheet.getCheckOutTime()),
+                    timeSheet.getLateMinutes(),
+                    timeSheet.getEarlyLeaveMinutes(),
+                    timeSheet.getOvertimeMinutes(),
+                    timeSheet.getIsFinalized(),
+                    timeSheet.getEmployee().getUserId()
+            });
+        }
+
+        int[] counts = jdbcTemplate.batchUpdate(getInsertIfAbsentSql(), rows);
+
+        // A count of 0 means the unique (employee_id, date) index rejected the row. A
+        // driver may report SUCCESS_NO_INFO instead of a count, those rows are looked up.
+        List<DailyTimeSheet> unknown = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] == Statement.SUCCESS_NO_INFO) {
+                unknown.add(dailyTimeSheets.get(i));
+            }
+        }
+        Set<String> inserted = getExistingIds(unknown);
+
+        List<DailyTimeSheet> skipped = new ArrayList<>();
+        for (int i = 0; i < counts.length; i++) {
+            DailyTimeSheet timeSheet = dailyTimeSheets.get(i);
+            boolean absent = counts[i] == Statement.SUCCESS_NO_INFO
+                    ? !inserted.contains(timeSheet.getDailyTsId())
+                    : counts[i] == 0;
+            if (absent) {
+                timeSheet.setDailyTsId(null);
+                skipped.add(timeSheet);
+            }
+        }
+        return skipped;
+    }
+
+    private String getInsertIfAbsentSql() {
+        String sql = insertIfAbsentSql;
+        if (sql == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            sql = "H2".equals(product) ? INSERT_IF_ABSENT_SQL_H2 : INSERT_IF_ABSENT_SQL;
+            insertIfAbsentSql = sql;
+        }
+        return sql;
+    }
+
+    private Set<String> getExistingIds(List<DailyTimeSheet> timeSheets) {
+        if (timeSheets.isEmpty()) {
+            return Set.of();
+        }
+        String sql = EXISTING_IDS_SQL + String.join(", ", Collections.nCopies(timeSheets.size(), "?")) + ")";
+        return new HashSet<>(jdbcTemplate.queryForList(sql, String.class,
+                timeSheets.stream().map(DailyTimeSheet::getDailyTsId).toArray()));
+    }
+
+    private static Timestamp toTimestamp(LocalDateTime dateTime) {
+        return dateTime != null ? Timestamp.valueOf(dateTime) : null;
+    }
+
     @Override
     public DailyTimeSheet getDailyTimeSheetById(String dailyTsId) {
         return repository.findById(dailyTsId).orElse(null);
@@ -98,6 +244,160 @@ public class DailyTimeSheetJpaDao implements DailyTimeSheetDao {
         return repository.findAll(spec, sort);
     }
 
+    @Override
+    public List<DailyTimeSheet> getTimeSheetsByEmployeesAndDateRange(
+            Collection<String> employeeIds, LocalDate startDate, LocalDate endDate) {
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            return List.of();
+        }
+        return repository.findByEmployeeUserIdInAndDateBetween(employeeIds, startDate, endDate);
+    }
+
+    @Override
+    public List<DailyTimeSheet> getTimeSheetsForUpdate(String employeeId, LocalDate startDate, LocalDate endDate) {
+        return repository.findForUpdateByEmployeeAndDateBetween(employeeId, startDate, endDate);
+    }
+
+    @Override
+    public Map<String, List<DailyTimeSheet>> getTimeSheetsByDepartmentAndDateRange(
+            String departmentId, LocalDate startDate, LocalDate endDate) {
+        Map<String, List<DailyTimeSheet>> result = new LinkedHashMap<>();
+        for (Object[] row : repository.findEmployeesWithTimeSheetsByDepartment(departmentId, startDate, endDate)) {
+            List<DailyTimeSheet> timeSheets = result.computeIfAbsent(
+                    ((User) row[0]).getUserId(), employeeId -> new ArrayList<>());
+            if (row[1] != null) {
+                timeSheets.add((DailyTimeSheet) row[1]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void streamMonthlyTimeSheetsOfDepartment(
+            String departmentId, YearMonth yearMonth, Consumer<AttendanceCalendar> consumer) {
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
+        try (Stream<TimeSheetDayView> rows = repository.streamDayViewsByDepartment(
+                departmentId, startDate, endDate)) {
+            groupByEmployee(rows, startDate, endDate, consumer);
+        }
+    }
+
+    @Override
+    public void streamMonthlyTimeSheetsOfEmployees(
+            Collection<String> employeeIds, YearMonth yearMonth, Consumer<AttendanceCalendar> consumer) {
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            return;
+        }
+        LocalDate startDate = yearMonth.atDay(1);
+        LocalDate endDate = yearMonth.atEndOfMonth();
+        try (Stream<TimeSheetDayView> rows = repository.streamDayViewsByEmployees(
+                employeeIds, startDate, endDate)) {
+            groupByEmployee(rows, startDate, endDate, consumer);
+        }
+    }
+
+    @Override
+    public AttendanceCalendar getAttendanceCalendar(String employeeId, LocalDate startDate, LocalDate endDate) {
+        AttendanceCalendar[] calendar = new AttendanceCalendar[1];
+        try (Stream<TimeSheetDayView> rows = repository.streamDayViewsByEmployees(
+                List.of(employeeId), startDate, endDate)) {
+            groupByEmployee(rows, startDate, endDate, result -> calendar[0] = result);
+        }
+        // Unknown employee, no row at all
+        return calendar[0] != null ? calendar[0] : new AttendanceCalendar(employeeId, null, startDate, endDate);
+    }
+
+    /**
+     * Fold rows ordered by employee into one calendar per employee, emitting each
+     * calendar as soon as the next employee starts so only one is held at a time
+     */
+    private void groupByEmployee(Stream<TimeSheetDayView> rows, LocalDate startDate, LocalDate endDate,
+            Consumer<AttendanceCalendar> consumer) {
+        AttendanceCalendar current = null;
+        Iterator<TimeSheetDayView> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            TimeSheetDayView row = iterator.next();
+            if (current == null || !current.getEmployeeId().equals(row.getEmployeeId())) {
+                if (current != null) {
+                    consumer.accept(current);
+                }
+                current = new AttendanceCalendar(row.getEmployeeId(), row.getEmployeeName(), startDate, endDate);
+            }
+            if (row.getDate() != null) {
+                current.record(new AttendanceCalendar.Day(
+                        row.getDailyTsId(),
+                        row.getDate(),
+                        row.getMorningStatus(),
+                        row.getAfternoonStatus(),
+                        row.getMorningWfh(),
+                        row.getAfternoonWfh(),
+                        row.getTotalWorkCredit(),
+                        row.getCheckInTime(),
+                        row.getCheckOutTime(),
+                        row.getLateMinutes(),
+                        row.getEarlyLeaveMinutes(),
+                        row.getOvertimeMinutes(),
+                        row.getIsFinalized()));
+            }
+        }
+        if (current != null) {
+            consumer.accept(current);
+        }
+    }
+
+    @Override
+    public void streamTimeSheetsForExport(TimeSheetExportFilter filter, Consumer<ExportedTimeSheet> consumer) {
+        StringBuilder sql = new StringBuilder(EXPORT_SQL);
+        List<Object> params = new ArrayList<>();
+        params.add(filter.startDate());
+        params.add(filter.endDate());
+        if (filter.departmentId() != null) {
+            sql.append(" AND u.department_id = ?");
+            params.add(filter.departmentId());
+        }
+        if (!filter.employeeIds().isEmpty()) {
+            sql.append(" AND t.employee_id IN (")
+                    .append(String.join(", ", Collections.nCopies(filter.employeeIds().size(), "?")))
+                    .append(")");
+            params.addAll(filter.employeeIds());
+        }
+        sql.append(EXPORT_ORDER_BY);
+
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            statement.setFetchSize(EXPORT_FETCH_SIZE);
+            for (int i = 0; i < params.size(); i++) {
+                statement.setObject(i + 1, params.get(i));
+            }
+            return statement;
+        }, (RowCallbackHandler) resultSet -> consumer.accept(mapExportedTimeSheet(resultSet)));
+    }
+
+    private static ExportedTimeSheet mapExportedTimeSheet(ResultSet resultSet) throws SQLException {
+        return new ExportedTimeSheet(
+                resultSet.getString(1),
+                resultSet.getString(2),
+                resultSet.getString(3),
+                resultSet.getObject(4, LocalDate.class),
+                toAttendanceStatus(resultSet.getString(5)),
+                toAttendanceStatus(resultSet.getString(6)),
+                resultSet.getObject(7, Boolean.class),
+                resultSet.getObject(8, Boolean.class),
+                resultSet.getObject(9, Double.class),
+                resultSet.getObject(10, LocalDateTime.class),
+                resultSet.getObject(11, LocalDateTime.class),
+                resultSet.getObject(12, Integer.class),
+                resultSet.getObject(13, Integer.class),
+                resultSet.getObject(14, Integer.class),
+                resultSet.getObject(15, Boolean.class));
+    }
+
+    private static AttendanceStatus toAttendanceStatus(String value) {
+        return value != null ? AttendanceStatus.valueOf(value) : null;
+    }
+
     @Override
     public List<Map<String, Object>> getBatchAttendanceStatistics(
             List<String> userIds, LocalDate startDate, LocalDate endDate) {
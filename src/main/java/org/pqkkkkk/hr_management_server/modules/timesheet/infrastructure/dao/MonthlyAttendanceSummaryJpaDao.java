@@ -0,0 +1,91 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.dao;
+
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.dao.MonthlyAttendanceSummaryDao;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Enums.AttendanceStatus;
+import org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.dao.jpa_repository.MonthlyAttendanceSummaryRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+@Repository
+public class MonthlyAttendanceSummaryJpaDao implements MonthlyAttendanceSummaryDao {
+
+    private final MonthlyAttendanceSummaryRepository repository;
+
+    public MonthlyAttendanceSummaryJpaDao(MonthlyAttendanceSummaryRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Refreshes run in the transactions that change the daily timesheets, and two
+     * of them may target the same employee and month. The summary rows are
+     * created if missing and locked first, so a concurrent refresh waits for this
+     * transaction and then aggregates in a statement that sees its timesheets,
+     * instead of failing on the primary key or overwriting with older totals.
+     */
+    @Override
+    public void refreshSummaries(Collection<String> employeeIds, LocalDate monthStart) {
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            return;
+        }
+        LocalDate monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
+
+        repository.insertMissingSummaries(employeeIds, monthStart);
+        repository.lockSummaries(employeeIds, monthStart);
+        repository.updateSummariesForEmployees(employeeIds, monthStart, monthEnd, AttendanceStatus.PRESENT.name());
+        repository.deleteEmptySummaries(employeeIds, monthStart);
+    }
+
+    @Override
+    public int rebuildSummaries(LocalDate monthStart) {
+        LocalDate monthEnd = monthStart.withDayOfMonth(monthStart.lengthOfMonth());
+
+        repository.deleteByMonth(monthStart);
+        return repository.insertSummariesForMonth(monthStart, monthEnd, AttendanceStatus.PRESENT);
+    }
+
+    @Override
+    public Map<String, Object> getAttendanceStatistics(String employeeId, LocalDate monthStart) {
+        // Read scalars rather than the entity: summaries are rewritten with bulk
+        // statements, which would leave a managed instance stale
+        List<Map<String, Object>> results = getBatchAttendanceStatistics(List.of(employeeId), monthStart, monthStart);
+        if (!results.isEmpty()) {
+            Map<String, Object> statistics = new HashMap<>(results.get(0));
+            statistics.remove("userId");
+            return statistics;
+        }
+
+        Map<String, Object> statistics = new HashMap<>();
+        statistics.put("totalDays", 0L);
+        statistics.put("morningPresent", 0L);
+        statistics.put("afternoonPresent", 0L);
+        statistics.put("lateDays", 0L);
+        statistics.put("totalLateMinutes", 0L);
+        statistics.put("totalOvertimeMinutes", 0L);
+        statistics.put("totalWorkCredit", 0.0);
+        return statistics;
+    }
+
+    @Override
+    public List<Map<String, Object>> getBatchAttendanceStatistics(
+            List<String> userIds, LocalDate fromMonth, LocalDate toMonth) {
+        List<Object[]> results = repository.sumByEmployeesAndMonths(userIds, fromMonth, toMonth);
+
+        return results.stream().map(row -> {
+            Map<String, Object> stats = new HashMap<>();
+            stats.put("userId", row[0]);
+            stats.put("totalDays", row[1]);
+            stats.put("morningPresent", row[2]);
+            stats.put("afternoonPresent", row[3]);
+            stats.put("lateDays", row[4]);
+            stats.put("totalLateMinutes", row[5]);
+            stats.put("totalOvertimeMinutes", row[6]);
+            stats.put("totalWorkCredit", row[7]);
+            return stats;
+        }).toList();
+    }
+}
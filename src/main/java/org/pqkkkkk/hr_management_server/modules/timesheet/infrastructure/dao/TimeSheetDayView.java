@@ -0,0 +1,29 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.dao;
+
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Enums.AttendanceStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Projection used by month views over many employees: the employee columns
+ * plus one day of attendance. Day columns are null for an employee without
+ * any timesheet in the month.
+ */
+public interface TimeSheetDayView {
+    String getEmployeeId();
+    String getEmployeeName();
+    String getDailyTsId();
+    LocalDate getDate();
+    AttendanceStatus getMorningStatus();
+    AttendanceStatus getAfternoonStatus();
+    Boolean getMorningWfh();
+    Boolean getAfternoonWfh();
+    Double getTotalWorkCredit();
+    LocalDateTime getCheckInTime();
+    LocalDateTime getCheckOutTime();
+    Integer getLateMinutes();
+    Integer getEarlyLeaveMinutes();
+    Integer getOvertimeMinutes();
+    Boolean getIsFinalized();
+}
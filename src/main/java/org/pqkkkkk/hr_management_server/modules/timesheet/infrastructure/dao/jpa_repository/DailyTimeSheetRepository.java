@@ -1,21 +1,113 @@
 package org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.dao.jpa_repository;
 
+import org.hibernate.jpa.HibernateHints;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.DailyTimeSheet;
+import org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.dao.TimeSheetDayView;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
 import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface DailyTimeSheetRepository extends JpaRepository<DailyTimeSheet, String>,
                 JpaSpecificationExecutor<DailyTimeSheet> {
+
+        String DAY_VIEW_COLUMNS = "t.dailyTsId AS dailyTsId, t.date AS date, " +
+                        "t.morningStatus AS morningStatus, t.afternoonStatus AS afternoonStatus, " +
+                        "t.morningWfh AS morningWfh, t.afternoonWfh AS afternoonWfh, " +
+                        "t.totalWorkCredit AS totalWorkCredit, t.checkInTime AS checkInTime, " +
+                        "t.checkOutTime AS checkOutTime, t.lateMinutes AS lateMinutes, " +
+                        "t.earlyLeaveMinutes AS earlyLeaveMinutes, t.overtimeMinutes AS overtimeMinutes, " +
+                        "t.isFinalized AS isFinalized ";
+
+        String DAY_VIEW_FETCH_SIZE = "500";
+
         Optional<DailyTimeSheet> findByEmployeeUserIdAndDate(String userId, LocalDate date);
 
+        /**
+         * Load all timesheets of several employees within a date range in one query,
+         * with the employee and department fetched in the same select
+         */
+        @Query("SELECT t FROM DailyTimeSheet t JOIN FETCH t.employee e LEFT JOIN FETCH e.department " +
+                        "WHERE e.userId IN :userIds AND t.date BETWEEN :startDate AND :endDate " +
+                        "ORDER BY e.userId, t.date")
+        List<DailyTimeSheet> findByEmployeeUserIdInAndDateBetween(
+                        @Param("userIds") Collection<String> userIds,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        /**
+         * Lock and load the existing timesheets of an employee within a date range in
+         * one query, so concurrent approvals of the same days are applied one after
+         * another
+         */
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT t FROM DailyTimeSheet t " +
+                        "WHERE t.employee.userId = :userId AND t.date BETWEEN :startDate AND :endDate " +
+                        "ORDER BY t.date")
+        List<DailyTimeSheet> findForUpdateByEmployeeAndDateBetween(
+                        @Param("userId") String userId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        /**
+         * Load every employee of a department with their timesheets within a date
+         * range in one query, with the department fetched in the same select. Each
+         * row is an employee and one of their timesheets; employees without
+         * timesheets in the range still produce one row with a null timesheet.
+         */
+        @Query("SELECT e, t FROM User e LEFT JOIN FETCH e.department " +
+                        "LEFT JOIN DailyTimeSheet t " +
+                        "ON t.employee = e AND t.date BETWEEN :startDate AND :endDate " +
+                        "WHERE e.department.departmentId = :departmentId " +
+                        "ORDER BY e.fullName, e.userId, t.date")
+        List<Object[]> findEmployeesWithTimeSheetsByDepartment(
+                        @Param("departmentId") String departmentId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        /**
+         * Stream one row per (employee, day) for every employee of a department,
+         * ordered so that each employee's rows are contiguous. Employees without
+         * timesheets in the range still produce one row with null day columns.
+         */
+        @Query("SELECT e.userId AS employeeId, e.fullName AS employeeName, " + DAY_VIEW_COLUMNS +
+                        "FROM User e LEFT JOIN DailyTimeSheet t " +
+                        "ON t.employee = e AND t.date BETWEEN :startDate AND :endDate " +
+                        "WHERE e.department.departmentId = :departmentId " +
+                        "ORDER BY e.fullName, e.userId, t.date")
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = DAY_VIEW_FETCH_SIZE))
+        Stream<TimeSheetDayView> streamDayViewsByDepartment(
+                        @Param("departmentId") String departmentId,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
+        /**
+         * Same as {@link #streamDayViewsByDepartment} for an explicit list of employees
+         */
+        @Query("SELECT e.userId AS employeeId, e.fullName AS employeeName, " + DAY_VIEW_COLUMNS +
+                        "FROM User e LEFT JOIN DailyTimeSheet t " +
+                        "ON t.employee = e AND t.date BETWEEN :startDate AND :endDate " +
+                        "WHERE e.userId IN :userIds " +
+                        "ORDER BY e.fullName, e.userId, t.date")
+        @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = DAY_VIEW_FETCH_SIZE))
+        Stream<TimeSheetDayView> streamDayViewsByEmployees(
+                        @Param("userIds") Collection<String> userIds,
+                        @Param("startDate") LocalDate startDate,
+                        @Param("endDate") LocalDate endDate);
+
         /**
          * Count timesheets of an employee within date range
          * Useful for checking if employee has submitted timesheets
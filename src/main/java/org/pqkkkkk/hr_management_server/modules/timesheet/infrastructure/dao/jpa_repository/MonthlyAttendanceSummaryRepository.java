@@ -0,0 +1,119 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.dao.jpa_repository;
+
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Enums.AttendanceStatus;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.MonthlyAttendanceSummary;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import jakarta.persistence.LockModeType;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MonthlyAttendanceSummaryRepository
+                extends JpaRepository<MonthlyAttendanceSummary, MonthlyAttendanceSummary.SummaryId> {
+
+        /**
+         * Create empty summary rows for the employees that have none for the month,
+         * so that every summary to refresh has a row to lock. The primary key is the
+         * table's only unique constraint, so ON CONFLICT needs no target (H2, used in
+         * tests, accepts none)
+         */
+        @Modifying
+        @Query(value = """
+                        INSERT INTO monthly_attendance_summary_table (employee_id, month_start)
+                        SELECT u.user_id, :monthStart
+                        FROM user_table u
+                        WHERE u.user_id IN (:employeeIds)
+                        ON CONFLICT DO NOTHING
+                        """, nativeQuery = true)
+        int insertMissingSummaries(
+                        @Param("employeeIds") Collection<String> employeeIds,
+                        @Param("monthStart") LocalDate monthStart);
+
+        @Lock(LockModeType.PESSIMISTIC_WRITE)
+        @Query("SELECT s.employeeId FROM MonthlyAttendanceSummary s " +
+                        "WHERE s.employeeId IN :employeeIds AND s.monthStart = :monthStart ORDER BY s.employeeId")
+        List<String> lockSummaries(
+                        @Param("employeeIds") Collection<String> employeeIds,
+                        @Param("monthStart") LocalDate monthStart);
+
+        /**
+         * Overwrite the existing summaries of the given employees for one month with
+         * the aggregate of their daily timesheets, in one statement
+         */
+        @Modifying
+        @Query(value = """
+                        UPDATE monthly_attendance_summary_table s
+                        SET (total_days, morning_present, afternoon_present, late_days, total_late_minutes,
+                            total_overtime_minutes, total_work_credit) = (
+                            SELECT COUNT(*),
+                                COUNT(CASE WHEN t.morning_status = :present THEN 1 END),
+                                COUNT(CASE WHEN t.afternoon_status = :present THEN 1 END),
+                                COUNT(CASE WHEN t.late_minutes > 0 THEN 1 END),
+                                COALESCE(SUM(t.late_minutes), 0),
+                                COALESCE(SUM(t.overtime_minutes), 0),
+                                COALESCE(SUM(t.total_work_credit), 0)
+                            FROM daily_timesheet_table t
+                            WHERE t.employee_id = s.employee_id
+                            AND t.date BETWEEN :monthStart AND :monthEnd)
+                        WHERE s.employee_id IN (:employeeIds) AND s.month_start = :monthStart
+                        """, nativeQuery = true)
+        int updateSummariesForEmployees(
+                        @Param("employeeIds") Collection<String> employeeIds,
+                        @Param("monthStart") LocalDate monthStart,
+                        @Param("monthEnd") LocalDate monthEnd,
+                        @Param("present") String present);
+
+        // Employees left without timesheets in the month have no summary, as after a rebuild
+        @Modifying
+        @Query("DELETE FROM MonthlyAttendanceSummary s " +
+                        "WHERE s.employeeId IN :employeeIds AND s.monthStart = :monthStart AND s.totalDays = 0")
+        int deleteEmptySummaries(
+                        @Param("employeeIds") Collection<String> employeeIds,
+                        @Param("monthStart") LocalDate monthStart);
+
+        @Modifying
+        @Query("DELETE FROM MonthlyAttendanceSummary s WHERE s.monthStart = :monthStart")
+        int deleteByMonth(@Param("monthStart") LocalDate monthStart);
+
+        @Modifying
+        @Query("""
+                        INSERT INTO MonthlyAttendanceSummary (employeeId, monthStart, totalDays, morningPresent,
+                            afternoonPresent, lateDays, totalLateMinutes, totalOvertimeMinutes, totalWorkCredit)
+                        SELECT t.employee.userId, :monthStart, COUNT(t),
+                            SUM(CASE WHEN t.morningStatus = :present THEN 1L ELSE 0L END),
+                            SUM(CASE WHEN t.afternoonStatus = :present THEN 1L ELSE 0L END),
+                            SUM(CASE WHEN t.lateMinutes > 0 THEN 1L ELSE 0L END),
+                            COALESCE(SUM(t.lateMinutes), 0L),
+                            COALESCE(SUM(t.overtimeMinutes), 0L),
+                            COALESCE(SUM(t.totalWorkCredit), 0.0)
+                        FROM DailyTimeSheet t
+                        WHERE t.date BETWEEN :monthStart AND :monthEnd
+                        GROUP BY t.employee.userId
+                        """)
+        int insertSummariesForMonth(
+                        @Param("monthStart") LocalDate monthStart,
+                        @Param("monthEnd") LocalDate monthEnd,
+                        @Param("present") AttendanceStatus present);
+
+        /**
+         * Sum the monthly summaries of several employees over a range of months,
+         * grouped by employee
+         */
+        @Query("SELECT s.employeeId, SUM(s.totalDays), SUM(s.morningPresent), SUM(s.afternoonPresent), " +
+                        "SUM(s.lateDays), SUM(s.totalLateMinutes), SUM(s.totalOvertimeMinutes), SUM(s.totalWorkCredit) " +
+                        "FROM MonthlyAttendanceSummary s " +
+                        "WHERE s.employeeId IN :userIds AND s.monthStart BETWEEN :fromMonth AND :toMonth " +
+                        "GROUP BY s.employeeId")
+        List<Object[]> sumByEmployeesAndMonths(
+                        @Param("userIds") Collection<String> userIds,
+                        @Param("fromMonth") LocalDate fromMonth,
+                        @Param("toMonth") LocalDate toMonth);
+}
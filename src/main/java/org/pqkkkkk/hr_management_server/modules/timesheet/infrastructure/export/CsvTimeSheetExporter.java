@@ -0,0 +1,113 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.export;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.ExportedTimeSheet;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetExporter;
+import org.pqkkkkk.hr_management_server.shared.Constants.SupportedFileFormat;
+import org.pqkkkkk.hr_management_server.shared.file.ColumnSchema;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes timesheet rows as RFC 4180 CSV in UTF-8, one line per row.
+ * <p>
+ * The file starts with a byte order mark so that Excel reads it as UTF-8
+ * rather than in the system code page. Values that a spreadsheet would
+ * evaluate as a formula are prefixed with a single quote.
+ */
+@Component
+public class CsvTimeSheetExporter implements TimeSheetExporter {
+
+    private static final String LINE_SEPARATOR = "\r\n";
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final char FORMULA_ESCAPE = '\'';
+    private static final ColumnSchema<ExportedTimeSheet> SCHEMA = ColumnSchema.of(ExportedTimeSheet.class);
+
+    @Override
+    public SupportedFileFormat getFileFormat() {
+        return SupportedFileFormat.CSV;
+    }
+
+    @Override
+    public void export(Consumer<Consumer<ExportedTimeSheet>> source, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        writer.write(BYTE_ORDER_MARK);
+        writeHeader(writer);
+        try {
+            source.accept(row -> {
+                try {
+                    writeRow(writer, row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        // Flush only, the caller owns the stream
+        writer.flush();
+    }
+
+    private void writeHeader(Writer writer) throws IOException {
+        List<String> headers = SCHEMA.getHeaders();
+        for (int i = 0; i < headers.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(writer, headers.get(i));
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeRow(Writer writer, ExportedTimeSheet row) throws IOException {
+        List<ColumnSchema.Column> columns = SCHEMA.getColumns();
+        for (int i = 0; i < columns.size(); i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeValue(writer, columns.get(i).getText(row));
+        }
+        writer.write(LINE_SEPARATOR);
+    }
+
+    private void writeValue(Writer writer, String text) throws IOException {
+        if (startsFormula(text)) {
+            text = FORMULA_ESCAPE + text;
+        }
+        if (!needsQuoting(text)) {
+            writer.write(text);
+            return;
+        }
+        writer.write('"');
+        writer.write(text.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private boolean startsFormula(String text) {
+        if (text.isEmpty()) {
+            return false;
+        }
+        char first = text.charAt(0);
+        return first == '=' || first == '+' || first == '-' || first == '@';
+    }
+
+    private boolean needsQuoting(String text) {
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == ',' || c == '"' || c == '\r' || c == '\n') {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,133 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.export;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Cell;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.FillPatternType;
+import org.apache.poi.ss.usermodel.Font;
+import org.apache.poi.ss.usermodel.IndexedColors;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.ExportedTimeSheet;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetExporter;
+import org.pqkkkkk.hr_management_server.shared.Constants.SupportedFileFormat;
+import org.pqkkkkk.hr_management_server.shared.file.ColumnSchema;
+import org.springframework.stereotype.Component;
+
+/**
+ * Writes timesheet rows to XLSX with POI's streaming SXSSF workbook.
+ * <p>
+ * Only the last {@link #ROW_ACCESS_WINDOW} rows are kept in memory, older rows
+ * are flushed to a compressed temp file. Column widths are fixed up front since
+ * autosizing would need every row. A sheet holds at most the XLSX row limit, a
+ * larger export continues on a new sheet.
+ */
+@Component
+public class ExcelTimeSheetExporter implements TimeSheetExporter {
+
+    private static final int ROW_ACCESS_WINDOW = 100;
+
+    private static final String SHEET_NAME = "Timesheets";
+    private static final int MAX_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getMaxRows();
+    private static final int MIN_COLUMN_WIDTH_CHARS = 12;
+    private static final ColumnSchema<ExportedTimeSheet> SCHEMA = ColumnSchema.of(ExportedTimeSheet.class);
+
+    @Override
+    public SupportedFileFormat getFileFormat() {
+        return SupportedFileFormat.EXCEL;
+    }
+
+    @Override
+    public void export(Consumer<Consumer<ExportedTimeSheet>> source, OutputStream outputStream) throws IOException {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        try {
+            CellStyle headerStyle = createHeaderStyle(workbook);
+            SheetCursor cursor = new SheetCursor(workbook, headerStyle);
+
+            List<ColumnSchema.Column> columns = SCHEMA.getColumns();
+            source.accept(row -> {
+                Row sheetRow = cursor.nextRow();
+                for (int i = 0; i < columns.size(); i++) {
+                    ColumnSchema.Column column = columns.get(i);
+                    setCellValue(sheetRow.createCell(i), column.getCellType(), column.getValue(row));
+                }
+            });
+
+            // The caller owns the stream
+            workbook.write(CloseShieldOutputStream.wrap(outputStream));
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * Hands out rows in order, starting a new sheet when the current one is full
+     */
+    private static class SheetCursor {
+        private final SXSSFWorkbook workbook;
+        private final CellStyle headerStyle;
+        private SXSSFSheet sheet;
+        private int rowIndex;
+
+        SheetCursor(SXSSFWorkbook workbook, CellStyle headerStyle) {
+            this.workbook = workbook;
+            this.headerStyle = headerStyle;
+            startSheet();
+        }
+
+        Row nextRow() {
+            if (rowIndex == MAX_ROWS_PER_SHEET) {
+                startSheet();
+            }
+            return sheet.createRow(rowIndex++);
+        }
+
+        private void startSheet() {
+            int sheetNumber = workbook.getNumberOfSheets() + 1;
+            sheet = workbook.createSheet(sheetNumber == 1 ? SHEET_NAME : SHEET_NAME + " " + sheetNumber);
+
+            List<String> headers = SCHEMA.getHeaders();
+            Row headerRow = sheet.createRow(0);
+            for (int i = 0; i < headers.size(); i++) {
+                Cell cell = headerRow.createCell(i);
+                cell.setCellValue(headers.get(i));
+                cell.setCellStyle(headerStyle);
+                sheet.setColumnWidth(i, Math.max(headers.get(i).length() + 2, MIN_COLUMN_WIDTH_CHARS) * 256);
+            }
+            sheet.createFreezePane(0, 1);
+            rowIndex = 1;
+        }
+    }
+
+    private CellStyle createHeaderStyle(SXSSFWorkbook workbook) {
+        CellStyle style = workbook.createCellStyle();
+        Font font = workbook.createFont();
+        font.setBold(true);
+        style.setFont(font);
+        style.setFillForegroundColor(IndexedColors.GREY_25_PERCENT.getIndex());
+        style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
+        return style;
+    }
+
+    private void setCellValue(Cell cell, ColumnSchema.CellType cellType, Object value) {
+        if (value == null) {
+            cell.setBlank();
+            return;
+        }
+        switch (cellType) {
+            case NUMBER -> cell.setCellValue(((Number) value).doubleValue());
+            case BOOLEAN -> cell.setCellValue((Boolean) value);
+            case STRING -> cell.setCellValue(
+                    value instanceof Enum<?> enumValue ? enumValue.name() : value.toString());
+        }
+    }
+}
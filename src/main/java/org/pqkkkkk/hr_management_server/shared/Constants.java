@@ -13,7 +13,8 @@ public class Constants {
 
     public enum SupportedFileFormat {
         EXCEL(".xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"),
-        PDF(".pdf", "application/pdf");
+        PDF(".pdf", "application/pdf"),
+        CSV(".csv", "text/csv");
 
         private final String fileExtension;
         private final String contentType;
@@ -0,0 +1,38 @@
+package org.pqkkkkk.hr_management_server.shared;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizes free text for accent and case insensitive search.
+ * <p>
+ * Lower-cases, trims, removes diacritics and folds 'đ' to 'd', so that
+ * "Nguyễn Văn Đức" and "nguyen van duc" normalize to the same value. Stored
+ * search_name values are written with it, existing rows were recomputed by the
+ * V37__Backfill_user_search_name Java migration.
+ */
+public final class SearchTextNormalizer {
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private SearchTextNormalizer() {
+    }
+
+    /**
+     * @return the normalized text, or null if the input is null
+     */
+    public static String normalize(String text) {
+        if (text == null) {
+            return null;
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        String stripped = COMBINING_MARKS.matcher(decomposed).replaceAll("");
+        return stripped
+                .replace('đ', 'd')
+                .replace('Đ', 'D')
+                .toLowerCase(Locale.ROOT)
+                .trim();
+    }
+}
@@ -0,0 +1,212 @@
+package org.pqkkkkk.hr_management_server.shared.file;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Columns of an export type, compiled once per class.
+ * <p>
+ * Headers, order and formats are read from the fields and their
+ * {@link ExportColumn} annotation when the type is first exported. Each column
+ * keeps a MethodHandle getter and the kind of cell it writes, so exporting a row
+ * needs no reflection lookups, setAccessible calls or header regexes.
+ */
+public final class ColumnSchema<T> {
+
+    /**
+     * Kind of cell a column is written as
+     */
+    public enum CellType {
+        STRING,
+        NUMBER,
+        BOOLEAN
+    }
+
+    private static final ClassValue<ColumnSchema<?>> CACHE = new ClassValue<>() {
+        @Override
+        protected ColumnSchema<?> computeValue(Class<?> type) {
+            return compile(type);
+        }
+    };
+
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+    private final Class<T> type;
+    private final List<Column> columns;
+    private final List<String> headers;
+
+    private ColumnSchema(Class<T> type, List<Column> columns) {
+        this.type = type;
+        this.columns = List.copyOf(columns);
+        this.headers = columns.stream().map(Column::getHeader).toList();
+    }
+
+    /**
+     * @return the cached schema of the given type, compiled on first use
+     * @throws IllegalArgumentException if the type has an unusable column
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> ColumnSchema<T> of(Class<T> type) {
+        return (ColumnSchema<T>) CACHE.get(type);
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    public List<Column> getColumns() {
+        return columns;
+    }
+
+    public List<String> getHeaders() {
+        return headers;
+    }
+
+    public int size() {
+        return columns.size();
+    }
+
+    /**
+     * One exported field with its precompiled getter and formatting
+     */
+    public static final class Column {
+        private final String header;
+        private final CellType cellType;
+        private final MethodHandle getter;
+        private final DateTimeFormatter formatter;
+
+        private Column(String header, CellType cellType, MethodHandle getter, DateTimeFormatter formatter) {
+            this.header = header;
+            this.cellType = cellType;
+            this.getter = getter;
+            this.formatter = formatter;
+        }
+
+        public String getHeader() {
+            return header;
+        }
+
+        public CellType getCellType() {
+            return cellType;
+        }
+
+        /**
+         * @return the value of the column, a String when the column has a format
+         */
+        public Object getValue(Object row) {
+            Object value = read(row);
+            if (value == null || formatter == null) {
+                return value;
+            }
+            return formatter.format((TemporalAccessor) value);
+        }
+
+        /**
+         * @return the value rendered as text, empty for null
+         */
+        public String getText(Object row) {
+            Object value = getValue(row);
+            if (value == null) {
+                return "";
+            }
+            return value instanceof Enum<?> enumValue ? enumValue.name() : value.toString();
+        }
+
+        private Object read(Object row) {
+            try {
+                return (Object) getter.invokeExact(row);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to read column " + header, e);
+            }
+        }
+    }
+
+    // ============= Compilation =============
+
+    private static <T> ColumnSchema<T> compile(Class<T> type) {
+        MethodHandles.Lookup lookup;
+        try {
+            lookup = MethodHandles.privateLookupIn(type, MethodHandles.lookup());
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot export type " + type.getName(), e);
+        }
+
+        record Declared(Field field, ExportColumn annotation, int order) {
+        }
+        List<Declared> declared = new ArrayList<>();
+        for (Field field : type.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) || field.isSynthetic()) {
+                continue;
+            }
+            ExportColumn annotation = field.getAnnotation(ExportColumn.class);
+            if (annotation != null && annotation.exclude()) {
+                continue;
+            }
+            declared.add(new Declared(field, annotation,
+                    annotation != null ? annotation.order() : Integer.MAX_VALUE));
+        }
+        // Stable sort, declaration order breaks ties
+        declared.sort(Comparator.comparingInt(Declared::order));
+
+        List<Column> columns = new ArrayList<>(declared.size());
+        for (Declared entry : declared) {
+            columns.add(compileColumn(lookup, type, entry.field(), entry.annotation()));
+        }
+        return new ColumnSchema<>(type, columns);
+    }
+
+    private static Column compileColumn(MethodHandles.Lookup lookup, Class<?> type, Field field,
+            ExportColumn annotation) {
+        String header = annotation != null && !annotation.header().isEmpty()
+                ? annotation.header()
+                : formatFieldName(field.getName());
+
+        MethodHandle getter;
+        try {
+            getter = lookup.unreflectGetter(field).asType(GETTER_TYPE);
+        } catch (IllegalAccessException e) {
+            throw new IllegalArgumentException("Cannot read field " + field.getName() + " of " + type.getName(), e);
+        }
+
+        DateTimeFormatter formatter = null;
+        if (annotation != null && !annotation.format().isEmpty()) {
+            if (!TemporalAccessor.class.isAssignableFrom(field.getType())) {
+                throw new IllegalArgumentException("Format is only supported on date and time fields: "
+                        + type.getName() + "." + field.getName());
+            }
+            formatter = DateTimeFormatter.ofPattern(annotation.format());
+        }
+
+        CellType cellType = formatter != null ? CellType.STRING : cellTypeOf(field.getType());
+        return new Column(header, cellType, getter, formatter);
+    }
+
+    private static CellType cellTypeOf(Class<?> fieldType) {
+        if (Number.class.isAssignableFrom(fieldType)
+                || (fieldType.isPrimitive() && fieldType != boolean.class && fieldType != char.class)) {
+            return CellType.NUMBER;
+        }
+        if (fieldType == Boolean.class || fieldType == boolean.class) {
+            return CellType.BOOLEAN;
+        }
+        return CellType.STRING;
+    }
+
+    /**
+     * Convert camelCase to Title Case with spaces
+     */
+    static String formatFieldName(String fieldName) {
+        String spaced = fieldName.replaceAll("([A-Z])", " $1").trim();
+        return spaced.substring(0, 1).toUpperCase() + spaced.substring(1);
+    }
+}
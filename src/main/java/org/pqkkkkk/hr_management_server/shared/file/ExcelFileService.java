@@ -2,74 +2,149 @@ package org.pqkkkkk.hr_management_server.shared.file;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.lang.reflect.Field;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 
+import org.apache.commons.io.output.CloseShieldOutputStream;
+import org.apache.poi.ss.SpreadsheetVersion;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.pqkkkkk.hr_management_server.shared.Constants.SupportedFileFormat;
 import org.springframework.stereotype.Service;
 
+/**
+ * Excel export backed by POI's streaming SXSSF workbook.
+ * <p>
+ * Only the last rowAccessWindow rows are kept in memory, older rows are flushed
+ * to a compressed temp file. Column widths are estimated from the first
+ * {@link #WIDTH_SAMPLE_ROWS} rows instead of autosizing, which would need every
+ * row. A sheet holds at most maxRowsPerSheet rows, larger exports continue on a
+ * new sheet with the same header. Columns come from the precompiled
+ * {@link ColumnSchema} of the exported type.
+ */
 @Service
 public class ExcelFileService<T> implements FileService<T> {
+
+    static final int DEFAULT_ROW_ACCESS_WINDOW = 100;
+    static final int WIDTH_SAMPLE_ROWS = 200;
+
+    private static final String SHEET_NAME = "Data";
+    private static final int MIN_COLUMN_WIDTH_CHARS = 8;
+    private static final int MAX_COLUMN_WIDTH_CHARS = 60;
+
+    private final int rowAccessWindow;
+    private final int maxRowsPerSheet;
+
+    public ExcelFileService() {
+        this(DEFAULT_ROW_ACCESS_WINDOW, SpreadsheetVersion.EXCEL2007.getMaxRows());
+    }
+
+    ExcelFileService(int rowAccessWindow, int maxRowsPerSheet) {
+        this.rowAccessWindow = rowAccessWindow;
+        this.maxRowsPerSheet = maxRowsPerSheet;
+    }
+
     @Override
     public byte[] exportListToFile(List<T> dataList) {
         if (dataList == null || dataList.isEmpty()) {
             throw new IllegalArgumentException("Data list cannot be null or empty");
         }
 
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
-            
-            Sheet sheet = workbook.createSheet("Data");
-            Class<?> clazz = dataList.get(0).getClass();
-            Field[] fields = clazz.getDeclaredFields();
-            
-            // Create header row
-            Row headerRow = sheet.createRow(0);
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            exportToStream(dataList.iterator(), outputStream);
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to export data to Excel file", e);
+        }
+    }
+
+    @Override
+    public void exportToStream(Iterator<T> rows, OutputStream outputStream) throws IOException {
+        if (rows == null || !rows.hasNext()) {
+            throw new IllegalArgumentException("Data list cannot be null or empty");
+        }
+
+        T data = rows.next();
+        List<ColumnSchema.Column> columns = ColumnSchema.of(data.getClass()).getColumns();
+        String[] headers = new String[columns.size()];
+        int[] columnWidths = new int[columns.size()];
+        for (int i = 0; i < columns.size(); i++) {
+            headers[i] = columns.get(i).getHeader();
+            columnWidths[i] = headers[i].length();
+        }
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(rowAccessWindow);
+        workbook.setCompressTempFiles(true);
+        try {
             CellStyle headerStyle = createHeaderStyle(workbook);
-            
-            for (int i = 0; i < fields.length; i++) {
-                fields[i].setAccessible(true);
-                Cell cell = headerRow.createCell(i);
-                cell.setCellValue(formatFieldName(fields[i].getName()));
-                cell.setCellStyle(headerStyle);
-            }
-            
-            // Create data rows
-            for (int rowIdx = 0; rowIdx < dataList.size(); rowIdx++) {
-                Row row = sheet.createRow(rowIdx + 1);
-                T data = dataList.get(rowIdx);
-                
-                for (int colIdx = 0; colIdx < fields.length; colIdx++) {
-                    Cell cell = row.createCell(colIdx);
-                    Field field = fields[colIdx];
-                    field.setAccessible(true);
-                    
-                    try {
-                        Object value = field.get(data);
-                        setCellValue(cell, value);
-                    } catch (IllegalAccessException e) {
-                        cell.setCellValue("");
+            List<SXSSFSheet> sheets = new ArrayList<>();
+            SXSSFSheet sheet = createSheet(workbook, headers, headerStyle, sheets);
+            int rowIdx = 1;
+            int rowCount = 0;
+
+            while (data != null) {
+                if (rowIdx == maxRowsPerSheet) {
+                    sheet = createSheet(workbook, headers, headerStyle, sheets);
+                    rowIdx = 1;
+                }
+                Row row = sheet.createRow(rowIdx++);
+
+                for (int colIdx = 0; colIdx < headers.length; colIdx++) {
+                    ColumnSchema.Column column = columns.get(colIdx);
+                    Object value = column.getValue(data);
+                    setCellValue(row.createCell(colIdx), column.getCellType(), value);
+                    if (rowCount < WIDTH_SAMPLE_ROWS && value != null) {
+                        columnWidths[colIdx] = Math.max(columnWidths[colIdx], displayLength(value));
                     }
                 }
+                rowCount++;
+
+                data = rows.hasNext() ? rows.next() : null;
             }
-            
-            // Auto-size columns
-            for (int i = 0; i < fields.length; i++) {
-                sheet.autoSizeColumn(i);
+
+            for (SXSSFSheet exportedSheet : sheets) {
+                applyColumnWidths(exportedSheet, columnWidths);
             }
-            
-            workbook.write(outputStream);
-            return outputStream.toByteArray();
-            
-        } catch (IOException e) {
-            throw new RuntimeException("Failed to export data to Excel file", e);
+
+            // The caller owns the stream
+            workbook.write(CloseShieldOutputStream.wrap(outputStream));
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private SXSSFSheet createSheet(SXSSFWorkbook workbook, String[] headers, CellStyle headerStyle,
+            List<SXSSFSheet> sheets) {
+        SXSSFSheet sheet = workbook.createSheet(sheets.isEmpty() ? SHEET_NAME : SHEET_NAME + " " + (sheets.size() + 1));
+        sheets.add(sheet);
+
+        Row headerRow = sheet.createRow(0);
+        for (int i = 0; i < headers.length; i++) {
+            Cell cell = headerRow.createCell(i);
+            cell.setCellValue(headers[i]);
+            cell.setCellStyle(headerStyle);
+        }
+        return sheet;
+    }
+
+    private void applyColumnWidths(SXSSFSheet sheet, int[] columnWidths) {
+        for (int i = 0; i < columnWidths.length; i++) {
+            int chars = Math.min(Math.max(columnWidths[i] + 2, MIN_COLUMN_WIDTH_CHARS), MAX_COLUMN_WIDTH_CHARS);
+            sheet.setColumnWidth(i, chars * 256);
         }
     }
-    
+
+    private int displayLength(Object value) {
+        if (value instanceof Enum<?> enumValue) {
+            return enumValue.name().length();
+        }
+        return value.toString().length();
+    }
+
     private CellStyle createHeaderStyle(Workbook workbook) {
         CellStyle style = workbook.createCellStyle();
         Font font = workbook.createFont();
@@ -79,32 +154,20 @@ public class ExcelFileService<T> implements FileService<T> {
         style.setFillPattern(FillPatternType.SOLID_FOREGROUND);
         return style;
     }
-    
-    private String formatFieldName(String fieldName) {
-        // Convert camelCase to Title Case with spaces
-        return fieldName.replaceAll("([A-Z])", " $1")
-                       .trim()
-                       .substring(0, 1).toUpperCase() + 
-               fieldName.replaceAll("([A-Z])", " $1").trim().substring(1);
-    }
-    
-    private void setCellValue(Cell cell, Object value) {
+
+    /**
+     * Write a value as the cell type resolved for its column
+     */
+    private void setCellValue(Cell cell, ColumnSchema.CellType cellType, Object value) {
         if (value == null) {
             cell.setCellValue("");
-        } else if (value instanceof String) {
-            cell.setCellValue((String) value);
-        } else if (value instanceof Number) {
-            cell.setCellValue(((Number) value).doubleValue());
-        } else if (value instanceof Boolean) {
-            cell.setCellValue((Boolean) value);
-        } else if (value instanceof LocalDate) {
-            cell.setCellValue(value.toString());
-        } else if (value instanceof LocalDateTime) {
-            cell.setCellValue(value.toString());
-        } else if (value instanceof Enum) {
-            cell.setCellValue(((Enum<?>) value).name());
-        } else {
-            cell.setCellValue(value.toString());
+            return;
+        }
+        switch (cellType) {
+            case NUMBER -> cell.setCellValue(((Number) value).doubleValue());
+            case BOOLEAN -> cell.setCellValue((Boolean) value);
+            case STRING -> cell.setCellValue(
+                    value instanceof Enum<?> enumValue ? enumValue.name() : value.toString());
         }
     }
 
@@ -0,0 +1,38 @@
+package org.pqkkkkk.hr_management_server.shared.file;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declares how a field of an export type is written by the FileService
+ * exports. Fields without it are exported in declaration order with a header
+ * derived from the field name.
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.FIELD)
+public @interface ExportColumn {
+
+    /**
+     * Column header, derived from the field name when empty
+     * (e.g. "joinDate" becomes "Join Date")
+     */
+    String header() default "";
+
+    /**
+     * Position of the column, lower first. Columns with the same order keep
+     * their declaration order.
+     */
+    int order() default Integer.MAX_VALUE;
+
+    /**
+     * DateTimeFormatter pattern for date and time fields, ISO format when empty
+     */
+    String format() default "";
+
+    /**
+     * Leave the field out of the export
+     */
+    boolean exclude() default false;
+}
@@ -1,10 +1,31 @@
 package org.pqkkkkk.hr_management_server.shared.file;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.pqkkkkk.hr_management_server.shared.Constants.SupportedFileFormat;
 
 public interface FileService<T> {
     public byte[] exportListToFile(List<T> dataList);
+
+    /**
+     * Write the rows straight to an output stream, e.g. a StorageService sink.
+     * The stream is not closed. Formats that cannot stream collect the rows and
+     * write the result of {@link #exportListToFile(List)}.
+     */
+    public default void exportToStream(Iterator<T> rows, OutputStream outputStream) throws IOException {
+        List<T> dataList = new ArrayList<>();
+        rows.forEachRemaining(dataList::add);
+        outputStream.write(exportListToFile(dataList));
+    }
+
+    public default void exportToStream(Stream<T> rows, OutputStream outputStream) throws IOException {
+        exportToStream(rows.iterator(), outputStream);
+    }
+
     public SupportedFileFormat getFileFormat();
 }
@@ -5,8 +5,11 @@ import java.util.Map;
 
 import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.ExportedUser;
 import org.pqkkkkk.hr_management_server.shared.Constants.SupportedFileFormat;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
 @Configuration
 public class FileServiceFactory {
@@ -16,8 +19,27 @@ public class FileServiceFactory {
     }
 
     @Bean
-    public PdfFileService<ExportedUser> pdfFileServiceForUser() {
-        return new PdfFileService<>();
+    public PdfFileService<ExportedUser> pdfFileServiceForUser(
+            @Qualifier("pdfRenderExecutor") ThreadPoolTaskExecutor pdfRenderExecutor,
+            @Value("${file.pdf.rows-per-chunk:200}") int rowsPerChunk) {
+        return new PdfFileService<>(pdfRenderExecutor, rowsPerChunk);
+    }
+
+    /**
+     * Workers laying out PDF export chunks, shared by all PDF exports
+     */
+    @Bean(name = "pdfRenderExecutor")
+    public ThreadPoolTaskExecutor pdfRenderExecutor(@Value("${file.pdf.render-threads:4}") int renderThreads) {
+        if (renderThreads <= 0) {
+            throw new IllegalArgumentException("Invalid PDF render thread count: " + renderThreads);
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("pdf-render-");
+        executor.setCorePoolSize(renderThreads);
+        executor.setMaxPoolSize(renderThreads);
+        executor.initialize();
+        return executor;
     }
 
     @Bean(name = "profileFileServices")
@@ -3,26 +3,68 @@ package org.pqkkkkk.hr_management_server.shared.file;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.Field;
+import java.io.OutputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
 import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
 
 import org.pqkkkkk.hr_management_server.shared.Constants.SupportedFileFormat;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StreamUtils;
 import org.xhtmlrenderer.pdf.ITextRenderer;
 
+/**
+ * PDF export rendered in chunks on a worker pool.
+ * <p>
+ * Rows are read on the calling thread and split into chunks of rowsPerChunk
+ * rows, each laid out by Flying Saucer as its own small document on the render
+ * executor. Finished parts are merged in order by {@link PdfPartMerger}, which
+ * streams pages to the output and numbers them across the whole document. At
+ * most two chunks per render thread are pending, so memory stays bounded by the
+ * chunk size instead of the export size. The table header repeats on every
+ * page.
+ * <p>
+ * Every chunk starts on a new page, so the last page of each chunk but the last
+ * may be partly empty. The document has at most one page per chunk boundary more
+ * than a single pass would produce. How many rows fit on a page depends on the
+ * cell contents, so chunks are not sized to whole pages; a larger rowsPerChunk
+ * makes the extra pages rarer.
+ * <p>
+ * When an export fails, queued chunks are cancelled before they start. Flying
+ * Saucer does not react to interrupts, so a chunk already being rendered checks
+ * a cancellation flag between layout and writing instead.
+ */
 @Service
 public class PdfFileService<T> implements FileService<T> {
     
     private static final String HTML_TEMPLATE_PATH = "templates/pdf/table-template.html";
     private static final String CSS_TEMPLATE_PATH = "templates/pdf/table-style.css";
+    private static final String TITLE = "Exported Data";
     
+    private final ThreadPoolTaskExecutor renderExecutor;
+    private final int maxPendingChunks;
+    private final int rowsPerChunk;
     private String htmlTemplate;
     private String cssContent;
     
-    public PdfFileService() {
+    public PdfFileService(@Qualifier("pdfRenderExecutor") ThreadPoolTaskExecutor renderExecutor,
+            @Value("${file.pdf.rows-per-chunk:200}") int rowsPerChunk) {
+        if (rowsPerChunk <= 0) {
+            throw new IllegalArgumentException("Invalid PDF rows per chunk: " + rowsPerChunk);
+        }
+        this.renderExecutor = renderExecutor;
+        this.maxPendingChunks = renderExecutor.getMaxPoolSize() * 2;
+        this.rowsPerChunk = rowsPerChunk;
         try {
             this.htmlTemplate = loadResourceFile(HTML_TEMPLATE_PATH);
             this.cssContent = loadResourceFile(CSS_TEMPLATE_PATH);
@@ -30,83 +72,126 @@ public class PdfFileService<T> implements FileService<T> {
             throw new RuntimeException("Failed to load PDF templates from resources", e);
         }
     }
+
     @Override
     public byte[] exportListToFile(List<T> dataList) {
         if (dataList == null || dataList.isEmpty()) {
             throw new IllegalArgumentException("Data list cannot be null or empty");
         }
 
+        try (ByteArrayOutputStream outputStream = new ByteArrayOutputStream()) {
+            exportToStream(dataList.iterator(), outputStream);
+            return outputStream.toByteArray();
+        } catch (IOException e) {
+            throw new RuntimeException("Failed to export data to PDF file", e);
+        }
+    }
+
+    @Override
+    public void exportToStream(Iterator<T> rows, OutputStream outputStream) throws IOException {
+        if (rows == null || !rows.hasNext()) {
+            throw new IllegalArgumentException("Data list cannot be null or empty");
+        }
+
+        T item = rows.next();
+        ColumnSchema<?> schema = ColumnSchema.of(item.getClass());
+        String headers = generateHeaders(schema);
+
+        PdfPartMerger merger = new PdfPartMerger(outputStream);
+        Deque<Future<byte[]>> pending = new ArrayDeque<>();
+        AtomicBoolean cancelled = new AtomicBoolean();
+        try {
+            boolean firstChunk = true;
+            while (item != null) {
+                StringBuilder tableRows = new StringBuilder();
+                for (int count = 0; item != null && count < rowsPerChunk; count++) {
+                    appendRow(tableRows, schema, item);
+                    item = rows.hasNext() ? rows.next() : null;
+                }
+                String html = generateHtml(firstChunk ? TITLE : null, headers, tableRows.toString());
+                firstChunk = false;
+
+                pending.add(renderExecutor.submit(() -> renderPdf(html, cancelled)));
+                if (pending.size() >= maxPendingChunks) {
+                    merger.append(await(pending.poll()));
+                }
+            }
+            while (!pending.isEmpty()) {
+                merger.append(await(pending.poll()));
+            }
+            merger.finish();
+        } finally {
+            cancelled.set(true);
+            pending.forEach(future -> future.cancel(true));
+        }
+    }
+
+    @Override
+    public SupportedFileFormat getFileFormat() {
+        return SupportedFileFormat.PDF;
+    }
+
+    /**
+     * Lay out one chunk and render it as a standalone PDF, unless the export
+     * has been abandoned
+     */
+    private byte[] renderPdf(String htmlContent, AtomicBoolean cancelled) {
         try {
-            // Generate HTML content from data list
-            String htmlContent = generateHtmlTable(dataList);
-            
-            // Convert HTML to PDF using Flying Saucer
             ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
             ITextRenderer renderer = new ITextRenderer();
             renderer.setDocumentFromString(htmlContent);
             renderer.layout();
+            if (cancelled.get()) {
+                throw new CancellationException("PDF export was abandoned");
+            }
             renderer.createPDF(outputStream);
-            
             return outputStream.toByteArray();
+        } catch (CancellationException e) {
+            throw e;
         } catch (Exception e) {
             throw new RuntimeException("Failed to export data to PDF file", e);
         }
     }
 
-    @Override
-    public SupportedFileFormat getFileFormat() {
-        return SupportedFileFormat.PDF;
+    private byte[] await(Future<byte[]> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for a PDF chunk", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new RuntimeException("Failed to export data to PDF file", e.getCause());
+        }
     }
 
-    /**
-     * Generate HTML table from data list using template
-     */
-    private String generateHtmlTable(List<T> dataList) {
-        if (dataList.isEmpty()) {
-            return htmlTemplate
-                    .replace("{{CSS_CONTENT}}", cssContent)
-                    .replace("{{TITLE}}", "Exported Data")
-                    .replace("{{TABLE_HEADERS}}", "")
-                    .replace("{{TABLE_ROWS}}", "");
-        }
-        
-        T firstItem = dataList.get(0);
-        Field[] fields = firstItem.getClass().getDeclaredFields();
-        
-        // Generate table headers
+    private String generateHeaders(ColumnSchema<?> schema) {
         StringBuilder headers = new StringBuilder();
-        for (Field field : fields) {
-            field.setAccessible(true);
-            String fieldName = field.getName();
-            // Convert camelCase to Title Case with spaces
-            String headerName = fieldName.replaceAll("([A-Z])", " $1").trim();
-            headerName = headerName.substring(0, 1).toUpperCase() + headerName.substring(1);
+        for (String headerName : schema.getHeaders()) {
             headers.append("<th>").append(escapeHtml(headerName)).append("</th>\n");
         }
-        
-        // Generate table rows
-        StringBuilder rows = new StringBuilder();
-        for (T item : dataList) {
-            rows.append("<tr>\n");
-            for (Field field : fields) {
-                field.setAccessible(true);
-                try {
-                    Object value = field.get(item);
-                    String cellValue = value != null ? value.toString() : "";
-                    rows.append("<td>").append(escapeHtml(cellValue)).append("</td>\n");
-                } catch (IllegalAccessException e) {
-                    rows.append("<td></td>\n");
-                }
-            }
-            rows.append("</tr>\n");
+        return headers.toString();
+    }
+
+    private void appendRow(StringBuilder rows, ColumnSchema<?> schema, T item) {
+        rows.append("<tr>\n");
+        for (ColumnSchema.Column column : schema.getColumns()) {
+            rows.append("<td>").append(escapeHtml(column.getText(item))).append("</td>\n");
         }
-        
-        // Replace placeholders in template
+        rows.append("</tr>\n");
+    }
+
+    /**
+     * Fill the template for one chunk, only the first chunk carries the title
+     */
+    private String generateHtml(String title, String headers, String rows) {
         return htmlTemplate
                 .replace("{{CSS_CONTENT}}", cssContent)
-                .replace("{{TITLE}}", "Exported Data")
-                .replace("{{TABLE_HEADERS}}", headers.toString())
-                .replace("{{TABLE_ROWS}}", rows.toString());
+                .replace("{{TITLE}}", title != null ? "<h1>" + escapeHtml(title) + "</h1>" : "")
+                .replace("{{TABLE_HEADERS}}", headers)
+                .replace("{{TABLE_ROWS}}", rows);
     }
     
     /**
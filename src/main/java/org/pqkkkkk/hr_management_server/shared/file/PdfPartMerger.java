@@ -0,0 +1,106 @@
+package org.pqkkkkk.hr_management_server.shared.file;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+import org.apache.commons.io.output.CloseShieldOutputStream;
+
+import com.lowagie.text.Document;
+import com.lowagie.text.DocumentException;
+import com.lowagie.text.Rectangle;
+import com.lowagie.text.pdf.BaseFont;
+import com.lowagie.text.pdf.PdfContentByte;
+import com.lowagie.text.pdf.PdfCopy;
+import com.lowagie.text.pdf.PdfImportedPage;
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.PdfTemplate;
+
+/**
+ * Concatenates separately rendered PDF parts into one document, written to the
+ * output stream page by page as the parts arrive.
+ * <p>
+ * Every page gets a "Page X of Y" footer. Y is only known after the last part,
+ * so all footers reference one shared template that is filled in on
+ * {@link #finish()}.
+ */
+class PdfPartMerger {
+
+    private static final float FOOTER_FONT_SIZE = 8;
+    private static final float FOOTER_MARGIN = 20;
+
+    private final Document document;
+    private final PdfCopy copy;
+    private final BaseFont footerFont;
+    private final float totalWidth;
+    private PdfTemplate totalPages;
+    private int pageCount;
+
+    PdfPartMerger(OutputStream outputStream) throws IOException {
+        try {
+            this.document = new Document();
+            // Closing the document closes the writer's stream, the caller owns it
+            this.copy = new PdfCopy(document, CloseShieldOutputStream.wrap(outputStream));
+            this.document.open();
+            this.footerFont = BaseFont.createFont(BaseFont.HELVETICA, BaseFont.WINANSI, BaseFont.NOT_EMBEDDED);
+        } catch (DocumentException e) {
+            throw new IOException("Failed to start PDF document", e);
+        }
+        // Room for a five digit page total
+        this.totalWidth = footerFont.getWidthPoint("00000", FOOTER_FONT_SIZE);
+    }
+
+    /**
+     * Append all pages of a rendered part, in order
+     */
+    void append(byte[] part) throws IOException {
+        PdfReader reader = new PdfReader(part);
+        try {
+            for (int i = 1; i <= reader.getNumberOfPages(); i++) {
+                PdfImportedPage page = copy.getImportedPage(reader, i);
+                PdfCopy.PageStamp stamp = copy.createPageStamp(page);
+                writeFooter(stamp.getOverContent(), reader.getPageSizeWithRotation(i), ++pageCount);
+                stamp.alterContents();
+                copy.addPage(page);
+            }
+            copy.freeReader(reader);
+        } catch (DocumentException e) {
+            throw new IOException("Failed to merge PDF part", e);
+        } finally {
+            reader.close();
+        }
+    }
+
+    int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Write the page total and the end of the document
+     */
+    void finish() {
+        if (pageCount == 0) {
+            throw new IllegalStateException("Cannot finish a PDF document without pages");
+        }
+        totalPages.beginText();
+        totalPages.setFontAndSize(footerFont, FOOTER_FONT_SIZE);
+        totalPages.showText(String.valueOf(pageCount));
+        totalPages.endText();
+        document.close();
+    }
+
+    private void writeFooter(PdfContentByte content, Rectangle pageSize, int pageNumber) {
+        if (totalPages == null) {
+            totalPages = content.createTemplate(totalWidth, FOOTER_FONT_SIZE + 2);
+        }
+        String text = "Page " + pageNumber + " of ";
+        float x = pageSize.getRight() - FOOTER_MARGIN - totalWidth - footerFont.getWidthPoint(text, FOOTER_FONT_SIZE);
+        float y = pageSize.getBottom() + FOOTER_MARGIN;
+
+        content.beginText();
+        content.setFontAndSize(footerFont, FOOTER_FONT_SIZE);
+        content.setTextMatrix(x, y);
+        content.showText(text);
+        content.endText();
+        content.addTemplate(totalPages, x + footerFont.getWidthPoint(text, FOOTER_FONT_SIZE), y);
+    }
+}
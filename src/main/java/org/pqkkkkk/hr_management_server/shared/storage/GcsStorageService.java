@@ -1,5 +1,7 @@
 package org.pqkkkkk.hr_management_server.shared.storage;
 
+import java.io.OutputStream;
+import java.nio.channels.Channels;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 
@@ -7,6 +9,7 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Service;
 
+import com.google.cloud.WriteChannel;
 import com.google.cloud.storage.BlobId;
 import com.google.cloud.storage.BlobInfo;
 import com.google.cloud.storage.Storage;
@@ -55,6 +58,30 @@ public class GcsStorageService implements StorageService {
         }
     }
 
+    @Override
+    public String storeFile(String originalFilename, String contentType, FileContentWriter contentWriter) {
+        String fileName = generateUniqueFileName(originalFilename);
+        BlobId blobId = BlobId.of(bucketName, fileName);
+        BlobInfo blobInfo = BlobInfo.newBuilder(blobId)
+                .setContentType(contentType)
+                .build();
+
+        // Resumable upload: the content is sent in chunks while it is written
+        try (WriteChannel writeChannel = storage.writer(blobInfo);
+                OutputStream outputStream = Channels.newOutputStream(writeChannel)) {
+            contentWriter.writeTo(outputStream);
+        } catch (Exception e) {
+            // Closing the channel finalizes whatever was written, drop it
+            deleteFile(fileName);
+            log.error("Failed to stream file to GCS: {}", originalFilename, e);
+            throw new RuntimeException("Failed to store file in Google Cloud Storage", e);
+        }
+
+        log.info("File streamed successfully to GCS: {}", fileName);
+
+        return generatePublicUrl(blobId);
+    }
+
     /**
      * Generate a unique filename by appending UUID
      */
@@ -1,6 +1,8 @@
 package org.pqkkkkk.hr_management_server.shared.storage;
 
+import java.io.BufferedOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -65,6 +67,25 @@ public class LocalStorageService implements StorageService {
         }
     }
 
+    @Override
+    public String storeFile(String originalFilename, String contentType, FileContentWriter contentWriter) {
+        String uniqueFilename = generateUniqueFileName(originalFilename);
+        Path filePath = Paths.get(storageDirectory, uniqueFilename);
+
+        try (OutputStream outputStream = new BufferedOutputStream(Files.newOutputStream(filePath,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING))) {
+            contentWriter.writeTo(outputStream);
+        } catch (IOException | RuntimeException e) {
+            deleteFile(uniqueFilename);
+            log.error("Failed to stream file to local storage: {}", originalFilename, e);
+            throw new RuntimeException("Failed to store file in local storage", e);
+        }
+
+        log.info("File streamed successfully to local storage: {}", uniqueFilename);
+
+        return baseUrl + "/" + uniqueFilename;
+    }
+
     /**
      * Generate a unique filename by appending UUID
      */
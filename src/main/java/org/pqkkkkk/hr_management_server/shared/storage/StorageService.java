@@ -1,5 +1,20 @@
 package org.pqkkkkk.hr_management_server.shared.storage;
 
+import java.io.IOException;
+import java.io.OutputStream;
+
 public interface StorageService {
     public String storeFile(byte[] fileData, String originalFilename, String contentType);
+
+    /**
+     * Store a file whose content is written straight to the storage stream, so
+     * large exports never have to be held in memory. A partially written file is
+     * removed if the writer fails.
+     */
+    public String storeFile(String originalFilename, String contentType, FileContentWriter contentWriter);
+
+    @FunctionalInterface
+    public interface FileContentWriter {
+        void writeTo(OutputStream outputStream) throws IOException;
+    }
 }
@@ -0,0 +1,11 @@
+-- V26__add_request_keyset_indexes.sql
+-- Composite indexes backing keyset (seek) pagination on (created_at, request_id)
+-- for the my-requests and team-requests listings.
+
+CREATE INDEX idx_request_created_at_id ON request_table(created_at DESC, request_id DESC);
+
+CREATE INDEX idx_request_employee_created_at_id ON request_table(employee_id, created_at DESC, request_id DESC);
+
+CREATE INDEX idx_request_approver_created_at_id ON request_table(approver_id, created_at DESC, request_id DESC);
+
+CREATE INDEX idx_request_processor_created_at_id ON request_table(processor_id, created_at DESC, request_id DESC);
@@ -0,0 +1,12 @@
+-- V27__add_request_access_path_indexes.sql
+-- Composite indexes matching the filters used by request listings and bulk approve:
+-- approver/processor + status + created_at range, and status + created_at range.
+
+CREATE INDEX idx_request_approver_status_created ON request_table(approver_id, status, created_at);
+
+CREATE INDEX idx_request_processor_status_created ON request_table(processor_id, status, created_at);
+
+CREATE INDEX idx_request_status_created ON request_table(status, created_at);
+
+-- Covered by the leading column of idx_request_status_created
+DROP INDEX idx_request_status;
@@ -0,0 +1,15 @@
+-- V29__add_user_search_name.sql
+-- Normalized copy of full_name used for name search: lower-cased, trimmed and with
+-- Vietnamese diacritics folded to ASCII (e.g. 'Nguyễn Văn Đức' -> 'nguyen van duc').
+-- The application keeps it in sync on every insert/update of a user.
+
+ALTER TABLE user_table
+ADD COLUMN search_name VARCHAR(255);
+
+-- Backfill existing rows. TRANSLATE maps each precomposed Vietnamese vowel/d to its
+-- base letter and is available on both PostgreSQL and H2.
+UPDATE user_table
+SET search_name = TRIM(TRANSLATE(LOWER(full_name),
+    'àáảãạăằắẳẵặâầấẩẫậèéẻẽẹêềếểễệìíỉĩịòóỏõọôồốổỗộơờớởỡợùúủũụưừứửữựỳýỷỹỵđ',
+    'aaaaaaaaaaaaaaaaaeeeeeeeeeeeiiiiiooooooooooooooooouuuuuuuuuuuyyyyyd'))
+WHERE full_name IS NOT NULL;
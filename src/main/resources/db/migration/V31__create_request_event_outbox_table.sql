@@ -0,0 +1,26 @@
+-- V31__create_request_event_outbox_table.sql
+-- Transactional outbox for request domain events. Rows are written in the same
+-- transaction as the request change and relayed to notification handlers afterwards.
+
+CREATE TABLE request_event_outbox_table (
+    event_id VARCHAR(36) PRIMARY KEY,
+    idempotency_key VARCHAR(100) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    request_id VARCHAR(36) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    dispatched_at TIMESTAMP,
+
+    CONSTRAINT uk_request_event_outbox_idempotency_key UNIQUE (idempotency_key)
+);
+
+-- Relay polls pending events oldest first
+CREATE INDEX idx_request_event_outbox_status_created ON request_event_outbox_table(status, created_at);
+
+-- Lets notification handlers skip events that were already delivered (at-least-once relay)
+ALTER TABLE notification_table
+ADD COLUMN idempotency_key VARCHAR(150);
+
+CREATE UNIQUE INDEX idx_notification_idempotency_key ON notification_table(idempotency_key);
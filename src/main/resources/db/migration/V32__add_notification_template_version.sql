@@ -0,0 +1,2 @@
+-- Version column used for optimistic locking and to invalidate compiled templates
+ALTER TABLE notification_template_table ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
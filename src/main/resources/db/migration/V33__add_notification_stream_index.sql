@@ -0,0 +1,2 @@
+-- Seek index for replaying a recipient's notifications after an SSE event id
+CREATE INDEX idx_notification_recipient_created ON notification_table(recipient_id, created_at, notification_id);
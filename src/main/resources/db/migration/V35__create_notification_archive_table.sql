@@ -0,0 +1,24 @@
+-- Read notifications past the retention window are moved here so the live table stays small
+CREATE TABLE notification_archive_table (
+    notification_id VARCHAR(36) PRIMARY KEY,
+    title VARCHAR(255) NOT NULL,
+    message TEXT NOT NULL,
+    notification_type VARCHAR(50) NOT NULL,
+    reference_type VARCHAR(50) NOT NULL,
+    reference_id VARCHAR(36),
+    created_at TIMESTAMP NOT NULL,
+    recipient_id VARCHAR(36) NOT NULL,
+    idempotency_key VARCHAR(150),
+    archived_at TIMESTAMP NOT NULL,
+
+    CONSTRAINT fk_notification_archive_recipient
+        FOREIGN KEY (recipient_id)
+        REFERENCES user_table(user_id)
+        ON DELETE CASCADE
+);
+
+CREATE INDEX idx_notification_archive_recipient_created ON notification_archive_table(recipient_id, created_at);
+CREATE INDEX idx_notification_archive_created ON notification_archive_table(created_at);
+
+-- Lets the retention job find the oldest rows without scanning the whole table
+CREATE INDEX idx_notification_created ON notification_table(created_at);
@@ -0,0 +1,34 @@
+-- Per employee and month attendance totals, kept in step with daily_timesheet_table
+-- so statistics read one row per employee instead of scanning every day
+CREATE TABLE monthly_attendance_summary_table
+(
+    employee_id            VARCHAR(255)     NOT NULL,
+    month_start            DATE             NOT NULL,
+    total_days             BIGINT           NOT NULL DEFAULT 0,
+    morning_present        BIGINT           NOT NULL DEFAULT 0,
+    afternoon_present      BIGINT           NOT NULL DEFAULT 0,
+    late_days              BIGINT           NOT NULL DEFAULT 0,
+    total_late_minutes     BIGINT           NOT NULL DEFAULT 0,
+    total_overtime_minutes BIGINT           NOT NULL DEFAULT 0,
+    total_work_credit      DOUBLE PRECISION NOT NULL DEFAULT 0,
+    PRIMARY KEY (employee_id, month_start),
+    CONSTRAINT fk_monthly_attendance_summary_employee FOREIGN KEY (employee_id) REFERENCES user_table (user_id) ON DELETE CASCADE
+);
+
+COMMENT ON TABLE monthly_attendance_summary_table IS 'Monthly attendance totals per employee, derived from daily_timesheet_table';
+COMMENT ON COLUMN monthly_attendance_summary_table.month_start IS 'First day of the summarized month';
+
+-- Backfill from the existing daily timesheets
+INSERT INTO monthly_attendance_summary_table (employee_id, month_start, total_days, morning_present, afternoon_present,
+                                              late_days, total_late_minutes, total_overtime_minutes, total_work_credit)
+SELECT employee_id,
+       CAST(DATE_TRUNC('MONTH', date) AS DATE),
+       COUNT(*),
+       COUNT(CASE WHEN morning_status = 'PRESENT' THEN 1 END),
+       COUNT(CASE WHEN afternoon_status = 'PRESENT' THEN 1 END),
+       COUNT(CASE WHEN late_minutes > 0 THEN 1 END),
+       COALESCE(SUM(late_minutes), 0),
+       COALESCE(SUM(overtime_minutes), 0),
+       COALESCE(SUM(total_work_credit), 0)
+FROM daily_timesheet_table
+GROUP BY employee_id, CAST(DATE_TRUNC('MONTH', date) AS DATE);
@@ -0,0 +1,10 @@
+-- V28__add_request_pending_partial_indexes.sql
+-- PostgreSQL only: partial indexes are not supported by H2, so this location is
+-- not loaded by the test profile.
+-- Pending requests are a small, hot slice of request_table (team inbox, bulk approve).
+
+CREATE INDEX idx_request_pending_approver_created ON request_table(approver_id, created_at DESC, request_id DESC)
+WHERE status = 'PENDING';
+
+CREATE INDEX idx_request_pending_processor_created ON request_table(processor_id, created_at DESC, request_id DESC)
+WHERE status = 'PENDING';
@@ -0,0 +1,7 @@
+-- V30__add_user_search_name_trgm_index.sql
+-- PostgreSQL only: trigram GIN index so that substring search (LIKE '%term%') on the
+-- normalized name no longer scans user_table.
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX idx_user_search_name_trgm ON user_table USING gin (search_name gin_trgm_ops);
@@ -0,0 +1,7 @@
+-- V34__add_notification_unread_partial_index.sql
+-- PostgreSQL only: partial indexes are not supported by H2, so this location is
+-- not loaded by the test profile.
+-- Backs cold unread-count lookups. Read notifications, the vast majority, stay out of the index.
+
+CREATE INDEX idx_notification_unread_recipient ON notification_table(recipient_id)
+WHERE is_read = false;
@@ -0,0 +1,193 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.counter;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationDao;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the cached unread counters: hits, commit-time adjustments,
+ * rollbacks, loads racing with commits, and reconciliation.
+ */
+@DisplayName("UnreadNotificationCounter Unit Tests")
+class UnreadNotificationCounterTest {
+
+    private final NotificationDao notificationDao = mock(NotificationDao.class);
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final UnreadNotificationCounter counter = new UnreadNotificationCounter(notificationDao, meterRegistry, 100, 60);
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    /** Runs {@code work} as if inside a transaction and returns its synchronizations without completing them. */
+    private List<TransactionSynchronization> inTransaction(Runnable work) {
+        TransactionSynchronizationManager.initSynchronization();
+        work.run();
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        return synchronizations;
+    }
+
+    private void complete(List<TransactionSynchronization> synchronizations, int status) {
+        for (TransactionSynchronization synchronization : synchronizations) {
+            if (status == TransactionSynchronization.STATUS_COMMITTED) {
+                synchronization.beforeCommit(false);
+            }
+            synchronization.afterCompletion(status);
+        }
+    }
+
+    @Test
+    @DisplayName("Should serve repeated lookups from the cache")
+    void testGetUnreadCount_CachesLoadedCount() {
+        when(notificationDao.countUnreadNotifications("user-1")).thenReturn(3L);
+
+        assertEquals(3, counter.getUnreadCount("user-1"));
+        assertEquals(3, counter.getUnreadCount("user-1"));
+
+        verify(notificationDao, times(1)).countUnreadNotifications("user-1");
+        assertEquals(1.0, meterRegistry.get("notification.unread.cache").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should apply adjustments only when the transaction commits")
+    void testAdjust_AppliedOnCommitOnly() {
+        when(notificationDao.countUnreadNotifications("user-1")).thenReturn(3L);
+        counter.getUnreadCount("user-1");
+
+        complete(inTransaction(() -> counter.adjust("user-1", 2)), TransactionSynchronization.STATUS_ROLLED_BACK);
+        assertEquals(3, counter.getUnreadCount("user-1"));
+
+        complete(inTransaction(() -> counter.adjust("user-1", 2)), TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(5, counter.getUnreadCount("user-1"));
+
+        complete(inTransaction(() -> counter.adjust("user-1", -10)), TransactionSynchronization.STATUS_COMMITTED);
+        assertEquals(0, counter.getUnreadCount("user-1"));
+    }
+
+    @Test
+    @DisplayName("Should not cache a count loaded while a counted write was committing")
+    void testGetUnreadCount_LoadDuringCommit_NotCached() {
+        // Arrange - the write has entered commit but its adjustment is not applied yet
+        List<TransactionSynchronization> write = inTransaction(() -> counter.adjust("user-1", 1));
+        write.forEach(s -> s.beforeCommit(false));
+        when(notificationDao.countUnreadNotifications("user-1")).thenReturn(4L, 4L);
+
+        // Act
+        counter.getUnreadCount("user-1");
+        write.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Assert - reloaded instead of 4 + 1
+        assertEquals(4, counter.getUnreadCount("user-1"));
+        verify(notificationDao, times(2)).countUnreadNotifications("user-1");
+    }
+
+    @Test
+    @DisplayName("Should cache a count loaded while another recipient's write was committing")
+    void testGetUnreadCount_OtherRecipientCommitting_Cached() {
+        // Arrange - user-2's write is committing while user-1's count is loaded
+        List<TransactionSynchronization> write = inTransaction(() -> counter.adjust("user-2", 1));
+        write.forEach(s -> s.beforeCommit(false));
+        when(notificationDao.countUnreadNotifications("user-1")).thenReturn(4L);
+
+        // Act
+        counter.getUnreadCount("user-1");
+        write.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Assert - served from the cache
+        assertEquals(4, counter.getUnreadCount("user-1"));
+        verify(notificationDao, times(1)).countUnreadNotifications("user-1");
+    }
+
+    @Test
+    @DisplayName("Should not cache a count whose racing write was forgotten meanwhile")
+    void testGetUnreadCount_RacingWriteForgotten_NotCached() {
+        // Arrange - during the load a write commits and reconciliation drops its state
+        when(notificationDao.countUnreadNotifications("user-1")).thenAnswer(invocation -> {
+            complete(inTransaction(() -> counter.adjust("user-1", 1)), TransactionSynchronization.STATUS_COMMITTED);
+            counter.reconcile();
+            return 4L;
+        });
+
+        // Act
+        counter.getUnreadCount("user-1");
+
+        // Assert
+        assertEquals(0, counter.size());
+    }
+
+    @Test
+    @DisplayName("Should reload after invalidation")
+    void testInvalidate_ReloadsFromDatabase() {
+        when(notificationDao.countUnreadNotifications("user-1")).thenReturn(3L, 0L);
+        counter.getUnreadCount("user-1");
+
+        counter.invalidate("user-1");
+
+        assertEquals(0, counter.getUnreadCount("user-1"));
+    }
+
+    @Test
+    @DisplayName("Should correct drifted counts when reconciling")
+    void testReconcile_CorrectsDrift() {
+        when(notificationDao.countUnreadNotifications(any())).thenReturn(3L);
+        counter.getUnreadCount("user-1");
+        counter.getUnreadCount("user-2");
+        when(notificationDao.countUnreadNotificationsByRecipients(any())).thenReturn(Map.of("user-1", 7L));
+
+        int corrected = counter.reconcile();
+
+        assertEquals(2, corrected);
+        assertEquals(7, counter.getUnreadCount("user-1"));
+        assertEquals(0, counter.getUnreadCount("user-2"));
+    }
+
+    @Test
+    @DisplayName("Should reconcile every recipient except the one with a committing write")
+    void testReconcile_SkipsOnlyRacedRecipients() {
+        // Arrange
+        when(notificationDao.countUnreadNotifications(any())).thenReturn(3L);
+        counter.getUnreadCount("user-1");
+        counter.getUnreadCount("user-2");
+        List<TransactionSynchronization> write = inTransaction(() -> counter.adjust("user-2", 1));
+        write.forEach(s -> s.beforeCommit(false));
+        when(notificationDao.countUnreadNotificationsByRecipients(any())).thenReturn(Map.of("user-1", 7L, "user-2", 9L));
+
+        // Act
+        int corrected = counter.reconcile();
+        write.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+
+        // Assert - user-2 keeps its cached count plus the committed adjustment
+        assertEquals(1, corrected);
+        assertEquals(7, counter.getUnreadCount("user-1"));
+        assertEquals(4, counter.getUnreadCount("user-2"));
+    }
+
+    @Test
+    @DisplayName("Should keep at most the configured number of recipients")
+    void testGetUnreadCount_BoundedSize() {
+        UnreadNotificationCounter small = new UnreadNotificationCounter(notificationDao, meterRegistry, 2, 60);
+        when(notificationDao.countUnreadNotifications(any())).thenReturn(1L);
+
+        small.getUnreadCount("user-1");
+        small.getUnreadCount("user-2");
+        small.getUnreadCount("user-3");
+
+        assertEquals(2, small.size());
+    }
+}
@@ -0,0 +1,265 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the SSE connection registry: several connections per user,
+ * connection caps, heartbeat and idle eviction, the outbound queue and metrics. Writes
+ * run synchronously unless a test holds them back.
+ */
+@DisplayName("SseConnectionRegistry Unit Tests")
+class SseConnectionRegistryTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private SseConnectionRegistry registry(int perUser, int perNode) {
+        return new SseConnectionRegistry(meterRegistry, new SyncTaskExecutor(),
+                60_000, 60_000, perUser, perNode, 100, 1_000);
+    }
+
+    private double evictions(String reason) {
+        var counter = meterRegistry.find("notification.sse.evictions").tag("reason", reason).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @Test
+    @DisplayName("Should keep every connection of a user and send to all of them")
+    void testRegister_MultipleConnectionsPerUser() {
+        SseConnectionRegistry registry = registry(5, 100);
+
+        SseConnection first = registry.register("user-1");
+        SseConnection second = registry.register("user-1");
+
+        assertNotEquals(first.getConnectionId(), second.getConnectionId());
+        assertEquals(2, registry.getConnections("user-1").size());
+        assertEquals(2, registry.sendToUser("user-1", () -> SseEmitter.event().name("notification").data("x")));
+        assertEquals(2.0, meterRegistry.get("notification.sse.connections").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should close the oldest connection when a user exceeds the per-user cap")
+    void testRegister_PerUserCap_ReplacesOldest() {
+        SseConnectionRegistry registry = registry(2, 100);
+
+        SseConnection oldest = registry.register("user-1");
+        registry.register("user-1");
+        registry.register("user-1");
+
+        assertEquals(2, registry.getConnections("user-1").size());
+        assertFalse(registry.getConnections("user-1").contains(oldest));
+        assertEquals(2, registry.getConnectionCount());
+        assertEquals(1.0, evictions(SseConnectionRegistry.EVICTION_REPLACED));
+    }
+
+    @Test
+    @DisplayName("Should refuse new connections once the node cap is reached")
+    void testRegister_PerNodeCap_Rejects() {
+        SseConnectionRegistry registry = registry(5, 2);
+        registry.register("user-1");
+        registry.register("user-2");
+
+        assertThrows(IllegalStateException.class, () -> registry.register("user-3"));
+        assertEquals(1.0, meterRegistry.get("notification.sse.rejected").counter().count());
+    }
+
+    @Test
+    @DisplayName("Should not exceed the node cap under concurrent registrations")
+    void testRegister_PerNodeCap_Concurrent() throws Exception {
+        // Arrange - more threads than slots, released together
+        SseConnectionRegistry registry = registry(5, 20);
+        int threads = 64;
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < threads; i++) {
+                String userId = "user-" + i;
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        registry.register(userId);
+                        return true;
+                    } catch (IllegalStateException e) {
+                        return false;
+                    }
+                }));
+            }
+
+            // Act
+            start.countDown();
+            int registered = 0;
+            for (Future<Boolean> result : results) {
+                if (result.get(10, TimeUnit.SECONDS)) {
+                    registered++;
+                }
+            }
+
+            // Assert
+            assertEquals(20, registered);
+            assertEquals(20, registry.getConnectionCount());
+            assertEquals(threads - 20.0, meterRegistry.get("notification.sse.rejected").counter().count());
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should close connections without a write for longer than the idle timeout")
+    void testCloseIdleConnections() {
+        // Arrange - the idle timeout is one minute; only user-2 is written to after registering
+        SseConnectionRegistry registry = registry(5, 100);
+        registry.register("user-1");
+        SseConnection active = registry.register("user-2");
+        registry.sendToUser("user-2", () -> SseEmitter.event().name("notification").data("x"));
+
+        // Act - one minute after the last write to user-2
+        int closed = registry.closeIdleConnections(active.getLastActivityNanos() + TimeUnit.SECONDS.toNanos(60));
+
+        // Assert
+        assertEquals(1, closed);
+        assertFalse(registry.hasConnections("user-1"));
+        assertTrue(registry.hasConnections("user-2"));
+        assertEquals(1, registry.getConnectionCount());
+        assertEquals(1.0, evictions(SseConnectionRegistry.EVICTION_IDLE));
+    }
+
+    @Test
+    @DisplayName("Should evict connections whose heartbeat cannot be written")
+    void testSendHeartbeats_EvictsDeadConnections() {
+        SseConnectionRegistry registry = registry(5, 100);
+        SseConnection dead = registry.register("user-1");
+        SseConnection alive = registry.register("user-1");
+        dead.getEmitter().complete();
+
+        registry.sendHeartbeats();
+
+        assertEquals(1, registry.getConnectionCount());
+        assertEquals(alive, registry.getConnections("user-1").get(0));
+        assertEquals(1.0, evictions(SseConnectionRegistry.EVICTION_DEAD));
+    }
+
+    @Test
+    @DisplayName("Should drop the user entry when the last connection is evicted")
+    void testEvict_LastConnection_RemovesUser() {
+        SseConnectionRegistry registry = registry(5, 100);
+        SseConnection connection = registry.register("user-1");
+
+        registry.evict(connection, SseConnectionRegistry.EVICTION_TIMEOUT);
+        registry.evict(connection, SseConnectionRegistry.EVICTION_TIMEOUT);
+
+        assertFalse(registry.hasConnections("user-1"));
+        assertEquals(0, registry.getConnectionCount());
+        assertEquals(1.0, evictions(SseConnectionRegistry.EVICTION_TIMEOUT));
+    }
+
+    @Test
+    @DisplayName("Should report a user once their last connection is gone")
+    void testEvict_NotifiesUserDisconnected() {
+        SseConnectionRegistry registry = registry(5, 100);
+        List<String> disconnected = new ArrayList<>();
+        registry.onUserDisconnected(disconnected::add);
+        SseConnection first = registry.register("user-1");
+        SseConnection second = registry.register("user-1");
+
+        registry.evict(first, SseConnectionRegistry.EVICTION_TIMEOUT);
+        assertEquals(List.of(), disconnected);
+
+        registry.evict(second, SseConnectionRegistry.EVICTION_TIMEOUT);
+        assertEquals(List.of("user-1"), disconnected);
+    }
+
+    @Test
+    @DisplayName("Should require a user ID")
+    void testRegister_BlankUser() {
+        assertThrows(IllegalArgumentException.class, () -> registry(5, 100).register(" "));
+    }
+
+    @Test
+    @DisplayName("Should replace the backlog of a slow client with a resync event")
+    void testSend_QueueFull_CoalescesIntoResync() {
+        // Arrange - the writer is held back so events pile up
+        List<Runnable> pendingDrains = new ArrayList<>();
+        TaskExecutor heldWriter = pendingDrains::add;
+        SseConnectionRegistry registry = new SseConnectionRegistry(meterRegistry, heldWriter,
+                60_000, 60_000, 5, 100, 3, 1_000);
+        SseConnection connection = registry.register("user-1");
+
+        // Act
+        for (int i = 0; i < 5; i++) {
+            int n = i;
+            registry.send(connection, () -> SseEmitter.event().name("notification").data(n));
+        }
+
+        // Assert - three queued, the fourth overflowed (4 dropped, resync queued), the fifth queued behind it
+        assertEquals(1, pendingDrains.size());
+        assertEquals(2, connection.getQueueSize());
+        assertEquals(4.0, meterRegistry.get("notification.sse.queue.dropped").counter().count());
+        assertEquals(1.0, meterRegistry.get("notification.sse.resyncs").counter().count());
+
+        pendingDrains.get(0).run();
+        assertEquals(0, connection.getQueueSize());
+    }
+
+    @Test
+    @DisplayName("Should not queue heartbeats behind pending events")
+    void testSendHeartbeats_SkipsBusyConnections() {
+        List<Runnable> pendingDrains = new ArrayList<>();
+        TaskExecutor heldWriter = pendingDrains::add;
+        SseConnectionRegistry registry = new SseConnectionRegistry(meterRegistry, heldWriter,
+                60_000, 60_000, 5, 100, 10, 1_000);
+        SseConnection connection = registry.register("user-1");
+        registry.send(connection, () -> SseEmitter.event().name("notification").data("x"));
+
+        registry.sendHeartbeats();
+
+        assertEquals(1, connection.getQueueSize());
+    }
+
+    @Test
+    @DisplayName("Should close a connection whose drain the writer pool rejects")
+    void testSend_WriterRejects_EvictsConnection() {
+        TaskExecutor fullWriter = task -> {
+            throw new TaskRejectedException("SSE writer queue is full");
+        };
+        SseConnectionRegistry registry = new SseConnectionRegistry(meterRegistry, fullWriter,
+                60_000, 60_000, 5, 100, 10, 1_000);
+        SseConnection connection = registry.register("user-1");
+
+        registry.send(connection, () -> SseEmitter.event().name("notification").data("x"));
+
+        assertFalse(registry.hasConnections("user-1"));
+        assertEquals(0, connection.getQueueSize());
+        assertEquals(1.0, evictions(SseConnectionRegistry.EVICTION_OVERLOADED));
+    }
+
+    @Test
+    @DisplayName("Should count writes slower than the threshold")
+    void testDrain_SlowWrite_Counted() {
+        SseConnectionRegistry registry = new SseConnectionRegistry(meterRegistry, new SyncTaskExecutor(),
+                60_000, 60_000, 5, 100, 10, 0);
+        registry.register("user-1");
+
+        registry.sendToUser("user-1", () -> SseEmitter.event().name("notification").data("x"));
+
+        assertEquals(1.0, meterRegistry.get("notification.sse.slow.writes").counter().count());
+        assertEquals(1, meterRegistry.get("notification.sse.write.latency").timer().count());
+    }
+}
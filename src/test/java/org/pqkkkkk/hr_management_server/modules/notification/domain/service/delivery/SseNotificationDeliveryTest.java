@@ -0,0 +1,127 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationDao;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationStreamCursor;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for reconnecting SSE clients: notifications delivered while the
+ * missed ones are read must follow the replay exactly once. Writes are held
+ * back so the queued events can be inspected.
+ */
+@DisplayName("SseNotificationDelivery Unit Tests")
+class SseNotificationDeliveryTest {
+
+    private static final String USER_ID = "user-1";
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private final List<Runnable> pendingDrains = new ArrayList<>();
+    private final TaskExecutor heldWriter = pendingDrains::add;
+    private final SseConnectionRegistry registry = new SseConnectionRegistry(new SimpleMeterRegistry(), heldWriter,
+            60_000, 60_000, 5, 100, 100, 1_000);
+    private final NotificationDao notificationDao = mock(NotificationDao.class);
+    private final SseNotificationDelivery delivery = new SseNotificationDelivery(registry,
+            mock(NotificationBroadcaster.class), new SseReplayBuffer(50, 100), notificationDao, 100);
+
+    private static Notification notification(String id, int minutes) {
+        return Notification.builder()
+                .notificationId(id)
+                .recipientId(USER_ID)
+                .createdAt(BASE_TIME.plusMinutes(minutes))
+                .build();
+    }
+
+    private static String eventId(Notification notification) {
+        return NotificationStreamCursor.of(notification).encode();
+    }
+
+    /** The text of every queued event, in queue order. */
+    private List<String> queuedEvents(SseConnection connection) {
+        List<String> events = new ArrayList<>();
+        Supplier<SseEventBuilder> event;
+        while ((event = connection.pollOrStopDrain()) != null) {
+            events.add(event.get().build().stream()
+                    .map(part -> String.valueOf(part.getData()))
+                    .collect(Collectors.joining()));
+        }
+        return events;
+    }
+
+    @Test
+    @DisplayName("Should queue a notification committed during replay once, after the older replayed ones")
+    void testSubscribe_NotificationDuringReplay_QueuedOnceInOrder() {
+        // Arrange - n2 commits while the missed notifications are read and is part of the result,
+        // n3 commits right after the read
+        Notification seen = notification("n0", 0);
+        Notification n1 = notification("n1", 1);
+        Notification n2 = notification("n2", 2);
+        Notification n3 = notification("n3", 3);
+        when(notificationDao.getNotificationsAfter(eq(USER_ID), any(), anyInt())).thenAnswer(invocation -> {
+            delivery.receive(n2);
+            delivery.receive(n3);
+            return List.of(n1, n2);
+        });
+
+        // Act
+        delivery.subscribe(USER_ID, eventId(seen));
+
+        // Assert
+        SseConnection connection = registry.getConnections(USER_ID).get(0);
+        List<String> events = queuedEvents(connection);
+        assertEquals(4, events.size());
+        assertTrue(events.get(0).contains("event:INIT"));
+        assertTrue(events.get(1).contains("id:" + eventId(n1)));
+        assertTrue(events.get(2).contains("id:" + eventId(n2)));
+        assertTrue(events.get(3).contains("id:" + eventId(n3)));
+    }
+
+    @Test
+    @DisplayName("Should send live notifications directly once the replay was queued")
+    void testReceive_AfterReplay_QueuedDirectly() {
+        // Arrange
+        when(notificationDao.getNotificationsAfter(eq(USER_ID), any(), anyInt())).thenReturn(List.of());
+        delivery.subscribe(USER_ID, eventId(notification("n0", 0)));
+        Notification live = notification("n1", 1);
+
+        // Act
+        delivery.receive(live);
+
+        // Assert
+        List<String> events = queuedEvents(registry.getConnections(USER_ID).get(0));
+        assertEquals(2, events.size());
+        assertTrue(events.get(1).contains("id:" + eventId(live)));
+    }
+
+    @Test
+    @DisplayName("Should ask for a resync on an invalid Last-Event-ID and stop holding live notifications")
+    void testSubscribe_InvalidLastEventId_Resyncs() {
+        // Act
+        delivery.subscribe(USER_ID, "not-a-cursor");
+        delivery.receive(notification("n1", 1));
+
+        // Assert
+        List<String> events = queuedEvents(registry.getConnections(USER_ID).get(0));
+        assertEquals(3, events.size());
+        assertTrue(events.get(0).contains("event:INIT"));
+        assertTrue(events.get(1).contains("event:resync"));
+    }
+}
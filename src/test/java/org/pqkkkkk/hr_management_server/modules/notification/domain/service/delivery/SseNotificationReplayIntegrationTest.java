@@ -0,0 +1,124 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationContext;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationReferenceType;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationType;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationStreamCursor;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.NotificationCommandService;
+import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.Enums.UserRole;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.EntityManager;
+
+/**
+ * Replay of missed notifications on reconnect when the replay buffer of this
+ * node does not hold them and they are read from the database.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("SseNotificationDelivery - Last-Event-ID replay Integration Tests")
+public class SseNotificationReplayIntegrationTest {
+
+    private static final String EMPLOYEE_ID = "u1a2b3c4-e5f6-7890-abcd-ef1234567890";
+
+    @Autowired
+    SseNotificationDelivery sseNotificationDelivery;
+
+    @Autowired
+    NotificationCommandService notificationCommandService;
+
+    @Autowired
+    SseConnectionRegistry connectionRegistry;
+
+    @Autowired
+    EntityManager entityManager;
+
+    private void disconnectAll(String userId) {
+        for (SseConnection connection : connectionRegistry.getConnections(userId)) {
+            connectionRegistry.evict(connection, SseConnectionRegistry.EVICTION_TIMEOUT);
+        }
+    }
+
+    private List<Notification> createNotifications(int count) {
+        List<NotificationContext> contexts = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            contexts.add(NotificationContext.builder()
+                .recipientId(EMPLOYEE_ID)
+                .userRole(UserRole.EMPLOYEE.name())
+                .type(NotificationType.REQUEST_CREATED)
+                .referenceType(NotificationReferenceType.REQUEST)
+                .referenceId("req-replay")
+                .templateData(Map.of("requestType", "LEAVE", "createdAt", "01/01/2025 09:00"))
+                .build());
+        }
+        List<Notification> created = new ArrayList<>(notificationCommandService.createNotifications(contexts));
+        entityManager.flush();
+        entityManager.clear();
+
+        created.sort(Comparator.comparing(NotificationStreamCursor::of));
+        return created;
+    }
+
+    @Test
+    @DisplayName("Should read notifications after the last event id from the database, oldest first")
+    void testGetMissedNotifications_FromDatabase() {
+        // Arrange
+        List<Notification> created = createNotifications(3);
+        NotificationStreamCursor lastSeen = NotificationStreamCursor.of(created.get(0));
+
+        // Act
+        List<Notification> missed = sseNotificationDelivery.getMissedNotifications(EMPLOYEE_ID, lastSeen);
+
+        // Assert - sample data is older than the notifications created here
+        assertEquals(
+            List.of(created.get(1).getNotificationId(), created.get(2).getNotificationId()),
+            missed.stream().map(Notification::getNotificationId).toList());
+    }
+
+    @Test
+    @DisplayName("Should read notifications created while the user was offline from the database")
+    void testGetMissedNotifications_CreatedWhileDisconnected() {
+        // Arrange - the first notification reaches the user's stream and the replay buffer
+        disconnectAll(EMPLOYEE_ID);
+        List<Notification> created = createNotifications(2);
+        sseNotificationDelivery.subscribe(EMPLOYEE_ID);
+        sseNotificationDelivery.receive(created.get(0));
+
+        // The stream drops; the second notification is created with nobody to deliver it to
+        disconnectAll(EMPLOYEE_ID);
+
+        // Act - reconnect with the id of the last notification seen
+        sseNotificationDelivery.subscribe(EMPLOYEE_ID);
+        List<Notification> missed = sseNotificationDelivery.getMissedNotifications(EMPLOYEE_ID,
+            NotificationStreamCursor.of(created.get(0)));
+        disconnectAll(EMPLOYEE_ID);
+
+        // Assert
+        assertEquals(List.of(created.get(1).getNotificationId()),
+            missed.stream().map(Notification::getNotificationId).toList());
+    }
+
+    @Test
+    @DisplayName("Should ask for a resync when more notifications were missed than can be replayed")
+    void testGetMissedNotifications_TooMany_ReturnsNull() {
+        List<Notification> created = createNotifications(102);
+        NotificationStreamCursor lastSeen = NotificationStreamCursor.of(created.get(0));
+
+        assertNull(sseNotificationDelivery.getMissedNotifications(EMPLOYEE_ID, lastSeen));
+    }
+}
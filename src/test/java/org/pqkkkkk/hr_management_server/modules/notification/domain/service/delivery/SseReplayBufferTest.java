@@ -0,0 +1,135 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationStreamCursor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the per-user replay ring buffer and the SSE event id format.
+ */
+@DisplayName("SseReplayBuffer Unit Tests")
+class SseReplayBufferTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private Notification notification(String id, String recipientId, int secondsAfterBase) {
+        return Notification.builder()
+                .notificationId(id)
+                .recipientId(recipientId)
+                .createdAt(BASE_TIME.plusSeconds(secondsAfterBase))
+                .build();
+    }
+
+    private List<String> ids(List<Notification> notifications) {
+        return notifications.stream().map(Notification::getNotificationId).toList();
+    }
+
+    @Nested
+    @DisplayName("Replay buffer")
+    class BufferTests {
+
+        @Test
+        @DisplayName("Should return the notifications buffered after the last seen one")
+        void testGetAfter_ReturnsMissed() {
+            SseReplayBuffer buffer = new SseReplayBuffer(10, 100);
+            Notification first = notification("n-1", "user-1", 1);
+            buffer.record(first);
+            buffer.record(notification("n-2", "user-1", 2));
+            buffer.record(notification("n-3", "user-1", 3));
+
+            assertEquals(List.of("n-2", "n-3"), ids(buffer.getAfter("user-1", NotificationStreamCursor.of(first))));
+        }
+
+        @Test
+        @DisplayName("Should return an empty list when nothing was missed")
+        void testGetAfter_UpToDate() {
+            SseReplayBuffer buffer = new SseReplayBuffer(10, 100);
+            Notification last = notification("n-1", "user-1", 1);
+            buffer.record(last);
+
+            assertEquals(List.of(), buffer.getAfter("user-1", NotificationStreamCursor.of(last)));
+        }
+
+        @Test
+        @DisplayName("Should return null once the last seen notification has been overwritten")
+        void testGetAfter_Overwritten_ReturnsNull() {
+            SseReplayBuffer buffer = new SseReplayBuffer(2, 100);
+            Notification first = notification("n-1", "user-1", 1);
+            buffer.record(first);
+            buffer.record(notification("n-2", "user-1", 2));
+            buffer.record(notification("n-3", "user-1", 3));
+
+            assertNull(buffer.getAfter("user-1", NotificationStreamCursor.of(first)));
+        }
+
+        @Test
+        @DisplayName("Should drop the least recently used user beyond the user limit")
+        void testRecord_UserLimit_EvictsLeastRecentlyUsed() {
+            SseReplayBuffer buffer = new SseReplayBuffer(10, 1);
+            Notification forUser1 = notification("n-1", "user-1", 1);
+            buffer.record(forUser1);
+            buffer.record(notification("n-2", "user-2", 2));
+
+            assertNull(buffer.getAfter("user-1", NotificationStreamCursor.of(forUser1)));
+        }
+
+        @Test
+        @DisplayName("Should fall back once the user's buffer is forgotten or all are cleared")
+        void testForgetAndClear() {
+            SseReplayBuffer buffer = new SseReplayBuffer(10, 100);
+            Notification forUser1 = notification("n-1", "user-1", 1);
+            Notification forUser2 = notification("n-2", "user-2", 2);
+            buffer.record(forUser1);
+            buffer.record(forUser2);
+
+            buffer.forget("user-1");
+            assertNull(buffer.getAfter("user-1", NotificationStreamCursor.of(forUser1)));
+            assertEquals(List.of(), buffer.getAfter("user-2", NotificationStreamCursor.of(forUser2)));
+
+            buffer.clear();
+            assertNull(buffer.getAfter("user-2", NotificationStreamCursor.of(forUser2)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Stream cursor")
+    class CursorTests {
+
+        @Test
+        @DisplayName("Should round-trip an event id")
+        void testEncodeDecode_RoundTrip() {
+            NotificationStreamCursor cursor = new NotificationStreamCursor(BASE_TIME.plusNanos(123_456_789), "n-1");
+
+            NotificationStreamCursor decoded = NotificationStreamCursor.decode(cursor.encode());
+
+            assertEquals(cursor, decoded);
+            // Truncated to what the database stores
+            assertEquals(123_456_000, decoded.createdAt().getNano());
+        }
+
+        @Test
+        @DisplayName("Should order by creation time, then notification id")
+        void testCompareTo_Monotonic() {
+            NotificationStreamCursor earlier = new NotificationStreamCursor(BASE_TIME, "n-2");
+            NotificationStreamCursor sameTimeLaterId = new NotificationStreamCursor(BASE_TIME, "n-3");
+            NotificationStreamCursor later = new NotificationStreamCursor(BASE_TIME.plusSeconds(1), "n-1");
+
+            assertTrue(earlier.compareTo(sameTimeLaterId) < 0);
+            assertTrue(sameTimeLaterId.compareTo(later) < 0);
+        }
+
+        @Test
+        @DisplayName("Should reject malformed event ids and ignore blank ones")
+        void testDecode_Invalid() {
+            assertThrows(IllegalArgumentException.class, () -> NotificationStreamCursor.decode("not-a-cursor"));
+            assertNull(NotificationStreamCursor.decode(" "));
+        }
+    }
+}
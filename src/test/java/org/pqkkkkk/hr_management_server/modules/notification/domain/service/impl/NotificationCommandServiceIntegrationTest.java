@@ -3,16 +3,30 @@ package org.pqkkkkk.hr_management_server.modules.notification.domain.service.imp
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 
 import org.junit.jupiter.api.Test;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationDao;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationContext;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationTemplate;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationReferenceType;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationType;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.filter.FilterCriteria.NotificationFilter;
+import org.pqkkkkk.hr_management_server.modules.notification.infrastructure.dao.CachedNotificationTemplateDao;
 import org.pqkkkkk.hr_management_server.modules.notification.infrastructure.dao.NotificationTemplateRepository;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.service.NotificationCommandService;
 import org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery.SseNotificationDelivery;
@@ -21,8 +35,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
 @SpringBootTest
 @ActiveProfiles("test")
 @Transactional
@@ -37,9 +55,41 @@ public class NotificationCommandServiceIntegrationTest {
     @Autowired
     NotificationTemplateRepository templateRepository;
 
+    @Autowired
+    CachedNotificationTemplateDao templateCache;
+
+    @Autowired
+    EntityManager entityManager;
+
+    @Autowired
+    EntityManagerFactory entityManagerFactory;
+
     @MockitoBean
     SseNotificationDelivery sseNotificationDelivery; // mock concrete delivery bean to avoid sending
 
+    private static final String EMPLOYEE_ID = "u1a2b3c4-e5f6-7890-abcd-ef1234567890";
+
+    private Statistics freshStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
+    private NotificationContext createdContext(String idempotencyKey) {
+        return NotificationContext.builder()
+            .recipientId(EMPLOYEE_ID)
+            .userRole(UserRole.EMPLOYEE.name())
+            .type(NotificationType.REQUEST_CREATED)
+            .referenceType(NotificationReferenceType.REQUEST)
+            .referenceId("req-test")
+            .templateData(Map.of("requestType", "LEAVE", "createdAt", "01/01/2025 09:00"))
+            .idempotencyKey(idempotencyKey)
+            .build();
+    }
+
     @Test
     void happyPath_templateExists_persistsNotification() {
         // Ensure seed has template for REQUEST_CREATED + EMPLOYEE
@@ -138,4 +188,251 @@ public class NotificationCommandServiceIntegrationTest {
         Notification persisted = notificationDao.getNotificationById(created.getNotificationId());
         assertEquals("Dear Carol, your request LEAVE was rejected by Manager X.", persisted.getMessage());
     }
+
+    @Test
+    void duplicateIdempotencyKey_returnsNullAndDoesNotPersistTwice() {
+        // A relayed event delivered twice carries the same idempotency key
+        NotificationContext context = NotificationContext.builder()
+            .recipientId("u1a2b3c4-e5f6-7890-abcd-ef1234567890")
+            .userRole(UserRole.EMPLOYEE.name())
+            .type(NotificationType.REQUEST_CREATED)
+            .referenceType(NotificationReferenceType.REQUEST)
+            .referenceId("req-test")
+            .templateData(Map.of("employeeName", "Alice", "requestType", "LEAVE", "createdAt", "01/01/2025 09:00"))
+            .idempotencyKey("REQUEST_CREATED:req-test:u1a2b3c4-e5f6-7890-abcd-ef1234567890")
+            .build();
+
+        Notification first = notificationCommandService.createNotification(context);
+        Notification second = notificationCommandService.createNotification(context);
+
+        assertNotNull(first);
+        assertNull(second);
+        assertEquals(context.getIdempotencyKey(),
+            notificationDao.getNotificationById(first.getNotificationId()).getIdempotencyKey());
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void sendNotification_outsideTransaction_deliversOnNotificationExecutor() {
+        Notification notification = Notification.builder()
+            .notificationId("notification-async-test")
+            .recipientId("u1a2b3c4-e5f6-7890-abcd-ef1234567890")
+            .build();
+
+        notificationCommandService.sendNotification(notification);
+
+        verify(sseNotificationDelivery, timeout(2000)).deliver(notification);
+    }
+
+    @Test
+    void sendNotification_insideTransaction_waitsForCommit() throws InterruptedException {
+        Notification notification = Notification.builder()
+            .notificationId("notification-after-commit-test")
+            .recipientId("u1a2b3c4-e5f6-7890-abcd-ef1234567890")
+            .build();
+
+        notificationCommandService.sendNotification(notification);
+        Thread.sleep(200);
+
+        // The test transaction is rolled back, so nothing may be delivered
+        verifyNoInteractions(sseNotificationDelivery);
+    }
+
+    @Test
+    void createNotifications_manyContexts_resolvesTemplateOnceAndBatchesInserts() {
+        // Arrange
+        int count = 10_000;
+        List<NotificationContext> contexts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            contexts.add(createdContext("batch-test:" + i));
+        }
+        long unreadBefore = notificationDao.countUnreadNotifications(EMPLOYEE_ID);
+        templateCache.evictAll();
+        Statistics statistics = freshStatistics();
+
+        // Act
+        List<Notification> created = notificationCommandService.createNotifications(contexts);
+        entityManager.flush();
+
+        // Assert
+        assertEquals(count, created.size());
+        assertEquals(count, statistics.getEntityInsertCount());
+        // One template lookup plus one idempotency lookup per 1000 keys
+        assertEquals(1 + count / 1000, statistics.getQueryExecutionCount());
+        // Inserts go out in JDBC batches instead of one statement per row
+        assertTrue(statistics.getPrepareStatementCount() < count / 10,
+            "Expected batched inserts, got " + statistics.getPrepareStatementCount() + " statements");
+        assertEquals(unreadBefore + count, notificationDao.countUnreadNotifications(EMPLOYEE_ID));
+    }
+
+    @Test
+    void createNotifications_duplicateKeysInSameBatch_persistsOnce() {
+        List<Notification> created = notificationCommandService.createNotifications(List.of(
+            createdContext("same-key"), createdContext("same-key"), createdContext(null)));
+
+        assertEquals(2, created.size());
+    }
+
+    @Test
+    void templateCache_servesRepeatedLookupsAndReloadsAfterTemplateChange() {
+        // Arrange
+        templateCache.evictAll();
+        notificationCommandService.createNotification(createdContext(null));
+        Statistics statistics = freshStatistics();
+
+        // Act - cached template, no lookup
+        notificationCommandService.createNotification(createdContext(null));
+        long queriesWhileCached = statistics.getQueryExecutionCount();
+
+        NotificationTemplate template = templateRepository.findByNotificationTypeAndUserRoleAndIsActive(
+            NotificationType.REQUEST_CREATED, UserRole.EMPLOYEE.name(), true).orElseThrow();
+        template.setMessageTemplate("Updated {requestType}");
+        templateRepository.save(template);
+
+        Notification afterChange = notificationCommandService.createNotification(createdContext(null));
+
+        // Assert
+        assertEquals(0, queriesWhileCached);
+        assertEquals("Updated LEAVE", afterChange.getMessage());
+    }
+
+    @Test
+    void countUnreadNotificationsByRecipients_matchesSingleRecipientCount() {
+        notificationCommandService.createNotifications(List.of(createdContext(null), createdContext(null)));
+        entityManager.flush();
+
+        Map<String, Long> counts = notificationDao.countUnreadNotificationsByRecipients(List.of(EMPLOYEE_ID, "no-such-user"));
+
+        assertEquals(notificationDao.countUnreadNotifications(EMPLOYEE_ID), counts.get(EMPLOYEE_ID));
+        assertNull(counts.get("no-such-user"));
+    }
+
+    private NotificationFilter referenceFilter(String referenceId) {
+        return new NotificationFilter(null, null, null, null, EMPLOYEE_ID, null, null, null, referenceId, null, null);
+    }
+
+    private List<String> createBulkNotifications(String referenceId, int count) {
+        List<NotificationContext> contexts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            NotificationContext context = createdContext(null);
+            context.setReferenceId(referenceId);
+            contexts.add(context);
+        }
+        return notificationCommandService.createNotifications(contexts).stream()
+            .map(Notification::getNotificationId)
+            .toList();
+    }
+
+    @Test
+    void markAsReadByIds_updatesWithoutLoadingEntities() {
+        List<String> ids = createBulkNotifications("req-bulk-read", 3);
+        long unreadBefore = notificationDao.countUnreadNotifications(EMPLOYEE_ID);
+        Statistics statistics = freshStatistics();
+
+        int updated = notificationCommandService.markAsReadByIds(EMPLOYEE_ID, ids);
+        entityManager.flush();
+
+        assertEquals(3, updated);
+        assertEquals(0, statistics.getEntityLoadCount());
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(unreadBefore - 3, notificationDao.countUnreadNotifications(EMPLOYEE_ID));
+        // Already read notifications are not counted again
+        assertEquals(0, notificationCommandService.markAsReadByIds(EMPLOYEE_ID, ids));
+    }
+
+    @Test
+    void markAsReadByFilter_onlyTouchesMatchingNotifications() {
+        List<String> matching = createBulkNotifications("req-bulk-filter", 2);
+        List<String> other = createBulkNotifications("req-bulk-other", 1);
+        entityManager.flush();
+
+        int updated = notificationCommandService.markAsReadByFilter(referenceFilter("req-bulk-filter"));
+        entityManager.clear();
+
+        assertEquals(2, updated);
+        assertTrue(notificationDao.getNotificationById(matching.get(0)).getIsRead());
+        assertTrue(notificationDao.getNotificationById(matching.get(1)).getIsRead());
+        assertEquals(false, notificationDao.getNotificationById(other.get(0)).getIsRead());
+    }
+
+    @Test
+    void markAsReadByFilter_moreRowsThanCap_rejectedWithoutChanges() {
+        createBulkNotifications("req-bulk-cap", 1001);
+        entityManager.flush();
+
+        assertThrows(IllegalArgumentException.class,
+            () -> notificationCommandService.markAsReadByFilter(referenceFilter("req-bulk-cap")));
+        assertEquals(0, notificationDao.getRecipientIdsByFilter(new NotificationFilter(
+            null, null, null, null, EMPLOYEE_ID, true, null, null, "req-bulk-cap", null, null), 10).size());
+    }
+
+    @Test
+    void markAsReadByFilter_withoutCriteria_rejected() {
+        NotificationFilter emptyFilter = new NotificationFilter(null, null, null, null, null, false, null, null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> notificationCommandService.markAsReadByFilter(emptyFilter));
+        assertThrows(IllegalArgumentException.class, () -> notificationCommandService.deleteByFilter(emptyFilter));
+    }
+
+    @Test
+    void markAsReadByFilter_withoutRecipient_rejected() {
+        // A type alone would reach the notifications of every user
+        NotificationFilter typeOnly = new NotificationFilter(
+            null, null, null, null, null, null, NotificationType.REQUEST_CREATED, null, null, null, null);
+
+        assertThrows(IllegalArgumentException.class, () -> notificationCommandService.markAsReadByFilter(typeOnly));
+        assertThrows(IllegalArgumentException.class, () -> notificationCommandService.deleteByFilter(typeOnly));
+    }
+
+    @Test
+    void markAsReadAndDeleteByIds_otherRecipient_leaveNotificationsAlone() {
+        List<String> ids = createBulkNotifications("req-bulk-foreign", 2);
+        entityManager.flush();
+
+        assertEquals(0, notificationCommandService.markAsReadByIds("another-user", ids));
+        assertEquals(0, notificationCommandService.deleteByIds("another-user", ids));
+        entityManager.clear();
+
+        assertEquals(false, notificationDao.getNotificationById(ids.get(0)).getIsRead());
+        assertNotNull(notificationDao.getNotificationById(ids.get(1)));
+        assertThrows(IllegalArgumentException.class, () -> notificationCommandService.deleteByIds(null, ids));
+    }
+
+    @Test
+    void deleteByIdsAndFilter_removeNotifications() {
+        List<String> byIds = createBulkNotifications("req-bulk-delete-ids", 2);
+        createBulkNotifications("req-bulk-delete-filter", 2);
+        entityManager.flush();
+
+        assertEquals(2, notificationCommandService.deleteByIds(EMPLOYEE_ID, byIds));
+        assertEquals(2, notificationCommandService.deleteByFilter(referenceFilter("req-bulk-delete-filter")));
+        entityManager.clear();
+
+        assertNull(notificationDao.getNotificationById(byIds.get(0)));
+        assertTrue(notificationDao.getRecipientIdsByFilter(referenceFilter("req-bulk-delete-filter"), 10).isEmpty());
+    }
+
+    @Test
+    void deleteByIds_tooManyIds_rejected() {
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i <= 1000; i++) {
+            ids.add("missing-" + i);
+        }
+
+        assertThrows(IllegalArgumentException.class, () -> notificationCommandService.deleteByIds(EMPLOYEE_ID, ids));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void markAsReadByIds_afterCommit_sendsOneStateChangePerRecipient() {
+        List<String> ids = createBulkNotifications("req-bulk-state", 5);
+        try {
+            notificationCommandService.markAsReadByIds(EMPLOYEE_ID, ids);
+
+            verify(sseNotificationDelivery, timeout(2000).times(1)).deliverStateChanges(Set.of(EMPLOYEE_ID));
+        } finally {
+            notificationCommandService.deleteByIds(EMPLOYEE_ID, ids);
+        }
+        verify(sseNotificationDelivery, timeout(2000).times(2)).deliverStateChanges(Set.of(EMPLOYEE_ID));
+    }
 }
@@ -0,0 +1,223 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationArchiveDao;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationDao;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationArchive;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationRetentionResult;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationReferenceType;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationRetentionPolicy;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationType;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.NotificationRetentionService;
+import org.pqkkkkk.hr_management_server.modules.notification.infrastructure.dao.NotificationArchiveRepository;
+import org.pqkkkkk.hr_management_server.modules.notification.infrastructure.dao.NotificationRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("NotificationRetentionService Integration Tests")
+class NotificationRetentionServiceIntegrationTest {
+
+    @Autowired
+    NotificationRetentionService retentionService;
+
+    @Autowired
+    NotificationDao notificationDao;
+
+    @Autowired
+    NotificationArchiveDao archiveDao;
+
+    @Autowired
+    NotificationRepository notificationRepository;
+
+    @Autowired
+    NotificationArchiveRepository archiveRepository;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    @Autowired
+    EntityManager entityManager;
+
+    private static final String EMPLOYEE_ID = "u1a2b3c4-e5f6-7890-abcd-ef1234567890";
+
+    private final List<String> committedIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUpCommittedNotifications() {
+        if (!committedIds.isEmpty()) {
+            new TransactionTemplate(transactionManager).executeWithoutResult(status -> {
+                notificationRepository.deleteByNotificationIds(committedIds);
+                archiveRepository.deleteByNotificationIds(committedIds);
+            });
+            committedIds.clear();
+        }
+    }
+
+    /**
+     * Commits a notification created the given number of days ago, so the
+     * retention batches, which run in their own transactions, can see it.
+     */
+    private String commitNotification(boolean isRead, int ageInDays) {
+        String id = new TransactionTemplate(transactionManager).execute(status -> {
+            Notification saved = notificationDao.createNotification(Notification.builder()
+                .title("Retention")
+                .message("Retention test notification")
+                .type(NotificationType.REQUEST_APPROVED)
+                .referenceType(NotificationReferenceType.REQUEST)
+                .referenceId("req-retention")
+                .isRead(isRead)
+                .recipientId(EMPLOYEE_ID)
+                .build());
+            entityManager.flush();
+            // created_at is stamped on insert, so back-date it afterwards
+            entityManager.createNativeQuery("UPDATE notification_table SET created_at = ?1 WHERE notification_id = ?2")
+                .setParameter(1, LocalDateTime.now().minusDays(ageInDays))
+                .setParameter(2, saved.getNotificationId())
+                .executeUpdate();
+            return saved.getNotificationId();
+        });
+        committedIds.add(id);
+        return id;
+    }
+
+    private boolean isLive(String id) {
+        return new TransactionTemplate(transactionManager).execute(status -> notificationRepository.existsById(id));
+    }
+
+    private NotificationArchive readArchived(String id) {
+        return new TransactionTemplate(transactionManager)
+            .execute(status -> archiveRepository.findById(id).orElse(null));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should archive old read notifications and keep unread and recent ones")
+    void applyRetention_archivePolicy_movesOnlyOldReadNotifications() {
+        String oldRead = commitNotification(true, 120);
+        String oldUnread = commitNotification(false, 120);
+        String recentRead = commitNotification(true, 10);
+
+        NotificationRetentionResult result = retentionService.applyRetention();
+
+        assertTrue(result.archived() >= 1);
+        assertEquals(0, result.deleted());
+        assertFalse(isLive(oldRead));
+        assertTrue(isLive(oldUnread));
+        assertTrue(isLive(recentRead));
+
+        NotificationArchive archived = readArchived(oldRead);
+        assertEquals(EMPLOYEE_ID, archived.getRecipientId());
+        assertEquals("Retention test notification", archived.getMessage());
+        assertEquals(NotificationType.REQUEST_APPROVED, archived.getType());
+        assertTrue(archived.getArchivedAt() != null);
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should purge archived notifications past the archive retention window")
+    void applyRetention_archivePolicy_purgesExpiredArchive() {
+        String expired = commitNotification(true, 400);
+
+        NotificationRetentionResult result = retentionService.applyRetention();
+
+        assertTrue(result.purged() >= 1);
+        assertFalse(isLive(expired));
+        assertEquals(null, readArchived(expired));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should delete old read notifications without archiving under the delete policy")
+    void applyRetention_deletePolicy_skipsArchive() {
+        // Batch size one exercises the multi-batch loop
+        NotificationRetentionService deletingService = new NotificationRetentionServiceImpl(notificationDao,
+            archiveDao, transactionManager, new SimpleMeterRegistry(), NotificationRetentionPolicy.DELETE, 90, 365, 1);
+        String first = commitNotification(true, 100);
+        String second = commitNotification(true, 101);
+
+        NotificationRetentionResult result = deletingService.applyRetention();
+
+        assertTrue(result.deleted() >= 2);
+        assertEquals(0, result.archived());
+        assertFalse(isLive(first));
+        assertFalse(isLive(second));
+        assertEquals(null, readArchived(first));
+        assertEquals(null, readArchived(second));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    @DisplayName("Should archive every notification once when two nodes run retention at the same time")
+    void applyRetention_concurrentRuns_archiveEachNotificationOnce() throws Exception {
+        // Arrange - one-row batches make the two runs contend for the same oldest rows
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            ids.add(commitNotification(true, 200 + i));
+        }
+        ExecutorService nodes = Executors.newFixedThreadPool(2);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<NotificationRetentionResult>> runs = new ArrayList<>();
+
+        try {
+            for (int i = 0; i < 2; i++) {
+                NotificationRetentionService node = new NotificationRetentionServiceImpl(notificationDao, archiveDao,
+                    transactionManager, new SimpleMeterRegistry(), NotificationRetentionPolicy.ARCHIVE, 90, 0, 1);
+                runs.add(nodes.submit(() -> {
+                    start.await();
+                    return node.applyRetention();
+                }));
+            }
+
+            // Act
+            start.countDown();
+            int archived = 0;
+            for (Future<NotificationRetentionResult> run : runs) {
+                archived += run.get(30, TimeUnit.SECONDS).archived();
+            }
+
+            // Assert - neither run failed on a duplicate archive row, and none was lost
+            assertTrue(archived >= ids.size());
+            for (String id : ids) {
+                assertFalse(isLive(id));
+                assertEquals(id, readArchived(id).getNotificationId());
+            }
+        } finally {
+            nodes.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Should reject a non-positive read retention window")
+    void constructor_invalidReadRetention_throwsException() {
+        assertThrows(IllegalArgumentException.class, () -> new NotificationRetentionServiceImpl(notificationDao,
+            archiveDao, transactionManager, new SimpleMeterRegistry(), NotificationRetentionPolicy.ARCHIVE, 0, 365, 100));
+    }
+}
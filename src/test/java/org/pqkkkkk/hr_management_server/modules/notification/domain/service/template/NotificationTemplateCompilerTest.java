@@ -0,0 +1,130 @@
+package org.pqkkkkk.hr_management_server.modules.notification.domain.service.template;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.NotificationTemplate;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Enums.NotificationType;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for template compilation, rendering and the version-keyed cache.
+ */
+@DisplayName("NotificationTemplateCompiler Unit Tests")
+class NotificationTemplateCompilerTest {
+
+    private final NotificationTemplateCompiler compiler = new NotificationTemplateCompiler();
+
+    private NotificationTemplate template(Long version, String title, String message) {
+        return NotificationTemplate.builder()
+                .templateId("tmpl-test")
+                .notificationType(NotificationType.REQUEST_REJECTED)
+                .userRole("EMPLOYEE")
+                .titleTemplate(title)
+                .messageTemplate(message)
+                .isActive(true)
+                .version(version)
+                .build();
+    }
+
+    @Nested
+    @DisplayName("CompiledTemplate")
+    class CompiledTemplateTests {
+
+        @Test
+        @DisplayName("Should replace placeholders and keep surrounding text")
+        void testRender_ReplacesPlaceholders() {
+            CompiledTemplate template = CompiledTemplate.compile("Dear {employeeName}, {requestType} was rejected.");
+
+            String rendered = template.render(Map.of("employeeName", "Carol", "requestType", "LEAVE"));
+
+            assertEquals("Dear Carol, LEAVE was rejected.", rendered);
+            assertEquals(Set.of("employeeName", "requestType"), template.getKeys());
+        }
+
+        @Test
+        @DisplayName("Should render missing or null values as empty text")
+        void testRender_MissingValues() {
+            CompiledTemplate template = CompiledTemplate.compile("{a}-{b}-{c}");
+            Map<String, Object> data = new HashMap<>();
+            data.put("a", 1);
+            data.put("b", null);
+
+            assertEquals("1--", template.render(data));
+            assertEquals("--", template.render(null));
+        }
+
+        @Test
+        @DisplayName("Should keep unmatched and empty braces as literal text")
+        void testCompile_LiteralBraces() {
+            CompiledTemplate template = CompiledTemplate.compile("{} and {key} and {open");
+
+            assertEquals("{} and v and {open", template.render(Map.of("key", "v")));
+            assertEquals(Set.of("key"), template.getKeys());
+        }
+
+        @Test
+        @DisplayName("Should not interpret replacement characters in values")
+        void testRender_ValueWithSpecialCharacters() {
+            CompiledTemplate template = CompiledTemplate.compile("Reason: {reason}");
+
+            assertEquals("Reason: $1 \\ {x}", template.render(Map.of("reason", "$1 \\ {x}")));
+        }
+
+        @Test
+        @DisplayName("Should render null or empty source as empty text")
+        void testCompile_EmptySource() {
+            assertEquals("", CompiledTemplate.compile(null).render(Map.of()));
+            assertEquals("", CompiledTemplate.compile("").render(Map.of()));
+        }
+    }
+
+    @Nested
+    @DisplayName("NotificationTemplateCompiler")
+    class CompilerTests {
+
+        @Test
+        @DisplayName("Should interpolate both title and message, reusing one buffer")
+        void testCompile_RendersTitleAndMessage() {
+            CompiledNotificationTemplate compiled = compiler.compile(
+                    template(0L, "{requestType} rejected", "Reason: {rejectionReason}"));
+            StringBuilder buffer = new StringBuilder();
+            Map<String, Object> data = Map.of("requestType", "LEAVE", "rejectionReason", "Busy");
+
+            assertEquals("LEAVE rejected", compiled.renderTitle(data, buffer));
+            assertEquals("Reason: Busy", compiled.renderMessage(data, buffer));
+        }
+
+        @Test
+        @DisplayName("Should reuse the compiled template while the version is unchanged")
+        void testCompile_SameVersion_ReturnsCached() {
+            CompiledNotificationTemplate first = compiler.compile(template(3L, "Title", "Old {requestType}"));
+            CompiledNotificationTemplate second = compiler.compile(template(3L, "Title", "Old {requestType}"));
+
+            assertSame(first, second);
+        }
+
+        @Test
+        @DisplayName("Should recompile when the template version changes")
+        void testCompile_NewVersion_Recompiles() {
+            compiler.compile(template(3L, "Title", "Old {requestType}"));
+
+            CompiledNotificationTemplate updated = compiler.compile(template(4L, "Title", "New {requestType}"));
+
+            assertEquals(4L, updated.version());
+            assertEquals("New LEAVE", updated.renderMessage(Map.of("requestType", "LEAVE"), new StringBuilder()));
+        }
+
+        @Test
+        @DisplayName("Should declare the keys producers fill in for each notification type")
+        void testNotificationType_DeclaresTemplateKeys() {
+            assertTrue(NotificationType.REQUEST_REJECTED.getTemplateKeys().contains("rejectionReason"));
+            assertFalse(NotificationType.REQUEST_CREATED.getTemplateKeys().contains("rejectionReason"));
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package org.pqkkkkk.hr_management_server.modules.notification.infrastructure.broadcast;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.dao.NotificationDao;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.entity.Notification;
+import org.pqkkkkk.hr_management_server.modules.notification.domain.service.delivery.NotificationReceiver;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import javax.sql.DataSource;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the LISTEN/NOTIFY broadcaster: payload packing and the
+ * receiving side of two nodes sharing one channel. The NOTIFY transport itself
+ * needs a Postgres server and is not exercised here.
+ */
+@DisplayName("PostgresNotificationBroadcaster Unit Tests")
+class PostgresNotificationBroadcasterTest {
+
+    /** Receiver standing in for the SSE connections held by one node. */
+    private static class NodeReceiver implements NotificationReceiver {
+        private final Set<String> connectedUsers;
+        private final List<Notification> received = new CopyOnWriteArrayList<>();
+        private final List<String> stateChanges = new CopyOnWriteArrayList<>();
+
+        NodeReceiver(String... connectedUsers) {
+            this.connectedUsers = Set.of(connectedUsers);
+        }
+
+        @Override
+        public boolean hasRecipient(String recipientId) {
+            return connectedUsers.contains(recipientId);
+        }
+
+        @Override
+        public void receive(Notification notification) {
+            received.add(notification);
+        }
+
+        @Override
+        public void receiveStateChange(String recipientId) {
+            stateChanges.add(recipientId);
+        }
+    }
+
+    private final NotificationDao notificationDao = mock(NotificationDao.class);
+
+    private PostgresNotificationBroadcaster node(String nodeId, NotificationReceiver receiver) {
+        PostgresNotificationBroadcaster broadcaster = new PostgresNotificationBroadcaster(
+                mock(DataSource.class), new DataSourceProperties(), notificationDao, new SimpleMeterRegistry(),
+                "hr_notifications", 100, nodeId);
+        broadcaster.registerReceiver(receiver);
+        return broadcaster;
+    }
+
+    private Notification notification(String id, String recipientId) {
+        return Notification.builder().notificationId(id).recipientId(recipientId).build();
+    }
+
+    @Test
+    @DisplayName("Should round-trip notification references through a payload")
+    void testEncodeDecode_RoundTrip() {
+        List<String> payloads = PostgresNotificationBroadcaster.encode(List.of(
+                notification("n-1", "user-a"), notification("n-2", "user-b")));
+
+        assertEquals(1, payloads.size());
+        assertEquals(List.of(
+                new PostgresNotificationBroadcaster.NotificationRef("n-1", "user-a"),
+                new PostgresNotificationBroadcaster.NotificationRef("n-2", "user-b")),
+                PostgresNotificationBroadcaster.decode(payloads.get(0)));
+    }
+
+    @Test
+    @DisplayName("Should split large batches into payloads under the NOTIFY limit")
+    void testEncode_SplitsLargeBatches() {
+        List<Notification> notifications = new ArrayList<>();
+        for (int i = 0; i < 1_000; i++) {
+            notifications.add(notification("3f2a9c1e-0000-4000-8000-" + String.format("%012d", i),
+                    "u1a2b3c4-e5f6-7890-abcd-ef1234567890"));
+        }
+
+        List<String> payloads = PostgresNotificationBroadcaster.encode(notifications);
+
+        assertTrue(payloads.size() > 1);
+        int decoded = 0;
+        for (String payload : payloads) {
+            assertTrue(payload.getBytes(StandardCharsets.UTF_8).length <= PostgresNotificationBroadcaster.MAX_PAYLOAD_BYTES);
+            decoded += PostgresNotificationBroadcaster.decode(payload).size();
+        }
+        assertEquals(notifications.size(), decoded);
+    }
+
+    @Test
+    @DisplayName("Should deliver on the node holding the connection and skip the other node")
+    void testOnPayload_TwoNodes_DeliversOnlyLocally() {
+        // Arrange
+        NodeReceiver receiverA = new NodeReceiver("user-a");
+        NodeReceiver receiverB = new NodeReceiver("user-b");
+        PostgresNotificationBroadcaster nodeA = node("node-a", receiverA);
+        PostgresNotificationBroadcaster nodeB = node("node-b", receiverB);
+
+        Notification forB = notification("n-1", "user-b");
+        when(notificationDao.getNotificationsByIds(any())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.contains("n-1") ? List.of(forB) : List.of();
+        });
+
+        // Act - node A publishes, Postgres fans the payload out to both nodes
+        for (String payload : PostgresNotificationBroadcaster.encode(List.of(forB))) {
+            nodeA.onPayload(payload);
+            nodeB.onPayload(payload);
+        }
+
+        // Assert
+        assertTrue(receiverA.received.isEmpty());
+        assertEquals(List.of(forB), receiverB.received);
+        // Only the node with a local recipient loads the notification
+        verify(notificationDao, times(1)).getNotificationsByIds(List.of("n-1"));
+    }
+
+    @Test
+    @DisplayName("Should send one state change per recipient to the node holding it, without loading notifications")
+    void testOnPayload_StateChanges_DeliveredOncePerLocalRecipient() {
+        // Arrange
+        NodeReceiver receiverA = new NodeReceiver("user-a");
+        NodeReceiver receiverB = new NodeReceiver("user-b");
+        PostgresNotificationBroadcaster nodeA = node("node-a", receiverA);
+        PostgresNotificationBroadcaster nodeB = node("node-b", receiverB);
+
+        // Act
+        List<String> payloads = PostgresNotificationBroadcaster.encodeStateChanges(List.of("user-a", "user-b", "user-a"));
+        for (String payload : payloads) {
+            nodeA.onPayload(payload);
+            nodeB.onPayload(payload);
+        }
+
+        // Assert
+        assertEquals(List.of(new PostgresNotificationBroadcaster.NotificationRef(null, "user-a"),
+                new PostgresNotificationBroadcaster.NotificationRef(null, "user-b")),
+                PostgresNotificationBroadcaster.decode(payloads.get(0)));
+        assertEquals(List.of("user-a"), receiverA.stateChanges);
+        assertEquals(List.of("user-b"), receiverB.stateChanges);
+        verifyNoInteractions(notificationDao);
+    }
+
+    @Test
+    @DisplayName("Should reject channel names that are not plain identifiers")
+    void testConstructor_InvalidChannel() {
+        assertThrows(IllegalArgumentException.class, () -> new PostgresNotificationBroadcaster(
+                mock(DataSource.class), new DataSourceProperties(), notificationDao, new SimpleMeterRegistry(), "bad; DROP", 100, "node"));
+    }
+}
@@ -0,0 +1,115 @@
+package org.pqkkkkk.hr_management_server.modules.notification.infrastructure.config;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.notification.infrastructure.config.NotificationExecutorConfig.RejectionPolicy;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the bounded notification executors: rejection policies and
+ * the metrics they register.
+ */
+@DisplayName("NotificationExecutorConfig Unit Tests")
+class NotificationExecutorConfigTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch release = new CountDownLatch(1);
+    private ThreadPoolTaskExecutor executor;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (executor != null) {
+            executor.shutdown();
+        }
+    }
+
+    /**
+     * Occupies the single worker and the single queue slot so the next task is
+     * rejected.
+     */
+    private void saturate() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        executor.execute(this::awaitRelease);
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    @DisplayName("Should run a rejected task on the submitting thread with CALLER_RUNS")
+    void testCallerRuns_QueueFull_RunsOnCaller() throws InterruptedException {
+        // Arrange
+        executor = NotificationExecutorConfig.buildExecutor(meterRegistry, 1, 1, 1, RejectionPolicy.CALLER_RUNS);
+        saturate();
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        // Act
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+
+        // Assert
+        assertSame(Thread.currentThread(), ranOn.get());
+        assertEquals(1.0, meterRegistry.get("notification.executor.rejected").counter().count());
+        assertEquals(1.0, meterRegistry.get("notification.executor.queue.size").gauge().value());
+        assertEquals(1.0, meterRegistry.get("notification.executor.active").gauge().value());
+    }
+
+    @Test
+    @DisplayName("Should drop a rejected task with DROP")
+    void testDrop_QueueFull_DropsTask() throws InterruptedException {
+        // Arrange
+        executor = NotificationExecutorConfig.buildExecutor(meterRegistry, 1, 1, 1, RejectionPolicy.DROP);
+        saturate();
+        AtomicReference<Thread> ranOn = new AtomicReference<>();
+
+        // Act
+        executor.execute(() -> ranOn.set(Thread.currentThread()));
+        release.countDown();
+        executor.shutdown();
+        executor.getThreadPoolExecutor().awaitTermination(5, TimeUnit.SECONDS);
+
+        // Assert
+        assertNull(ranOn.get());
+        assertEquals(1.0, meterRegistry.get("notification.executor.rejected").counter().count());
+        assertEquals(2, meterRegistry.get("notification.executor.task.latency").timer().count());
+    }
+
+    @Test
+    @DisplayName("Should reject SSE drains beyond the writer queue capacity")
+    void testSseWriter_QueueFull_Rejects() throws InterruptedException {
+        // Arrange
+        executor = new NotificationExecutorConfig().sseWriterExecutor(1, 1);
+        saturate();
+
+        // Act & Assert
+        assertThrows(TaskRejectedException.class, () -> executor.execute(() -> { }));
+    }
+
+    @Test
+    @DisplayName("Should throw exception for invalid pool sizing")
+    void testBuildExecutor_InvalidSizing_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> NotificationExecutorConfig.buildExecutor(meterRegistry, 4, 2, 10, RejectionPolicy.DROP));
+    }
+}
@@ -1,16 +1,25 @@
 package org.pqkkkkk.hr_management_server.modules.profile.domain.service.impl;
 
 import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import db.migration.V37__Backfill_user_search_name;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.Enums.*;
 import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.User;
 import org.pqkkkkk.hr_management_server.modules.profile.domain.filter.FilterCriteria.ProfileFilter;
+import org.pqkkkkk.hr_management_server.modules.profile.domain.dao.ProfileDao;
 import org.pqkkkkk.hr_management_server.shared.Constants.SortDirection;
+import org.pqkkkkk.hr_management_server.shared.SearchTextNormalizer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.data.domain.Page;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceUtils;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -25,6 +34,15 @@ class ProfileQueryServiceImplIntegrationTest {
     @Autowired
     private ProfileQueryServiceImpl profileQueryService;
 
+    @Autowired
+    private ProfileDao profileDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
     @Test
     @DisplayName("Should return all profiles with default pagination")
     void testGetProfiles_WithDefaultPagination_Success() {
@@ -613,4 +631,96 @@ class ProfileQueryServiceImplIntegrationTest {
         // Act & Assert
         assertThrows(IllegalArgumentException.class, () -> profileQueryService.getProfileById(null));
     }
+
+    @Test
+    @DisplayName("Should match names ignoring case and Vietnamese accents")
+    void testGetProfiles_FilterByAccentedNameTerm_Success() {
+        // Arrange - sample data stores "Nguyen" without diacritics
+        ProfileFilter filter = new ProfileFilter(
+                1, // currentPage
+                10, // pageSize
+                null, // sortBy
+                null, // sortDirection
+                "NGUYỄN", // nameTerm
+                null, // role
+                null, // gender
+                null, // status
+                null, // position
+                null, // departmentId
+                null // departmentName
+        );
+
+        // Act
+        Page<User> result = profileQueryService.getProfiles(filter);
+
+        // Assert
+        assertTrue(result.getTotalElements() >= 2, "Should find at least 2 users with 'Nguyen' in name");
+        result.getContent().forEach(user -> assertTrue(user.getFullName().toLowerCase().contains("nguyen")));
+    }
+
+    @Test
+    @DisplayName("Should keep the search name in sync when a user's name changes")
+    void testGetProfiles_SearchNameSyncedOnUpdate_Success() {
+        // Arrange
+        User user = profileQueryService.getProfileById("u1a2b3c4-e5f6-7890-abcd-ef1234567890");
+        user.setFullName("Trần Thị Ánh Đào");
+        profileDao.updateProfile(user);
+        ProfileFilter filter = new ProfileFilter(
+                1, // currentPage
+                10, // pageSize
+                null, // sortBy
+                null, // sortDirection
+                "tran thi anh dao", // nameTerm
+                null, // role
+                null, // gender
+                null, // status
+                null, // position
+                null, // departmentId
+                null // departmentName
+        );
+
+        // Act
+        Page<User> result = profileQueryService.getProfiles(filter);
+
+        // Assert
+        assertEquals(1, result.getTotalElements());
+        assertEquals("Trần Thị Ánh Đào", result.getContent().get(0).getFullName());
+        assertEquals("tran thi anh dao", result.getContent().get(0).getSearchName());
+    }
+
+    @Test
+    @DisplayName("Should store every migrated search name exactly as the normalizer computes it")
+    void testSearchName_AfterMigration_MatchesNormalizer() {
+        // Act
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                "SELECT full_name, search_name FROM user_table WHERE full_name IS NOT NULL");
+
+        // Assert
+        assertFalse(rows.isEmpty());
+        rows.forEach(row -> assertEquals(SearchTextNormalizer.normalize((String) row.get("full_name")),
+                row.get("search_name"), "search_name of " + row.get("full_name")));
+    }
+
+    @Test
+    @DisplayName("Should find a user with non-Vietnamese accents once the backfill recomputed the search name")
+    void testGetProfiles_NonVietnameseAccents_FoundAfterBackfill() throws Exception {
+        // Arrange - a row as the SQL backfill of V29 left it, with the accents still in place
+        jdbcTemplate.update("""
+                INSERT INTO user_table (user_id, full_name, search_name, role, status, department_id)
+                VALUES ('u9f8e7d6-c5b4-a392-8170-6f5e4d3c2b1a', 'José Müller', 'josé müller', 'EMPLOYEE', 'ACTIVE',
+                        'd1a2b3c4-e5f6-7890-abcd-ef1234567890')
+                """);
+        ProfileFilter filter = new ProfileFilter(1, 10, null, null, "Jose Muller",
+                null, null, null, null, null, null);
+        assertEquals(0, profileQueryService.getProfiles(filter).getTotalElements());
+
+        // Act
+        int updated = V37__Backfill_user_search_name.backfill(DataSourceUtils.getConnection(dataSource));
+
+        // Assert
+        assertEquals(1, updated);
+        Page<User> result = profileQueryService.getProfiles(filter);
+        assertEquals(1, result.getTotalElements());
+        assertEquals("jose muller", result.getContent().get(0).getSearchName());
+    }
 }
@@ -0,0 +1,128 @@
+package org.pqkkkkk.hr_management_server.modules.request.domain.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.User;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.AdditionalCheckInInfo;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.BulkApproveResult;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestStatus;
+import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestEventHandler;
+import org.pqkkkkk.hr_management_server.modules.request.domain.filter.FilterCriteria.RequestFilter;
+import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestActionService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for RequestActionService.bulkApprove() that commit.
+ * <p>
+ * Not {@code @Transactional}: a rejected approval marking the transaction
+ * rollback-only only shows when bulkApprove commits its own transaction. A
+ * dedicated employee keeps the committed rows apart from the sample data and
+ * is deleted afterwards together with everything that cascades from it.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("RequestActionService Bulk Approve Commit Integration Tests")
+class RequestActionServiceBulkApproveCommitIntegrationTest {
+
+    private static final String EMPLOYEE_ID = "bulk-commit-employee";
+    private static final String APPROVER_ID = "u2b3c4d5-f6a7-8901-bcde-f12345678901";
+    private static final LocalDate WORK_DATE = LocalDate.of(2031, 3, 4);
+
+    @Autowired
+    private RequestActionService requestActionService;
+
+    @Autowired
+    private CheckInRequestCommandService checkInRequestCommandService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // Keeps the outbox relay from creating notifications for the test requests
+    @MockitoBean
+    private RequestEventHandler requestEventHandler;
+
+    private final List<String> createdRequestIds = new ArrayList<>();
+
+    @BeforeEach
+    void createEmployee() {
+        jdbcTemplate.update("INSERT INTO user_table (user_id, full_name, manager_id) VALUES (?, ?, ?)",
+                EMPLOYEE_ID, "Bulk Commit Employee", APPROVER_ID);
+    }
+
+    @AfterEach
+    void deleteCommittedRows() {
+        for (String requestId : createdRequestIds) {
+            jdbcTemplate.update("DELETE FROM request_event_outbox_table WHERE request_id = ?", requestId);
+        }
+        createdRequestIds.clear();
+        // Requests, timesheets and summaries cascade from the employee
+        jdbcTemplate.update("DELETE FROM user_table WHERE user_id = ?", EMPLOYEE_ID);
+    }
+
+    @Test
+    @DisplayName("Should commit the valid approvals next to a rejected one")
+    void testBulkApprove_CommitsValidApprovalsNextToFailure() {
+        // Arrange - the second check-in of the same day breaks a rule
+        Request first = createCheckIn(WORK_DATE.atTime(LocalTime.of(7, 30)));
+        Request duplicate = createCheckIn(WORK_DATE.atTime(LocalTime.of(7, 50)));
+        Request nextDay = createCheckIn(WORK_DATE.plusDays(1).atTime(LocalTime.of(8, 0)));
+
+        RequestFilter filter = new RequestFilter(
+                EMPLOYEE_ID, APPROVER_ID, null, null, null,
+                null, null, null, null,
+                null, null, null, null);
+
+        // Act
+        BulkApproveResult result = requestActionService.bulkApprove(filter, APPROVER_ID, 50);
+
+        // Assert - the result and the committed rows agree
+        assertEquals(List.of(first.getRequestId(), nextDay.getRequestId()), result.approvedRequestIds());
+        assertEquals(List.of(duplicate.getRequestId()),
+                result.failedApprovals().stream().map(BulkApproveResult.FailedApproval::requestId).toList());
+
+        assertEquals(RequestStatus.APPROVED.name(), committedStatus(first));
+        assertEquals(RequestStatus.APPROVED.name(), committedStatus(nextDay));
+        assertEquals(RequestStatus.PENDING.name(), committedStatus(duplicate));
+
+        List<LocalDateTime> checkIns = jdbcTemplate.query(
+                "SELECT check_in_time FROM daily_timesheet_table WHERE employee_id = ? ORDER BY date",
+                (rs, rowNum) -> rs.getObject("check_in_time", Timestamp.class).toLocalDateTime(),
+                EMPLOYEE_ID);
+        assertEquals(List.of(WORK_DATE.atTime(LocalTime.of(7, 30)), WORK_DATE.plusDays(1).atTime(LocalTime.of(8, 0))),
+                checkIns);
+    }
+
+    private Request createCheckIn(LocalDateTime checkInTime) {
+        Request request = checkInRequestCommandService.createRequest(Request.builder()
+                .title("Bulk commit check-in")
+                .employee(User.builder().userId(EMPLOYEE_ID).build())
+                .additionalCheckInInfo(AdditionalCheckInInfo.builder()
+                        .desiredCheckInTime(checkInTime)
+                        .currentCheckInTime(checkInTime.plusMinutes(30))
+                        .build())
+                .build());
+        createdRequestIds.add(request.getRequestId());
+        return request;
+    }
+
+    private String committedStatus(Request request) {
+        return jdbcTemplate.queryForObject("SELECT status FROM request_table WHERE request_id = ?",
+                String.class, request.getRequestId());
+    }
+}
@@ -4,6 +4,9 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.User;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.AdditionalCheckInInfo;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.AdditionalCheckOutInfo;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.BulkApproveResult;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestStatus;
@@ -11,6 +14,8 @@ import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.Requ
 import org.pqkkkkk.hr_management_server.modules.request.domain.filter.FilterCriteria.RequestFilter;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestActionService;
 import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestQueryService;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.dao.DailyTimeSheetDao;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.DailyTimeSheet;
 import org.pqkkkkk.hr_management_server.shared.Constants.SortDirection;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -19,6 +24,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -38,7 +45,17 @@ class RequestActionServiceBulkApproveIntegrationTest {
     @Autowired
     private RequestQueryService requestQueryService;
 
+    @Autowired
+    private CheckInRequestCommandService checkInRequestCommandService;
+
+    @Autowired
+    private CheckOutRequestCommandService checkOutRequestCommandService;
+
+    @Autowired
+    private DailyTimeSheetDao dailyTimeSheetDao;
+
     // Sample data IDs from Flyway migrations
+    private String testEmployeeId;
     private String testApproverId;
     private String testProcessorId;
     private String testDepartmentId;
@@ -46,6 +63,7 @@ class RequestActionServiceBulkApproveIntegrationTest {
     @BeforeEach
     void setUp() {
         // Sample data from V3__insert_profile_sample_data.sql
+        testEmployeeId = "u1a2b3c4-e5f6-7890-abcd-ef1234567890"; // Employee managed by testApproverId
         testApproverId = "u2b3c4d5-f6a7-8901-bcde-f12345678901"; // Manager
         testProcessorId = "u2b3c4d5-f6a7-8901-bcde-f12345678901"; // Same as approver
         testDepartmentId = "dept-001"; // Engineering department
@@ -301,6 +319,97 @@ class RequestActionServiceBulkApproveIntegrationTest {
         }
     }
 
+    // ==================== Set-Based Approval Cases ====================
+
+    @Nested
+    @DisplayName("Set-Based Approval Cases")
+    class SetBasedApprovalCases {
+
+        // Far-future working day so sample timesheets never overlap
+        private final LocalDate workDate = LocalDate.of(2030, 3, 4);
+
+        @Test
+        @DisplayName("Should apply check-in before check-out of the same day in one batch")
+        void testBulkApprove_CheckInAndCheckOutSameDay() {
+            // Arrange - check-out is created first so it also comes first by createdAt
+            Request checkOut = checkOutRequestCommandService.createRequest(
+                    buildCheckOutRequest(workDate.atTime(LocalTime.of(17, 30))));
+            Request checkIn = checkInRequestCommandService.createRequest(
+                    buildCheckInRequest(workDate.atTime(LocalTime.of(7, 45))));
+
+            RequestFilter filter = new RequestFilter(
+                    testEmployeeId, testApproverId, null, null, null,
+                    null, null, null, null,
+                    null, null, null, null);
+
+            // Act
+            BulkApproveResult result = requestActionService.bulkApprove(filter, testApproverId, 50);
+
+            // Assert
+            assertTrue(result.approvedRequestIds().contains(checkIn.getRequestId()));
+            assertTrue(result.approvedRequestIds().contains(checkOut.getRequestId()));
+
+            DailyTimeSheet timeSheet = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(testEmployeeId, workDate);
+            assertNotNull(timeSheet);
+            assertEquals(workDate.atTime(LocalTime.of(7, 45)), timeSheet.getCheckInTime());
+            assertEquals(workDate.atTime(LocalTime.of(17, 30)), timeSheet.getCheckOutTime());
+            assertTrue(timeSheet.getTotalWorkCredit() > 1.0);
+        }
+
+        @Test
+        @DisplayName("Should report duplicate check-in as failure without touching the first approval")
+        void testBulkApprove_DuplicateCheckInReportedAsFailure() {
+            // Arrange
+            Request first = checkInRequestCommandService.createRequest(
+                    buildCheckInRequest(workDate.atTime(LocalTime.of(7, 30))));
+            Request duplicate = checkInRequestCommandService.createRequest(
+                    buildCheckInRequest(workDate.atTime(LocalTime.of(7, 50))));
+
+            RequestFilter filter = new RequestFilter(
+                    testEmployeeId, testApproverId, null, null, null,
+                    null, RequestType.CHECK_IN, null, null,
+                    null, null, null, null);
+
+            // Act
+            BulkApproveResult result = requestActionService.bulkApprove(filter, testApproverId, 50);
+
+            // Assert
+            assertTrue(result.approvedRequestIds().contains(first.getRequestId()));
+            BulkApproveResult.FailedApproval failure = result.failedApprovals().stream()
+                    .filter(f -> f.requestId().equals(duplicate.getRequestId()))
+                    .findFirst()
+                    .orElseThrow();
+            assertTrue(failure.reason().contains("already has check-in"));
+            assertEquals(RequestStatus.PENDING,
+                    requestQueryService.getRequestById(duplicate.getRequestId()).getStatus());
+
+            DailyTimeSheet timeSheet = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(testEmployeeId, workDate);
+            assertEquals(workDate.atTime(LocalTime.of(7, 30)), timeSheet.getCheckInTime());
+        }
+
+        private Request buildCheckInRequest(LocalDateTime checkInTime) {
+            return Request.builder()
+                    .title("Bulk check-in")
+                    .employee(User.builder().userId(testEmployeeId).build())
+                    .additionalCheckInInfo(AdditionalCheckInInfo.builder()
+                            .desiredCheckInTime(checkInTime)
+                            .currentCheckInTime(checkInTime.plusMinutes(30))
+                            .build())
+                    .build();
+        }
+
+        private Request buildCheckOutRequest(LocalDateTime checkOutTime) {
+            return Request.builder()
+                    .title("Bulk check-out")
+                    .employee(User.builder().userId(testEmployeeId).build())
+                    .additionalCheckOutInfo(AdditionalCheckOutInfo.builder()
+                            .desiredCheckOutTime(checkOutTime)
+                            .currentCheckOutTime(checkOutTime.minusMinutes(30))
+                            .build())
+                    .build();
+        }
+    }
+
     // ==================== Result Structure Tests ====================
 
     @Nested
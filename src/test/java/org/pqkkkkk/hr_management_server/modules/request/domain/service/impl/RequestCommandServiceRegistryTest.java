@@ -0,0 +1,91 @@
+package org.pqkkkkk.hr_management_server.modules.request.domain.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestType;
+import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestCommandService;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the RequestType to RequestCommandService routing table built
+ * by RequestActionServiceImpl at startup.
+ */
+@DisplayName("RequestCommandService Registry Unit Tests")
+class RequestCommandServiceRegistryTest {
+
+    private static RequestCommandService serviceFor(RequestType type) {
+        RequestCommandService service = mock(RequestCommandService.class);
+        when(service.getSupportedType()).thenReturn(type);
+        return service;
+    }
+
+    private static List<RequestCommandService> oneServicePerType() {
+        List<RequestCommandService> services = new ArrayList<>();
+        Arrays.stream(RequestType.values()).forEach(type -> services.add(serviceFor(type)));
+        return services;
+    }
+
+    @Test
+    @DisplayName("Should route every request type to the service that declares it")
+    void shouldRouteEveryTypeToDeclaringService() {
+        // Arrange
+        List<RequestCommandService> services = oneServicePerType();
+
+        // Act
+        Map<RequestType, RequestCommandService> registry =
+                RequestActionServiceImpl.buildCommandServiceRegistry(services);
+
+        // Assert
+        assertEquals(RequestType.values().length, registry.size());
+        for (RequestCommandService service : services) {
+            assertSame(service, registry.get(service.getSupportedType()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should fail when two services declare the same request type")
+    void shouldFailOnDuplicateType() {
+        // Arrange
+        List<RequestCommandService> services = oneServicePerType();
+        services.add(serviceFor(RequestType.LEAVE));
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> RequestActionServiceImpl.buildCommandServiceRegistry(services));
+        assertTrue(exception.getMessage().contains("Duplicate"));
+        assertTrue(exception.getMessage().contains("LEAVE"));
+    }
+
+    @Test
+    @DisplayName("Should fail when a request type has no service")
+    void shouldFailOnMissingType() {
+        // Arrange
+        List<RequestCommandService> services = oneServicePerType();
+        services.removeIf(service -> service.getSupportedType() == RequestType.WFH);
+
+        // Act & Assert
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> RequestActionServiceImpl.buildCommandServiceRegistry(services));
+        assertTrue(exception.getMessage().contains("WFH"));
+    }
+
+    @Test
+    @DisplayName("Should fail when a service declares no request type")
+    void shouldFailOnNullType() {
+        // Arrange
+        List<RequestCommandService> services = oneServicePerType();
+        services.add(serviceFor(null));
+
+        // Act & Assert
+        assertThrows(IllegalStateException.class,
+                () -> RequestActionServiceImpl.buildCommandServiceRegistry(services));
+    }
+}
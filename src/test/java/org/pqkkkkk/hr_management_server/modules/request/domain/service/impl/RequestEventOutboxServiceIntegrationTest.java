@@ -0,0 +1,210 @@
+package org.pqkkkkk.hr_management_server.modules.request.domain.service.impl;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.User;
+import org.pqkkkkk.hr_management_server.modules.request.domain.dao.RequestEventOutboxDao;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.AdditionalCheckInInfo;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.RequestEventOutbox;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.OutboxStatus;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestEventType;
+import org.pqkkkkk.hr_management_server.modules.request.domain.event.RelayedRequestEvent;
+import org.pqkkkkk.hr_management_server.modules.request.domain.event.RequestEventHandler;
+import org.pqkkkkk.hr_management_server.modules.request.domain.service.RequestEventOutboxService;
+import org.pqkkkkk.hr_management_server.modules.request.infrastructure.dao.jpa_repository.RequestEventOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("RequestEventOutboxService Integration Tests")
+class RequestEventOutboxServiceIntegrationTest {
+
+    @Autowired
+    private RequestEventOutboxService outboxService;
+
+    @Autowired
+    private RequestEventOutboxDao outboxDao;
+
+    @Autowired
+    private RequestEventOutboxRepository outboxRepository;
+
+    @Autowired
+    private CheckInRequestCommandService checkInRequestCommandService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @MockitoBean
+    private RequestEventHandler requestEventHandler;
+
+    private static final String EMPLOYEE_ID = "u1a2b3c4-e5f6-7890-abcd-ef1234567890";
+    private static final String EXISTING_REQUEST_ID = "req-leave-approved";
+
+    private final List<String> committedEventIds = new ArrayList<>();
+
+    @AfterEach
+    void cleanUpCommittedEntries() {
+        if (!committedEventIds.isEmpty()) {
+            new TransactionTemplate(transactionManager)
+                    .executeWithoutResult(status -> outboxRepository.deleteAllById(committedEventIds));
+            committedEventIds.clear();
+        }
+    }
+
+    /**
+     * Commits a pending outbox entry so the relay, which dispatches in its own
+     * transactions, can see it.
+     */
+    private String commitPendingEntry(String idempotencyKey) {
+        String eventId = new TransactionTemplate(transactionManager).execute(status -> outboxDao.createEntry(
+                RequestEventOutbox.builder()
+                        .idempotencyKey(idempotencyKey)
+                        .eventType(RequestEventType.REQUEST_APPROVED)
+                        .requestId(EXISTING_REQUEST_ID)
+                        .build())
+                .getEventId());
+        committedEventIds.add(eventId);
+        return eventId;
+    }
+
+    private RequestEventOutbox readCommitted(String eventId) {
+        return new TransactionTemplate(transactionManager).execute(status -> outboxDao.getEntryById(eventId));
+    }
+
+    // ==================== Recording ====================
+
+    @Nested
+    @DisplayName("Recording Cases")
+    class RecordingCases {
+
+        @Test
+        @DisplayName("Should write an outbox entry in the same transaction as the created request")
+        void testCreateRequest_WritesOutboxEntry() {
+            // Arrange
+            Request request = Request.builder()
+                    .title("Outbox Check-in")
+                    .employee(User.builder().userId(EMPLOYEE_ID).build())
+                    .additionalCheckInInfo(AdditionalCheckInInfo.builder()
+                            .desiredCheckInTime(LocalDateTime.now().with(LocalTime.of(7, 45)))
+                            .currentCheckInTime(LocalDateTime.now().with(LocalTime.of(8, 15)))
+                            .build())
+                    .build();
+
+            // Act
+            Request created = checkInRequestCommandService.createRequest(request);
+
+            // Assert
+            RequestEventOutbox entry = outboxDao.getEntryByIdempotencyKey("REQUEST_CREATED:" + created.getRequestId());
+            assertNotNull(entry);
+            assertEquals(RequestEventType.REQUEST_CREATED, entry.getEventType());
+            assertEquals(OutboxStatus.PENDING, entry.getStatus());
+            assertEquals(created.getRequestId(), entry.getRequestId());
+            verifyNoInteractions(requestEventHandler);
+        }
+
+        @Test
+        @DisplayName("Should record the same event for the same request only once")
+        void testRecordEvent_Duplicate_RecordedOnce() {
+            // Arrange
+            Request request = Request.builder().requestId(EXISTING_REQUEST_ID).build();
+
+            // Act
+            outboxService.recordEvent(RequestEventType.REQUEST_REJECTED, request);
+            outboxService.recordEvent(RequestEventType.REQUEST_REJECTED, request);
+
+            // Assert
+            assertEquals(1, outboxRepository.findAll().stream()
+                    .filter(entry -> entry.getIdempotencyKey().equals("REQUEST_REJECTED:" + EXISTING_REQUEST_ID))
+                    .count());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when request has no ID")
+        void testRecordEvent_RequestWithoutId_ThrowsException() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class,
+                    () -> outboxService.recordEvent(RequestEventType.REQUEST_CREATED, Request.builder().build()));
+        }
+    }
+
+    // ==================== Relaying ====================
+
+    @Nested
+    @DisplayName("Relay Cases")
+    class RelayCases {
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        @DisplayName("Should dispatch a pending event to handlers and mark it dispatched")
+        void testRelayPendingEvents_Success_MarksDispatched() {
+            // Arrange
+            String eventId = commitPendingEntry("TEST_RELAY_SUCCESS:" + EXISTING_REQUEST_ID);
+
+            // Act
+            int dispatched = outboxService.relayPendingEvents(10);
+
+            // Assert
+            assertTrue(dispatched >= 1);
+            ArgumentCaptor<RelayedRequestEvent> captor = ArgumentCaptor.forClass(RelayedRequestEvent.class);
+            verify(requestEventHandler, atLeastOnce()).handle(captor.capture());
+            RelayedRequestEvent event = captor.getAllValues().stream()
+                    .filter(e -> e.eventId().equals(eventId))
+                    .findFirst()
+                    .orElseThrow();
+            assertEquals(RequestEventType.REQUEST_APPROVED, event.type());
+            assertEquals(EXISTING_REQUEST_ID, event.request().getRequestId());
+
+            RequestEventOutbox entry = readCommitted(eventId);
+            assertEquals(OutboxStatus.DISPATCHED, entry.getStatus());
+            assertNotNull(entry.getDispatchedAt());
+        }
+
+        @Test
+        @Transactional(propagation = Propagation.NOT_SUPPORTED)
+        @DisplayName("Should keep a failing event pending and count the attempt")
+        void testRelayPendingEvents_HandlerFails_StaysPending() {
+            // Arrange
+            String eventId = commitPendingEntry("TEST_RELAY_FAILURE:" + EXISTING_REQUEST_ID);
+            doThrow(new IllegalStateException("Notification store unavailable"))
+                    .when(requestEventHandler).handle(any());
+
+            // Act
+            int dispatched = outboxService.relayPendingEvents(10);
+
+            // Assert
+            assertEquals(0, dispatched);
+            RequestEventOutbox entry = readCommitted(eventId);
+            assertEquals(OutboxStatus.PENDING, entry.getStatus());
+            assertEquals(1, entry.getAttempts());
+            assertEquals("Notification store unavailable", entry.getLastError());
+        }
+
+        @Test
+        @DisplayName("Should throw exception for non-positive batch size")
+        void testRelayPendingEvents_InvalidBatchSize_ThrowsException() {
+            // Act & Assert
+            assertThrows(IllegalArgumentException.class, () -> outboxService.relayPendingEvents(0));
+        }
+    }
+}
@@ -1,8 +1,13 @@
 package org.pqkkkkk.hr_management_server.modules.request.domain.service.impl;
 
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.request.controller.http.dto.DTO.LeaveRequestDTO;
+import org.pqkkkkk.hr_management_server.modules.request.controller.http.dto.DTO.RequestDTO;
+import org.pqkkkkk.hr_management_server.modules.request.domain.entity.CursorPage;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Request;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestStatus;
 import org.pqkkkkk.hr_management_server.modules.request.domain.entity.Enums.RequestType;
@@ -15,7 +20,13 @@ import org.springframework.data.domain.Page;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -28,6 +39,12 @@ class RequestQueryServiceImplIntegrationTest {
     @Autowired
     private RequestQueryService requestQueryService;
 
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     private String testEmployeeId;
     private String testApproverId;
     private String testProcessorId;
@@ -220,6 +237,24 @@ class RequestQueryServiceImplIntegrationTest {
         });
     }
 
+    @Test
+    @DisplayName("Should filter requests by employee name ignoring Vietnamese accents")
+    void testGetRequests_FilterByNameTerm_AccentInsensitive_Success() {
+        // Arrange
+        RequestFilter filter = new RequestFilter(
+                null, null, null, null, "Nguyễn Văn", null, null, null,
+                null, 1, 10, "createdAt", SortDirection.DESC);
+
+        // Act
+        Page<Request> result = requestQueryService.getRequests(filter);
+
+        // Assert
+        assertNotNull(result);
+        assertTrue(result.getTotalElements() > 0);
+        result.getContent().forEach(request -> assertTrue(
+                request.getEmployee().getFullName().toLowerCase().contains("nguyen van")));
+    }
+
     @Test
     @DisplayName("Should return empty page when name term does not match any employee")
     void testGetRequests_FilterByNameTerm_NoMatch_EmptyPage() {
@@ -568,4 +603,171 @@ class RequestQueryServiceImplIntegrationTest {
                             (createdDate.isEqual(endDate) || createdDate.isBefore(endDate)));
         });
     }
+
+    // ==================== getRequestsByCursor Tests ====================
+
+    @Test
+    @DisplayName("Should walk all windows with cursor and match offset pagination order")
+    void testGetRequestsByCursor_WalkAllWindows_MatchesOffsetOrder() {
+        // Arrange
+        RequestFilter offsetFilter = new RequestFilter(
+                testEmployeeId, null, null, null, null, null, null, null,
+                null, 1, 1000, "createdAt", SortDirection.DESC);
+        Page<Request> allRequests = requestQueryService.getRequests(offsetFilter);
+        RequestFilter cursorFilter = new RequestFilter(
+                testEmployeeId, null, null, null, null, null, null, null,
+                null, null, 2, null, SortDirection.DESC);
+
+        // Act
+        List<String> seenIds = new ArrayList<>();
+        String cursor = null;
+        CursorPage<Request> window;
+        do {
+            window = requestQueryService.getRequestsByCursor(cursorFilter, cursor);
+            assertTrue(window.content().size() <= 2);
+            window.content().forEach(request -> seenIds.add(request.getRequestId()));
+            cursor = window.nextCursor();
+        } while (window.hasNext());
+
+        // Assert
+        assertEquals(allRequests.getTotalElements(), seenIds.size());
+        assertEquals(seenIds.size(), new HashSet<>(seenIds).size());
+        assertNull(window.nextCursor());
+        for (int i = 1; i < seenIds.size(); i++) {
+            Request previous = requestQueryService.getRequestById(seenIds.get(i - 1));
+            Request current = requestQueryService.getRequestById(seenIds.get(i));
+            assertFalse(current.getCreatedAt().isAfter(previous.getCreatedAt()));
+        }
+    }
+
+    @Test
+    @DisplayName("Should return ascending windows when sort direction is ASC")
+    void testGetRequestsByCursor_Ascending_Success() {
+        // Arrange
+        RequestFilter filter = new RequestFilter(
+                null, testApproverId, null, null, null, null, null, null,
+                null, null, 3, null, SortDirection.ASC);
+
+        // Act
+        CursorPage<Request> first = requestQueryService.getRequestsByCursor(filter, null);
+
+        // Assert
+        assertNotNull(first);
+        assertTrue(first.hasNext());
+        CursorPage<Request> second = requestQueryService.getRequestsByCursor(filter, first.nextCursor());
+        Request lastOfFirst = first.content().get(first.content().size() - 1);
+        Request firstOfSecond = second.content().get(0);
+        assertFalse(firstOfSecond.getCreatedAt().isBefore(lastOfFirst.getCreatedAt()));
+        assertNotEquals(lastOfFirst.getRequestId(), firstOfSecond.getRequestId());
+    }
+
+    @Test
+    @DisplayName("Should return empty window without next cursor when nothing matches")
+    void testGetRequestsByCursor_NoMatch_EmptyWindow() {
+        // Arrange
+        RequestFilter filter = new RequestFilter(
+                "non-existent-employee", null, null, null, null, null, null, null,
+                null, null, 10, null, null);
+
+        // Act
+        CursorPage<Request> result = requestQueryService.getRequestsByCursor(filter, null);
+
+        // Assert
+        assertTrue(result.content().isEmpty());
+        assertFalse(result.hasNext());
+        assertNull(result.nextCursor());
+    }
+
+    @Test
+    @DisplayName("Should throw exception for malformed cursor")
+    void testGetRequestsByCursor_InvalidCursor_ThrowsException() {
+        // Arrange
+        RequestFilter filter = new RequestFilter(
+                testEmployeeId, null, null, null, null, null, null, null,
+                null, null, 10, null, null);
+
+        // Act & Assert
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class,
+                () -> requestQueryService.getRequestsByCursor(filter, "not-a-valid-cursor"));
+        assertTrue(exception.getMessage().contains("Invalid cursor"));
+    }
+
+    @Test
+    @DisplayName("Should throw exception when filter is null for cursor query")
+    void testGetRequestsByCursor_NullFilter_ThrowsException() {
+        // Act & Assert
+        assertThrows(IllegalArgumentException.class,
+                () -> requestQueryService.getRequestsByCursor(null, null));
+    }
+
+    // ==================== Listing Statement Count Tests ====================
+
+    /**
+     * Clears the persistence context so nothing is served from the first-level
+     * cache, then resets Hibernate statistics before the code under test runs.
+     */
+    private Statistics freshStatistics() {
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        return statistics;
+    }
+
+    @Test
+    @DisplayName("Should load a page and map it to RequestDTO with one select plus the count")
+    void testGetRequests_MapToDto_NoNPlusOne() {
+        // Arrange
+        RequestFilter filter = new RequestFilter(
+                null, null, null, null, null, null, null, null,
+                null, 1, 50, "createdAt", SortDirection.DESC);
+        Statistics statistics = freshStatistics();
+
+        // Act
+        Page<Request> result = requestQueryService.getRequests(filter);
+        List<RequestDTO> dtos = result.map(RequestDTO::fromEntity).getContent();
+
+        // Assert
+        assertTrue(dtos.size() > 5);
+        assertTrue(statistics.getPrepareStatementCount() <= 2,
+                "Expected page select + count, got " + statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should load a cursor window and map it to RequestDTO with a single select")
+    void testGetRequestsByCursor_MapToDto_SingleStatement() {
+        // Arrange
+        RequestFilter filter = new RequestFilter(
+                null, null, null, null, null, null, null, null,
+                null, null, 50, null, SortDirection.DESC);
+        Statistics statistics = freshStatistics();
+
+        // Act
+        CursorPage<RequestDTO> result = requestQueryService.getRequestsByCursor(filter, null)
+                .map(RequestDTO::fromEntity);
+
+        // Assert
+        assertTrue(result.content().size() > 5);
+        assertEquals(1, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Should map a page of leave requests with their dates in at most one extra select")
+    void testGetRequests_LeaveDates_BatchFetched() {
+        // Arrange
+        RequestFilter filter = new RequestFilter(
+                null, null, null, null, null, null, RequestType.LEAVE, null,
+                null, 1, 50, "createdAt", SortDirection.DESC);
+        Statistics statistics = freshStatistics();
+
+        // Act
+        Page<Request> result = requestQueryService.getRequests(filter);
+        List<LeaveRequestDTO> dtos = result.map(LeaveRequestDTO::fromEntity).getContent();
+
+        // Assert
+        assertTrue(dtos.size() > 1);
+        assertTrue(statistics.getPrepareStatementCount() <= 3,
+                "Expected page select + count + leave dates, got " + statistics.getPrepareStatementCount());
+    }
 }
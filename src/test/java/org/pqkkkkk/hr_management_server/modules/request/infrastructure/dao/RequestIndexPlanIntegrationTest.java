@@ -0,0 +1,89 @@
+package org.pqkkkkk.hr_management_server.modules.request.infrastructure.dao;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Checks with EXPLAIN that the hot request listing filters are served by the
+ * indexes added for them. Runs on the embedded H2 database in PostgreSQL mode;
+ * the PostgreSQL-only partial indexes are not covered here.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("Request Index Plan Integration Tests")
+class RequestIndexPlanIntegrationTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static final String APPROVER_ID = "u2b3c4d5-f6a7-8901-bcde-f12345678901";
+    private static final String EMPLOYEE_ID = "u1a2b3c4-e5f6-7890-abcd-ef1234567890";
+
+    private String explain(String sql) {
+        return String.join("\n", jdbcTemplate.queryForList("EXPLAIN " + sql, String.class));
+    }
+
+    private void assertUsesIndex(String sql, String indexName) {
+        String plan = explain(sql);
+        assertTrue(plan.toUpperCase().contains(indexName.toUpperCase()),
+                "Expected plan to use " + indexName + " but was:\n" + plan);
+    }
+
+    @Test
+    @DisplayName("Should use approver/status/created_at index for pending team requests in a date range")
+    void testApproverStatusDateRange_UsesCompositeIndex() {
+        assertUsesIndex(
+                "SELECT request_id FROM request_table WHERE approver_id = '" + APPROVER_ID + "'"
+                        + " AND status = 'PENDING'"
+                        + " AND created_at >= TIMESTAMP '2024-01-01 00:00:00'"
+                        + " AND created_at < TIMESTAMP '2025-01-01 00:00:00'",
+                "idx_request_approver_status_created");
+    }
+
+    @Test
+    @DisplayName("Should use processor/status/created_at index for delegated requests in a date range")
+    void testProcessorStatusDateRange_UsesCompositeIndex() {
+        assertUsesIndex(
+                "SELECT request_id FROM request_table WHERE processor_id = '" + APPROVER_ID + "'"
+                        + " AND status = 'PENDING'"
+                        + " AND created_at >= TIMESTAMP '2024-01-01 00:00:00'"
+                        + " AND created_at < TIMESTAMP '2025-01-01 00:00:00'",
+                "idx_request_processor_status_created");
+    }
+
+    @Test
+    @DisplayName("Should use status/created_at index for status filtered date range")
+    void testStatusDateRange_UsesCompositeIndex() {
+        assertUsesIndex(
+                "SELECT request_id FROM request_table WHERE status = 'APPROVED'"
+                        + " AND created_at >= TIMESTAMP '2024-01-01 00:00:00'"
+                        + " AND created_at < TIMESTAMP '2025-01-01 00:00:00'",
+                "idx_request_status_created");
+    }
+
+    @Test
+    @DisplayName("Should use employee keyset index for my-requests ordered by creation")
+    void testEmployeeKeyset_UsesCompositeIndex() {
+        assertUsesIndex(
+                "SELECT request_id FROM request_table WHERE employee_id = '" + EMPLOYEE_ID + "'"
+                        + " ORDER BY created_at DESC, request_id DESC",
+                "idx_request_employee_created_at_id");
+    }
+
+    @Test
+    @DisplayName("Should use department index when filtering requests by the employee's department")
+    void testDepartmentJoin_UsesDepartmentIndex() {
+        assertUsesIndex(
+                "SELECT r.request_id FROM request_table r JOIN user_table u ON r.employee_id = u.user_id"
+                        + " WHERE u.department_id = 'dept-001'",
+                "idx_user_department");
+    }
+}
@@ -0,0 +1,117 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.controller.http;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.AttendanceCalendar;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetQueryService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.time.YearMonth;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Integration tests for the streamed department month view when reading the
+ * months fails part way.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+@DisplayName("TimeSheetApi Monthly Stream Integration Tests")
+class TimeSheetApiMonthlyStreamIntegrationTest {
+
+    private static final String DEPARTMENT_ID = "d1a2b3c4-e5f6-7890-abcd-ef1234567890";
+    private static final YearMonth DECEMBER_2024 = YearMonth.of(2024, 12);
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @MockitoBean
+    private TimeSheetQueryService timeSheetQueryService;
+
+    @Test
+    @DisplayName("Should return a complete array when every month is read")
+    void testGetDepartmentMonthly_Complete() throws Exception {
+        // Arrange
+        failAfter(3, false);
+
+        // Act
+        MvcResult result = mockMvc.perform(asyncDispatch(startStream()))
+                .andExpect(status().isOk())
+                .andReturn();
+
+        // Assert
+        JsonNode months = objectMapper.readTree(result.getResponse().getContentAsString());
+        assertEquals(3, months.size());
+    }
+
+    @Test
+    @DisplayName("Should return an error status when reading fails before the first flush")
+    void testGetDepartmentMonthly_FailsBeforeFirstFlush() throws Exception {
+        // Arrange
+        failAfter(3, true);
+
+        // Act & Assert - nothing of the array reached the client
+        mockMvc.perform(asyncDispatch(startStream()))
+                .andExpect(status().isInternalServerError())
+                .andExpect(jsonPath("$.success").value(false));
+    }
+
+    @Test
+    @DisplayName("Should leave the array unterminated when reading fails after the first flush")
+    void testGetDepartmentMonthly_FailsAfterFirstFlush() throws Exception {
+        // Arrange - more months than one flush interval
+        failAfter(150, true);
+
+        // Act
+        MvcResult result = mockMvc.perform(asyncDispatch(startStream())).andReturn();
+
+        // Assert - the partial body must not parse as a complete array
+        String body = result.getResponse().getContentAsString();
+        assertTrue(body.startsWith("[{"));
+        assertThrows(JsonProcessingException.class, () -> objectMapper.readTree(body));
+    }
+
+    private MvcResult startStream() throws Exception {
+        return mockMvc.perform(get("/api/v1/timesheets/department/" + DEPARTMENT_ID + "/monthly")
+                        .param("yearMonth", "2024-12"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void failAfter(int months, boolean fail) {
+        doAnswer(invocation -> {
+            Consumer<AttendanceCalendar> consumer = invocation.getArgument(2, Consumer.class);
+            for (int i = 0; i < months; i++) {
+                consumer.accept(AttendanceCalendar.ofMonth("employee-" + i, "Employee " + i, DECEMBER_2024));
+            }
+            if (fail) {
+                throw new DataAccessResourceFailureException("Connection lost");
+            }
+            return null;
+        }).when(timeSheetQueryService).streamMonthlyTimeSheetsOfDepartment(eq(DEPARTMENT_ID), eq(DECEMBER_2024), any());
+    }
+}
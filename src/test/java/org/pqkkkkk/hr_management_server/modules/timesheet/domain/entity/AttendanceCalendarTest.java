@@ -0,0 +1,170 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.timesheet.controller.http.dto.DTO.DailyTimeSheetDTO;
+import org.pqkkkkk.hr_management_server.modules.timesheet.controller.http.dto.DTO.EmployeeMonthlyTimeSheetDTO;
+import org.pqkkkkk.hr_management_server.modules.timesheet.controller.http.dto.DTO.MonthlyTimeSheetDTO;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Enums.AttendanceStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the packed attendance calendar and its JSON form.
+ */
+@DisplayName("AttendanceCalendar Unit Tests")
+class AttendanceCalendarTest {
+
+    private static final YearMonth DECEMBER_2024 = YearMonth.of(2024, 12);
+
+    private static AttendanceCalendar.Day fullDay(LocalDate date) {
+        return new AttendanceCalendar.Day(
+                "ts-" + date,
+                date,
+                AttendanceStatus.PRESENT,
+                AttendanceStatus.LEAVE,
+                true,
+                false,
+                0.889,
+                date.atTime(8, 30, 15, 123_456_789),
+                date.atTime(17, 45),
+                15,
+                0,
+                45,
+                true);
+    }
+
+    private static AttendanceCalendar.Day emptyDay(LocalDate date) {
+        return new AttendanceCalendar.Day("ts-" + date, date,
+                null, null, null, null, null, null, null, null, null, null, null);
+    }
+
+    @Nested
+    @DisplayName("Packing")
+    class PackingTests {
+
+        @Test
+        @DisplayName("Should read back every field of a recorded day")
+        void testRecord_RoundTripsAllFields() {
+            AttendanceCalendar calendar = AttendanceCalendar.ofMonth("user-1", "An", DECEMBER_2024);
+            AttendanceCalendar.Day day = fullDay(LocalDate.of(2024, 12, 2));
+
+            calendar.record(day);
+
+            assertEquals(day, calendar.getDay(LocalDate.of(2024, 12, 2)));
+            assertEquals(889, calendar.workCreditUnitsAt(1));
+        }
+
+        @Test
+        @DisplayName("Should keep null fields as null")
+        void testRecord_KeepsNulls() {
+            AttendanceCalendar calendar = AttendanceCalendar.ofMonth("user-1", "An", DECEMBER_2024);
+            AttendanceCalendar.Day day = emptyDay(LocalDate.of(2024, 12, 31));
+
+            calendar.record(day);
+
+            assertEquals(day, calendar.getDay(LocalDate.of(2024, 12, 31)));
+            assertFalse(calendar.hasWorkCreditAt(30));
+        }
+
+        @Test
+        @DisplayName("Should keep a check-out after midnight on the next day")
+        void testRecord_CheckOutAfterMidnight() {
+            AttendanceCalendar calendar = AttendanceCalendar.ofMonth("user-1", "An", DECEMBER_2024);
+            LocalDate date = LocalDate.of(2024, 12, 31);
+            LocalDateTime checkOut = LocalDateTime.of(2025, 1, 1, 2, 15);
+
+            calendar.record(new AttendanceCalendar.Day("ts-1", date, null, null, null, null, null,
+                    date.atTime(22, 0), checkOut, null, null, null, null));
+
+            assertEquals(checkOut, calendar.checkOutTimeAt(30));
+        }
+
+        @Test
+        @DisplayName("Should keep unrecorded days empty")
+        void testGetDay_Unrecorded() {
+            AttendanceCalendar calendar = AttendanceCalendar.ofMonth("user-1", "An", DECEMBER_2024);
+            calendar.record(fullDay(LocalDate.of(2024, 12, 2)));
+            calendar.record(fullDay(LocalDate.of(2024, 12, 5)));
+
+            assertEquals(31, calendar.size());
+            assertNull(calendar.getDay(LocalDate.of(2024, 12, 3)));
+            assertEquals(2, calendar.getRecordedDayCount());
+            assertEquals(List.of(LocalDate.of(2024, 12, 2), LocalDate.of(2024, 12, 5)),
+                    calendar.getRecordedDates());
+        }
+
+        @Test
+        @DisplayName("Should reject dates outside the range")
+        void testRecord_OutsideRange() {
+            AttendanceCalendar calendar = new AttendanceCalendar("user-1", "An",
+                    LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 15));
+
+            assertThrows(IllegalArgumentException.class,
+                    () -> calendar.record(fullDay(LocalDate.of(2024, 12, 16))));
+            assertThrows(IllegalArgumentException.class,
+                    () -> calendar.getDay(LocalDate.of(2024, 11, 30)));
+        }
+
+        @Test
+        @DisplayName("Should reject an inverted range")
+        void testConstructor_InvertedRange() {
+            assertThrows(IllegalArgumentException.class, () -> new AttendanceCalendar("user-1", "An",
+                    LocalDate.of(2024, 12, 2), LocalDate.of(2024, 12, 1)));
+        }
+    }
+
+    @Nested
+    @DisplayName("Serialization")
+    class SerializationTests {
+
+        private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+
+        @Test
+        @DisplayName("Should write timesheets in the same shape as DailyTimeSheetDTO")
+        void testTimeSheets_MatchDailyTimeSheetDto() {
+            AttendanceCalendar calendar = AttendanceCalendar.ofMonth("user-1", "An", DECEMBER_2024);
+            AttendanceCalendar.Day first = fullDay(LocalDate.of(2024, 12, 2));
+            AttendanceCalendar.Day second = emptyDay(LocalDate.of(2024, 12, 4));
+            calendar.record(first);
+            calendar.record(second);
+
+            JsonNode json = objectMapper.valueToTree(MonthlyTimeSheetDTO.create(calendar, "2024-12", Map.of()));
+
+            JsonNode expected = objectMapper.valueToTree(List.of(toDto(first), toDto(second)));
+            assertEquals(expected, json.get("timesheets"));
+            assertEquals("An", json.get("employeeName").asText());
+        }
+
+        @Test
+        @DisplayName("Should write one entry per day with null for empty days")
+        void testDays_OneEntryPerDay() {
+            AttendanceCalendar calendar = AttendanceCalendar.ofMonth("user-1", "An", DECEMBER_2024);
+            calendar.record(fullDay(LocalDate.of(2024, 12, 2)));
+
+            JsonNode days = objectMapper.valueToTree(EmployeeMonthlyTimeSheetDTO.fromEntity(calendar)).get("days");
+
+            assertEquals(31, days.size());
+            assertTrue(days.get(0).isNull());
+            assertEquals("ts-2024-12-02", days.get(1).get("dailyTsId").asText());
+            assertEquals(0.889, days.get(1).get("totalWorkCredit").asDouble());
+            assertFalse(days.get(1).has("date"));
+        }
+
+        private DailyTimeSheetDTO toDto(AttendanceCalendar.Day day) {
+            return new DailyTimeSheetDTO(day.dailyTsId(), day.date(), day.morningStatus(), day.afternoonStatus(),
+                    day.morningWfh(), day.afternoonWfh(), day.totalWorkCredit(), day.checkInTime(),
+                    day.checkOutTime(), day.lateMinutes(), day.earlyLeaveMinutes(), day.overtimeMinutes(),
+                    day.isFinalized(), "user-1", "An");
+        }
+    }
+}
@@ -1,5 +1,10 @@
 package org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.impl;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,15 +17,25 @@ import org.pqkkkkk.hr_management_server.modules.timesheet.domain.dao.DailyTimeSh
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.DailyTimeSheet;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Enums.AttendanceStatus;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetCommandService;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetQueryService;
+import org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.dao.DailyTimeSheetJpaDao;
+import org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.dao.jpa_repository.DailyTimeSheetRepository;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import javax.sql.DataSource;
+
+import java.sql.Statement;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -41,9 +56,24 @@ class TimeSheetCommandServiceIntegrationTest {
         @Autowired
         private DailyTimeSheetDao dailyTimeSheetDao;
 
+        @Autowired
+        private DailyTimeSheetRepository dailyTimeSheetRepository;
+
+        @Autowired
+        private DataSource dataSource;
+
         @Autowired
         private ProfileQueryService profileQueryService;
 
+        @Autowired
+        private TimeSheetQueryService timeSheetQueryService;
+
+        @Autowired
+        private EntityManager entityManager;
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
         private String testEmployeeId;
         private User testEmployee;
 
@@ -874,4 +904,208 @@ class TimeSheetCommandServiceIntegrationTest {
                 assertEquals(originalCheckOut, result.getCheckOutTime());
                 assertTrue(result.getMorningWfh()); // Updated
         }
+
+        // ============= Monthly attendance summary Tests =============
+
+        @Test
+        @DisplayName("Should keep monthly summary in sync after check-in approval")
+        void testHandleCheckInApproval_UpdatesMonthlySummary() {
+                // Arrange - Dec 2024 summary is backfilled from the sample data (5 days)
+                YearMonth december = YearMonth.of(2024, 12);
+                Map<String, Object> before = timeSheetQueryService.calculateMonthlyAttendanceStatistics(
+                                testEmployeeId, december);
+
+                // Act - 30 minutes late on a new day
+                timeSheetCommandService.handleCheckInApproval(
+                                testEmployeeId,
+                                LocalDateTime.of(2024, 12, 20, 8, 30));
+
+                // Assert
+                Map<String, Object> after = timeSheetQueryService.calculateMonthlyAttendanceStatistics(
+                                testEmployeeId, december);
+                assertEquals(((Number) before.get("totalDays")).longValue() + 1,
+                                ((Number) after.get("totalDays")).longValue());
+                assertEquals(((Number) before.get("lateDays")).longValue() + 1,
+                                ((Number) after.get("lateDays")).longValue());
+                assertEquals(((Number) before.get("totalLateMinutes")).longValue() + 30,
+                                ((Number) after.get("totalLateMinutes")).longValue());
+        }
+
+        @Test
+        @DisplayName("Should update monthly summaries of every month touched by leave approval")
+        void testHandleLeaveApproval_UpdatesMonthlySummaries() {
+                // Arrange - Leave spanning the end of January and start of February 2025
+                List<LeaveDate> leaveDates = Arrays.asList(
+                                LeaveDate.builder().date(LocalDate.of(2025, 1, 30)).shift(ShiftType.FULL_DAY).build(),
+                                LeaveDate.builder().date(LocalDate.of(2025, 1, 31)).shift(ShiftType.FULL_DAY).build(),
+                                LeaveDate.builder().date(LocalDate.of(2025, 2, 3)).shift(ShiftType.FULL_DAY).build());
+
+                // Act
+                timeSheetCommandService.handleLeaveApproval(testEmployeeId, leaveDates);
+
+                // Assert
+                Map<String, Object> january = timeSheetQueryService.calculateMonthlyAttendanceStatistics(
+                                testEmployeeId, YearMonth.of(2025, 1));
+                Map<String, Object> february = timeSheetQueryService.calculateMonthlyAttendanceStatistics(
+                                testEmployeeId, YearMonth.of(2025, 2));
+                assertEquals(2L, ((Number) january.get("totalDays")).longValue());
+                assertEquals(0L, ((Number) january.get("morningPresent")).longValue());
+                assertEquals(1L, ((Number) february.get("totalDays")).longValue());
+        }
+
+        @Test
+        @DisplayName("Should rebuild monthly summaries from daily timesheets")
+        void testRebuildMonthlyAttendanceSummaries_RebuildsFromDailyRows() {
+                // Act - Nov 2024 has no data, Dec 2024 has both sample employees
+                int written = timeSheetCommandService.rebuildMonthlyAttendanceSummaries(
+                                YearMonth.of(2024, 11), YearMonth.of(2024, 12));
+
+                // Assert
+                assertTrue(written >= 2);
+                Map<String, Object> december = timeSheetQueryService.calculateMonthlyAttendanceStatistics(
+                                testEmployeeId, YearMonth.of(2024, 12));
+                assertEquals(5L, ((Number) december.get("totalDays")).longValue());
+                assertEquals(60L, ((Number) december.get("totalLateMinutes")).longValue());
+        }
+
+        @Test
+        @DisplayName("Should reject rebuild when from month is after to month")
+        void testRebuildMonthlyAttendanceSummaries_InvalidRange_ThrowsException() {
+                assertThrows(IllegalArgumentException.class,
+                                () -> timeSheetCommandService.rebuildMonthlyAttendanceSummaries(
+                                                YearMonth.of(2025, 2), YearMonth.of(2025, 1)));
+        }
+
+        // ============= Multi-date write path Tests =============
+
+        /**
+         * Flushes pending writes and clears the persistence context, then resets
+         * Hibernate statistics before the code under test runs.
+         */
+        private Statistics freshStatistics() {
+                entityManager.flush();
+                entityManager.clear();
+                Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+                statistics.setStatisticsEnabled(true);
+                statistics.clear();
+                return statistics;
+        }
+
+        private List<WfhDate> wfhDates(LocalDate... dates) {
+                return Arrays.stream(dates)
+                                .map(date -> WfhDate.builder().date(date).shift(ShiftType.FULL_DAY).build())
+                                .toList();
+        }
+
+        @Test
+        @DisplayName("Should use the same number of statements whatever the number of WFH dates")
+        void testHandleWfhApproval_StatementCountIndependentOfDateCount() {
+                // Arrange - both approvals mix existing rows (Dec 1-2) with new rows in December
+                List<WfhDate> twoDates = wfhDates(LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 9));
+                List<WfhDate> manyDates = wfhDates(IntStream.rangeClosed(2, 12)
+                                .filter(day -> day != 3 && day != 9) // Dec 3 is LEAVE, Dec 9 done above
+                                .mapToObj(day -> LocalDate.of(2024, 12, day))
+                                .toArray(LocalDate[]::new));
+
+                // Act
+                Statistics statistics = freshStatistics();
+                timeSheetCommandService.handleWfhApproval(testEmployeeId, twoDates);
+                entityManager.flush();
+                long twoDateStatements = statistics.getPrepareStatementCount();
+
+                statistics = freshStatistics();
+                List<DailyTimeSheet> results = timeSheetCommandService.handleWfhApproval(testEmployeeId, manyDates);
+                entityManager.flush();
+                long manyDateStatements = statistics.getPrepareStatementCount();
+
+                // Assert
+                assertEquals(9, results.size());
+                assertEquals(twoDateStatements, manyDateStatements);
+                assertEquals(9, results.stream().filter(t -> t.getDailyTsId() != null).count());
+                DailyTimeSheet created = dailyTimeSheetDao.getTimesheetByEmployeeAndDate(
+                                testEmployeeId, LocalDate.of(2024, 12, 12));
+                assertNotNull(created);
+                assertTrue(created.getMorningWfh());
+                assertTrue(created.getAfternoonWfh());
+        }
+
+        @Test
+        @DisplayName("Should validate every leave date before writing any of them")
+        void testHandleLeaveApproval_ConflictOnOneDate_NothingWritten() {
+                // Arrange - Jan 20 is free, Dec 1 is already PRESENT
+                List<LeaveDate> leaveDates = Arrays.asList(
+                                LeaveDate.builder().date(LocalDate.of(2025, 1, 20)).shift(ShiftType.FULL_DAY).build(),
+                                LeaveDate.builder().date(LocalDate.of(2024, 12, 1)).shift(ShiftType.FULL_DAY).build());
+
+                // Act & Assert
+                assertThrows(IllegalStateException.class,
+                                () -> timeSheetCommandService.handleLeaveApproval(testEmployeeId, leaveDates));
+                assertFalse(dailyTimeSheetDao.existsByEmployeeAndDate(testEmployeeId, LocalDate.of(2025, 1, 20)));
+        }
+
+        @Test
+        @DisplayName("Should skip new timesheets whose employee and date already exist")
+        void testInsertDailyTimeSheetsIfAbsent_ExistingDate_Skipped() {
+                // Arrange - Dec 1 exists in the sample data, Jan 21 does not
+                DailyTimeSheet duplicate = DailyTimeSheet.builder()
+                                .employee(testEmployee)
+                                .date(LocalDate.of(2024, 12, 1))
+                                .morningStatus(AttendanceStatus.LEAVE)
+                                .build();
+                DailyTimeSheet fresh = DailyTimeSheet.builder()
+                                .employee(testEmployee)
+                                .date(LocalDate.of(2025, 1, 21))
+                                .morningStatus(AttendanceStatus.LEAVE)
+                                .totalWorkCredit(0.0)
+                                .build();
+
+                // Act
+                List<DailyTimeSheet> skipped = dailyTimeSheetDao.insertDailyTimeSheetsIfAbsent(
+                                Arrays.asList(duplicate, fresh));
+
+                // Assert
+                assertEquals(List.of(duplicate), skipped);
+                assertNull(duplicate.getDailyTsId());
+                assertNotNull(fresh.getDailyTsId());
+                assertEquals(AttendanceStatus.PRESENT, dailyTimeSheetDao.getTimesheetByEmployeeAndDate(
+                                testEmployeeId, LocalDate.of(2024, 12, 1)).getMorningStatus());
+                assertEquals(fresh.getDailyTsId(), dailyTimeSheetDao.getTimesheetByEmployeeAndDate(
+                                testEmployeeId, LocalDate.of(2025, 1, 21)).getDailyTsId());
+        }
+
+        @Test
+        @DisplayName("Should look up rows the driver reports without a count")
+        void testInsertDailyTimeSheetsIfAbsent_SuccessNoInfo_RowsLookedUp() {
+                // Arrange - a driver that reports SUCCESS_NO_INFO for every row
+                JdbcTemplate noInfoJdbcTemplate = new JdbcTemplate(dataSource) {
+                        @Override
+                        public int[] batchUpdate(String sql, List<Object[]> batchArgs) {
+                                int[] counts = super.batchUpdate(sql, batchArgs);
+                                Arrays.fill(counts, Statement.SUCCESS_NO_INFO);
+                                return counts;
+                        }
+                };
+                DailyTimeSheetDao noInfoDao = new DailyTimeSheetJpaDao(dailyTimeSheetRepository, noInfoJdbcTemplate);
+                DailyTimeSheet duplicate = DailyTimeSheet.builder()
+                                .employee(testEmployee)
+                                .date(LocalDate.of(2024, 12, 1))
+                                .morningStatus(AttendanceStatus.LEAVE)
+                                .build();
+                DailyTimeSheet fresh = DailyTimeSheet.builder()
+                                .employee(testEmployee)
+                                .date(LocalDate.of(2025, 1, 22))
+                                .morningStatus(AttendanceStatus.LEAVE)
+                                .totalWorkCredit(0.0)
+                                .build();
+
+                // Act
+                List<DailyTimeSheet> skipped = noInfoDao.insertDailyTimeSheetsIfAbsent(
+                                Arrays.asList(duplicate, fresh));
+
+                // Assert - only the existing date is skipped
+                assertEquals(List.of(duplicate), skipped);
+                assertNull(duplicate.getDailyTsId());
+                assertEquals(fresh.getDailyTsId(), dailyTimeSheetDao.getTimesheetByEmployeeAndDate(
+                                testEmployeeId, LocalDate.of(2025, 1, 22)).getDailyTsId());
+        }
 }
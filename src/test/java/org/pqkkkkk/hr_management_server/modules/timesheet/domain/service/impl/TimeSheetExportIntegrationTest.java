@@ -0,0 +1,279 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.impl;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.filter.FilterCriteria.TimeSheetExportFilter;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetQueryService;
+import org.pqkkkkk.hr_management_server.shared.Constants.SupportedFileFormat;
+import org.pqkkkkk.hr_management_server.shared.storage.LocalStorageService;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for the payroll timesheet export.
+ * Uses the V14 sample data: User 1 has Dec 1-5 2024, User 2 has Dec 1 2024,
+ * both in the Engineering department.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+@DisplayName("TimeSheetQueryService - exportTimeSheets() Integration Tests")
+class TimeSheetExportIntegrationTest {
+
+    private static final String USER_1_ID = "u1a2b3c4-e5f6-7890-abcd-ef1234567890";
+    private static final String USER_2_ID = "u2b3c4d5-f6a7-8901-bcde-f12345678901";
+    private static final String ENGINEERING_DEPARTMENT_ID = "d1a2b3c4-e5f6-7890-abcd-ef1234567890";
+    private static final LocalDate DECEMBER_1 = LocalDate.of(2024, 12, 1);
+    private static final LocalDate DECEMBER_31 = LocalDate.of(2024, 12, 31);
+    private static final String BYTE_ORDER_MARK = "\uFEFF";
+    private static final String CSV_HEADER = "Employee ID,Employee Name,Department,Date,Morning Status,"
+            + "Afternoon Status,Morning WFH,Afternoon WFH,Work Credit,Check In Time,Check Out Time,"
+            + "Late Minutes,Early Leave Minutes,Overtime Minutes,Finalized";
+
+    @Autowired
+    private TimeSheetQueryService timeSheetQueryService;
+
+    @Autowired
+    private LocalStorageService localStorageService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void cleanup() {
+        localStorageService.clearStorage();
+    }
+
+    private Path storedFile(String fileUrl) {
+        return localStorageService.getFilePath(fileUrl.substring(fileUrl.lastIndexOf('/') + 1));
+    }
+
+    private List<String> exportCsv(TimeSheetExportFilter filter) throws IOException {
+        String fileUrl = timeSheetQueryService.exportTimeSheets(filter, SupportedFileFormat.CSV);
+        return Files.readAllLines(storedFile(fileUrl), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Adds a department with the given number of employees, each with a
+     * timesheet on Dec 2 and Dec 3 2024
+     */
+    private void seedDepartment(String departmentId, String departmentName, int employeeCount) {
+        jdbcTemplate.update("INSERT INTO department_table (department_id, department_name) VALUES (?, ?)",
+                departmentId, departmentName);
+        List<Object[]> users = new ArrayList<>();
+        List<Object[]> timesheets = new ArrayList<>();
+        for (int i = 0; i < employeeCount; i++) {
+            String userId = String.format("%s-user-%04d", departmentId, i);
+            users.add(new Object[] { userId, "Employee " + i, departmentId });
+            for (int day = 2; day <= 3; day++) {
+                timesheets.add(new Object[] { userId + "-" + day, Date.valueOf(LocalDate.of(2024, 12, day)),
+                        userId });
+            }
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO user_table (user_id, full_name, department_id) VALUES (?, ?, ?)",
+                users);
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO daily_timesheet_table (daily_ts_id, date, morning_status, afternoon_status, " +
+                        "total_work_credit, employee_id) VALUES (?, ?, 'PRESENT', 'PRESENT', 1.0, ?)",
+                timesheets);
+    }
+
+    @Nested
+    @DisplayName("CSV Export Tests")
+    class CsvExportTests {
+
+        @Test
+        @DisplayName("Should export every timesheet in range ordered by employee and date")
+        void shouldExportAllTimesheetsInRange() throws IOException {
+            // Act
+            List<String> lines = exportCsv(new TimeSheetExportFilter(DECEMBER_1, DECEMBER_31, null, null));
+
+            // Assert - header, 5 rows of User 1 then 1 row of User 2
+            assertEquals(7, lines.size());
+            assertEquals(BYTE_ORDER_MARK + CSV_HEADER, lines.get(0));
+            assertTrue(lines.get(1).startsWith(USER_1_ID + ",Nguyen Van An,Engineering,2024-12-01,PRESENT,PRESENT,"));
+            assertTrue(lines.get(5).startsWith(USER_1_ID + ",Nguyen Van An,Engineering,2024-12-05,"));
+            assertTrue(lines.get(6).startsWith(USER_2_ID + ","));
+        }
+
+        @Test
+        @DisplayName("Should write times in ISO format and nulls as empty fields")
+        void shouldWriteTimesAndNulls() throws IOException {
+            // Act
+            List<String> lines = exportCsv(new TimeSheetExportFilter(DECEMBER_1, DECEMBER_1, null, List.of(USER_1_ID)));
+
+            // Assert
+            assertEquals(2, lines.size());
+            assertEquals(USER_1_ID + ",Nguyen Van An,Engineering,2024-12-01,PRESENT,PRESENT,false,false,1.0,"
+                    + "2024-12-01T08:00,2024-12-01T17:00,0,0,0,false", lines.get(1));
+        }
+
+        @Test
+        @DisplayName("Should only export the selected employees")
+        void shouldExportSelectedEmployees() throws IOException {
+            // Act
+            List<String> lines = exportCsv(new TimeSheetExportFilter(DECEMBER_1, DECEMBER_31, null, List.of(USER_2_ID)));
+
+            // Assert
+            assertEquals(2, lines.size());
+            assertTrue(lines.get(1).startsWith(USER_2_ID + ",Tran Thi Binh,Engineering,2024-12-01,"));
+        }
+
+        @Test
+        @DisplayName("Should only export employees of the selected department")
+        void shouldExportSelectedDepartment() throws IOException {
+            // Arrange
+            seedDepartment("dept-export-sales", "Sales", 3);
+
+            // Act
+            List<String> lines = exportCsv(
+                    new TimeSheetExportFilter(DECEMBER_1, DECEMBER_31, "dept-export-sales", null));
+
+            // Assert
+            assertEquals(7, lines.size());
+            assertTrue(lines.stream().skip(1).allMatch(line -> line.contains(",Sales,2024-12-0")));
+        }
+
+        @Test
+        @DisplayName("Should quote values containing commas or quotes")
+        void shouldQuoteSpecialCharacters() throws IOException {
+            // Arrange
+            seedDepartment("dept-export-quoted", "R&D, \"Labs\"", 1);
+
+            // Act
+            List<String> lines = exportCsv(
+                    new TimeSheetExportFilter(DECEMBER_1, DECEMBER_1.plusDays(1), "dept-export-quoted", null));
+
+            // Assert
+            assertEquals(2, lines.size());
+            assertTrue(lines.get(1).contains(",\"R&D, \"\"Labs\"\"\",2024-12-02,"));
+        }
+
+        @Test
+        @DisplayName("Should prefix values a spreadsheet would read as a formula")
+        void shouldEscapeFormulaValues() throws IOException {
+            // Arrange
+            seedDepartment("dept-export-formula", "=HYPERLINK(\"http://x\",\"Sales\")", 1);
+
+            // Act
+            List<String> lines = exportCsv(
+                    new TimeSheetExportFilter(DECEMBER_1, DECEMBER_1.plusDays(1), "dept-export-formula", null));
+
+            // Assert
+            assertEquals(2, lines.size());
+            assertTrue(lines.get(1).contains(",\"'=HYPERLINK(\"\"http://x\"\",\"\"Sales\"\")\",2024-12-02,"));
+        }
+
+        @Test
+        @DisplayName("Should write only the header when nothing matches")
+        void shouldWriteHeaderOnlyWhenEmpty() throws IOException {
+            // Act
+            List<String> lines = exportCsv(
+                    new TimeSheetExportFilter(LocalDate.of(2023, 1, 1), LocalDate.of(2023, 1, 31), null, null));
+
+            // Assert
+            assertEquals(List.of(BYTE_ORDER_MARK + CSV_HEADER), lines);
+        }
+
+        @Test
+        @DisplayName("Should stream a 5,000-employee department")
+        void shouldStreamLargeDepartment() throws IOException {
+            // Arrange
+            seedDepartment("dept-export-large", "Export Load", 5000);
+
+            // Act
+            List<String> lines = exportCsv(
+                    new TimeSheetExportFilter(DECEMBER_1, DECEMBER_31, "dept-export-large", null));
+
+            // Assert
+            assertEquals(10_001, lines.size());
+            assertTrue(lines.get(1).startsWith("dept-export-large-user-0000,Employee 0,Export Load,2024-12-02,"));
+            assertTrue(lines.get(10_000).startsWith("dept-export-large-user-4999,Employee 4999,Export Load,2024-12-03,"));
+        }
+    }
+
+    @Nested
+    @DisplayName("Excel Export Tests")
+    class ExcelExportTests {
+
+        @Test
+        @DisplayName("Should export a readable workbook with header and typed cells")
+        void shouldExportReadableWorkbook() throws IOException {
+            // Act
+            String fileUrl = timeSheetQueryService.exportTimeSheets(
+                    new TimeSheetExportFilter(DECEMBER_1, DECEMBER_31, ENGINEERING_DEPARTMENT_ID, null),
+                    SupportedFileFormat.EXCEL);
+
+            // Assert
+            assertTrue(fileUrl.contains("exported_timesheets"));
+            assertTrue(fileUrl.endsWith(".xlsx"));
+            try (InputStream inputStream = Files.newInputStream(storedFile(fileUrl));
+                    XSSFWorkbook workbook = new XSSFWorkbook(inputStream)) {
+                Sheet sheet = workbook.getSheet("Timesheets");
+                assertNotNull(sheet);
+                assertEquals(6, sheet.getLastRowNum());
+                assertEquals("Employee ID", sheet.getRow(0).getCell(0).getStringCellValue());
+
+                // Dec 2 of User 1 was 60 minutes late
+                Row lateDay = sheet.getRow(2);
+                assertEquals(USER_1_ID, lateDay.getCell(0).getStringCellValue());
+                assertEquals("2024-12-02", lateDay.getCell(3).getStringCellValue());
+                assertEquals(60, lateDay.getCell(11).getNumericCellValue());
+            }
+        }
+    }
+
+    @Nested
+    @DisplayName("Validation Tests")
+    class ValidationTests {
+
+        @Test
+        @DisplayName("Should throw exception when start date is after end date")
+        void shouldThrowExceptionWhenRangeIsInverted() {
+            assertThrows(IllegalArgumentException.class, () -> timeSheetQueryService.exportTimeSheets(
+                    new TimeSheetExportFilter(DECEMBER_31, DECEMBER_1, null, null), SupportedFileFormat.CSV));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when range exceeds 366 days")
+        void shouldThrowExceptionWhenRangeIsTooLong() {
+            assertThrows(IllegalArgumentException.class, () -> timeSheetQueryService.exportTimeSheets(
+                    new TimeSheetExportFilter(DECEMBER_1, DECEMBER_1.plusDays(366), null, null),
+                    SupportedFileFormat.CSV));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when dates are missing")
+        void shouldThrowExceptionWhenDatesAreMissing() {
+            assertThrows(IllegalArgumentException.class, () -> timeSheetQueryService.exportTimeSheets(
+                    new TimeSheetExportFilter(null, DECEMBER_31, null, null), SupportedFileFormat.CSV));
+        }
+
+        @Test
+        @DisplayName("Should throw exception for a format without timesheet exporter")
+        void shouldThrowExceptionForUnsupportedFormat() {
+            assertThrows(IllegalArgumentException.class, () -> timeSheetQueryService.exportTimeSheets(
+                    new TimeSheetExportFilter(DECEMBER_1, DECEMBER_31, null, null), SupportedFileFormat.PDF));
+        }
+    }
+}
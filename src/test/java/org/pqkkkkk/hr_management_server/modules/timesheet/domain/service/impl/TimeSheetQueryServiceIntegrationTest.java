@@ -1,15 +1,27 @@
 package org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.impl;
 
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.AttendanceCalendar;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.DailyTimeSheet;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.entity.Enums.AttendanceStatus;
 import org.pqkkkkk.hr_management_server.modules.timesheet.domain.service.TimeSheetQueryService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.test.context.ActiveProfiles;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.sql.Date;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -40,10 +52,21 @@ class TimeSheetQueryServiceIntegrationTest {
     @Autowired
     private TimeSheetQueryService timeSheetQueryService;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
     // Sample user IDs from V14 migration
     private static final String USER_1_ID = "u1a2b3c4-e5f6-7890-abcd-ef1234567890";
     private static final String USER_2_ID = "u2b3c4d5-f6a7-8901-bcde-f12345678901";
     private static final String NON_EXISTENT_USER_ID = "non-existent-user-id-12345";
+    // Engineering department from V3, which User 1 and User 2 belong to
+    private static final String ENGINEERING_DEPARTMENT_ID = "d1a2b3c4-e5f6-7890-abcd-ef1234567890";
 
     @Nested
     @DisplayName("Happy Path Tests")
@@ -377,4 +400,297 @@ class TimeSheetQueryServiceIntegrationTest {
             }
         }
     }
+
+    @Nested
+    @DisplayName("Monthly Summary Tests")
+    class MonthlySummaryTests {
+
+        @Test
+        @DisplayName("Should serve full-month range from summaries with same values as daily rows")
+        void shouldServeFullMonthRangeFromSummaries() {
+            // Arrange - Dec 1-31 covers the whole month, so the summary row is used
+            List<String> userIds = Collections.singletonList(USER_1_ID);
+
+            // Act
+            Map<String, Object> fullMonth = timeSheetQueryService.getBatchAttendanceStatistics(
+                    userIds, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 31)).get(0);
+            Map<String, Object> dailyRange = timeSheetQueryService.getBatchAttendanceStatistics(
+                    userIds, LocalDate.of(2024, 12, 1), LocalDate.of(2024, 12, 5)).get(0);
+
+            // Assert
+            assertEquals(5L, ((Number) fullMonth.get("totalDays")).longValue());
+            assertEquals(4L, ((Number) fullMonth.get("morningPresent")).longValue());
+            assertEquals(1L, ((Number) fullMonth.get("lateDays")).longValue());
+            assertEquals(60L, ((Number) fullMonth.get("totalLateMinutes")).longValue());
+            assertEquals(((Number) dailyRange.get("totalWorkCredit")).doubleValue(),
+                    ((Number) fullMonth.get("totalWorkCredit")).doubleValue(), 0.001);
+        }
+
+        @Test
+        @DisplayName("Should merge partial edge month with full months")
+        void shouldMergePartialEdgeMonthWithFullMonths() {
+            // Arrange - Nov 15-30 is partial (no data), Dec is a full month
+            List<String> userIds = Arrays.asList(USER_1_ID, USER_2_ID);
+
+            // Act
+            List<Map<String, Object>> results = timeSheetQueryService.getBatchAttendanceStatistics(
+                    userIds, LocalDate.of(2024, 11, 15), LocalDate.of(2024, 12, 31));
+
+            // Assert
+            assertEquals(2, results.size());
+            Map<String, Object> user1 = results.stream()
+                    .filter(r -> USER_1_ID.equals(r.get("userId")))
+                    .findFirst().orElseThrow();
+            Map<String, Object> user2 = results.stream()
+                    .filter(r -> USER_2_ID.equals(r.get("userId")))
+                    .findFirst().orElseThrow();
+            assertEquals(5L, ((Number) user1.get("totalDays")).longValue());
+            assertEquals(3.889, ((Number) user1.get("totalWorkCredit")).doubleValue(), 0.01);
+            assertEquals(1L, ((Number) user2.get("totalDays")).longValue());
+        }
+
+        @Test
+        @DisplayName("Should only count days inside partial month range")
+        void shouldOnlyCountDaysInsidePartialMonthRange() {
+            // Arrange - Dec 2 to Jan 31: Dec is partial, Jan is a full month without data
+            List<String> userIds = Collections.singletonList(USER_1_ID);
+
+            // Act
+            Map<String, Object> stats = timeSheetQueryService.getBatchAttendanceStatistics(
+                    userIds, LocalDate.of(2024, 12, 2), LocalDate.of(2025, 1, 31)).get(0);
+
+            // Assert - Dec 1 is excluded
+            assertEquals(4L, ((Number) stats.get("totalDays")).longValue());
+            assertEquals(60L, ((Number) stats.get("totalLateMinutes")).longValue());
+        }
+    }
+
+    @Nested
+    @DisplayName("Department and Multi-Employee Month View Tests")
+    class MonthViewTests {
+
+        private static final YearMonth DECEMBER_2024 = YearMonth.of(2024, 12);
+
+        /**
+         * Flushes pending writes and clears the persistence context, then resets
+         * Hibernate statistics before the code under test runs.
+         */
+        private Statistics freshStatistics() {
+            entityManager.flush();
+            entityManager.clear();
+            Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+            statistics.setStatisticsEnabled(true);
+            statistics.clear();
+            return statistics;
+        }
+
+        private List<AttendanceCalendar> streamDepartment(String departmentId) {
+            List<AttendanceCalendar> months = new ArrayList<>();
+            timeSheetQueryService.streamMonthlyTimeSheetsOfDepartment(departmentId, DECEMBER_2024, months::add);
+            return months;
+        }
+
+        @Test
+        @DisplayName("Should place each timesheet at its day of month")
+        void shouldPlaceEachTimesheetAtItsDayOfMonth() {
+            // Act
+            List<AttendanceCalendar> months = streamDepartment(ENGINEERING_DEPARTMENT_ID);
+
+            // Assert - User 1 has Dec 1-5, Dec 3 is LEAVE
+            AttendanceCalendar user1 = months.stream()
+                    .filter(m -> USER_1_ID.equals(m.getEmployeeId()))
+                    .findFirst().orElseThrow();
+            assertEquals(31, user1.size());
+            assertEquals(5, user1.getRecordedDayCount());
+            assertEquals(AttendanceStatus.LEAVE, user1.getDay(LocalDate.of(2024, 12, 3)).morningStatus());
+            assertEquals(60, user1.getDay(LocalDate.of(2024, 12, 2)).lateMinutes());
+            assertNull(user1.getDay(LocalDate.of(2024, 12, 6)));
+            assertEquals("Nguyen Van An", user1.getEmployeeName());
+        }
+
+        @Test
+        @DisplayName("Should include department employees without timesheets")
+        void shouldIncludeDepartmentEmployeesWithoutTimesheets() {
+            // Act
+            List<AttendanceCalendar> months = streamDepartment(ENGINEERING_DEPARTMENT_ID);
+
+            // Assert - every employee appears exactly once
+            Long departmentSize = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM user_table WHERE department_id = ?", Long.class,
+                    ENGINEERING_DEPARTMENT_ID);
+            assertEquals(departmentSize.intValue(), months.size());
+            assertEquals(months.size(), months.stream().map(AttendanceCalendar::getEmployeeId)
+                    .distinct().count());
+            assertTrue(months.stream().anyMatch(m -> m.getRecordedDayCount() == 0));
+        }
+
+        @Test
+        @DisplayName("Should stream selected employees and skip unknown IDs")
+        void shouldStreamSelectedEmployeesAndSkipUnknownIds() {
+            // Arrange
+            List<AttendanceCalendar> months = new ArrayList<>();
+
+            // Act
+            timeSheetQueryService.streamMonthlyTimeSheetsOfEmployees(
+                    Arrays.asList(USER_1_ID, USER_2_ID, NON_EXISTENT_USER_ID), DECEMBER_2024, months::add);
+
+            // Assert
+            assertEquals(2, months.size());
+            assertEquals(1, months.stream()
+                    .filter(m -> USER_2_ID.equals(m.getEmployeeId()))
+                    .findFirst().orElseThrow()
+                    .getRecordedDayCount());
+        }
+
+        @Test
+        @DisplayName("Should group employees' monthly timesheets with a single query")
+        void shouldGroupMonthlyTimeSheetsOfEmployeesWithSingleQuery() {
+            // Arrange
+            Statistics statistics = freshStatistics();
+
+            // Act
+            Map<String, List<DailyTimeSheet>> result = timeSheetQueryService.getMonthlyTimeSheetsOfEmployees(
+                    Arrays.asList(USER_1_ID, USER_2_ID, NON_EXISTENT_USER_ID), DECEMBER_2024);
+            result.values().forEach(list -> list.forEach(t -> t.getEmployee().getFullName()));
+
+            // Assert
+            assertEquals(3, result.size());
+            assertEquals(5, result.get(USER_1_ID).size());
+            assertEquals(1, result.get(USER_2_ID).size());
+            assertTrue(result.get(NON_EXISTENT_USER_ID).isEmpty());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        }
+
+        @Test
+        @DisplayName("Should return department timesheets grouped by employee")
+        void shouldReturnDepartmentTimesheetsGroupedByEmployee() {
+            // Arrange
+            Statistics statistics = freshStatistics();
+
+            // Act
+            Map<String, List<DailyTimeSheet>> result = timeSheetQueryService.getMonthlyTimeSheetsOfDepartment(
+                    ENGINEERING_DEPARTMENT_ID, DECEMBER_2024);
+
+            // Assert
+            assertEquals(5, result.get(USER_1_ID).size());
+            assertEquals(LocalDate.of(2024, 12, 1), result.get(USER_1_ID).get(0).getDate());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        }
+
+        @Test
+        @DisplayName("Should group department employees without timesheets like the streamed view")
+        void shouldGroupDepartmentEmployeesWithoutTimesheets() {
+            // Arrange - a department employee with no timesheets in December
+            String idleUserId = "month-view-idle-user";
+            jdbcTemplate.update("INSERT INTO user_table (user_id, full_name, department_id) VALUES (?, ?, ?)",
+                    idleUserId, "Idle Employee", ENGINEERING_DEPARTMENT_ID);
+            Statistics statistics = freshStatistics();
+
+            // Act
+            Map<String, List<DailyTimeSheet>> result = timeSheetQueryService.getMonthlyTimeSheetsOfDepartment(
+                    ENGINEERING_DEPARTMENT_ID, DECEMBER_2024);
+
+            // Assert - same employees in the same order as the streamed view
+            assertEquals(List.of(), result.get(idleUserId));
+            assertEquals(5, result.get(USER_1_ID).size());
+            assertEquals(1, statistics.getPrepareStatementCount());
+            assertEquals(streamDepartment(ENGINEERING_DEPARTMENT_ID).stream()
+                    .map(AttendanceCalendar::getEmployeeId)
+                    .toList(), List.copyOf(result.keySet()));
+        }
+
+        @Test
+        @DisplayName("Should stream a 2,000-employee department with a single query")
+        void shouldStreamLargeDepartmentWithSingleQuery() {
+            // Arrange - 2,000 employees, each with timesheets on Dec 2 and Dec 3
+            String departmentId = "dept-month-view-large";
+            jdbcTemplate.update("INSERT INTO department_table (department_id, department_name) VALUES (?, ?)",
+                    departmentId, "Month View Load");
+            List<Object[]> users = new ArrayList<>();
+            List<Object[]> timesheets = new ArrayList<>();
+            for (int i = 0; i < 2000; i++) {
+                String userId = String.format("month-view-user-%04d", i);
+                users.add(new Object[] { userId, "Employee " + userId, departmentId });
+                for (int day = 2; day <= 3; day++) {
+                    timesheets.add(new Object[] { userId + "-" + day, Date.valueOf(LocalDate.of(2024, 12, day)),
+                            userId });
+                }
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO user_table (user_id, full_name, department_id) VALUES (?, ?, ?)", users);
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO daily_timesheet_table (daily_ts_id, date, morning_status, afternoon_status, " +
+                            "total_work_credit, employee_id) VALUES (?, ?, 'PRESENT', 'PRESENT', 1.0, ?)",
+                    timesheets);
+            Statistics statistics = freshStatistics();
+
+            // Act
+            List<AttendanceCalendar> months = streamDepartment(departmentId);
+
+            // Assert
+            assertEquals(2000, months.size());
+            assertTrue(months.stream().allMatch(m -> m.getRecordedDayCount() == 2));
+            assertEquals(List.of(LocalDate.of(2024, 12, 2), LocalDate.of(2024, 12, 3)),
+                    months.get(0).getRecordedDates());
+            assertEquals(1, statistics.getPrepareStatementCount());
+        }
+
+        @Test
+        @DisplayName("Should read an employee's range into a calendar with a single query")
+        void shouldReadAttendanceCalendarWithSingleQuery() {
+            // Arrange
+            Statistics statistics = freshStatistics();
+
+            // Act
+            AttendanceCalendar calendar = timeSheetQueryService.getAttendanceCalendar(
+                    USER_1_ID, DECEMBER_2024.atDay(1), DECEMBER_2024.atEndOfMonth());
+            long statementCount = statistics.getPrepareStatementCount();
+
+            // Assert - same days and values as the entity query
+            List<DailyTimeSheet> entities = timeSheetQueryService.getMonthlyTimeSheetsOfEmployee(
+                    USER_1_ID, DECEMBER_2024);
+            assertEquals("Nguyen Van An", calendar.getEmployeeName());
+            assertEquals(entities.size(), calendar.getRecordedDayCount());
+            for (DailyTimeSheet entity : entities) {
+                AttendanceCalendar.Day day = calendar.getDay(entity.getDate());
+                assertEquals(entity.getDailyTsId(), day.dailyTsId());
+                assertEquals(entity.getMorningStatus(), day.morningStatus());
+                assertEquals(entity.getAfternoonStatus(), day.afternoonStatus());
+                assertEquals(entity.getTotalWorkCredit(), day.totalWorkCredit());
+                assertEquals(entity.getCheckInTime(), day.checkInTime());
+                assertEquals(entity.getCheckOutTime(), day.checkOutTime());
+                assertEquals(entity.getLateMinutes(), day.lateMinutes());
+            }
+            assertEquals(1, statementCount);
+        }
+
+        @Test
+        @DisplayName("Should return an empty calendar for a range without timesheets")
+        void shouldReturnEmptyCalendarForRangeWithoutTimesheets() {
+            // Act
+            AttendanceCalendar calendar = timeSheetQueryService.getAttendanceCalendar(
+                    USER_1_ID, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 15));
+
+            // Assert
+            assertEquals(15, calendar.size());
+            assertEquals(0, calendar.getRecordedDayCount());
+            assertEquals("Nguyen Van An", calendar.getEmployeeName());
+        }
+
+        @Test
+        @DisplayName("Should throw exception when calendar range is inverted")
+        void shouldThrowExceptionWhenCalendarRangeIsInverted() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> timeSheetQueryService.getAttendanceCalendar(
+                            USER_1_ID, LocalDate.of(2024, 12, 5), LocalDate.of(2024, 12, 1)));
+        }
+
+        @Test
+        @DisplayName("Should throw exception when department ID is blank")
+        void shouldThrowExceptionWhenDepartmentIdIsBlank() {
+            assertThrows(IllegalArgumentException.class,
+                    () -> timeSheetQueryService.streamMonthlyTimeSheetsOfDepartment(" ", DECEMBER_2024, m -> {
+                    }));
+        }
+    }
 }
@@ -0,0 +1,148 @@
+package org.pqkkkkk.hr_management_server.modules.timesheet.infrastructure.dao;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.timesheet.domain.dao.MonthlyAttendanceSummaryDao;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Integration tests for refreshing monthly attendance summaries from
+ * transactions that commit.
+ * <p>
+ * Not {@code @Transactional}: the refreshes under test run in concurrent
+ * transactions. A dedicated employee keeps the committed rows apart from the
+ * sample data and is deleted afterwards together with its timesheets and
+ * summaries.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@DisplayName("MonthlyAttendanceSummary Refresh Integration Tests")
+class MonthlyAttendanceSummaryRefreshIntegrationTest {
+
+    private static final String EMPLOYEE_ID = "summary-refresh-employee";
+    private static final LocalDate MONTH_START = LocalDate.of(2031, 5, 1);
+
+    @Autowired
+    private MonthlyAttendanceSummaryDao monthlySummaryDao;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void createEmployee() {
+        jdbcTemplate.update("INSERT INTO user_table (user_id, full_name) VALUES (?, ?)",
+                EMPLOYEE_ID, "Summary Refresh Employee");
+    }
+
+    @AfterEach
+    void deleteCommittedRows() {
+        // Timesheets and summaries cascade from the employee
+        jdbcTemplate.update("DELETE FROM user_table WHERE user_id = ?", EMPLOYEE_ID);
+    }
+
+    @Test
+    @DisplayName("Should count the timesheets of both transactions when two refresh the same month")
+    void testRefreshSummaries_Concurrent_SameEmployeeAndMonth() throws Exception {
+        // Arrange - each transaction adds a different day, then refreshes the month
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        CountDownLatch firstRefreshed = new CountDownLatch(1);
+        CountDownLatch secondRefreshing = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        ExecutorService transactions = Executors.newFixedThreadPool(2);
+
+        try {
+            Future<?> first = transactions.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                insertPresentDay(MONTH_START);
+                monthlySummaryDao.refreshSummaries(List.of(EMPLOYEE_ID), MONTH_START);
+                firstRefreshed.countDown();
+                await(releaseFirst);
+            }));
+            Future<?> second = transactions.submit(() -> transactionTemplate.executeWithoutResult(status -> {
+                await(firstRefreshed);
+                insertPresentDay(MONTH_START.plusDays(1));
+                secondRefreshing.countDown();
+                monthlySummaryDao.refreshSummaries(List.of(EMPLOYEE_ID), MONTH_START);
+            }));
+
+            // Act - let the first commit while the second is refreshing
+            assertTrue(secondRefreshing.await(10, TimeUnit.SECONDS));
+            Thread.sleep(300);
+            releaseFirst.countDown();
+            first.get(30, TimeUnit.SECONDS);
+            second.get(30, TimeUnit.SECONDS);
+        } finally {
+            releaseFirst.countDown();
+            transactions.shutdownNow();
+        }
+
+        // Assert - one summary row counting both days
+        List<Map<String, Object>> summaries = jdbcTemplate.queryForList(
+                "SELECT total_days, morning_present FROM monthly_attendance_summary_table "
+                        + "WHERE employee_id = ? AND month_start = ?",
+                EMPLOYEE_ID, MONTH_START);
+        assertEquals(1, summaries.size());
+        assertEquals(2L, ((Number) summaries.get(0).get("total_days")).longValue());
+        assertEquals(2L, ((Number) summaries.get(0).get("morning_present")).longValue());
+    }
+
+    @Test
+    @DisplayName("Should remove the summary once the month has no timesheets left")
+    void testRefreshSummaries_NoTimesheets_RemovesSummary() {
+        // Arrange
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.executeWithoutResult(status -> {
+            insertPresentDay(MONTH_START);
+            monthlySummaryDao.refreshSummaries(List.of(EMPLOYEE_ID), MONTH_START);
+        });
+
+        // Act
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.update("DELETE FROM daily_timesheet_table WHERE employee_id = ?", EMPLOYEE_ID);
+            monthlySummaryDao.refreshSummaries(List.of(EMPLOYEE_ID), MONTH_START);
+        });
+
+        // Assert
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM monthly_attendance_summary_table WHERE employee_id = ?",
+                Integer.class, EMPLOYEE_ID));
+    }
+
+    private void insertPresentDay(LocalDate date) {
+        jdbcTemplate.update("""
+                INSERT INTO daily_timesheet_table (daily_ts_id, date, morning_status, afternoon_status,
+                    total_work_credit, late_minutes, overtime_minutes, employee_id)
+                VALUES (?, ?, 'PRESENT', 'PRESENT', 1.0, 0, 0, ?)
+                """, UUID.randomUUID().toString(), date, EMPLOYEE_ID);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(10, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package org.pqkkkkk.hr_management_server.shared.file;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.ExportedUser;
+import org.pqkkkkk.hr_management_server.modules.profile.domain.entity.Enums.UserRole;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the precompiled export column schema.
+ */
+@DisplayName("ColumnSchema Unit Tests")
+class ColumnSchemaTest {
+
+    record Plain(String employeeId, LocalDate joinDate, Integer age, Boolean active) {
+        static final String IGNORED = "not a column";
+    }
+
+    record Annotated(
+            @ExportColumn(header = "Name", order = 2) String fullName,
+            @ExportColumn(header = "ID", order = 1) String employeeId,
+            @ExportColumn(exclude = true) String password,
+            @ExportColumn(format = "dd/MM/yyyy") LocalDate joinDate,
+            long visits) {
+    }
+
+    record BadFormat(@ExportColumn(format = "yyyy") String year) {
+    }
+
+    static class PrivateFields {
+        private String code = "C-1";
+        private double rate = 0.5;
+    }
+
+    @Nested
+    @DisplayName("Compilation")
+    class CompilationTests {
+
+        @Test
+        @DisplayName("Should derive headers from field names and skip static fields")
+        void testOf_DerivedHeaders() {
+            ColumnSchema<Plain> schema = ColumnSchema.of(Plain.class);
+
+            assertEquals(List.of("Employee Id", "Join Date", "Age", "Active"), schema.getHeaders());
+            assertEquals(List.of(ColumnSchema.CellType.STRING, ColumnSchema.CellType.STRING,
+                    ColumnSchema.CellType.NUMBER, ColumnSchema.CellType.BOOLEAN),
+                    schema.getColumns().stream().map(ColumnSchema.Column::getCellType).toList());
+        }
+
+        @Test
+        @DisplayName("Should apply annotated headers, order and exclusion")
+        void testOf_AnnotatedColumns() {
+            ColumnSchema<Annotated> schema = ColumnSchema.of(Annotated.class);
+
+            assertEquals(List.of("ID", "Name", "Join Date", "Visits"), schema.getHeaders());
+            assertEquals(ColumnSchema.CellType.NUMBER, schema.getColumns().get(3).getCellType());
+        }
+
+        @Test
+        @DisplayName("Should compile a type once")
+        void testOf_Cached() {
+            assertSame(ColumnSchema.of(Plain.class), ColumnSchema.of(Plain.class));
+        }
+
+        @Test
+        @DisplayName("Should reject a format on a field that is not a date or time")
+        void testOf_FormatOnNonTemporalField() {
+            assertThrows(IllegalArgumentException.class, () -> ColumnSchema.of(BadFormat.class));
+        }
+    }
+
+    @Nested
+    @DisplayName("Values")
+    class ValueTests {
+
+        @Test
+        @DisplayName("Should format dates with the declared pattern")
+        void testGetValue_Formatted() {
+            Annotated row = new Annotated("An", "E1", "secret", LocalDate.of(2024, 12, 2), 7);
+            List<ColumnSchema.Column> columns = ColumnSchema.of(Annotated.class).getColumns();
+
+            assertEquals("E1", columns.get(0).getValue(row));
+            assertEquals("02/12/2024", columns.get(2).getValue(row));
+            assertEquals(7L, columns.get(3).getValue(row));
+        }
+
+        @Test
+        @DisplayName("Should render null as empty text and enums by name")
+        void testGetText() {
+            ExportedUser user = new ExportedUser();
+            user.setRole(UserRole.MANAGER);
+            ColumnSchema<ExportedUser> schema = ColumnSchema.of(ExportedUser.class);
+
+            assertEquals("", schema.getColumns().get(0).getText(user));
+            assertEquals("MANAGER", schema.getColumns().get(schema.getHeaders().indexOf("Role")).getText(user));
+        }
+
+        @Test
+        @DisplayName("Should read private fields")
+        void testGetValue_PrivateFields() {
+            List<ColumnSchema.Column> columns = ColumnSchema.of(PrivateFields.class).getColumns();
+            PrivateFields row = new PrivateFields();
+
+            assertEquals("C-1", columns.get(0).getValue(row));
+            assertEquals(0.5, columns.get(1).getValue(row));
+        }
+
+        @Test
+        @DisplayName("Should read the same values as field reflection")
+        void testGetValue_MatchesReflection() throws IllegalAccessException {
+            ExportedUser user = new ExportedUser();
+            user.setUserId("u-1");
+            user.setFullName("Nguyen Van An");
+            user.setRole(UserRole.EMPLOYEE);
+            user.setJoinDate(LocalDate.of(2024, 1, 15));
+            user.setCreatedAt(LocalDateTime.of(2024, 1, 15, 8, 30));
+            user.setDepartmentName("Engineering");
+
+            List<Object> expected = new ArrayList<>();
+            for (Field field : ExportedUser.class.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                expected.add(field.get(user));
+            }
+            List<Object> actual = ColumnSchema.of(ExportedUser.class).getColumns().stream()
+                    .map(column -> column.getValue(user))
+                    .toList();
+
+            assertEquals(expected, actual);
+        }
+    }
+
+    @Test
+    @DisplayName("Should convert camelCase field names to Title Case")
+    void testFormatFieldName() {
+        assertEquals("Employee Id", ColumnSchema.formatFieldName("employeeId"));
+        assertEquals("Age", ColumnSchema.formatFieldName("age"));
+    }
+}
@@ -0,0 +1,186 @@
+package org.pqkkkkk.hr_management_server.shared.file;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the streaming Excel export.
+ */
+@DisplayName("ExcelFileService Unit Tests")
+class ExcelFileServiceTest {
+
+    enum Level {
+        JUNIOR,
+        SENIOR
+    }
+
+    record Employee(String employeeId, String fullName, Integer age, Double salary, Boolean active,
+            LocalDate joinDate, Level level) {
+        static final String IGNORED = "not a column";
+    }
+
+    private static Employee employee(int i) {
+        return new Employee("E" + i, "Employee " + i, 20 + i % 40, 1000.5 + i, i % 2 == 0,
+                LocalDate.of(2024, 1, 1).plusDays(i % 365), i % 3 == 0 ? Level.SENIOR : Level.JUNIOR);
+    }
+
+    private static Stream<Employee> employees(int count) {
+        return IntStream.range(0, count).mapToObj(ExcelFileServiceTest::employee);
+    }
+
+    private static XSSFWorkbook read(byte[] data) throws IOException {
+        return new XSSFWorkbook(new ByteArrayInputStream(data));
+    }
+
+    @Nested
+    @DisplayName("Content")
+    class ContentTests {
+
+        @Test
+        @DisplayName("Should write a header and one typed row per item")
+        void testExportListToFile_WritesRows() throws IOException {
+            ExcelFileService<Employee> service = new ExcelFileService<>();
+
+            byte[] data = service.exportListToFile(employees(1000).toList());
+
+            try (XSSFWorkbook workbook = read(data)) {
+                Sheet sheet = workbook.getSheet("Data");
+                assertEquals(1000, sheet.getLastRowNum());
+
+                Row header = sheet.getRow(0);
+                assertEquals(7, header.getLastCellNum());
+                assertEquals("Employee Id", header.getCell(0).getStringCellValue());
+                assertEquals("Join Date", header.getCell(5).getStringCellValue());
+
+                Row last = sheet.getRow(1000);
+                assertEquals("E999", last.getCell(0).getStringCellValue());
+                assertEquals(1999.5, last.getCell(3).getNumericCellValue());
+                assertFalse(last.getCell(4).getBooleanCellValue());
+                assertEquals(Level.SENIOR.name(), last.getCell(6).getStringCellValue());
+            }
+        }
+
+        @Test
+        @DisplayName("Should write the same content from a Stream and leave the output open")
+        void testExportToStream_MatchesList() throws IOException {
+            ExcelFileService<Employee> service = new ExcelFileService<>();
+            boolean[] closed = { false };
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            OutputStream outputStream = new OutputStream() {
+                @Override
+                public void write(int b) {
+                    bytes.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    bytes.write(b, off, len);
+                }
+
+                @Override
+                public void close() {
+                    closed[0] = true;
+                }
+            };
+
+            service.exportToStream(employees(50), outputStream);
+
+            assertFalse(closed[0]);
+            try (XSSFWorkbook workbook = read(bytes.toByteArray())) {
+                Sheet sheet = workbook.getSheet("Data");
+                assertEquals(50, sheet.getLastRowNum());
+                assertEquals("Employee 49", sheet.getRow(50).getCell(1).getStringCellValue());
+            }
+        }
+
+        @Test
+        @DisplayName("Should throw exception for empty input")
+        void testExport_EmptyInput() {
+            ExcelFileService<Employee> service = new ExcelFileService<>();
+
+            assertThrows(IllegalArgumentException.class, () -> service.exportListToFile(List.of()));
+            assertThrows(IllegalArgumentException.class,
+                    () -> service.exportToStream(Collections.<Employee>emptyIterator(), new ByteArrayOutputStream()));
+        }
+    }
+
+    @Nested
+    @DisplayName("Layout")
+    class LayoutTests {
+
+        @Test
+        @DisplayName("Should continue on a new sheet when a sheet is full")
+        void testExport_RollsOverSheets() throws IOException {
+            // 10 data rows per sheet plus the header
+            ExcelFileService<Employee> service = new ExcelFileService<>(5, 11);
+
+            byte[] data = service.exportListToFile(employees(25).toList());
+
+            try (XSSFWorkbook workbook = read(data)) {
+                assertEquals(3, workbook.getNumberOfSheets());
+                assertEquals("Data 3", workbook.getSheetName(2));
+                assertEquals("Employee Id", workbook.getSheetAt(2).getRow(0).getCell(0).getStringCellValue());
+                assertEquals(5, workbook.getSheetAt(2).getLastRowNum());
+                assertEquals("E24", workbook.getSheetAt(2).getRow(5).getCell(0).getStringCellValue());
+            }
+        }
+
+        @Test
+        @DisplayName("Should size columns from sampled rows only")
+        void testExport_ColumnWidthFromSample() throws IOException {
+            ExcelFileService<Employee> service = new ExcelFileService<>();
+            List<Employee> rows = new ArrayList<>(employees(ExcelFileService.WIDTH_SAMPLE_ROWS + 1).toList());
+            // A long name inside the sample widens the column, one after it does not
+            rows.set(0, new Employee("E0", "x".repeat(30), 1, 1.0, true, LocalDate.of(2024, 1, 1), Level.JUNIOR));
+            rows.set(rows.size() - 1, new Employee("y".repeat(40), "n", 1, 1.0, true,
+                    LocalDate.of(2024, 1, 1), Level.JUNIOR));
+
+            byte[] data = service.exportListToFile(rows);
+
+            try (XSSFWorkbook workbook = read(data)) {
+                Sheet sheet = workbook.getSheet("Data");
+                assertEquals(32 * 256, sheet.getColumnWidth(1));
+                assertEquals(("Employee Id".length() + 2) * 256, sheet.getColumnWidth(0));
+            }
+        }
+
+        @Test
+        @DisplayName("Should stream 100,000 rows through a bounded row window")
+        void testExportToStream_LargeInput() throws IOException {
+            ExcelFileService<Employee> service = new ExcelFileService<>();
+            long[] written = { 0 };
+            OutputStream counting = new OutputStream() {
+                @Override
+                public void write(int b) {
+                    written[0]++;
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    written[0] += len;
+                }
+            };
+
+            service.exportToStream(employees(100_000), counting);
+
+            assertTrue(written[0] > 0);
+        }
+    }
+}
@@ -0,0 +1,249 @@
+package org.pqkkkkk.hr_management_server.shared.file;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Future;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import com.lowagie.text.pdf.PdfReader;
+import com.lowagie.text.pdf.parser.PdfTextExtractor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for the chunked PDF export.
+ */
+@DisplayName("PdfFileService Unit Tests")
+class PdfFileServiceTest {
+
+    private static final Pattern EMPLOYEE_ID = Pattern.compile("\\bE\\d{4}\\b");
+
+    record Employee(String employeeId, String fullName, Integer age, LocalDate joinDate) {
+    }
+
+    private final List<ThreadPoolTaskExecutor> pools = new ArrayList<>();
+    private final ThreadPoolTaskExecutor renderPool = pool(4, task -> task);
+
+    @AfterEach
+    void shutdown() {
+        pools.forEach(ThreadPoolTaskExecutor::shutdown);
+    }
+
+    private ThreadPoolTaskExecutor pool(int threads, TaskDecorator decorator) {
+        ThreadPoolTaskExecutor pool = new ThreadPoolTaskExecutor();
+        pool.setCorePoolSize(threads);
+        pool.setMaxPoolSize(threads);
+        pool.setTaskDecorator(decorator);
+        pool.initialize();
+        pools.add(pool);
+        return pool;
+    }
+
+    private static List<Employee> employees(int count) {
+        return IntStream.range(0, count)
+                .mapToObj(i -> new Employee(String.format("E%04d", i), "Employee " + i, 20 + i % 40,
+                        LocalDate.of(2024, 1, 1).plusDays(i % 365)))
+                .toList();
+    }
+
+    private static List<String> pageTexts(byte[] pdf) throws IOException {
+        PdfReader reader = new PdfReader(pdf);
+        try {
+            PdfTextExtractor extractor = new PdfTextExtractor(reader);
+            List<String> pages = new ArrayList<>();
+            for (int i = 1; i <= reader.getNumberOfPages(); i++) {
+                pages.add(extractor.getTextFromPage(i));
+            }
+            return pages;
+        } finally {
+            reader.close();
+        }
+    }
+
+    private static List<String> employeeIds(List<String> pages) {
+        List<String> ids = new ArrayList<>();
+        for (String page : pages) {
+            Matcher matcher = EMPLOYEE_ID.matcher(page);
+            while (matcher.find()) {
+                ids.add(matcher.group());
+            }
+        }
+        return ids;
+    }
+
+    @Nested
+    @DisplayName("Content")
+    class ContentTests {
+
+        @Test
+        @DisplayName("Should keep every row in order across chunks rendered in parallel")
+        void testExport_ChunksKeepRowOrder() throws IOException {
+            List<Employee> rows = employees(450);
+            PdfFileService<Employee> service = new PdfFileService<>(renderPool, 50);
+
+            byte[] pdf = service.exportListToFile(rows);
+
+            assertEquals(rows.stream().map(Employee::employeeId).toList(), employeeIds(pageTexts(pdf)));
+        }
+
+        @Test
+        @DisplayName("Should render the same rows as a single pass with at most one extra page per chunk")
+        void testExport_MatchesSinglePass() throws IOException {
+            List<Employee> rows = employees(300);
+            // One chunk is the former single-pass rendering
+            PdfFileService<Employee> singlePass = new PdfFileService<>(pool(1, task -> task), Integer.MAX_VALUE);
+            PdfFileService<Employee> chunked = new PdfFileService<>(renderPool, 40);
+
+            List<String> expected = pageTexts(singlePass.exportListToFile(rows));
+            List<String> actual = pageTexts(chunked.exportListToFile(rows));
+
+            assertEquals(employeeIds(expected), employeeIds(actual));
+            // 8 chunks, each may end on a partly filled page
+            assertTrue(actual.size() >= expected.size());
+            assertTrue(actual.size() <= expected.size() + 7,
+                    actual.size() + " pages for " + expected.size() + " in a single pass");
+        }
+
+        @Test
+        @DisplayName("Should throw exception for empty input")
+        void testExport_EmptyInput() {
+            PdfFileService<Employee> service = new PdfFileService<>(renderPool, 50);
+
+            assertThrows(IllegalArgumentException.class, () -> service.exportListToFile(List.of()));
+            assertThrows(IllegalArgumentException.class,
+                    () -> service.exportToStream(Collections.<Employee>emptyIterator(), new ByteArrayOutputStream()));
+        }
+
+        @Test
+        @DisplayName("Should reject invalid sizing")
+        void testConstructor_InvalidSizing() {
+            assertThrows(IllegalArgumentException.class, () -> new PdfFileService<Employee>(renderPool, 0));
+        }
+
+        @Test
+        @DisplayName("Should cancel the pending chunks when reading the rows fails")
+        void testExport_SourceFails_CancelsPendingChunks() {
+            // Arrange - the only render thread waits at a gate, reading fails in the second chunk
+            CountDownLatch gate = new CountDownLatch(1);
+            List<Runnable> submitted = new CopyOnWriteArrayList<>();
+            ThreadPoolTaskExecutor gatedPool = pool(1, task -> {
+                submitted.add(task);
+                return () -> {
+                    try {
+                        gate.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    task.run();
+                };
+            });
+            PdfFileService<Employee> service = new PdfFileService<>(gatedPool, 10);
+            List<Employee> employees = employees(20);
+            Iterator<Employee> rows = new Iterator<>() {
+                private int next;
+
+                @Override
+                public boolean hasNext() {
+                    return true;
+                }
+
+                @Override
+                public Employee next() {
+                    if (next == 12) {
+                        throw new IllegalStateException("Connection lost");
+                    }
+                    return employees.get(next++);
+                }
+            };
+
+            // Act
+            try {
+                assertThrows(IllegalStateException.class,
+                        () -> service.exportToStream(rows, new ByteArrayOutputStream()));
+            } finally {
+                gate.countDown();
+            }
+
+            // Assert - the first chunk was cancelled before it could render
+            assertEquals(1, submitted.size());
+            assertTrue(((Future<?>) submitted.get(0)).isCancelled());
+        }
+    }
+
+    @Nested
+    @DisplayName("Layout")
+    class LayoutTests {
+
+        @Test
+        @DisplayName("Should number pages across the whole document")
+        void testExport_PageNumbers() throws IOException {
+            PdfFileService<Employee> service = new PdfFileService<>(renderPool, 50);
+
+            List<String> pages = pageTexts(service.exportListToFile(employees(300)));
+
+            assertTrue(pages.size() > 6);
+            for (int i = 0; i < pages.size(); i++) {
+                assertTrue(pages.get(i).contains("Page " + (i + 1) + " of " + pages.size()),
+                        "Page " + (i + 1) + " should be numbered");
+            }
+        }
+
+        @Test
+        @DisplayName("Should repeat the table header on every page and the title only on the first")
+        void testExport_RepeatedHeader() throws IOException {
+            PdfFileService<Employee> service = new PdfFileService<>(renderPool, 100);
+
+            List<String> pages = pageTexts(service.exportListToFile(employees(300)));
+
+            assertTrue(pages.stream().allMatch(page -> page.contains("Employee Id") && page.contains("Join Date")));
+            assertTrue(pages.get(0).contains("Exported Data"));
+            assertTrue(pages.stream().skip(1).noneMatch(page -> page.contains("Exported Data")));
+        }
+
+        @Test
+        @DisplayName("Should stream to the output and leave it open")
+        void testExportToStream_LeavesOutputOpen() throws IOException {
+            PdfFileService<Employee> service = new PdfFileService<>(renderPool, 50);
+            boolean[] closed = { false };
+            ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+            OutputStream outputStream = new OutputStream() {
+                @Override
+                public void write(int b) {
+                    bytes.write(b);
+                }
+
+                @Override
+                public void write(byte[] b, int off, int len) {
+                    bytes.write(b, off, len);
+                }
+
+                @Override
+                public void close() {
+                    closed[0] = true;
+                }
+            };
+
+            service.exportToStream(employees(120).stream(), outputStream);
+
+            assertFalse(closed[0]);
+            assertEquals(120, employeeIds(pageTexts(bytes.toByteArray())).size());
+        }
+    }
+}